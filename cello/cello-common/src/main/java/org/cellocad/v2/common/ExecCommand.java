@@ -21,136 +21,214 @@ package org.cellocad.v2.common;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.PrintWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 /**
  * The ExecCommand class is the class for executing a command using a process within the Poros
  * framework.<br>
- * Reference: <i>https://bjurr.com/runtime-exec-hangs-a-complete-solution/</i>.
+ * The standard output and standard error of the process are read concurrently by a shared pool of
+ * threads, streamed line by line to the logger at the debug level, and captured up to {@link
+ * #I_MAX_CAPTURE} characters each. The number of processes running at once is limited by a global
+ * semaphore, and a process that runs past its timeout, or whose waiting thread is interrupted, is
+ * destroyed.<br>
+ * The default timeout and the concurrency limit are read from the system properties {@value
+ * #S_TIMEOUT_PROPERTY} (in milliseconds, zero or unset for none) and {@value
+ * #S_CONCURRENCY_PROPERTY}.<br>
+ * Once the process has exited, the readers are given until the timeout, or at least {@value
+ * #L_READER_TIMEOUT} ms, to reach the end of their streams, which a descendant of the process may
+ * hold open. Output still unread then is dropped and marked {@value #S_TRUNCATED}.
  *
  * @author Vincent Mirian
  * @date Jan 21, 2018
  */
 public class ExecCommand {
-  private Semaphore outputSem;
-  private String output;
-  private Semaphore errorSem;
-  private String error;
-  private Process p;
 
-  private class InputWriter extends Thread {
-    private final String input;
+  /** Captures the lines of a stream of the process, streaming them to the logger. */
+  private class StreamReader implements Runnable {
 
-    public InputWriter(final String input) {
-      this.input = input;
+    StreamReader(final InputStream stream) {
+      this.stream = stream;
+      buffer = new StringBuilder();
+      truncated = false;
     }
 
     @Override
     public void run() {
-      final PrintWriter pw = new PrintWriter(p.getOutputStream());
-      pw.println(input);
-      pw.flush();
-    }
-  }
-
-  private class OutputReader extends Thread {
-    public OutputReader() {
+      final BufferedReader reader =
+          new BufferedReader(new InputStreamReader(stream, Charset.defaultCharset()));
       try {
-        outputSem = new Semaphore(1);
-        outputSem.acquire();
-      } catch (final InterruptedException e) {
-        e.printStackTrace();
-      }
-    }
-
-    @Override
-    public void run() {
-      try {
-        final StringBuffer readBuffer = new StringBuffer();
-        final BufferedReader isr = new BufferedReader(new InputStreamReader(p.getInputStream()));
-        String buff = new String();
-        while ((buff = isr.readLine()) != null) {
-          readBuffer.append(buff + Utils.getNewLine());
-          // System.out.println(buff);
+        String line = null;
+        while ((line = reader.readLine()) != null) {
+          ExecCommand.logger.debug("{}: {}", name, line);
+          append(line);
         }
-        output = readBuffer.toString();
-        outputSem.release();
       } catch (final IOException e) {
-        e.printStackTrace();
+        // the stream was closed when the process was destroyed
       }
     }
-  }
 
-  private class ErrorReader extends Thread {
-    public ErrorReader() {
-      try {
-        errorSem = new Semaphore(1);
-        errorSem.acquire();
-      } catch (final InterruptedException e) {
-        e.printStackTrace();
+    private synchronized void append(final String line) {
+      if (truncated) {
+        return;
       }
+      if (buffer.length() + line.length() > ExecCommand.I_MAX_CAPTURE) {
+        truncate();
+        return;
+      }
+      buffer.append(line);
+      buffer.append(Utils.getNewLine());
     }
 
-    @Override
-    public void run() {
-      try {
-        final StringBuffer readBuffer = new StringBuffer();
-        final BufferedReader isr = new BufferedReader(new InputStreamReader(p.getErrorStream()));
-        String buff = new String();
-        while ((buff = isr.readLine()) != null) {
-          readBuffer.append(buff + Utils.getNewLine());
-        }
-        error = readBuffer.toString();
-        errorSem.release();
-      } catch (final IOException e) {
-        e.printStackTrace();
+    private synchronized void truncate() {
+      if (truncated) {
+        return;
       }
-      /*
-       * if (error.length() > 0) System.out.println(error);
-       */
+      buffer.append(ExecCommand.S_TRUNCATED);
+      buffer.append(Utils.getNewLine());
+      truncated = true;
     }
+
+    private synchronized String getValue() {
+      return buffer.toString();
+    }
+
+    private final InputStream stream;
+    private final StringBuilder buffer;
+    private boolean truncated;
   }
 
   /**
    * Initializes a newly created {@link ExecCommand} with a command defined by parameter {@code
-   * command} and an input defined by parameter {@code input}.
+   * command}, an input defined by parameter {@code input}, and a timeout defined by parameter
+   * {@code timeout}, then runs the command and waits for it to exit.
    *
    * @param command The command.
-   * @param input The input.
+   * @param input The input, written to the standard input of the process, or null for none.
+   * @param timeout The timeout in milliseconds, zero for none.
    */
-  public ExecCommand(final String command, final String input) {
+  public ExecCommand(final String command, final String input, final long timeout) {
+    final String[] array = makeArray(command);
+    name = array.length > 0 ? array[0] : command;
+    output = "";
+    error = "";
+    exitValue = -1;
+    timedOut = false;
+    final long start = System.nanoTime();
+    Process p = null;
+    boolean acquired = false;
     try {
-      p = Runtime.getRuntime().exec(makeArray(command));
-      new InputWriter(input).start();
-      new OutputReader().start();
-      new ErrorReader().start();
-      p.waitFor();
+      ExecCommand.permits.acquire();
+      acquired = true;
+      p = new ProcessBuilder(array).start();
+      final long deadline =
+          timeout > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout) : 0L;
+      final StreamReader out = new StreamReader(p.getInputStream());
+      final StreamReader err = new StreamReader(p.getErrorStream());
+      final Future<?> outFuture = ExecCommand.readers.submit(out);
+      final Future<?> errFuture = ExecCommand.readers.submit(err);
+      final Process process = p;
+      final Future<?> inFuture =
+          ExecCommand.readers.submit(() -> ExecCommand.write(process.getOutputStream(), input));
+      if (timeout > 0) {
+        timedOut = !p.waitFor(timeout, TimeUnit.MILLISECONDS);
+      } else {
+        p.waitFor();
+      }
+      if (timedOut) {
+        ExecCommand.logger.warn("{} timed out after {} ms.", command, timeout);
+        p.destroyForcibly().waitFor();
+      }
+      exitValue = p.exitValue();
+      ExecCommand.join(outFuture, out, deadline);
+      ExecCommand.join(errFuture, err, deadline);
+      inFuture.cancel(true);
+      output = out.getValue();
+      error = err.getValue();
     } catch (final IOException e) {
-      e.printStackTrace();
+      ExecCommand.logger.error("Unable to run {}: {}", command, e.getMessage());
+      error = e.getMessage() + Utils.getNewLine();
     } catch (final InterruptedException e) {
-      e.printStackTrace();
+      ExecCommand.logger.warn("{} cancelled.", command);
+      if (p != null) {
+        p.destroyForcibly();
+      }
+      Thread.currentThread().interrupt();
+    } finally {
+      if (acquired) {
+        ExecCommand.permits.release();
+      }
+      elapsedTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+      ExecCommand.logger.debug("{} exited with {} in {} ms.", command, exitValue, elapsedTime);
     }
   }
 
   /**
    * Initializes a newly created {@link ExecCommand} with a command defined by parameter {@code
-   * command}.
+   * command} and an input defined by parameter {@code input}, then runs the command with the
+   * default timeout and waits for it to exit.
+   *
+   * @param command The command.
+   * @param input The input.
+   */
+  public ExecCommand(final String command, final String input) {
+    this(command, input, ExecCommand.L_DEFAULT_TIMEOUT);
+  }
+
+  /**
+   * Initializes a newly created {@link ExecCommand} with a command defined by parameter {@code
+   * command}, then runs the command with the default timeout and waits for it to exit.
    *
    * @param command The command.
    */
   public ExecCommand(final String command) {
-    try {
-      p = Runtime.getRuntime().exec(makeArray(command));
-      new OutputReader().start();
-      new ErrorReader().start();
-      p.waitFor();
+    this(command, null, ExecCommand.L_DEFAULT_TIMEOUT);
+  }
+
+  private static void write(final OutputStream stream, final String input) {
+    try (Writer writer = new OutputStreamWriter(stream, Charset.defaultCharset())) {
+      if (input != null) {
+        writer.write(input);
+        writer.write(Utils.getNewLine());
+      }
     } catch (final IOException e) {
-      e.printStackTrace();
-    } catch (final InterruptedException e) {
-      e.printStackTrace();
+      // the process exited without reading its input
+    }
+  }
+
+  /**
+   * Waits for the reader defined by parameter {@code reader}, running as parameter {@code future},
+   * to reach the end of its stream. A descendant of the process may hold the stream open, so the
+   * wait is bounded by parameter {@code deadline}, or by {@link #L_READER_TIMEOUT} if the deadline
+   * is nearer or zero, and the output of a reader that does not finish is marked truncated.
+   */
+  private static void join(final Future<?> future, final StreamReader reader, final long deadline)
+      throws InterruptedException {
+    long wait = TimeUnit.MILLISECONDS.toNanos(ExecCommand.L_READER_TIMEOUT);
+    if (deadline != 0L) {
+      wait = Math.max(wait, deadline - System.nanoTime());
+    }
+    try {
+      future.get(wait, TimeUnit.NANOSECONDS);
+    } catch (final ExecutionException e) {
+      ExecCommand.logger.error(e.getMessage());
+    } catch (final TimeoutException e) {
+      future.cancel(true);
+      reader.truncate();
     }
   }
 
@@ -160,14 +238,7 @@ public class ExecCommand {
    * @return A string containing the standard output of the command executed by this instance.
    */
   public String getOutput() {
-    try {
-      outputSem.acquire();
-    } catch (final InterruptedException e) {
-      e.printStackTrace();
-    }
-    final String value = output;
-    outputSem.release();
-    return value;
+    return output;
   }
 
   /**
@@ -176,14 +247,35 @@ public class ExecCommand {
    * @return A string containing the standard error of the command executed by this instance.
    */
   public String getError() {
-    try {
-      errorSem.acquire();
-    } catch (final InterruptedException e) {
-      e.printStackTrace();
-    }
-    final String value = error;
-    errorSem.release();
-    return value;
+    return error;
+  }
+
+  /**
+   * Returns the exit value of the command executed by this instance.
+   *
+   * @return The exit value of the command, or -1 if it could not be run or was cancelled.
+   */
+  public int getExitValue() {
+    return exitValue;
+  }
+
+  /**
+   * Returns true if the command executed by this instance ran past its timeout and was destroyed.
+   *
+   * @return True if the command timed out, otherwise false.
+   */
+  public boolean isTimedOut() {
+    return timedOut;
+  }
+
+  /**
+   * Returns the time in milliseconds spent waiting for a permit to run, and running, the command
+   * executed by this instance.
+   *
+   * @return The time in milliseconds.
+   */
+  public long getElapsedTime() {
+    return elapsedTime;
   }
 
   private String[] makeArray(final String command) {
@@ -223,4 +315,39 @@ public class ExecCommand {
     }
     return array;
   }
+
+  private final String name;
+  private String output;
+  private String error;
+  private int exitValue;
+  private boolean timedOut;
+  private long elapsedTime;
+
+  /** The system property of the default timeout, in milliseconds. */
+  public static final String S_TIMEOUT_PROPERTY = "org.cellocad.v2.common.ExecCommand.timeout";
+  /** The system property of the number of commands that may run at once. */
+  public static final String S_CONCURRENCY_PROPERTY =
+      "org.cellocad.v2.common.ExecCommand.concurrency";
+  /** The number of characters captured from each stream of a process. */
+  public static final int I_MAX_CAPTURE = 1 << 24;
+
+  private static final String S_TRUNCATED = "[output truncated]";
+  private static final long L_DEFAULT_TIMEOUT = Long.getLong(ExecCommand.S_TIMEOUT_PROPERTY, 0L);
+  private static final long L_READER_TIMEOUT = 1000;
+  private static final Semaphore permits =
+      new Semaphore(
+          Math.max(
+              1,
+              Integer.getInteger(
+                  ExecCommand.S_CONCURRENCY_PROPERTY,
+                  Runtime.getRuntime().availableProcessors())),
+          true);
+  private static final ExecutorService readers =
+      Executors.newCachedThreadPool(
+          r -> {
+            final Thread rtn = new Thread(r, "ExecCommand");
+            rtn.setDaemon(true);
+            return rtn;
+          });
+  private static final Logger logger = LogManager.getLogger(ExecCommand.class);
 }
@@ -289,6 +289,21 @@ public final class Utils {
     return rtn;
   }
 
+  /**
+   * Executes and waits for the command in parameter {@code cmd}, destroying it if it runs longer
+   * than the timeout in parameter {@code timeout}. Returns the ExecCommand instance that executed
+   * the command.
+   *
+   * @param cmd The command.
+   * @param timeout The timeout in milliseconds, zero for none.
+   * @return The ExecCommand instance that executed the command.
+   */
+  public static ExecCommand executeAndWaitForCommand(final String cmd, final long timeout) {
+    ExecCommand rtn = null;
+    rtn = new ExecCommand(cmd, null, timeout);
+    return rtn;
+  }
+
   /**
    * Returns a string representing the number of milliseconds since January 1, 1970, 00:00:00 GMT.
    *
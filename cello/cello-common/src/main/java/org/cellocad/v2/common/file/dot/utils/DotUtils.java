@@ -53,7 +53,10 @@ public class DotUtils {
       command += ".exe";
     }
     command += " -T" + type + " " + file.getAbsolutePath() + " -o " + rtn.getAbsolutePath();
-    final ExecCommand proc = Utils.executeAndWaitForCommand(command);
+    final ExecCommand proc = Utils.executeAndWaitForCommand(command, DotUtils.L_TIMEOUT);
+    if (proc.isTimedOut()) {
+      throw new CelloException(command + " timed out after " + DotUtils.L_TIMEOUT + " ms.");
+    }
     final String error = proc.getError();
     if (!error.equals("")) {
       throw new CelloException(error);
@@ -89,4 +92,5 @@ public class DotUtils {
 
   private static final String S_PDF = "pdf";
   private static final String S_PNG = "png";
+  private static final long L_TIMEOUT = 60000;
 }
@@ -19,6 +19,10 @@
 
 package org.cellocad.v2.common.target.data.data;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.cellocad.v2.common.CObjectCollection;
 import org.cellocad.v2.common.exception.CelloException;
@@ -39,6 +43,7 @@ public final class AnalyticFunction extends Function {
 
   private void init() {
     parameters = new CObjectCollection<>();
+    variableIndex = new HashMap<>();
   }
 
   private void parseEquation(final JSONObject jsonObj) {
@@ -80,6 +85,7 @@ public final class AnalyticFunction extends Function {
     super(jsonObj);
     init();
     parseFunction(jsonObj);
+    compileEquation();
   }
 
   @Override
@@ -89,30 +95,115 @@ public final class AnalyticFunction extends Function {
     return rtn;
   }
 
-  @Override
-  public Number evaluate(final EvaluationContext ec) throws CelloException {
-    Double rtn = null;
+  private void compileEquation() {
+    final List<String> names = new ArrayList<>();
+    for (final Parameter p : getParameters()) {
+      names.add(p.getName());
+    }
+    for (int i = 0; i < getVariables().size(); i++) {
+      final String name = getVariables().get(i).getName();
+      names.add(name);
+      variableIndex.putIfAbsent(name, i);
+    }
+    names.add(AnalyticFunction.S_STATE);
+    try {
+      compiled = CompiledExpression.compile(getEquation().replace("$", "_"), names);
+    } catch (final CelloException e) {
+      // unsupported syntax, evaluate with mXparser
+      compiled = null;
+    }
+  }
+
+  private double getStateValue(
+      final EvaluationContext ec, final NetlistNode node, final State<NetlistNode> state)
+      throws CelloException {
+    final Double level = ec.getStateValue(node);
+    if (level != null) {
+      return level;
+    }
+    final Boolean nodeState = state == null ? null : state.getState(node);
+    if (nodeState == null) {
+      throw new CelloException("Node state undefined.");
+    }
+    return nodeState.equals(state.getOne()) ? 1.0 : 0.0;
+  }
+
+  /*
+   * Evaluates the equation with mXparser at the given node. The variables take their values from
+   * the given map if it is not null, otherwise from their references.
+   */
+  private double evaluateExpression(
+      final EvaluationContext ec, final NetlistNode node, final Map<Variable, Double> value)
+      throws CelloException {
+    double rtn = 0.0;
     final Expression expr = new Expression(getEquation().replace("$", "_"));
     for (final Parameter p : getParameters()) {
-      expr.defineArgument(p.getName(), p.evaluate(ec).doubleValue());
+      expr.defineArgument(p.getName(), p.evaluateAt(ec, node));
     }
-    for (final Variable v : getVariables()) {
-      expr.defineArgument(v.getName(), v.evaluate(ec).doubleValue());
+    if (value == null) {
+      for (final Variable v : getVariables()) {
+        expr.defineArgument(v.getName(), v.evaluateAt(ec, node));
+      }
+    } else {
+      for (final Map.Entry<Variable, Double> entry : value.entrySet()) {
+        expr.defineArgument(entry.getKey().getName(), entry.getValue());
+      }
     }
-    final NetlistNode node = ec.getNode();
     if (expr.getExpressionString().contains(AnalyticFunction.S_STATE)) {
-      final State<NetlistNode> state = ec.getState();
-      final Boolean nodeState = state.getState(node);
-      if (nodeState == null) {
-        throw new CelloException("Node state undefined.");
-      }
-      final Double q = nodeState.equals(state.getOne()) ? 1.0 : 0.0;
-      expr.defineArgument(AnalyticFunction.S_STATE, q);
+      expr.defineArgument(AnalyticFunction.S_STATE, getStateValue(ec, node, ec.getState()));
     }
     rtn = expr.calculate();
     return rtn;
   }
 
+  /*
+   * Evaluates the function at the given node. The variables take their values from the given map
+   * if it is not null, otherwise from their references. The arguments are written to a buffer
+   * borrowed from the context.
+   */
+  private double evaluateAt(
+      final EvaluationContext ec, final NetlistNode node, final Map<Variable, Double> value)
+      throws CelloException {
+    if (compiled == null) {
+      return evaluateExpression(ec, node, value);
+    }
+    final int numParameters = getParameters().size();
+    final int numVariables = getVariables().size();
+    final int stateSlot = numParameters + numVariables;
+    final double[] args = ec.acquireBuffer(stateSlot + 1);
+    try {
+      for (int i = 0; i < numParameters; i++) {
+        args[i] = getParameters().get(i).evaluateAt(ec, node);
+      }
+      if (value == null) {
+        for (int i = 0; i < numVariables; i++) {
+          args[numParameters + i] = getVariables().get(i).evaluateAt(ec, node);
+        }
+      } else {
+        // variables missing from the map are undefined, as they would be in mXparser
+        Arrays.fill(args, numParameters, stateSlot, Double.NaN);
+        for (final Map.Entry<Variable, Double> entry : value.entrySet()) {
+          final Integer idx = variableIndex.get(entry.getKey().getName());
+          if (idx == null) {
+            return evaluateExpression(ec, node, value);
+          }
+          args[numParameters + idx] = entry.getValue();
+        }
+      }
+      if (compiled.references(stateSlot)) {
+        args[stateSlot] = getStateValue(ec, node, ec.getState());
+      }
+      return compiled.evaluate(args);
+    } finally {
+      ec.releaseBuffer();
+    }
+  }
+
+  @Override
+  double evaluateAt(final EvaluationContext ec, final NetlistNode node) throws CelloException {
+    return evaluateAt(ec, node, null);
+  }
+
   /**
    * Evaluate the function within the given context, and with the given variable map.
    *
@@ -121,28 +212,66 @@ public final class AnalyticFunction extends Function {
    * @return The result of the evaluation.
    * @throws CelloException Unable to evaluate the function.
    */
-  public Number evaluate(final EvaluationContext ec, final Map<Variable, Double> value)
+  public double evaluateDouble(final EvaluationContext ec, final Map<Variable, Double> value)
       throws CelloException {
-    Double rtn = null;
-    final Expression expr = new Expression(getEquation().replace("$", "_"));
-    for (final Parameter p : getParameters()) {
-      expr.defineArgument(p.getName(), p.evaluate(ec).doubleValue());
+    return evaluateAt(ec, ec.getNode(), value);
+  }
+
+  @Override
+  public void evaluate(
+      final EvaluationContext ec, final List<State<NetlistNode>> states, final double[] out)
+      throws CelloException {
+    if (compiled == null) {
+      super.evaluate(ec, states, out);
+      return;
     }
-    for (final Variable v : value.keySet()) {
-      expr.defineArgument(v.getName(), value.get(v));
+    final int numStates = states.size();
+    final int numParameters = getParameters().size();
+    final int numVariables = getVariables().size();
+    final int stateSlot = numParameters + numVariables;
+    final double[] args = new double[stateSlot + 1];
+    // state-dependent arguments, one column per slot
+    final double[][] columns = new double[stateSlot + 1][];
+    for (int i = 0; i < numParameters; i++) {
+      final Parameter p = getParameters().get(i);
+      if (p instanceof FixedParameter) {
+        args[i] = p.evaluateDouble(ec);
+      } else {
+        columns[i] = new double[numStates];
+        p.evaluate(ec, states, columns[i]);
+      }
     }
-    final NetlistNode node = ec.getNode();
-    if (expr.getExpressionString().contains(AnalyticFunction.S_STATE)) {
-      final State<NetlistNode> state = ec.getState();
-      final Boolean nodeState = state.getState(node);
-      if (nodeState == null) {
-        throw new CelloException("Node state undefined.");
+    for (int i = 0; i < numVariables; i++) {
+      columns[numParameters + i] = new double[numStates];
+      getVariables().get(i).evaluate(ec, states, columns[numParameters + i]);
+    }
+    if (compiled.references(stateSlot)) {
+      columns[stateSlot] = new double[numStates];
+      for (int j = 0; j < numStates; j++) {
+        columns[stateSlot][j] = getStateValue(ec, ec.getNode(), states.get(j));
       }
-      final Double q = nodeState.equals(state.getOne()) ? 1.0 : 0.0;
-      expr.defineArgument(AnalyticFunction.S_STATE, q);
     }
-    rtn = expr.calculate();
-    return rtn;
+    for (int j = 0; j < numStates; j++) {
+      for (int i = 0; i <= stateSlot; i++) {
+        if (columns[i] != null) {
+          args[i] = columns[i][j];
+        }
+      }
+      out[j] = compiled.evaluate(args);
+    }
+  }
+
+  /**
+   * Evaluate the function within the given context, and with the given variable map.
+   *
+   * @param ec The {@link EvaluationContext}.
+   * @param value The variable map.
+   * @return The result of the evaluation.
+   * @throws CelloException Unable to evaluate the function.
+   */
+  public Number evaluate(final EvaluationContext ec, final Map<Variable, Double> value)
+      throws CelloException {
+    return evaluateDouble(ec, value);
   }
 
   private String getEquation() {
@@ -155,6 +284,8 @@ public final class AnalyticFunction extends Function {
 
   private String equation;
   private CObjectCollection<Parameter> parameters;
+  private CompiledExpression compiled;
+  private Map<String, Integer> variableIndex;
 
   public static final String S_EQUATION = "equation";
   public static final String S_PARAMETERS = "parameters";
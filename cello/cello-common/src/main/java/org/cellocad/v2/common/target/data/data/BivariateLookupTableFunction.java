@@ -23,10 +23,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import org.apache.commons.math3.ml.distance.EuclideanDistance;
 import org.cellocad.v2.common.Pair;
 import org.cellocad.v2.common.exception.CelloException;
 import org.cellocad.v2.common.profile.ProfileUtils;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
+import org.cellocad.v2.results.netlist.NetlistNode;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 
@@ -42,7 +43,14 @@ public class BivariateLookupTableFunction extends LookupTableFunction {
     vars = new Variable[2];
   }
 
-  @SuppressWarnings("unchecked")
+  private static double[] toDoubleArray(final JSONArray jArr) {
+    final double[] rtn = new double[jArr.size()];
+    for (int i = 0; i < jArr.size(); i++) {
+      rtn[i] = ((Number) jArr.get(i)).doubleValue();
+    }
+    return rtn;
+  }
+
   private void parseTable(final JSONObject jsonObj) throws CelloException {
     final JSONArray jArr = (JSONArray) jsonObj.get(LookupTableFunction.S_TABLE);
     if (jArr == null) {
@@ -59,26 +67,24 @@ public class BivariateLookupTableFunction extends LookupTableFunction {
     final JSONObject template = (JSONObject) jArr.get(0);
     for (final Variable var : getVariables()) {
       final Object entry = template.get(var.getName());
-      if (entry instanceof Double) {
+      if (entry instanceof Number) {
         vars[0] = var;
       } else if (entry instanceof JSONArray) {
         vars[1] = var;
-        // instantiate table
-        final int n = jArr.size();
-        final int m = ((JSONArray) entry).size();
-        xdata = new Double[n];
-        ydata = new Double[n][m];
-        zdata = new Double[n][m];
       }
     }
     // build table
-    for (int i = 0; i < jArr.size(); i++) {
+    final int n = jArr.size();
+    xdata = new double[n];
+    ydata = new double[n][];
+    zdata = new double[n][];
+    for (int i = 0; i < n; i++) {
       final JSONObject entry = (JSONObject) jArr.get(i);
       xdata[i] = ProfileUtils.getDouble(entry, vars[0].getName());
       final JSONArray y = (JSONArray) entry.get(vars[1].getName());
       final JSONArray z = (JSONArray) entry.get(LookupTableFunction.S_OUTPUT);
-      ydata[i] = (Double[]) y.toArray(ydata[i]);
-      zdata[i] = (Double[]) z.toArray(zdata[i]);
+      ydata[i] = BivariateLookupTableFunction.toDoubleArray(y);
+      zdata[i] = BivariateLookupTableFunction.toDoubleArray(z);
     }
   }
 
@@ -107,35 +113,120 @@ public class BivariateLookupTableFunction extends LookupTableFunction {
     return rtn;
   }
 
-  private static Pair<Integer, Integer> argNearestPair(final Double[] p, final Double x) {
-    Pair<Integer, Integer> rtn = null;
+  /**
+   * Binary search for the pair of indices that bracket {@code x} in the sorted array {@code p}.
+   * The result is the raw {@link Arrays#binarySearch(double[], double)} value, to be decoded with
+   * {@link #lower(int)} and {@link #upper(int, int)}.
+   *
+   * @param p A sorted array.
+   * @param x The key.
+   * @return The encoded bracketing pair.
+   */
+  private static int search(final double[] p, final double x) {
     if (p == null || p.length == 0) {
       throw new RuntimeException("Input array is null.");
     }
-    if (p.length == 1) {
-      rtn = new Pair<>(0, 0);
-    } else {
-      final int w = p.length / 2;
-      if (x > p[w - 1]) {
-        if (x < p[w]) {
-          rtn = new Pair<>(w - 1, w);
-        } else {
-          rtn = BivariateLookupTableFunction.argNearestPair(Arrays.copyOfRange(p, w, p.length), x);
-          rtn.setFirst(rtn.getFirst() + w);
-          rtn.setSecond(rtn.getSecond() + w);
-        }
-      } else {
-        rtn = BivariateLookupTableFunction.argNearestPair(Arrays.copyOfRange(p, 0, w), x);
-      }
+    return Arrays.binarySearch(p, x);
+  }
+
+  /**
+   * The lower index of a bracketing pair. An exact match brackets itself, and keys outside the
+   * array are bracketed by the nearest end.
+   *
+   * @param r The result of {@link #search(double[], double)}.
+   * @return The lower index.
+   */
+  private static int lower(final int r) {
+    if (r >= 0) {
+      return r;
     }
-    return rtn;
+    final int ip = -r - 1;
+    return ip == 0 ? 0 : ip - 1;
+  }
+
+  private static int upper(final int r, final int n) {
+    if (r >= 0) {
+      return r;
+    }
+    final int ip = -r - 1;
+    return ip == n ? n - 1 : ip;
   }
 
+  private void checkTable() throws CelloException {
+    if (xdata == null) {
+      final String fmt = "Cannot evaluate %s '%s' with an empty table.";
+      throw new CelloException(
+          String.format(fmt, BivariateLookupTableFunction.class.getSimpleName(), getName()));
+    }
+  }
+
+  /**
+   * Evaluates this instance at the values of its scalar and vector variables at the given node.
+   * This is the single state form of {@link #evaluate(EvaluationContext, List, double[])}. A
+   * bivariate table used to throw a {@link CelloException} when evaluated in a scalar context; it
+   * is now interpolated at one point with {@link #evaluate(double, double)}.
+   *
+   * @param ec The {@link EvaluationContext}.
+   * @param node The node at which to evaluate the variables.
+   * @return The result of {@link #evaluate(double, double)} at the values of the variables.
+   * @throws CelloException Unable to evaluate the variables, or the table is empty.
+   */
   @Override
-  public Number evaluate(final EvaluationContext ec) throws CelloException {
-    final String fmt = "Cannot evaluate %s in scalar context.";
-    throw new CelloException(
-        String.format(fmt, BivariateLookupTableFunction.class.getSimpleName()));
+  double evaluateAt(final EvaluationContext ec, final NetlistNode node) throws CelloException {
+    checkTable();
+    final double x = vars[0].evaluateAt(ec, node);
+    return evaluate(x, vars[1].evaluateAt(ec, node));
+  }
+
+  /**
+   * Evaluates this instance at the node of the given context in each of the given states. Each
+   * variable is evaluated once over all of the states, then the table is interpolated in place.
+   *
+   * @param ec The {@link EvaluationContext}.
+   * @param states The states.
+   * @param out The buffer, of length at least {@code states.size()}, to hold the results.
+   * @throws CelloException Unable to evaluate the variables, or the table is empty.
+   */
+  @Override
+  public void evaluate(
+      final EvaluationContext ec, final List<State<NetlistNode>> states, final double[] out)
+      throws CelloException {
+    checkTable();
+    final double[] y = new double[states.size()];
+    vars[0].evaluate(ec, states, out);
+    vars[1].evaluate(ec, states, y);
+    for (int i = 0; i < states.size(); i++) {
+      out[i] = evaluate(out[i], y[i]);
+    }
+  }
+
+  /**
+   * Evaluates the row of this instance at the given value of the scalar variable, interpolating
+   * between the two nearest rows, and writes the result to {@code out}.
+   *
+   * @param var The scalar variable.
+   * @param x The value of the scalar variable.
+   * @param out The buffer, of length at least {@link #getNumColumns()}, to hold the result.
+   */
+  public void evaluate(final Variable var, final double x, final double[] out) {
+    if (var != vars[0]) {
+      throw new UnsupportedOperationException("Not implemented.");
+    }
+    final int r = BivariateLookupTableFunction.search(xdata, x);
+    final int a = BivariateLookupTableFunction.lower(r);
+    final int b = BivariateLookupTableFunction.upper(r, xdata.length);
+    final int m = zdata[a].length;
+    final double w1 = Math.abs(xdata[a] - x);
+    final double w2 = Math.abs(xdata[b] - x);
+    if (w1 < 1e-8) {
+      System.arraycopy(zdata[a], 0, out, 0, m);
+    } else if (w2 < 1e-8) {
+      System.arraycopy(zdata[b], 0, out, 0, m);
+    } else {
+      for (int i = 0; i < m; i++) {
+        out[i] = (zdata[a][i] / w1 + zdata[b][i] / w2) / (1.0 / w1 + 1.0 / w2);
+      }
+    }
   }
 
   /**
@@ -145,29 +236,50 @@ public class BivariateLookupTableFunction extends LookupTableFunction {
    * @return The list of results.
    */
   public List<Double> evaluate(final Pair<Variable, Double> value) {
-    List<Double> rtn = null;
-    final Variable var = value.getFirst();
-    if (var == vars[0]) {
-      final Double x = value.getSecond();
-      final Pair<Integer, Integer> xbar = BivariateLookupTableFunction.argNearestPair(xdata, x);
-      final Double w1 = Math.abs(xdata[xbar.getFirst()] - x);
-      final Double w2 = Math.abs(xdata[xbar.getSecond()] - x);
-      if (w1 < 1e-8) {
-        rtn = Arrays.asList(zdata[xbar.getFirst()]);
-      } else if (w2 < 1e-8) {
-        rtn = Arrays.asList(zdata[xbar.getSecond()]);
-      } else {
-        rtn = new ArrayList<>();
-        for (int i = 0; i < ydata[xbar.getFirst()].length; i++) {
-          rtn.add(
-              (zdata[xbar.getFirst()][i] / w1 + zdata[xbar.getSecond()][i] / w2)
-                  / (1.0 / w1 + 1.0 / w2));
+    final double[] out = new double[getNumColumns()];
+    evaluate(value.getFirst(), value.getSecond(), out);
+    final List<Double> rtn = new ArrayList<>(out.length);
+    for (final double d : out) {
+      rtn.add(d);
+    }
+    return rtn;
+  }
+
+  /**
+   * Evaluates this instance at the given point by inverse distance weighting of the nearest table
+   * entries.
+   *
+   * @param x The value of the scalar variable.
+   * @param y The value of the vector variable.
+   * @return The result.
+   */
+  public double evaluate(final double x, final double y) {
+    final int rx = BivariateLookupTableFunction.search(xdata, x);
+    final int a = BivariateLookupTableFunction.lower(rx);
+    final int b = BivariateLookupTableFunction.upper(rx, xdata.length);
+    double top = 0.0;
+    double bot = 0.0;
+    final int num = a == b ? 1 : 2;
+    for (int k = 0; k < num; k++) {
+      final int row = k == 0 ? a : b;
+      final double[] py = ydata[row];
+      final int ry = BivariateLookupTableFunction.search(py, y);
+      final int c = BivariateLookupTableFunction.lower(ry);
+      final int d = BivariateLookupTableFunction.upper(ry, py.length);
+      for (int l = 0; l < 2; l++) {
+        final int col = l == 0 ? c : d;
+        final double dx = xdata[row] - x;
+        final double dy = py[col] - y;
+        final double dist = Math.sqrt(dx * dx + dy * dy);
+        if (dist < 1e-12) {
+          return zdata[row][col];
         }
+        final double w = 1.0 / dist;
+        top += zdata[row][col] * w;
+        bot += w;
       }
-    } else {
-      throw new UnsupportedOperationException("Not implemented.");
     }
-    return rtn;
+    return top / bot;
   }
 
   /**
@@ -177,51 +289,16 @@ public class BivariateLookupTableFunction extends LookupTableFunction {
    * @return The result.
    */
   public Double evaluate(final Map<Variable, Double> value) {
-    Double rtn = null;
-    final Variable vi = vars[0];
-    final Double x = value.get(vi);
-    final Variable vj = vars[1];
-    final Double y = value.get(vj);
-    final Pair<Integer, Integer> xbar = BivariateLookupTableFunction.argNearestPair(xdata, x);
-    final Pair<Integer, Integer> ybar =
-        BivariateLookupTableFunction.argNearestPair(ydata[xbar.getFirst()], y);
-    final List<Double> px = new ArrayList<>();
-    final List<Double> py = new ArrayList<>();
-    final List<Double> pz = new ArrayList<>();
-    px.add(xdata[xbar.getFirst()]);
-    px.add(xdata[xbar.getFirst()]);
-    py.add(ydata[xbar.getFirst()][ybar.getFirst()]);
-    py.add(ydata[xbar.getFirst()][ybar.getSecond()]);
-    pz.add(zdata[xbar.getFirst()][ybar.getFirst()]);
-    pz.add(zdata[xbar.getFirst()][ybar.getSecond()]);
-    if (xbar.getFirst() != xbar.getSecond()) {
-      final Pair<Integer, Integer> ybar2 =
-          BivariateLookupTableFunction.argNearestPair(ydata[xbar.getSecond()], y);
-      px.add(xdata[xbar.getSecond()]);
-      px.add(xdata[xbar.getSecond()]);
-      py.add(ydata[xbar.getSecond()][ybar2.getFirst()]);
-      py.add(ydata[xbar.getSecond()][ybar2.getSecond()]);
-      pz.add(zdata[xbar.getSecond()][ybar2.getFirst()]);
-      pz.add(zdata[xbar.getSecond()][ybar2.getSecond()]);
-    }
-    final EuclideanDistance eu = new EuclideanDistance();
-    Double top = 0.0;
-    Double bot = 0.0;
-    for (int i = 0; i < px.size(); i++) {
-      final double[] a = new double[] {px.get(i), py.get(i)};
-      final double[] b = new double[] {x, y};
-      final Double d = eu.compute(a, b);
-      if (d < 1e-12) {
-        top = pz.get(i);
-        bot = 1.0;
-        break;
-      }
-      final Double w = 1.0 / d;
-      top += pz.get(i) * w;
-      bot += w;
-    }
-    rtn = top / bot;
-    return rtn;
+    return evaluate(value.get(vars[0]), value.get(vars[1]));
+  }
+
+  /**
+   * The number of columns in a row of the table.
+   *
+   * @return The number of columns in a row of the table.
+   */
+  public int getNumColumns() {
+    return zdata[0].length;
   }
 
   /**
@@ -231,13 +308,15 @@ public class BivariateLookupTableFunction extends LookupTableFunction {
    * @return The Y data at the specified index.
    */
   public List<Double> getYDataAtIdx(final Integer idx) {
-    List<Double> rtn = new ArrayList<>();
-    rtn = Arrays.asList(this.ydata[idx]);
+    final List<Double> rtn = new ArrayList<>(ydata[idx].length);
+    for (final double d : ydata[idx]) {
+      rtn.add(d);
+    }
     return rtn;
   }
 
   private Variable[] vars;
-  private Double[] xdata;
-  private Double[][] ydata;
-  private Double[][] zdata;
+  private double[] xdata;
+  private double[][] ydata;
+  private double[][] zdata;
 }
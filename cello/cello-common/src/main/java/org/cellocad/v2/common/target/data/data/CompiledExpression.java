@@ -0,0 +1,558 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.common.target.data.data;
+
+import java.util.List;
+import org.cellocad.v2.common.exception.CelloException;
+
+/**
+ * An arithmetic expression compiled once into a tree of evaluation nodes. Each named argument of
+ * the expression is bound to a slot index at compile time, so that evaluation takes a primitive
+ * argument array and does no string work and no allocation.
+ *
+ * <p>Only the subset of the mXparser syntax used by response functions is supported: numbers,
+ * named arguments, the constants {@code pi} and {@code e}, the operators {@code + - * / ^},
+ * parentheses, and a small set of elementary functions. Anything else is rejected with a {@link
+ * CelloException} so that the caller can fall back to mXparser.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+final class CompiledExpression {
+
+  private CompiledExpression(final Node root, final boolean[] referenced) {
+    this.root = root;
+    this.referenced = referenced;
+  }
+
+  /**
+   * Compiles the given expression.
+   *
+   * @param expression The expression string.
+   * @param names The argument names, where the index of a name is its slot.
+   * @return The compiled expression.
+   * @throws CelloException Unable to compile the expression.
+   */
+  static CompiledExpression compile(final String expression, final List<String> names)
+      throws CelloException {
+    final Parser parser = new Parser(expression, names);
+    final Node root = parser.parse();
+    return new CompiledExpression(root, parser.referenced);
+  }
+
+  /**
+   * Evaluates the expression.
+   *
+   * @param args The argument values, indexed by slot.
+   * @return The value of the expression.
+   */
+  double evaluate(final double[] args) {
+    return root.evaluate(args);
+  }
+
+  /**
+   * Whether the expression references the given slot.
+   *
+   * @param slot The slot index.
+   * @return True if the expression references the slot.
+   */
+  boolean references(final int slot) {
+    return slot >= 0 && slot < referenced.length && referenced[slot];
+  }
+
+  private final Node root;
+  private final boolean[] referenced;
+
+  /*
+   * Nodes
+   */
+
+  private abstract static class Node {
+
+    abstract double evaluate(double[] args);
+
+    boolean isConstant() {
+      return false;
+    }
+  }
+
+  private static final class Constant extends Node {
+
+    Constant(final double value) {
+      this.value = value;
+    }
+
+    @Override
+    double evaluate(final double[] args) {
+      return value;
+    }
+
+    @Override
+    boolean isConstant() {
+      return true;
+    }
+
+    private final double value;
+  }
+
+  private static final class Slot extends Node {
+
+    Slot(final int idx) {
+      this.idx = idx;
+    }
+
+    @Override
+    double evaluate(final double[] args) {
+      return args[idx];
+    }
+
+    private final int idx;
+  }
+
+  private static final class Negate extends Node {
+
+    Negate(final Node arg) {
+      this.arg = arg;
+    }
+
+    @Override
+    double evaluate(final double[] args) {
+      return -arg.evaluate(args);
+    }
+
+    @Override
+    boolean isConstant() {
+      return arg.isConstant();
+    }
+
+    private final Node arg;
+  }
+
+  private abstract static class Binary extends Node {
+
+    Binary(final Node left, final Node right) {
+      this.left = left;
+      this.right = right;
+    }
+
+    @Override
+    boolean isConstant() {
+      return left.isConstant() && right.isConstant();
+    }
+
+    protected final Node left;
+    protected final Node right;
+  }
+
+  private static final class Add extends Binary {
+
+    Add(final Node left, final Node right) {
+      super(left, right);
+    }
+
+    @Override
+    double evaluate(final double[] args) {
+      return left.evaluate(args) + right.evaluate(args);
+    }
+  }
+
+  private static final class Subtract extends Binary {
+
+    Subtract(final Node left, final Node right) {
+      super(left, right);
+    }
+
+    @Override
+    double evaluate(final double[] args) {
+      return left.evaluate(args) - right.evaluate(args);
+    }
+  }
+
+  private static final class Multiply extends Binary {
+
+    Multiply(final Node left, final Node right) {
+      super(left, right);
+    }
+
+    @Override
+    double evaluate(final double[] args) {
+      return left.evaluate(args) * right.evaluate(args);
+    }
+  }
+
+  private static final class Divide extends Binary {
+
+    Divide(final Node left, final Node right) {
+      super(left, right);
+    }
+
+    @Override
+    double evaluate(final double[] args) {
+      final double denominator = right.evaluate(args);
+      if (denominator == 0.0) {
+        // mXparser yields NaN rather than infinity on division by zero
+        return Double.NaN;
+      }
+      return left.evaluate(args) / denominator;
+    }
+  }
+
+  private static final class Power extends Binary {
+
+    Power(final Node left, final Node right) {
+      super(left, right);
+    }
+
+    @Override
+    double evaluate(final double[] args) {
+      return Math.pow(left.evaluate(args), right.evaluate(args));
+    }
+  }
+
+  private static final class Unary extends Node {
+
+    Unary(final int op, final Node arg) {
+      this.op = op;
+      this.arg = arg;
+    }
+
+    @Override
+    double evaluate(final double[] args) {
+      final double a = arg.evaluate(args);
+      switch (op) {
+        case OP_EXP:
+          return Math.exp(a);
+        case OP_LN:
+          return Math.log(a);
+        case OP_LOG10:
+          return Math.log10(a);
+        case OP_LOG2:
+          return Math.log(a) / Math.log(2.0);
+        case OP_SQRT:
+          return Math.sqrt(a);
+        case OP_ABS:
+          return Math.abs(a);
+        default:
+          throw new IllegalStateException("Unknown function.");
+      }
+    }
+
+    @Override
+    boolean isConstant() {
+      return arg.isConstant();
+    }
+
+    private final int op;
+    private final Node arg;
+  }
+
+  private static final class Function2 extends Binary {
+
+    Function2(final int op, final Node left, final Node right) {
+      super(left, right);
+      this.op = op;
+    }
+
+    @Override
+    double evaluate(final double[] args) {
+      final double a = left.evaluate(args);
+      final double b = right.evaluate(args);
+      switch (op) {
+        case OP_MIN:
+          return Math.min(a, b);
+        case OP_MAX:
+          return Math.max(a, b);
+        case OP_LOG:
+          return Math.log(b) / Math.log(a);
+        default:
+          throw new IllegalStateException("Unknown function.");
+      }
+    }
+
+    private final int op;
+  }
+
+  private static int getOpcode(final String name) {
+    switch (name) {
+      case "exp":
+        return OP_EXP;
+      case "ln":
+        return OP_LN;
+      case "log10":
+        return OP_LOG10;
+      case "log2":
+        return OP_LOG2;
+      case "sqrt":
+        return OP_SQRT;
+      case "abs":
+        return OP_ABS;
+      case "min":
+        return OP_MIN;
+      case "max":
+        return OP_MAX;
+      case "log":
+        return OP_LOG;
+      default:
+        return -1;
+    }
+  }
+
+  private static final int OP_EXP = 0;
+  private static final int OP_LN = 1;
+  private static final int OP_LOG10 = 2;
+  private static final int OP_LOG2 = 3;
+  private static final int OP_SQRT = 4;
+  private static final int OP_ABS = 5;
+  private static final int OP_MIN = 6;
+  private static final int OP_MAX = 7;
+  private static final int OP_LOG = 8;
+  private static final int NUM_UNARY = 6;
+
+  /*
+   * Parser
+   */
+
+  /**
+   * A recursive descent parser. Grammar, in order of increasing precedence:
+   *
+   * <pre>
+   * sum     := product (('+' | '-') product)*
+   * product := unary (('*' | '/') unary)*
+   * unary   := ('-' | '+') power | power
+   * power   := atom ('^' unary)?
+   * atom    := number | name | name '(' sum (',' sum)* ')' | '(' sum ')'
+   * </pre>
+   */
+  private static final class Parser {
+
+    Parser(final String expression, final List<String> names) {
+      this.expression = expression;
+      this.names = names;
+      this.referenced = new boolean[names.size()];
+      this.pos = 0;
+    }
+
+    Node parse() throws CelloException {
+      final Node rtn = parseSum();
+      skipWhitespace();
+      if (pos < expression.length()) {
+        error("unexpected '" + expression.charAt(pos) + "'");
+      }
+      return rtn;
+    }
+
+    private Node parseSum() throws CelloException {
+      Node rtn = parseProduct();
+      while (true) {
+        if (accept('+')) {
+          rtn = fold(new Add(rtn, parseProduct()));
+        } else if (accept('-')) {
+          rtn = fold(new Subtract(rtn, parseProduct()));
+        } else {
+          return rtn;
+        }
+      }
+    }
+
+    private Node parseProduct() throws CelloException {
+      Node rtn = parseUnary();
+      while (true) {
+        if (accept('*')) {
+          rtn = fold(new Multiply(rtn, parseUnary()));
+        } else if (accept('/')) {
+          rtn = fold(new Divide(rtn, parseUnary()));
+        } else {
+          return rtn;
+        }
+      }
+    }
+
+    private Node parseUnary() throws CelloException {
+      if (accept('+')) {
+        return parsePower();
+      }
+      if (!accept('-')) {
+        return parsePower();
+      }
+      skipWhitespace();
+      if (pos < expression.length()) {
+        final char c = expression.charAt(pos);
+        if (c == '-' || c == '+') {
+          // mXparser does not accept repeated signs
+          error("repeated sign");
+        }
+        if (Character.isDigit(c) || c == '.') {
+          // mXparser reads a signed literal as a number, so that -2^2 is 4, not -4
+          final Node base = fold(new Negate(parseNumber()));
+          return parseExponent(base);
+        }
+      }
+      return fold(new Negate(parsePower()));
+    }
+
+    private Node parsePower() throws CelloException {
+      return parseExponent(parseAtom());
+    }
+
+    private Node parseExponent(final Node base) throws CelloException {
+      if (!accept('^')) {
+        return base;
+      }
+      // right associative, 2^3^2 is 2^9
+      return fold(new Power(base, parseUnary()));
+    }
+
+    private Node parseAtom() throws CelloException {
+      skipWhitespace();
+      if (pos >= expression.length()) {
+        error("unexpected end of expression");
+      }
+      final char c = expression.charAt(pos);
+      if (accept('(')) {
+        final Node rtn = parseSum();
+        expect(')');
+        return rtn;
+      }
+      if (Character.isDigit(c) || c == '.') {
+        return parseNumber();
+      }
+      if (Character.isLetter(c) || c == '_') {
+        return parseName();
+      }
+      error("unexpected '" + c + "'");
+      return null;
+    }
+
+    private Node parseNumber() throws CelloException {
+      final int start = pos;
+      while (pos < expression.length()
+          && (Character.isDigit(expression.charAt(pos)) || expression.charAt(pos) == '.')) {
+        pos++;
+      }
+      if (pos < expression.length()
+          && (expression.charAt(pos) == 'e' || expression.charAt(pos) == 'E')) {
+        int end = pos + 1;
+        if (end < expression.length()
+            && (expression.charAt(end) == '+' || expression.charAt(end) == '-')) {
+          end++;
+        }
+        if (end < expression.length() && Character.isDigit(expression.charAt(end))) {
+          pos = end;
+          while (pos < expression.length() && Character.isDigit(expression.charAt(pos))) {
+            pos++;
+          }
+        }
+      }
+      final String str = expression.substring(start, pos);
+      try {
+        return new Constant(Double.parseDouble(str));
+      } catch (final NumberFormatException e) {
+        error("invalid number '" + str + "'");
+        return null;
+      }
+    }
+
+    private Node parseName() throws CelloException {
+      final int start = pos;
+      while (pos < expression.length()
+          && (Character.isLetterOrDigit(expression.charAt(pos))
+              || expression.charAt(pos) == '_')) {
+        pos++;
+      }
+      final String name = expression.substring(start, pos);
+      skipWhitespace();
+      if (pos < expression.length() && expression.charAt(pos) == '(') {
+        return parseCall(name);
+      }
+      final int idx = names.indexOf(name);
+      if (idx >= 0) {
+        referenced[idx] = true;
+        return new Slot(idx);
+      }
+      if (name.equals(CompiledExpression.S_PI)) {
+        return new Constant(Math.PI);
+      }
+      if (name.equals(CompiledExpression.S_E)) {
+        return new Constant(Math.E);
+      }
+      error("unknown argument '" + name + "'");
+      return null;
+    }
+
+    private Node parseCall(final String name) throws CelloException {
+      final int op = CompiledExpression.getOpcode(name);
+      if (op < 0) {
+        error("unsupported function '" + name + "'");
+      }
+      expect('(');
+      final Node a = parseSum();
+      Node rtn = null;
+      if (op < CompiledExpression.NUM_UNARY) {
+        rtn = new Unary(op, a);
+      } else {
+        expect(',');
+        rtn = new Function2(op, a, parseSum());
+      }
+      expect(')');
+      return fold(rtn);
+    }
+
+    private Node fold(final Node node) {
+      if (node.isConstant() && !(node instanceof Constant)) {
+        return new Constant(node.evaluate(null));
+      }
+      return node;
+    }
+
+    private void skipWhitespace() {
+      while (pos < expression.length() && Character.isWhitespace(expression.charAt(pos))) {
+        pos++;
+      }
+    }
+
+    private boolean accept(final char c) {
+      skipWhitespace();
+      if (pos < expression.length() && expression.charAt(pos) == c) {
+        pos++;
+        return true;
+      }
+      return false;
+    }
+
+    private void expect(final char c) throws CelloException {
+      if (!accept(c)) {
+        error("expected '" + c + "'");
+      }
+    }
+
+    private void error(final String msg) throws CelloException {
+      final String fmt = "Unable to compile expression '%s' at position %d: %s.";
+      throw new CelloException(String.format(fmt, expression, pos, msg));
+    }
+
+    private final String expression;
+    private final List<String> names;
+    private final boolean[] referenced;
+    private int pos;
+  }
+
+  private static final String S_PI = "pi";
+  private static final String S_E = "e";
+}
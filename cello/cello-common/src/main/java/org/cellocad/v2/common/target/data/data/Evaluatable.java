@@ -19,9 +19,12 @@
 
 package org.cellocad.v2.common.target.data.data;
 
+import java.util.List;
 import org.cellocad.v2.common.CObject;
 import org.cellocad.v2.common.exception.CelloException;
 import org.cellocad.v2.common.profile.ProfileUtils;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
+import org.cellocad.v2.results.netlist.NetlistNode;
 import org.json.simple.JSONObject;
 
 /**
@@ -50,7 +53,62 @@ public abstract class Evaluatable extends CObject {
     return rtn;
   }
 
-  public abstract Number evaluate(EvaluationContext ec) throws CelloException;
+  /**
+   * Evaluates this object within the given context.
+   *
+   * @param ec The {@link EvaluationContext}.
+   * @return The result of the evaluation.
+   * @throws CelloException Unable to evaluate this object.
+   */
+  public double evaluateDouble(final EvaluationContext ec) throws CelloException {
+    return evaluateAt(ec, ec.getNode());
+  }
+
+  /**
+   * Evaluates this object at the given node, following references relative to that node. The node
+   * of the context is neither read nor changed.
+   *
+   * @param ec The {@link EvaluationContext}.
+   * @param node The node at which to evaluate this object.
+   * @return The result of the evaluation.
+   * @throws CelloException Unable to evaluate this object.
+   */
+  abstract double evaluateAt(EvaluationContext ec, NetlistNode node) throws CelloException;
+
+  /**
+   * Evaluates this object within the given context. Prefer {@link
+   * #evaluateDouble(EvaluationContext)}, which does not box the result.
+   *
+   * @param ec The {@link EvaluationContext}.
+   * @return The result of the evaluation.
+   * @throws CelloException Unable to evaluate this object.
+   */
+  public Number evaluate(final EvaluationContext ec) throws CelloException {
+    return evaluateDouble(ec);
+  }
+
+  /**
+   * Evaluates this object at the node of the given context in each of the given states, and
+   * writes the results to {@code out}. The state of the context is unchanged on return.
+   *
+   * @param ec The {@link EvaluationContext}.
+   * @param states The states.
+   * @param out The buffer, of length at least {@code states.size()}, to hold the results.
+   * @throws CelloException Unable to evaluate this object.
+   */
+  public void evaluate(
+      final EvaluationContext ec, final List<State<NetlistNode>> states, final double[] out)
+      throws CelloException {
+    final State<NetlistNode> state = ec.getState();
+    try {
+      for (int i = 0; i < states.size(); i++) {
+        ec.setState(states.get(i));
+        out[i] = evaluateDouble(ec);
+      }
+    } finally {
+      ec.setState(state);
+    }
+  }
 
   protected static final String S_NAME = "name";
 }
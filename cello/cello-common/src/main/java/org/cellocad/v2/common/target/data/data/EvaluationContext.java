@@ -19,176 +19,239 @@
 
 package org.cellocad.v2.common.target.data.data;
 
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.Map;
-import java.util.StringTokenizer;
 import org.cellocad.v2.common.exception.CelloException;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
-import org.cellocad.v2.results.netlist.NetlistEdge;
 import org.cellocad.v2.results.netlist.NetlistNode;
-import org.cellocad.v2.results.netlist.data.ResultNetlistEdgeData;
 
 /**
  * A context in which a pointer is evaluated or dereferenced.
  *
+ * <p>A pointer is resolved once per node to the upstream node that owns its target, and results
+ * of evaluating it are memoized per (node, referenced object) in a table indexed by {@link
+ * State#getRow()}, so the states evaluated in one context must come from the same {@link
+ * org.cellocad.v2.results.logicSynthesis.logic.truthtable.States}. The cache is only valid while
+ * the device and input assignment of the netlist is unchanged: callers that modify the assignment
+ * of a node between evaluations must call {@link #clearCache()}, or use a new context. A context
+ * must not be shared between threads.
+ *
  * @author Timothy Jones
  * @date 2020-02-12
  */
 public class EvaluationContext {
 
   private void init() {
-    cache = new HashMap<>();
+    nodeCaches = new IdentityHashMap<>();
+    buffers = new double[0][];
+    parameterValues = new IdentityHashMap<>();
+    stateValues = new IdentityHashMap<>();
   }
 
   public EvaluationContext() {
     init();
   }
 
-  private static void isTooShortException(final StringTokenizer st, final String map)
-      throws CelloException {
-    if (!st.hasMoreTokens()) {
-      final String fmt = "%s: '%s' is missing elements.";
-      throw new CelloException(String.format(fmt, EvaluationContext.S_INVALID, map));
+  /**
+   * Dereference the given pointer string. If the pointer crosses a structure input, the node of
+   * this context is set to the upstream node that owns the returned object.
+   *
+   * @param map A pointer string.
+   * @return The dereferenced {@link Evaluatable} object.
+   * @throws CelloException Unable to dereference the given pointer string.
+   */
+  public Evaluatable dereference(final String map) throws CelloException {
+    Evaluatable rtn = null;
+    final ReferencePath path = ReferencePath.parse(map);
+    final NetlistNode src = path.resolveNode(getNode());
+    if (src == null) {
+      rtn = new NullEvaluatable();
+    } else {
+      setNode(src);
+      rtn = path.resolveTarget(src);
     }
+    return rtn;
   }
 
-  private static void isInvalidTokenException(final String map, final String token)
-      throws CelloException {
-    final String fmt = "%s: '%s', error with '%s'.";
-    throw new CelloException(String.format(fmt, EvaluationContext.S_INVALID, map, token));
+  /**
+   * Evaluate the object referenced by the given path, relative to the given node. The node of this
+   * context is neither read nor changed.
+   *
+   * @param path The parsed pointer.
+   * @param node The node at which the pointer is evaluated.
+   * @return The result of the evaluation.
+   * @throws CelloException Unable to evaluate the referenced object.
+   */
+  double evaluateDouble(final ReferencePath path, final NetlistNode node) throws CelloException {
+    double rtn = 0.0;
+    final NodeCache source = getSource(getNodeCache(node), path);
+    if (source == null) {
+      return EvaluationContext.D_UNCONNECTED;
+    }
+    final NetlistNode src = source.node;
+    final Evaluatable e = path.resolveTarget(src);
+    if (e == null) {
+      final String fmt = "Dereference failed: '%s'.";
+      throw new CelloException(String.format(fmt, path.getMap()));
+    }
+    final int slot = getSlot();
+    if (slot < 0 || e instanceof FixedParameter) {
+      return e.evaluateAt(this, src);
+    }
+    final double[] values = source.getValues(e, slot);
+    if (!Double.isNaN(values[slot])) {
+      return values[slot];
+    }
+    rtn = e.evaluateAt(this, src);
+    values[slot] = rtn;
+    return rtn;
   }
 
-  private static void isUnsupportedTokenException(final String map, final String token)
-      throws CelloException {
-    final String fmt = "%s: '%s', error with '%s'.";
-    throw new CelloException(String.format(fmt, EvaluationContext.S_UNSUPPORTED, map, token));
-  }
+  /*
+   * Cache
+   */
 
-  private Evaluatable dereferenceInput(
-      final StringTokenizer st, final String map, final NetlistNode node, final Input input)
-      throws CelloException {
-    Evaluatable rtn = null;
-    NetlistNode src = null;
-    for (int i = 0; i < node.getNumInEdge(); i++) {
-      final NetlistEdge edge = node.getInEdgeAtIdx(i);
-      final ResultNetlistEdgeData data = edge.getResultNetlistEdgeData();
-      final Input in = data.getInput();
-      if (in.equals(input)) {
-        src = edge.getSrc();
-        setNode(src);
-        break;
+  /*
+   * The references followed from a node, each resolved to the node that owns its target, and the
+   * results of the objects owned by the node, one table per object. A table holds the result of
+   * the state with row i at slot i + 1, or of no state at slot 0, and NaN where none was stored.
+   */
+  private static final class NodeCache {
+
+    NodeCache(final NetlistNode node) {
+      this.node = node;
+      paths = new ReferencePath[0];
+      sources = new NodeCache[0];
+      targets = new Evaluatable[0];
+      values = new double[0][];
+    }
+
+    /* Returns the table of the given object, of length greater than the given slot. */
+    double[] getValues(final Evaluatable target, final int slot) {
+      int i = 0;
+      while (i < targets.length && targets[i] != target) {
+        i++;
+      }
+      if (i == targets.length) {
+        targets = Arrays.copyOf(targets, i + 1);
+        targets[i] = target;
+        values = Arrays.copyOf(values, i + 1);
+        values[i] = new double[0];
+      }
+      final double[] table = values[i];
+      if (table.length <= slot) {
+        values[i] = Arrays.copyOf(table, Math.max(slot + 1, 2 * table.length));
+        Arrays.fill(values[i], table.length, values[i].length, Double.NaN);
       }
+      return values[i];
     }
-    if (src == null) {
-      rtn = new NullEvaluatable();
-    } else {
-      rtn = dereferenceRoot(st, map, src);
+
+    void clearValues() {
+      for (final double[] table : values) {
+        Arrays.fill(table, Double.NaN);
+      }
     }
-    return rtn;
+
+    private final NetlistNode node;
+    private ReferencePath[] paths;
+    private NodeCache[] sources;
+    private Evaluatable[] targets;
+    private double[][] values;
   }
 
-  private Evaluatable dereferenceStructure(
-      final StringTokenizer st, final String map, final NetlistNode node, final Structure structure)
-      throws CelloException {
-    Evaluatable rtn = null;
-    EvaluationContext.isTooShortException(st, map);
-    final String token = st.nextToken();
-    String name = null;
-    switch (token) {
-      case Structure.S_INPUTS:
-        EvaluationContext.isTooShortException(st, map);
-        name = st.nextToken();
-        final Input input = structure.getInputs().findCObjectByName(name);
-        rtn = dereferenceInput(st, map, node, input);
-        break;
-      case Structure.S_OUTPUTS:
-        EvaluationContext.isUnsupportedTokenException(map, token);
-        break;
-      case Structure.S_DEVICES:
-        EvaluationContext.isUnsupportedTokenException(map, token);
-        break;
-      default:
-        EvaluationContext.isInvalidTokenException(map, token);
+  /* Returns the slot of the state of this context in a table, or -1 if it has no row. */
+  private int getSlot() {
+    final State<NetlistNode> state = getState();
+    if (state == null) {
+      return 0;
     }
-    return rtn;
+    final int row = state.getRow();
+    return row < 0 ? -1 : row + 1;
   }
 
-  private Evaluatable dereferenceModel(
-      final StringTokenizer st, final String map, final NetlistNode node, final Model model)
-      throws CelloException {
-    Evaluatable rtn = null;
-    EvaluationContext.isTooShortException(st, map);
-    final String token = st.nextToken();
-    String name = null;
-    switch (token) {
-      case Model.S_PARAMETERS:
-        EvaluationContext.isTooShortException(st, map);
-        name = st.nextToken();
-        rtn = model.getParameterByName(name);
-        break;
-      case Model.S_FUNCTIONS:
-        EvaluationContext.isTooShortException(st, map);
-        name = st.nextToken();
-        rtn = model.getFunctionByName(name);
-        break;
-      default:
-        EvaluationContext.isInvalidTokenException(map, token);
+  private NodeCache getNodeCache(final NetlistNode node) {
+    NodeCache rtn = nodeCaches.get(node);
+    if (rtn == null) {
+      rtn = new NodeCache(node);
+      nodeCaches.put(node, rtn);
     }
     return rtn;
   }
 
-  private Evaluatable dereferenceRoot(
-      final StringTokenizer st, final String map, final NetlistNode node) throws CelloException {
-    Evaluatable rtn = null;
-    // TODO check cache or originate entry
-    EvaluationContext.isTooShortException(st, map);
-    final String token = st.nextToken();
-    final AssignableDevice d = node.getResultNetlistNodeData().getDevice();
-    switch (token) {
-      case AssignableDevice.S_MODEL:
-        final Model m = d.getModel();
-        rtn = dereferenceModel(st, map, node, m);
-        break;
-      case AssignableDevice.S_STRUCTURE:
-        final Structure s = d.getStructure();
-        rtn = dereferenceStructure(st, map, node, s);
-        break;
-      default:
-        EvaluationContext.isInvalidTokenException(map, token);
+  /*
+   * Returns the cache of the node that owns the target of the given path, or null if the path
+   * crosses an unconnected input. The in-edges are searched once per node and path.
+   */
+  private NodeCache getSource(final NodeCache cache, final ReferencePath path) {
+    if (path.isLocal()) {
+      return cache;
+    }
+    final ReferencePath[] paths = cache.paths;
+    for (int i = 0; i < paths.length; i++) {
+      if (paths[i] == path) {
+        return cache.sources[i];
+      }
     }
+    final NetlistNode src = path.resolveNode(cache.node);
+    final NodeCache rtn = src == null ? null : getNodeCache(src);
+    final int n = paths.length;
+    cache.paths = Arrays.copyOf(paths, n + 1);
+    cache.paths[n] = path;
+    cache.sources = Arrays.copyOf(cache.sources, n + 1);
+    cache.sources[n] = rtn;
     return rtn;
   }
 
+  private void clearValues() {
+    for (final NodeCache cache : nodeCaches.values()) {
+      cache.clearValues();
+    }
+  }
+
+  /**
+   * Discard all cached results and resolved references. Call this after changing the device of a
+   * node or the input assignment of its edges.
+   */
+  public void clearCache() {
+    nodeCaches.clear();
+  }
+
+  private Map<NetlistNode, NodeCache> nodeCaches;
+
+  /*
+   * Buffers
+   */
+
   /**
-   * Dereference the given pointer string.
+   * Returns a buffer of at least the given length, to be returned with {@link #releaseBuffer()}
+   * once the caller is done with it. Buffers are reused by nesting depth, so an evaluation that
+   * borrows a buffer may itself evaluate objects that borrow one.
    *
-   * @param map A pointer string.
-   * @return The dereferenced {@link Evaluatable} object.
-   * @throws CelloException Unable to dereference the given pointer string.
+   * @param length The minimum length of the buffer.
+   * @return The buffer.
    */
-  public Evaluatable dereference(final String map) throws CelloException {
-    Evaluatable rtn = null;
-    String str = map;
-    if (!str.startsWith(Reference.S_REFCHAR)) {
-      final String fmt = "%s: '%s' must begin with '%s'.";
-      throw new CelloException(
-          String.format(fmt, EvaluationContext.S_INVALID, str, Reference.S_REFCHAR));
-    }
-    str = str.substring(Reference.S_REFCHAR.length());
-    Boolean root = false;
-    if (str.startsWith(Reference.S_DELIM)) {
-      root = true;
+  double[] acquireBuffer(final int length) {
+    if (depth == buffers.length) {
+      buffers = Arrays.copyOf(buffers, Math.max(2 * depth, 4));
     }
-    final StringTokenizer st = new StringTokenizer(str, Reference.S_DELIM);
-    if (root) {
-      rtn = dereferenceRoot(st, map, getNode());
-    } else {
-      final String fmt = "%s: '%s'.";
-      throw new CelloException(String.format(fmt, EvaluationContext.S_UNSUPPORTED, str));
+    double[] rtn = buffers[depth];
+    if (rtn == null || rtn.length < length) {
+      rtn = new double[length];
+      buffers[depth] = rtn;
     }
+    depth++;
     return rtn;
   }
 
+  /** Returns the buffer most recently borrowed with {@link #acquireBuffer(int)}. */
+  void releaseBuffer() {
+    depth--;
+  }
+
+  private double[][] buffers;
+  private int depth;
+
   /*
    * NetlistNode
    */
@@ -238,20 +301,82 @@ public class EvaluationContext {
   private State<NetlistNode> state;
 
   /*
-   * Cache
+   * Parameter values
    */
 
   /**
-   * Getter for {@code cache}.
+   * Evaluate the given parameter with the given value, instead of its own, in this context. The
+   * cache of this context is cleared.
    *
-   * @return The value of {@code cache}.
+   * @param parameter The parameter.
+   * @param value The value to use for the parameter.
    */
-  public Map<String, Number> getCache() {
-    return cache;
+  public void setParameterValue(final FixedParameter parameter, final double value) {
+    parameterValues.put(parameter, value);
+    clearValues();
+  }
+
+  /** Evaluate every parameter with its own value. The cache of this context is cleared. */
+  public void clearParameterValues() {
+    parameterValues.clear();
+    clearValues();
+  }
+
+  /**
+   * Returns the value of the given parameter in this context.
+   *
+   * @param parameter The parameter.
+   * @param value The value of the parameter outside of any context.
+   * @return The value set with {@link #setParameterValue(FixedParameter, double)}, if any,
+   *     otherwise {@code value}.
+   */
+  double getParameterValue(final FixedParameter parameter, final double value) {
+    if (parameterValues.isEmpty()) {
+      return value;
+    }
+    final Double rtn = parameterValues.get(parameter);
+    return rtn == null ? value : rtn;
+  }
+
+  private Map<FixedParameter, Double> parameterValues;
+
+  /*
+   * State values
+   */
+
+  /**
+   * Evaluate the state of the given node as the given value, instead of as zero or one according
+   * to the state of this context. Intermediate values sweep a node, e.g. an input sensor, between
+   * its low and high levels. The cache of this context is cleared.
+   *
+   * @param node The node.
+   * @param value The value to use for the state of the node.
+   */
+  public void setStateValue(final NetlistNode node, final double value) {
+    stateValues.put(node, value);
+    clearValues();
+  }
+
+  /** Evaluate the state of every node according to the state of this context. */
+  public void clearStateValues() {
+    stateValues.clear();
+    clearValues();
+  }
+
+  /**
+   * Returns the value set for the state of the given node.
+   *
+   * @param node The node.
+   * @return The value set with {@link #setStateValue(NetlistNode, double)}, or null if none.
+   */
+  Double getStateValue(final NetlistNode node) {
+    if (stateValues.isEmpty()) {
+      return null;
+    }
+    return stateValues.get(node);
   }
 
-  private Map<String, Number> cache;
+  private Map<NetlistNode, Double> stateValues;
 
-  private static final String S_INVALID = "Invalid reference string";
-  private static final String S_UNSUPPORTED = "Unsupported reference string";
+  private static final double D_UNCONNECTED = 0.0;
 }
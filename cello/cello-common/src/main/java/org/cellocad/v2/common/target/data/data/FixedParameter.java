@@ -19,7 +19,11 @@
 
 package org.cellocad.v2.common.target.data.data;
 
+import java.util.Arrays;
+import java.util.List;
 import org.cellocad.v2.common.profile.ProfileUtils;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
+import org.cellocad.v2.results.netlist.NetlistNode;
 import org.json.simple.JSONObject;
 
 /**
@@ -54,8 +58,22 @@ public class FixedParameter extends Parameter {
   }
 
   @Override
-  public Number evaluate(final EvaluationContext ce) {
-    return getValue();
+  public double evaluateDouble(final EvaluationContext ce) {
+    if (ce == null) {
+      return getValue();
+    }
+    return ce.getParameterValue(this, getValue());
+  }
+
+  @Override
+  double evaluateAt(final EvaluationContext ec, final NetlistNode node) {
+    return evaluateDouble(ec);
+  }
+
+  @Override
+  public void evaluate(
+      final EvaluationContext ec, final List<State<NetlistNode>> states, final double[] out) {
+    Arrays.fill(out, 0, states.size(), evaluateDouble(ec));
   }
 
   @Override
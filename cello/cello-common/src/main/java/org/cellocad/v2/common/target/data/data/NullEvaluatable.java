@@ -20,6 +20,7 @@
 package org.cellocad.v2.common.target.data.data;
 
 import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.results.netlist.NetlistNode;
 import org.json.simple.JSONObject;
 
 /**
@@ -37,7 +38,12 @@ public class NullEvaluatable extends Evaluatable {
   public NullEvaluatable() {}
 
   @Override
-  public Number evaluate(final EvaluationContext ce) throws CelloException {
-    return new Double(0.0);
+  public double evaluateDouble(final EvaluationContext ce) {
+    return 0.0;
+  }
+
+  @Override
+  double evaluateAt(final EvaluationContext ec, final NetlistNode node) {
+    return 0.0;
   }
 }
@@ -21,6 +21,7 @@ package org.cellocad.v2.common.target.data.data;
 
 import org.cellocad.v2.common.exception.CelloException;
 import org.cellocad.v2.common.profile.ProfileUtils;
+import org.cellocad.v2.results.netlist.NetlistNode;
 import org.json.simple.JSONObject;
 
 /**
@@ -41,6 +42,16 @@ public class ParameterReference extends Parameter {
   private void parseParameterReference(final JSONObject jsonObj) {
     parseName(jsonObj);
     parseMap(jsonObj);
+    parsePath();
+  }
+
+  private void parsePath() {
+    try {
+      path = ReferencePath.parse(getMap());
+    } catch (final CelloException e) {
+      // reported when the reference is evaluated
+      pathException = e;
+    }
   }
 
   /**
@@ -55,11 +66,8 @@ public class ParameterReference extends Parameter {
   }
 
   @Override
-  public Number evaluate(final EvaluationContext ce) throws CelloException {
-    Number rtn = null;
-    final Evaluatable e = ce.dereference(getMap());
-    rtn = e.evaluate(ce);
-    return rtn;
+  double evaluateAt(final EvaluationContext ec, final NetlistNode node) throws CelloException {
+    return ec.evaluateDouble(getPath(), node);
   }
 
   @Override
@@ -74,5 +82,14 @@ public class ParameterReference extends Parameter {
     return map;
   }
 
+  private ReferencePath getPath() throws CelloException {
+    if (pathException != null) {
+      throw pathException;
+    }
+    return path;
+  }
+
   private String map;
+  private ReferencePath path;
+  private CelloException pathException;
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.common.target.data.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringTokenizer;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.results.netlist.NetlistEdge;
+import org.cellocad.v2.results.netlist.NetlistNode;
+
+/**
+ * A reference string, e.g. {@code #//structure/inputs/x/model/functions/response_function},
+ * parsed once into the chain of structure inputs to follow upstream and the model member to read
+ * at the end of the chain.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+final class ReferencePath {
+
+  private ReferencePath(final String map, final String[] inputs, final int kind, final String name) {
+    this.map = map;
+    this.inputs = inputs;
+    this.kind = kind;
+    this.name = name;
+  }
+
+  private static void isTooShortException(final StringTokenizer st, final String map)
+      throws CelloException {
+    if (!st.hasMoreTokens()) {
+      final String fmt = "%s: '%s' is missing elements.";
+      throw new CelloException(String.format(fmt, ReferencePath.S_INVALID, map));
+    }
+  }
+
+  private static CelloException invalidTokenException(final String map, final String token) {
+    final String fmt = "%s: '%s', error with '%s'.";
+    return new CelloException(String.format(fmt, ReferencePath.S_INVALID, map, token));
+  }
+
+  private static CelloException unsupportedTokenException(final String map, final String token) {
+    final String fmt = "%s: '%s', error with '%s'.";
+    return new CelloException(String.format(fmt, ReferencePath.S_UNSUPPORTED, map, token));
+  }
+
+  /**
+   * Parses the given reference string.
+   *
+   * @param map A reference string.
+   * @return The parsed reference.
+   * @throws CelloException Unable to parse the reference string.
+   */
+  static ReferencePath parse(final String map) throws CelloException {
+    if (map == null || !map.startsWith(Reference.S_REFCHAR)) {
+      final String fmt = "%s: '%s' must begin with '%s'.";
+      throw new CelloException(
+          String.format(fmt, ReferencePath.S_INVALID, map, Reference.S_REFCHAR));
+    }
+    final String str = map.substring(Reference.S_REFCHAR.length());
+    if (!str.startsWith(Reference.S_DELIM)) {
+      final String fmt = "%s: '%s'.";
+      throw new CelloException(String.format(fmt, ReferencePath.S_UNSUPPORTED, str));
+    }
+    final StringTokenizer st = new StringTokenizer(str, Reference.S_DELIM);
+    final List<String> inputs = new ArrayList<>();
+    while (true) {
+      ReferencePath.isTooShortException(st, map);
+      String token = st.nextToken();
+      switch (token) {
+        case AssignableDevice.S_MODEL:
+          ReferencePath.isTooShortException(st, map);
+          token = st.nextToken();
+          int kind = 0;
+          switch (token) {
+            case Model.S_PARAMETERS:
+              kind = ReferencePath.PARAMETER;
+              break;
+            case Model.S_FUNCTIONS:
+              kind = ReferencePath.FUNCTION;
+              break;
+            default:
+              throw ReferencePath.invalidTokenException(map, token);
+          }
+          ReferencePath.isTooShortException(st, map);
+          final String name = st.nextToken();
+          return new ReferencePath(map, inputs.toArray(new String[inputs.size()]), kind, name);
+        case AssignableDevice.S_STRUCTURE:
+          ReferencePath.isTooShortException(st, map);
+          token = st.nextToken();
+          switch (token) {
+            case Structure.S_INPUTS:
+              ReferencePath.isTooShortException(st, map);
+              inputs.add(st.nextToken());
+              break;
+            case Structure.S_OUTPUTS:
+            case Structure.S_DEVICES:
+              throw ReferencePath.unsupportedTokenException(map, token);
+            default:
+              throw ReferencePath.invalidTokenException(map, token);
+          }
+          break;
+        default:
+          throw ReferencePath.invalidTokenException(map, token);
+      }
+    }
+  }
+
+  /**
+   * Returns true if this reference reads a member of the model of the node at which it is
+   * evaluated, without crossing a structure input.
+   *
+   * @return True if the chain of structure inputs is empty.
+   */
+  boolean isLocal() {
+    return inputs.length == 0;
+  }
+
+  /**
+   * Follows the chain of structure inputs upstream of the given node. The in-edges of each node
+   * are searched by input name, so {@link EvaluationContext} resolves a path once per node.
+   *
+   * @param node The node at which the reference is evaluated.
+   * @return The node that owns the referenced model member, or null if one of the inputs in the
+   *     chain is not connected.
+   */
+  NetlistNode resolveNode(final NetlistNode node) {
+    NetlistNode rtn = node;
+    for (int i = 0; i < inputs.length && rtn != null; i++) {
+      rtn = ReferencePath.getSource(rtn, inputs[i]);
+    }
+    return rtn;
+  }
+
+  private static NetlistNode getSource(final NetlistNode node, final String input) {
+    for (int i = 0; i < node.getNumInEdge(); i++) {
+      final NetlistEdge edge = node.getInEdgeAtIdx(i);
+      final Input in = edge.getResultNetlistEdgeData().getInput();
+      if (in != null && input.equals(in.getName())) {
+        return edge.getSrc();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the referenced model member of the given node.
+   *
+   * @param node The node returned by {@link #resolveNode(NetlistNode)}.
+   * @return The referenced model member, or null if the model does not define it.
+   */
+  Evaluatable resolveTarget(final NetlistNode node) {
+    final Model model = node.getResultNetlistNodeData().getDevice().getModel();
+    if (kind == ReferencePath.PARAMETER) {
+      return model.getParameterByName(name);
+    }
+    return model.getFunctionByName(name);
+  }
+
+  /**
+   * Getter for {@code map}.
+   *
+   * @return The reference string.
+   */
+  String getMap() {
+    return map;
+  }
+
+  private final String map;
+  private final String[] inputs;
+  private final int kind;
+  private final String name;
+
+  private static final int PARAMETER = 1;
+  private static final int FUNCTION = 2;
+
+  private static final String S_INVALID = "Invalid reference string";
+  private static final String S_UNSUPPORTED = "Unsupported reference string";
+}
@@ -19,17 +19,19 @@
 
 package org.cellocad.v2.common.target.data.data;
 
-import com.google.common.collect.ImmutableTable;
-import com.google.common.collect.ImmutableTable.Builder;
-import com.google.common.collect.Table;
-import org.apache.commons.math3.ml.distance.EuclideanDistance;
+import java.util.Arrays;
+import java.util.List;
 import org.cellocad.v2.common.exception.CelloException;
 import org.cellocad.v2.common.profile.ProfileUtils;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
+import org.cellocad.v2.results.netlist.NetlistNode;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 
 /**
- * A univariate lookup table function.
+ * A univariate lookup table function. The table is stored as a pair of primitive columns sorted by
+ * the input, and is evaluated by binary search and linear interpolation between the two
+ * neighboring rows. Inputs outside the range of the table are clamped to the first or last row.
  *
  * @author Timothy Jones
  * @date 2020-02-21
@@ -38,10 +40,22 @@ public class UnivariateLookupTableFunction extends LookupTableFunction {
 
   private void init() {}
 
+  private static double[] getColumn(final JSONObject tableObj, final String name)
+      throws CelloException {
+    final JSONArray jArr = (JSONArray) tableObj.get(name);
+    if (jArr == null) {
+      throw new CelloException(String.format("Missing column %s.", name));
+    }
+    final double[] rtn = new double[jArr.size()];
+    for (int i = 0; i < jArr.size(); i++) {
+      rtn[i] = ((Number) jArr.get(i)).doubleValue();
+    }
+    return rtn;
+  }
+
   private void parseTable(final JSONObject jsonObj) throws CelloException {
-    final Builder<Integer, String, Double> builder = ImmutableTable.builder();
     final JSONObject functionObj = (JSONObject) jsonObj.get(LookupTableFunction.S_TABLE);
-    if (functionObj == null) {
+    if (functionObj == null || getVariables().size() != 1) {
       final String fmt = "Invalid %s specification: %s.";
       throw new CelloException(
           String.format(fmt, UnivariateLookupTableFunction.class.getName(), jsonObj.toString()));
@@ -53,13 +67,25 @@ public class UnivariateLookupTableFunction extends LookupTableFunction {
         final String fmt = "Invalid table key: %s.";
         throw new CelloException(String.format(fmt, name));
       }
-      final JSONArray jArr = (JSONArray) functionObj.get(key);
-      for (int i = 0; i < jArr.size(); i++) {
-        final Double value = (Double) jArr.get(i);
-        builder.put(i, name, value);
-      }
     }
-    table = builder.build();
+    final double[] x = getColumn(functionObj, getVariables().get(0).getName());
+    final double[] y = getColumn(functionObj, LookupTableFunction.S_OUTPUT);
+    if (x.length != y.length || x.length == 0) {
+      final String fmt = "Invalid %s table: columns must be nonempty and of equal length.";
+      throw new CelloException(String.format(fmt, getName()));
+    }
+    // sort rows by input
+    final Integer[] order = new Integer[x.length];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, (a, b) -> Double.compare(x[a], x[b]));
+    xdata = new double[x.length];
+    ydata = new double[y.length];
+    for (int i = 0; i < order.length; i++) {
+      xdata[i] = x[order[i]];
+      ydata[i] = y[order[i]];
+    }
   }
 
   private void parseLookupTableFunction(final JSONObject jsonObj) throws CelloException {
@@ -81,56 +107,56 @@ public class UnivariateLookupTableFunction extends LookupTableFunction {
   @Override
   public boolean isValid() {
     boolean rtn = super.isValid();
-    rtn = rtn && getTable() != null;
+    rtn = rtn && xdata != null;
+    rtn = rtn && ydata != null;
     return rtn;
   }
 
   @Override
-  public Number evaluate(final EvaluationContext ec) throws CelloException {
-    Double rtn = null;
-    final double[] input = new double[getVariables().size()];
-    for (int i = 0; i < getVariables().size(); i++) {
-      final Variable v = getVariables().get(i);
-      final String name = v.getName();
-      final Double value = v.evaluate(ec).doubleValue();
-      if (!getTable().containsColumn(name)) {
-        throw new RuntimeException(String.format("Missing column %s.", name));
-      }
-      input[i] = value;
-    }
-    // stupid two-point average interpolation
-    Integer argMinA = -1;
-    Double minA = Double.MAX_VALUE;
-    Integer argMinB = -1;
-    Double minB = Double.MAX_VALUE;
-    for (final Integer row : getTable().rowKeySet()) {
-      final double[] record = new double[getVariables().size()];
-      for (int i = 0; i < getVariables().size(); i++) {
-        final Variable v = getVariables().get(i);
-        final Double d = getTable().get(row, v.getName());
-        record[i] = d;
-      }
-      final EuclideanDistance eu = new EuclideanDistance();
-      final Double distance = eu.compute(input, record);
-      if (distance < minA) {
-        argMinB = argMinA;
-        minB = minA;
-        argMinA = row;
-        minA = distance;
-      } else if (distance < minB) {
-        argMinB = row;
-        minB = distance;
-      }
+  double evaluateAt(final EvaluationContext ec, final NetlistNode node) throws CelloException {
+    final double x = getVariables().get(0).evaluateAt(ec, node);
+    return evaluate(x);
+  }
+
+  @Override
+  public void evaluate(
+      final EvaluationContext ec, final List<State<NetlistNode>> states, final double[] out)
+      throws CelloException {
+    getVariables().get(0).evaluate(ec, states, out);
+    for (int i = 0; i < states.size(); i++) {
+      out[i] = evaluate(out[i]);
     }
-    final Double valueA = getTable().get(argMinA, LookupTableFunction.S_OUTPUT);
-    final Double valueB = getTable().get(argMinB, LookupTableFunction.S_OUTPUT);
-    rtn = (valueA * minA + valueB * minB) / (minA + minB);
-    return rtn;
   }
 
-  private Table<Integer, String, Double> getTable() {
-    return table;
+  /**
+   * Evaluates the table at the given input by linear interpolation.
+   *
+   * @param x The input.
+   * @return The interpolated output.
+   */
+  public double evaluate(final double x) {
+    final int n = xdata.length;
+    if (Double.isNaN(x)) {
+      return Double.NaN;
+    }
+    if (x <= xdata[0]) {
+      return ydata[0];
+    }
+    if (x >= xdata[n - 1]) {
+      return ydata[n - 1];
+    }
+    int idx = Arrays.binarySearch(xdata, x);
+    if (idx >= 0) {
+      return ydata[idx];
+    }
+    // xdata[idx - 1] < x < xdata[idx]
+    idx = -idx - 1;
+    final double x0 = xdata[idx - 1];
+    final double x1 = xdata[idx];
+    final double t = (x - x0) / (x1 - x0);
+    return ydata[idx - 1] + t * (ydata[idx] - ydata[idx - 1]);
   }
 
-  private Table<Integer, String, Double> table;
+  private double[] xdata;
+  private double[] ydata;
 }
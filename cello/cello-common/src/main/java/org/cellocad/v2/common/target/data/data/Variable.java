@@ -42,6 +42,16 @@ public class Variable extends Evaluatable {
   private void parseVariable(final JSONObject jsonObj) {
     parseName(jsonObj);
     parseMap(jsonObj);
+    parsePath();
+  }
+
+  private void parsePath() {
+    try {
+      path = ReferencePath.parse(getMap());
+    } catch (final CelloException e) {
+      // reported when the reference is evaluated
+      pathException = e;
+    }
   }
 
   /**
@@ -56,16 +66,8 @@ public class Variable extends Evaluatable {
   }
 
   @Override
-  public Number evaluate(final EvaluationContext ec) throws CelloException {
-    Number rtn = null;
-    final NetlistNode node = ec.getNode();
-    final Evaluatable e = ec.dereference(getMap());
-    if (e == null) {
-      throw new RuntimeException("Dereference failed.");
-    }
-    rtn = e.evaluate(ec);
-    ec.setNode(node);
-    return rtn;
+  double evaluateAt(final EvaluationContext ec, final NetlistNode node) throws CelloException {
+    return ec.evaluateDouble(getPath(), node);
   }
 
   @Override
@@ -79,5 +81,14 @@ public class Variable extends Evaluatable {
     return map;
   }
 
+  private ReferencePath getPath() throws CelloException {
+    if (pathException != null) {
+      throw pathException;
+    }
+    return path;
+  }
+
   private String map;
+  private ReferencePath path;
+  private CelloException pathException;
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.results.logicSynthesis;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The node types assigned by the <i>logicSynthesis</i> stage. Each constant corresponds to one of
+ * the strings of {@link LSResults}, which remain the representation of a node type in JSON. A node
+ * type that is not one of the strings of {@link LSResults} is {@link #UNKNOWN}.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public enum LSNodeType {
+  DEFAULT(LSResults.S_DEFAULT),
+  PRIMARY_INPUT(LSResults.S_PRIMARYINPUT),
+  PRIMARY_OUTPUT(LSResults.S_PRIMARYOUTPUT),
+  INPUT(LSResults.S_INPUT),
+  OUTPUT(LSResults.S_OUTPUT),
+  NOT(LSResults.S_NOT),
+  AND(LSResults.S_AND),
+  NAND(LSResults.S_NAND),
+  OR(LSResults.S_OR),
+  NOR(LSResults.S_NOR),
+  XOR(LSResults.S_XOR),
+  XNOR(LSResults.S_XNOR),
+  ANDNOT(LSResults.S_ANDNOT),
+  ORNOT(LSResults.S_ORNOT),
+  MUX(LSResults.S_MUX),
+  AOI3(LSResults.S_AOI3),
+  OAI3(LSResults.S_OAI3),
+  AOI4(LSResults.S_AOI4),
+  OAI4(LSResults.S_OAI4),
+  BUF(LSResults.S_BUF),
+  UNKNOWN(null);
+
+  LSNodeType(final String value) {
+    this.value = value;
+  }
+
+  /**
+   * Returns the string of this node type, as used in {@link LSResults}.
+   *
+   * @return The string of this node type, or null for {@link #UNKNOWN}.
+   */
+  public String getValue() {
+    return value;
+  }
+
+  /**
+   * Returns true if this node type is a primary input or an input.
+   *
+   * @return True if this node type is a primary input or an input, false otherwise.
+   */
+  public boolean isAllInput() {
+    return this == PRIMARY_INPUT || this == INPUT;
+  }
+
+  /**
+   * Returns true if this node type is a primary output or an output.
+   *
+   * @return True if this node type is a primary output or an output, false otherwise.
+   */
+  public boolean isAllOutput() {
+    return this == PRIMARY_OUTPUT || this == OUTPUT;
+  }
+
+  /**
+   * Returns the node type of the string defined by parameter {@code value}.
+   *
+   * @param value A node type string, e.g. {@link LSResults#S_NOR}.
+   * @return The node type of the string, or {@link #UNKNOWN} if it is not one of the strings of
+   *     {@link LSResults}.
+   */
+  public static LSNodeType fromValue(final String value) {
+    final LSNodeType rtn = LSNodeType.VALUES.get(value);
+    return rtn == null ? UNKNOWN : rtn;
+  }
+
+  private final String value;
+
+  private static final Map<String, LSNodeType> VALUES = new HashMap<>();
+
+  static {
+    for (final LSNodeType type : LSNodeType.values()) {
+      if (type.getValue() != null) {
+        LSNodeType.VALUES.put(type.getValue(), type);
+      }
+    }
+  }
+}
@@ -33,6 +33,7 @@ import org.cellocad.v2.common.Utils;
 import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
 import org.cellocad.v2.results.netlist.Netlist;
 import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.netlist.data.ResultNetlistNodeData;
 
 /**
  * The LSResultUtils class is class with utility methods for the result of the <i>logicSynthesis</i>
@@ -52,8 +53,8 @@ public class LSResultsUtils {
    */
   public static boolean isPrimary(final NetlistNode node) {
     boolean rtn = false;
-    rtn = rtn || node.getResultNetlistNodeData().getNodeType().equals(LSResults.S_PRIMARYINPUT);
-    rtn = rtn || node.getResultNetlistNodeData().getNodeType().equals(LSResults.S_PRIMARYOUTPUT);
+    rtn = rtn || node.getResultNetlistNodeData().getNodeKind() == LSNodeType.PRIMARY_INPUT;
+    rtn = rtn || node.getResultNetlistNodeData().getNodeKind() == LSNodeType.PRIMARY_OUTPUT;
     return rtn;
   }
 
@@ -66,7 +67,7 @@ public class LSResultsUtils {
    */
   public static boolean isPrimaryInput(final NetlistNode node) {
     boolean rtn = false;
-    rtn = rtn || node.getResultNetlistNodeData().getNodeType().equals(LSResults.S_PRIMARYINPUT);
+    rtn = rtn || node.getResultNetlistNodeData().getNodeKind() == LSNodeType.PRIMARY_INPUT;
     return rtn;
   }
 
@@ -79,7 +80,7 @@ public class LSResultsUtils {
    */
   public static boolean isPrimaryOutput(final NetlistNode node) {
     boolean rtn = false;
-    rtn = rtn || node.getResultNetlistNodeData().getNodeType().equals(LSResults.S_PRIMARYOUTPUT);
+    rtn = rtn || node.getResultNetlistNodeData().getNodeKind() == LSNodeType.PRIMARY_OUTPUT;
     return rtn;
   }
 
@@ -92,7 +93,7 @@ public class LSResultsUtils {
    */
   public static boolean isInput(final NetlistNode node) {
     boolean rtn = false;
-    rtn = rtn || node.getResultNetlistNodeData().getNodeType().equals(LSResults.S_INPUT);
+    rtn = rtn || node.getResultNetlistNodeData().getNodeKind() == LSNodeType.INPUT;
     return rtn;
   }
 
@@ -106,8 +107,8 @@ public class LSResultsUtils {
    */
   public static boolean isAllInput(final NetlistNode node) {
     boolean rtn = false;
-    rtn = rtn || node.getResultNetlistNodeData().getNodeType().equals(LSResults.S_PRIMARYINPUT);
-    rtn = rtn || node.getResultNetlistNodeData().getNodeType().equals(LSResults.S_INPUT);
+    rtn = rtn || node.getResultNetlistNodeData().getNodeKind() == LSNodeType.PRIMARY_INPUT;
+    rtn = rtn || node.getResultNetlistNodeData().getNodeKind() == LSNodeType.INPUT;
     return rtn;
   }
 
@@ -120,7 +121,7 @@ public class LSResultsUtils {
    */
   public static boolean isOutput(final NetlistNode node) {
     boolean rtn = false;
-    rtn = rtn || node.getResultNetlistNodeData().getNodeType().equals(LSResults.S_OUTPUT);
+    rtn = rtn || node.getResultNetlistNodeData().getNodeKind() == LSNodeType.OUTPUT;
     return rtn;
   }
 
@@ -134,8 +135,8 @@ public class LSResultsUtils {
    */
   public static boolean isAllOutput(final NetlistNode node) {
     boolean rtn = false;
-    rtn = rtn || node.getResultNetlistNodeData().getNodeType().equals(LSResults.S_PRIMARYOUTPUT);
-    rtn = rtn || node.getResultNetlistNodeData().getNodeType().equals(LSResults.S_OUTPUT);
+    rtn = rtn || node.getResultNetlistNodeData().getNodeKind() == LSNodeType.PRIMARY_OUTPUT;
+    rtn = rtn || node.getResultNetlistNodeData().getNodeKind() == LSNodeType.OUTPUT;
     return rtn;
   }
 
@@ -148,8 +149,8 @@ public class LSResultsUtils {
    */
   public static boolean isInputOutput(final NetlistNode node) {
     boolean rtn = false;
-    rtn = rtn || node.getResultNetlistNodeData().getNodeType().equals(LSResults.S_INPUT);
-    rtn = rtn || node.getResultNetlistNodeData().getNodeType().equals(LSResults.S_OUTPUT);
+    rtn = rtn || node.getResultNetlistNodeData().getNodeKind() == LSNodeType.INPUT;
+    rtn = rtn || node.getResultNetlistNodeData().getNodeKind() == LSNodeType.OUTPUT;
     return rtn;
   }
 
@@ -166,9 +167,13 @@ public class LSResultsUtils {
       final Netlist netlist, final String nodeType) {
     CObjectCollection<NetlistNode> rtn = null;
     rtn = new CObjectCollection<>();
+    final LSNodeType kind = LSNodeType.fromValue(nodeType);
     for (int i = 0; i < netlist.getNumVertex(); i++) {
       final NetlistNode node = netlist.getVertexAtIdx(i);
-      if (node.getResultNetlistNodeData().getNodeType().equals(nodeType)) {
+      final ResultNetlistNodeData data = node.getResultNetlistNodeData();
+      if (kind == LSNodeType.UNKNOWN
+          ? nodeType.equals(data.getNodeType())
+          : kind == data.getNodeKind()) {
         rtn.add(node);
       }
     }
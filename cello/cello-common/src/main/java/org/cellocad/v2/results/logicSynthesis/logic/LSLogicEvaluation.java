@@ -21,14 +21,14 @@ package org.cellocad.v2.results.logicSynthesis.logic;
 
 import java.io.IOException;
 import java.io.Writer;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import org.cellocad.v2.common.CObjectCollection;
 import org.cellocad.v2.common.Utils;
 import org.cellocad.v2.common.graph.algorithm.MyBFS;
-import org.cellocad.v2.results.logicSynthesis.LSResults;
+import org.cellocad.v2.results.logicSynthesis.LSNodeType;
 import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
@@ -47,6 +47,7 @@ public class LSLogicEvaluation {
 
   /** Initialize class members. */
   private void init() {
+    logic = new HashMap<>();
     truthtables = new HashMap<>();
   }
 
@@ -57,6 +58,21 @@ public class LSLogicEvaluation {
    * @param netlist The {@link Netlist}.
    */
   public LSLogicEvaluation(final Netlist netlist) {
+    this(netlist, null);
+  }
+
+  /**
+   * Initializes a newly created {@link LSLogicEvaluation} using the Netlist defined by parameter
+   * {@code netlist} over the input states whose ordinals are defined by parameter {@code ordinals}.
+   * Bit {@code i} of an ordinal is the value of the primary input at position {@code i} of {@link
+   * LSResultsUtils#getPrimaryInputNodes(Netlist)}. Evaluating a subset of the states, e.g. from
+   * {@link States#getRandomOrdinals(int, int, long)}, avoids enumerating every state of a netlist
+   * with many inputs.
+   *
+   * @param netlist The {@link Netlist}.
+   * @param ordinals The ordinals of the input states, or null to evaluate every state.
+   */
+  public LSLogicEvaluation(final Netlist netlist, final long[] ordinals) {
     init();
     if (!netlist.isValid()) {
       throw new RuntimeException("netlist is not valid!");
@@ -64,316 +80,234 @@ public class LSLogicEvaluation {
     final CObjectCollection<NetlistNode> inputNodes = LSResultsUtils.getPrimaryInputNodes(netlist);
     final Boolean One = new Boolean(true);
     final Boolean Zero = new Boolean(false);
-    final States<NetlistNode> states = new States<>(inputNodes, One, Zero);
+    final States<NetlistNode> states =
+        ordinals == null
+            ? new States<>(inputNodes, One, Zero)
+            : new States<>(inputNodes, One, Zero, ordinals);
     setStates(states);
-    final List<NetlistNode> outputNodes = new ArrayList<>();
+    primaryInputs = new HashMap<>();
+    for (int i = 0; i < inputNodes.size(); i++) {
+      primaryInputs.put(inputNodes.get(i), i);
+    }
+    numStates = states.getNumStates();
+    numWords = (numStates + 63) >>> 6;
+    lastWordMask = numStates < 64 ? (1L << numStates) - 1 : -1L;
     for (int i = 0; i < netlist.getNumVertex(); i++) {
-      final NetlistNode node = netlist.getVertexAtIdx(i);
-      outputNodes.clear();
-      outputNodes.add(node);
-      final TruthTable<NetlistNode, NetlistNode> truthTable = new TruthTable<>(states, outputNodes);
-      getTruthTables().put(node, truthTable);
+      getLogicMap().put(netlist.getVertexAtIdx(i), new long[numWords]);
     }
     evaluate(netlist);
   }
 
   /**
-   * Returns a Boolean representation of the evaluation of the NodeType defined by <i>nodeType</i>
-   * with input defined by parameters <i>inputs</i>.
-   *
-   * @param inputs a List of inputs.
-   * @param nodeType The NodeType.
-   * @return A Boolean representation of the evaluation of the NodeType defined by <i>nodeType</i>
-   *     with input defined by parameters <i>inputs</i>.
-   */
-  private Boolean computeLogic(final List<Boolean> inputs, final String nodeType) {
-    Boolean rtn = inputs.get(0);
-    for (int i = 1; i < inputs.size(); i++) {
-      final Boolean value = inputs.get(i);
-      switch (nodeType) {
-        case LSResults.S_AND:
-          rtn = rtn && value;
-          break;
-        case LSResults.S_OR:
-          rtn = rtn || value;
-          break;
-        case LSResults.S_XOR:
-          rtn = rtn ^ value;
-          break;
-        default:
-          throw new RuntimeException("Unknown nodeType");
-      }
-    }
-    return rtn;
-  }
-
-  /**
-   * Returns a List of Boolean representation of the input values for NetlistNode defined by
-   * parameter {@code node} at the state defined by parameter {@code state}.
+   * Returns the packed logic of the primary input defined by parameter {@code node}: bit {@code i}
+   * is the value of the input in the state at index {@code i}.
    *
    * @param node The {@link NetlistNode}.
-   * @param state The state.
-   * @return A List of Boolean representation of the input values for NetlistNode defined by
-   *     parameter {@code node} at the state defined by parameter {@code state}.
+   * @return The packed logic of the primary input, or null if {@code node} is not a primary input.
    */
-  private List<Boolean> getInputLogic(final NetlistNode node, final State<NetlistNode> state) {
-    final List<Boolean> rtn = new ArrayList<>();
-    for (int i = 0; i < node.getNumInEdge(); i++) {
-      final NetlistNode inputNode = node.getInEdgeAtIdx(i).getSrc();
-      final TruthTable<NetlistNode, NetlistNode> truthTable = getTruthTables().get(inputNode);
-      truthTable.getStateOutput(state);
-      final State<NetlistNode> outputState = truthTable.getStateOutput(state);
-      if (outputState.getNumStatePosition() != 1) {
-        throw new RuntimeException("Invalid number of output(s)!");
-      }
-      rtn.add(outputState.getState(inputNode));
+  private long[] computePrimaryInput(final NetlistNode node) {
+    final Integer idx = primaryInputs.get(node);
+    if (idx == null) {
+      return null;
     }
-    return rtn;
-  }
-
-  /**
-   * Returns the evaluation for a Primary Input for NetlistNode defined by parameter {@code node} at
-   * the state defined by parameter {@code state}.
-   *
-   * @param node The {@link NetlistNode}.
-   * @param state The state.
-   * @return The evaluation for a Primary Input for NetlistNode defined by parameter {@code node} at
-   *     the state defined by parameter {@code state}.
-   */
-  private Boolean computePrimaryInput(final NetlistNode node, final State<NetlistNode> state) {
-    Boolean rtn = null;
-    final List<Boolean> inputList = getInputLogic(node, state);
-    if (inputList.size() == 0) {
-      rtn = state.getState(node);
+    final long[] rtn = new long[numWords];
+    if (!getStates().isExhaustive()) {
+      for (int i = 0; i < numStates; i++) {
+        if ((getStates().getStateAtIdx(i).getOrdinal() >>> idx & 1L) != 0) {
+          rtn[i >>> 6] |= 1L << i;
+        }
+      }
+    } else if (idx < 6) {
+      Arrays.fill(rtn, LSLogicEvaluation.L_INPUTPATTERN[idx]);
+    } else {
+      for (int w = 0; w < numWords; w++) {
+        rtn[w] = ((w >>> (idx - 6)) & 1) == 0 ? 0L : -1L;
+      }
     }
+    rtn[numWords - 1] &= lastWordMask;
     return rtn;
   }
 
   /**
-   * Returns the evaluation for a Primary Output for NetlistNode defined by parameter {@code node}
-   * at the state defined by parameter {@code state}.
+   * Returns the packed logic of the input at index {@code idx} of the NetlistNode defined by
+   * parameter {@code node}.
    *
    * @param node The {@link NetlistNode}.
-   * @param state The state.
-   * @return The evaluation for a Primary Output for NetlistNode defined by parameter {@code node}
-   *     at the state defined by parameter {@code state}.
+   * @param idx The index of the input edge.
+   * @return The packed logic of the input.
    */
-  private Boolean computePrimaryOutput(final NetlistNode node, final State<NetlistNode> state) {
-    Boolean rtn = null;
-    final List<Boolean> inputList = getInputLogic(node, state);
-    if (inputList.size() == 1) {
-      rtn = inputList.get(0);
-    }
-    if (inputList.size() > 1) {
-      rtn = computeOR(node, state);
-    }
+  private long[] getInputLogic(final NetlistNode node, final int idx) {
+    final NetlistNode inputNode = node.getInEdgeAtIdx(idx).getSrc();
+    final long[] rtn = getLogic(inputNode);
+    Utils.isNullRuntimeException(rtn, "input");
     return rtn;
   }
 
   /**
-   * Returns the evaluation for a NOT NodeType for NetlistNode defined by parameter {@code node} at
-   * the state defined by parameter {@code state}.
+   * Returns the word-wise reduction of the inputs of the NetlistNode defined by parameter {@code
+   * node} with the operation defined by parameter {@code nodeType}.
    *
    * @param node The {@link NetlistNode}.
-   * @param state The state.
-   * @return The evaluation for a NOT NodeType for NetlistNode defined by parameter {@code node} at
-   *     the state defined by parameter {@code state}.
+   * @param nodeType One of {@link LSNodeType#AND}, {@link LSNodeType#OR}, or {@link
+   *     LSNodeType#XOR}.
+   * @return The packed logic of the reduction.
    */
-  private Boolean computeNOT(final NetlistNode node, final State<NetlistNode> state) {
-    Boolean rtn = null;
-    final List<Boolean> inputList = getInputLogic(node, state);
-    if (inputList.size() == 1) {
-      rtn = inputList.get(0);
-      rtn = !rtn;
+  private long[] computeLogic(final NetlistNode node, final LSNodeType nodeType) {
+    final long[] rtn = getInputLogic(node, 0).clone();
+    for (int i = 1; i < node.getNumInEdge(); i++) {
+      final long[] value = getInputLogic(node, i);
+      switch (nodeType) {
+        case AND:
+          for (int w = 0; w < numWords; w++) {
+            rtn[w] &= value[w];
+          }
+          break;
+        case OR:
+          for (int w = 0; w < numWords; w++) {
+            rtn[w] |= value[w];
+          }
+          break;
+        case XOR:
+          for (int w = 0; w < numWords; w++) {
+            rtn[w] ^= value[w];
+          }
+          break;
+        default:
+          throw new RuntimeException("Unknown nodeType");
+      }
     }
     return rtn;
   }
 
   /**
-   * Returns the evaluation for an AND NodeType for NetlistNode defined by parameter {@code node} at
-   * the state defined by parameter {@code state}.
+   * Complements the packed logic defined by parameter {@code value} in place.
    *
-   * @param node The {@link NetlistNode}.
-   * @param state The state.
-   * @return The evaluation for an AND NodeType for NetlistNode defined by parameter {@code node} at
-   *     the state defined by parameter {@code state}.
+   * @param value The packed logic.
+   * @return The parameter {@code value}.
    */
-  private Boolean computeAND(final NetlistNode node, final State<NetlistNode> state) {
-    Boolean rtn = null;
-    final List<Boolean> inputList = getInputLogic(node, state);
-    if (inputList.size() > 1) {
-      rtn = computeLogic(inputList, LSResults.S_AND);
+  private long[] complement(final long[] value) {
+    for (int w = 0; w < numWords; w++) {
+      value[w] = ~value[w];
     }
-    return rtn;
+    value[numWords - 1] &= lastWordMask;
+    return value;
   }
 
   /**
-   * Returns the evaluation for an NAND NodeType for NetlistNode defined by parameter {@code node}
-   * at the state defined by parameter {@code state}.
+   * Evaluates the packed logic of the NetlistNode defined by parameter {@code node}.
    *
    * @param node The {@link NetlistNode}.
-   * @param state The state.
-   * @return The evaluation for an NAND NodeType for NetlistNode defined by parameter {@code node}
-   *     at the state defined by parameter {@code state}.
    */
-  private Boolean computeNand(final NetlistNode node, final State<NetlistNode> state) {
-    Boolean rtn = null;
-    final List<Boolean> inputList = getInputLogic(node, state);
-    if (inputList.size() > 1) {
-      rtn = computeLogic(inputList, LSResults.S_AND);
-      rtn = !rtn;
+  private void evaluateLogic(final NetlistNode node) {
+    long[] result = null;
+    final LSNodeType nodeType = node.getResultNetlistNodeData().getNodeKind();
+    final int numInputs = node.getNumInEdge();
+    switch (nodeType) {
+      case PRIMARY_INPUT:
+        if (numInputs == 0) {
+          result = computePrimaryInput(node);
+        }
+        break;
+      case PRIMARY_OUTPUT:
+        if (numInputs == 1) {
+          result = getInputLogic(node, 0).clone();
+        } else if (numInputs > 1) {
+          result = computeLogic(node, LSNodeType.OR);
+        }
+        break;
+      case INPUT:
+      case OUTPUT:
+        return;
+      case NOT:
+        if (numInputs == 1) {
+          result = complement(getInputLogic(node, 0).clone());
+        }
+        break;
+      case AND:
+      case OR:
+      case XOR:
+        if (numInputs > 1) {
+          result = computeLogic(node, nodeType);
+        }
+        break;
+      case NAND:
+        if (numInputs > 1) {
+          result = complement(computeLogic(node, LSNodeType.AND));
+        }
+        break;
+      case NOR:
+        if (numInputs > 1) {
+          result = complement(computeLogic(node, LSNodeType.OR));
+        }
+        break;
+      case XNOR:
+        if (numInputs > 1) {
+          result = complement(computeLogic(node, LSNodeType.XOR));
+        }
+        break;
+      default:
+        throw new RuntimeException("Unknown nodeType");
     }
-    return rtn;
+    Utils.isNullRuntimeException(result, "result");
+    getLogicMap().put(node, result);
   }
 
   /**
-   * Returns the evaluation for an OR NodeType for NetlistNode defined by parameter {@code node} at
-   * the state defined by parameter {@code state}.
-   *
-   * @param node The {@link NetlistNode}.
-   * @param state The state.
-   * @return The evaluation for an OR NodeType for NetlistNode defined by parameter {@code node} at
-   *     the state defined by parameter {@code state}.
-   */
-  private Boolean computeOR(final NetlistNode node, final State<NetlistNode> state) {
-    Boolean rtn = null;
-    final List<Boolean> inputList = getInputLogic(node, state);
-    if (inputList.size() > 1) {
-      rtn = computeLogic(inputList, LSResults.S_OR);
-    }
-    return rtn;
-  }
-
-  /**
-   * Returns the evaluation for an NOR NodeType for NetlistNode defined by parameter {@code node} at
-   * the state defined by parameter {@code state}.
+   * Evaluates the Netlist defined by parameter {@code netlist}.
    *
-   * @param node The {@link NetlistNode}.
-   * @param state The state.
-   * @return The evaluation for an NOR NodeType for NetlistNode defined by parameter {@code node} at
-   *     the state defined by parameter {@code state}.
+   * @param netlist The {@link Netlist}.
    */
-  private Boolean computeNOR(final NetlistNode node, final State<NetlistNode> state) {
-    Boolean rtn = null;
-    final List<Boolean> inputList = getInputLogic(node, state);
-    if (inputList.size() > 1) {
-      rtn = computeLogic(inputList, LSResults.S_OR);
-      rtn = !rtn;
+  protected void evaluate(final Netlist netlist) {
+    final MyBFS<NetlistNode, NetlistEdge, Netlist> BFS = new MyBFS<>(netlist);
+    NetlistNode node = null;
+    node = BFS.getNextVertex();
+    while (node != null) {
+      evaluateLogic(node);
+      node = BFS.getNextVertex();
     }
-    return rtn;
   }
 
-  /**
-   * Returns the evaluation for an XOR NodeType for NetlistNode defined by parameter {@code node} at
-   * the state defined by parameter {@code state}.
-   *
-   * @param node The {@link NetlistNode}.
-   * @param state The state.
-   * @return The evaluation for an XOR NodeType for NetlistNode defined by parameter {@code node} at
-   *     the state defined by parameter {@code state}.
-   */
-  private Boolean computeXOR(final NetlistNode node, final State<NetlistNode> state) {
-    Boolean rtn = null;
-    final List<Boolean> inputList = getInputLogic(node, state);
-    if (inputList.size() > 1) {
-      rtn = computeLogic(inputList, LSResults.S_XOR);
-    }
-    return rtn;
+  private Map<NetlistNode, long[]> getLogicMap() {
+    return logic;
   }
 
   /**
-   * Returns the evaluation for an XNOR NodeType for NetlistNode defined by parameter {@code node}
-   * at the state defined by parameter {@code state}.
+   * Returns the packed logic of the NetlistNode defined by parameter {@code node}: bit {@code i %
+   * 64} of word {@code i / 64} is the value of the node in the state at index {@code i} of {@link
+   * #getStates()}. The returned array must not be modified.
    *
    * @param node The {@link NetlistNode}.
-   * @param state The state.
-   * @return The evaluation for an XNOR NodeType for NetlistNode defined by parameter {@code node}
-   *     at the state defined by parameter {@code state}.
+   * @return The packed logic of the node, or null if the node is not part of the netlist.
    */
-  private Boolean computeXnor(final NetlistNode node, final State<NetlistNode> state) {
-    Boolean rtn = null;
-    final List<Boolean> inputList = getInputLogic(node, state);
-    if (inputList.size() > 1) {
-      rtn = computeLogic(inputList, LSResults.S_XOR);
-      rtn = !rtn;
-    }
-    return rtn;
+  public long[] getLogic(final NetlistNode node) {
+    return getLogicMap().get(node);
   }
 
   /**
-   * Evaluates the truth table for the NetlistNode defined by parameter {@code node}.
+   * Returns the value of the NetlistNode defined by parameter {@code node} in the state at index
+   * {@code idx} of {@link #getStates()}.
    *
    * @param node The {@link NetlistNode}.
+   * @param idx The index of the state.
+   * @return The value of the node, or null if the node is not part of the netlist.
    */
-  private void evaluateTruthTable(final NetlistNode node) {
-    Boolean result = null;
-    final String nodeType = node.getResultNetlistNodeData().getNodeType();
-    final TruthTable<NetlistNode, NetlistNode> truthTable = getTruthTables().get(node);
-    for (int i = 0; i < truthTable.getNumStates(); i++) {
-      final State<NetlistNode> inputState = truthTable.getStateAtIdx(i);
-      final State<NetlistNode> outputState = truthTable.getStateOutput(inputState);
-      if (outputState.getNumStatePosition() != 1) {
-        throw new RuntimeException("Invalid number of output(s)!");
-      }
-      switch (nodeType) {
-        case LSResults.S_PRIMARYINPUT:
-          result = computePrimaryInput(node, inputState);
-          break;
-        case LSResults.S_PRIMARYOUTPUT:
-          result = computePrimaryOutput(node, inputState);
-          break;
-        case LSResults.S_INPUT:
-          continue;
-        case LSResults.S_OUTPUT:
-          continue;
-        case LSResults.S_NOT:
-          result = computeNOT(node, inputState);
-          break;
-        case LSResults.S_AND:
-          result = computeAND(node, inputState);
-          break;
-        case LSResults.S_NAND:
-          result = computeNand(node, inputState);
-          break;
-        case LSResults.S_OR:
-          result = computeOR(node, inputState);
-          break;
-        case LSResults.S_NOR:
-          result = computeNOR(node, inputState);
-          break;
-        case LSResults.S_XOR:
-          result = computeXOR(node, inputState);
-          break;
-        case LSResults.S_XNOR:
-          result = computeXnor(node, inputState);
-          break;
-        default:
-          throw new RuntimeException("Unknown nodeType");
-      }
-      Utils.isNullRuntimeException(result, "result");
-      if (!outputState.setState(node, result)) {
-        throw new RuntimeException("Node does not exist");
-      }
+  public Boolean getLogic(final NetlistNode node, final int idx) {
+    final long[] value = getLogic(node);
+    if (value == null) {
+      return null;
     }
+    return LSLogicEvaluation.isSet(value, idx) ? getStates().getOne() : getStates().getZero();
   }
 
   /**
-   * Evaluates the Netlist defined by parameter {@code netlist}.
+   * Returns whether bit {@code idx} of the packed logic defined by parameter {@code value} is set.
    *
-   * @param netlist The {@link Netlist}.
+   * @param value The packed logic.
+   * @param idx The index of the state.
+   * @return Whether the bit is set.
    */
-  protected void evaluate(final Netlist netlist) {
-    final MyBFS<NetlistNode, NetlistEdge, Netlist> BFS = new MyBFS<>(netlist);
-    NetlistNode node = null;
-    node = BFS.getNextVertex();
-    while (node != null) {
-      evaluateTruthTable(node);
-      node = BFS.getNextVertex();
-    }
-  }
-
-  protected Map<NetlistNode, TruthTable<NetlistNode, NetlistNode>> getTruthTables() {
-    return truthtables;
+  public static boolean isSet(final long[] value, final int idx) {
+    return ((value[idx >>> 6] >>> idx) & 1L) != 0;
   }
 
   protected void setStates(final States<NetlistNode> states) {
@@ -390,14 +324,23 @@ public class LSLogicEvaluation {
   }
 
   /**
-   * Returns the truthTable of NetlistNode defined by parameter {@code node}.
+   * Returns the truthTable of NetlistNode defined by parameter {@code node}. The table is built
+   * from the packed logic of the node on first use.
    *
    * @param node The {@link NetlistNode}.
    * @return The truthTable of NetlistNode defined by parameter {@code node}.
    */
   public TruthTable<NetlistNode, NetlistNode> getTruthTable(final NetlistNode node) {
     TruthTable<NetlistNode, NetlistNode> rtn = null;
-    rtn = getTruthTables().get(node);
+    rtn = truthtables.get(node);
+    if (rtn == null && getLogicMap().containsKey(node)) {
+      rtn = new TruthTable<>(getStates(), Collections.singletonList(node));
+      for (int i = 0; i < rtn.getNumStates(); i++) {
+        final State<NetlistNode> outputState = rtn.getStateOutput(rtn.getStateAtIdx(i));
+        outputState.setState(node, getLogic(node, i));
+      }
+      truthtables.put(node, rtn);
+    }
     return rtn;
   }
 
@@ -408,13 +351,10 @@ public class LSLogicEvaluation {
     rtn += LSLogicEvaluation.S_HEADER + Utils.getNewLine();
     rtn += "LSLogicEvaluation" + Utils.getNewLine();
     rtn += LSLogicEvaluation.S_HEADER + Utils.getNewLine();
-    for (final NetlistNode node : getTruthTables().keySet()) {
+    for (final NetlistNode node : getLogicMap().keySet()) {
       rtn += String.format("%-15s", node.getName()) + Utils.getTabCharacter();
-      final TruthTable<NetlistNode, NetlistNode> truthtable = getTruthTables().get(node);
-      for (int i = 0; i < truthtable.getNumStates(); i++) {
-        final State<NetlistNode> input = truthtable.getStateAtIdx(i);
-        final State<NetlistNode> output = truthtable.getStateOutput(input);
-        rtn += output.getState(node) + Utils.getTabCharacter();
+      for (int i = 0; i < numStates; i++) {
+        rtn += getLogic(node, i) + Utils.getTabCharacter();
       }
       rtn += Utils.getNewLine();
     }
@@ -432,14 +372,11 @@ public class LSLogicEvaluation {
    */
   public void writeCSV(final String delimiter, final Writer os) throws IOException {
     String str = "";
-    for (final NetlistNode node : getTruthTables().keySet()) {
+    for (final NetlistNode node : getLogicMap().keySet()) {
       str += node.getName();
-      final TruthTable<NetlistNode, NetlistNode> truthtable = getTruthTable(node);
-      for (int i = 0; i < truthtable.getNumStates(); i++) {
-        final State<NetlistNode> input = truthtable.getStateAtIdx(i);
-        final State<NetlistNode> output = truthtable.getStateOutput(input);
+      for (int i = 0; i < numStates; i++) {
         str += delimiter;
-        str += String.format("%s", output.getState(node));
+        str += String.format("%s", getLogic(node, i));
       }
       str += Utils.getNewLine();
     }
@@ -448,6 +385,21 @@ public class LSLogicEvaluation {
 
   private static final String S_HEADER = "--------------------------------------------";
 
+  /* Bit i of the pattern at index j is bit j of i, the value of primary input j in state i. */
+  private static final long[] L_INPUTPATTERN = {
+    0xaaaaaaaaaaaaaaaaL,
+    0xccccccccccccccccL,
+    0xf0f0f0f0f0f0f0f0L,
+    0xff00ff00ff00ff00L,
+    0xffff0000ffff0000L,
+    0xffffffff00000000L
+  };
+
+  private Map<NetlistNode, long[]> logic;
   private Map<NetlistNode, TruthTable<NetlistNode, NetlistNode>> truthtables;
+  private Map<NetlistNode, Integer> primaryInputs;
   private States<NetlistNode> states;
+  private int numStates;
+  private int numWords;
+  private long lastWordMask;
 }
@@ -24,11 +24,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.cellocad.v2.common.CObject;
-import org.cellocad.v2.common.Pair;
 
 /**
  * The State class contains a state of a netlist used within the <i>SimulatedAnnealing</i> algorithm
- * class of the <i>technologyMapping</i> stage.
+ * class of the <i>technologyMapping</i> stage. The state is stored as the bits of an ordinal: the
+ * node at position {@code i} of the node list takes bit {@code i} of the ordinal.
  *
  * @param T type index.
  * @author Vincent Mirian
@@ -36,12 +36,6 @@ import org.cellocad.v2.common.Pair;
  */
 public class State<T> extends CObject {
 
-  /** Initialize class members. */
-  private void init() {
-    stateEntry = new ArrayList<>();
-    stateEntryMap = new HashMap<>();
-  }
-
   /**
    * Initializes a newly created {@link State} with the list of types defined by parameter {@code
    * nodes} the True value defined by parameter {@code one}, the false value defined by parameter
@@ -53,24 +47,7 @@ public class State<T> extends CObject {
    * @param value The value.
    */
   public State(final List<T> nodes, final Boolean one, final Boolean zero, final int value) {
-    init();
-    this.setOne(one);
-    this.setZero(zero);
-    Boolean boolValue = null;
-    int tempValue = value;
-    for (int i = 0; i < nodes.size(); i++) {
-      final T node = nodes.get(i);
-      final int temp = tempValue & 1;
-      if (temp == 0) {
-        boolValue = zero;
-      } else { // else if (temp == 1)
-        boolValue = one;
-      }
-      tempValue = tempValue >> 1;
-      final Pair<T, Boolean> pair = new Pair<>(node, boolValue);
-      this.getState().add(0, pair);
-      this.getStateMap().put(node, boolValue);
-    }
+    this(new ArrayList<>(nodes), State.getIndex(nodes), one, zero, value);
   }
 
   /**
@@ -86,18 +63,52 @@ public class State<T> extends CObject {
     this(nodes, one, zero, 0);
   }
 
-  /*
-   * State
+  /**
+   * Initializes a newly created {@link State} that shares the list of types defined by parameter
+   * {@code nodes} and its index defined by parameter {@code index} with other states.
+   *
+   * @param nodes The List of types. The list is not copied and must not be modified.
+   * @param index The position of each type in {@code nodes}.
+   * @param one The True value.
+   * @param zero The False value.
+   * @param value The value.
    */
+  State(
+      final List<T> nodes,
+      final Map<T, Integer> index,
+      final Boolean one,
+      final Boolean zero,
+      final long value) {
+    this.nodes = nodes;
+    this.index = index;
+    this.setOne(one);
+    this.setZero(zero);
+    bits = value;
+    if (nodes.size() < Long.SIZE) {
+      bits &= (1L << nodes.size()) - 1;
+    }
+  }
+
   /**
-   * Getter for {@code stateEntry}.
+   * Returns the position of each type in the list of types defined by parameter {@code nodes}.
    *
-   * @return The stateEntry of this instance.
+   * @param nodes The List of types.
+   * @return The position of each type in {@code nodes}.
    */
-  protected List<Pair<T, Boolean>> getState() {
-    return stateEntry;
+  static <T> Map<T, Integer> getIndex(final List<T> nodes) {
+    if (nodes.size() > Long.SIZE) {
+      throw new RuntimeException("A state can have at most " + Long.SIZE + " nodes.");
+    }
+    final Map<T, Integer> rtn = new HashMap<>();
+    for (int i = 0; i < nodes.size(); i++) {
+      rtn.put(nodes.get(i), i);
+    }
+    return rtn;
   }
 
+  /*
+   * State
+   */
   /**
    * Returns the state of {@code node}.
    *
@@ -105,44 +116,48 @@ public class State<T> extends CObject {
    */
   public Boolean getState(final T node) {
     Boolean rtn = null;
-    rtn = this.getStateMap().get(node);
+    final Integer i = index.get(node);
+    if (i != null) {
+      rtn = (bits >>> i & 1L) != 0 ? this.getOne() : this.getZero();
+    }
     return rtn;
   }
 
   /**
-   * Returns the {@link Pair} at the specified position in this instance.
+   * Returns the number of nodes in this instance.
    *
-   * @param index The index of the {@link Pair} object to return.
-   * @return If the index is within the bounds {@code (0 <= bounds < this.getNumStatePosition())},
-   *     returns the {@link Pair} at the specified position in this instance, otherwise null.
-   */
-  protected Pair<T, Boolean> getStatePositionAtIdx(final int index) {
-    Pair<T, Boolean> rtn = null;
-    if (0 <= index && index < this.getNumStatePosition()) {
-      rtn = this.getState().get(index);
-    }
-    return rtn;
+   * @return The number of nodes in this instance.
+   */
+  public int getNumStatePosition() {
+    return nodes.size();
   }
 
   /**
-   * Returns the number of {@link Pair} objects in this instance.
+   * Returns the ordinal of this instance, in which the node at position {@code i} takes bit {@code
+   * i}. A state created by {@link States} has the ordinal of its index.
    *
-   * @return The number of {@link Pair} objects in this instance.
+   * @return The ordinal of this instance.
    */
-  public int getNumStatePosition() {
-    return this.getState().size();
+  public long getOrdinal() {
+    return bits;
   }
 
-  /*
-   * StateMap
+  /**
+   * Returns the row of this instance, its position in the {@link States} that created it.
+   *
+   * @return The row of this instance, or -1 if it was not created by {@link States}.
    */
+  public int getRow() {
+    return row;
+  }
+
   /**
-   * Getter for {@code stateEntryMap}.
+   * Setter for {@code row}.
    *
-   * @return The value of {@code stateEntryMap}.
+   * @param row The position of this instance in the {@link States} that created it.
    */
-  protected Map<T, Boolean> getStateMap() {
-    return stateEntryMap;
+  void setRow(final int row) {
+    this.row = row;
   }
 
   /**
@@ -155,13 +170,14 @@ public class State<T> extends CObject {
    */
   public boolean setState(final T node, final Boolean value) {
     boolean rtn = false;
-    for (int i = 0; i < this.getNumStatePosition(); i++) {
-      final Pair<T, Boolean> position = this.getStatePositionAtIdx(i);
-      if (position.getFirst().equals(node)) {
-        position.setSecond(value);
-        this.getStateMap().put(node, value);
-        rtn = true;
+    final Integer i = index.get(node);
+    if (i != null) {
+      if (this.getOne().equals(value)) {
+        bits |= 1L << i;
+      } else {
+        bits &= ~(1L << i);
       }
+      rtn = true;
     }
     return rtn;
   }
@@ -208,8 +224,10 @@ public class State<T> extends CObject {
     bZero = zero;
   }
 
-  private List<Pair<T, Boolean>> stateEntry;
-  private Map<T, Boolean> stateEntryMap;
+  private final List<T> nodes;
+  private final Map<T, Integer> index;
+  private long bits;
+  private int row = -1;
   private Boolean bOne;
   private Boolean bZero;
 }
@@ -21,6 +21,10 @@ package org.cellocad.v2.results.logicSynthesis.logic.truthtable;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * The State class contains all the state of a netlist used within the <i>SimulatedAnnealing</i>
@@ -50,12 +54,78 @@ public class States<T> {
     init();
     this.setOne(one);
     this.setZero(zero);
+    final List<T> nodes = new ArrayList<>(inputs);
+    final Map<T, Integer> index = State.getIndex(nodes);
     final Double result = Math.pow(2, inputs.size());
     final int size = result.intValue();
     for (int i = 0; i < size; i++) {
-      final State<T> InputState = new State<>(inputs, one, zero, i);
+      final State<T> InputState = new State<>(nodes, index, one, zero, i);
+      InputState.setRow(i);
       this.getStates().add(InputState);
     }
+    exhaustive = true;
+  }
+
+  /**
+   * Initializes a newly created {@link States} with the list of inputs defined by parameter {@code
+   * inputs} the True value defined by parameter {@code one}, the false value defined by parameter
+   * {@code zero}, containing only the states whose ordinals are defined by parameter {@code
+   * ordinals}. Bit {@code i} of an ordinal is the value of the input at position {@code i}.
+   *
+   * @param inputs The List of inputs.
+   * @param one The True value.
+   * @param zero The False value.
+   * @param ordinals The ordinals of the states, in order.
+   */
+  public States(
+      final List<T> inputs, final Boolean one, final Boolean zero, final long[] ordinals) {
+    init();
+    this.setOne(one);
+    this.setZero(zero);
+    final List<T> nodes = new ArrayList<>(inputs);
+    final Map<T, Integer> index = State.getIndex(nodes);
+    for (int i = 0; i < ordinals.length; i++) {
+      final State<T> InputState = new State<>(nodes, index, one, zero, ordinals[i]);
+      InputState.setRow(i);
+      this.getStates().add(InputState);
+    }
+    exhaustive = false;
+  }
+
+  /**
+   * Returns the ordinals of a random sample of distinct states over the number of inputs defined by
+   * parameter {@code numInputs}, in increasing order. If the sample size defined by parameter
+   * {@code numSamples} is at least the number of states, all of the states are returned.
+   *
+   * @param numInputs The number of inputs, at most {@value Long#SIZE}.
+   * @param numSamples The sample size.
+   * @param seed The seed of the random number generator.
+   * @return The ordinals of the sampled states, in increasing order.
+   */
+  public static long[] getRandomOrdinals(
+      final int numInputs, final int numSamples, final long seed) {
+    if (numSamples < 1) {
+      throw new RuntimeException("The number of sampled states must be positive.");
+    }
+    if (numInputs < Integer.SIZE - 1 && numSamples >= 1 << numInputs) {
+      final long[] rtn = new long[1 << numInputs];
+      for (int i = 0; i < rtn.length; i++) {
+        rtn[i] = i;
+      }
+      return rtn;
+    }
+    final long mask = numInputs < Long.SIZE ? (1L << numInputs) - 1 : -1L;
+    final Random random = new Random(seed);
+    final Set<Long> sample = new TreeSet<>(Long::compareUnsigned);
+    while (sample.size() < numSamples) {
+      sample.add(random.nextLong() & mask);
+    }
+    final long[] rtn = new long[numSamples];
+    int i = 0;
+    for (final Long ordinal : sample) {
+      rtn[i++] = ordinal;
+    }
+    return rtn;
   }
 
   /**
@@ -91,6 +161,43 @@ public class States<T> {
     return this.getStates().size();
   }
 
+  /**
+   * Returns the position of the {@link State} object defined by parameter {@code state} in the list
+   * defined by parameter {@code states}, comparing by identity. The positions equal to the row and
+   * to the ordinal of the state are checked first, so that the lookup in a list built in the order
+   * of a {@link States}, exhaustive or sampled, takes constant time.
+   *
+   * @param states The list of states.
+   * @param state The state.
+   * @return The position of the state in the list, or -1 if the list does not contain it.
+   */
+  public static <T> int indexOf(final List<State<T>> states, final State<T> state) {
+    final int row = state.getRow();
+    if (0 <= row && row < states.size() && states.get(row) == state) {
+      return row;
+    }
+    final long ordinal = state.getOrdinal();
+    if (0 <= ordinal && ordinal < states.size() && states.get((int) ordinal) == state) {
+      return (int) ordinal;
+    }
+    for (int i = 0; i < states.size(); i++) {
+      if (states.get(i) == state) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns true if this instance contains every state of its inputs, in order of ordinal.
+   *
+   * @return True if this instance contains every state of its inputs, false if it contains a
+   *     subset.
+   */
+  public boolean isExhaustive() {
+    return exhaustive;
+  }
+
   /*
    * On
    */
@@ -134,6 +241,7 @@ public class States<T> {
   }
 
   List<State<T>> states;
+  private boolean exhaustive;
   private Boolean bOne;
   private Boolean bZero;
 }
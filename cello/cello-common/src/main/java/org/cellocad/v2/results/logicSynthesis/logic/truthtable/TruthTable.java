@@ -20,7 +20,6 @@
 package org.cellocad.v2.results.logicSynthesis.logic.truthtable;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.cellocad.v2.common.CObject;
@@ -39,7 +38,7 @@ public class TruthTable<InputT, OutputT> extends CObject {
 
   /** Initialize class members. */
   private void init() {
-    truthTableMap = new HashMap<>();
+    outputStates = new ArrayList<>();
     states = new ArrayList<>();
   }
 
@@ -52,11 +51,13 @@ public class TruthTable<InputT, OutputT> extends CObject {
    */
   public TruthTable(final List<State<InputT>> inputs, final List<OutputT> outputs) {
     init();
+    final List<OutputT> nodes = new ArrayList<>(outputs);
+    final Map<OutputT, Integer> index = State.getIndex(nodes);
     for (int i = 0; i < inputs.size(); i++) {
       final State<InputT> InputState = inputs.get(i);
       final State<OutputT> OutputState =
-          new State<>(outputs, InputState.getOne(), InputState.getZero());
-      this.getTruthTableMap().put(InputState, OutputState);
+          new State<>(nodes, index, InputState.getOne(), InputState.getZero(), 0);
+      this.getOutputStates().add(OutputState);
       this.getStates().add(InputState);
     }
   }
@@ -70,11 +71,13 @@ public class TruthTable<InputT, OutputT> extends CObject {
    */
   public TruthTable(final States<InputT> states, final List<OutputT> outputs) {
     init();
+    final List<OutputT> nodes = new ArrayList<>(outputs);
+    final Map<OutputT, Integer> index = State.getIndex(nodes);
     for (int i = 0; i < states.getNumStates(); i++) {
       final State<InputT> InputState = states.getStateAtIdx(i);
       final State<OutputT> OutputState =
-          new State<>(outputs, InputState.getOne(), InputState.getZero());
-      this.getTruthTableMap().put(InputState, OutputState);
+          new State<>(nodes, index, InputState.getOne(), InputState.getZero(), 0);
+      this.getOutputStates().add(OutputState);
       this.getStates().add(InputState);
     }
   }
@@ -88,15 +91,15 @@ public class TruthTable<InputT, OutputT> extends CObject {
    */
 
   /*
-   * StateMap
+   * OutputStates
    */
   /**
-   * Getter for {@code truthTableMap}.
+   * Getter for {@code outputStates}.
    *
-   * @return The truthTableMap of this instance.
+   * @return The output states of this instance, in the order of {@code states}.
    */
-  protected Map<State<InputT>, State<OutputT>> getTruthTableMap() {
-    return truthTableMap;
+  protected List<State<OutputT>> getOutputStates() {
+    return outputStates;
   }
 
   /**
@@ -116,7 +119,10 @@ public class TruthTable<InputT, OutputT> extends CObject {
    */
   public State<OutputT> getStateOutput(final State<InputT> state) {
     State<OutputT> rtn = null;
-    rtn = this.getTruthTableMap().get(state);
+    final int idx = States.indexOf(this.getStates(), state);
+    if (idx >= 0) {
+      rtn = this.getOutputStates().get(idx);
+    }
     return rtn;
   }
 
@@ -145,5 +151,5 @@ public class TruthTable<InputT, OutputT> extends CObject {
   }
 
   List<State<InputT>> states;
-  Map<State<InputT>, State<OutputT>> truthTableMap;
+  List<State<OutputT>> outputStates;
 }
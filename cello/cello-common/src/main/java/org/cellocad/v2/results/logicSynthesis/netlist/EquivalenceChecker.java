@@ -0,0 +1,323 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.results.logicSynthesis.netlist;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.results.logicSynthesis.LSNodeType;
+import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.logicng.datastructures.Assignment;
+import org.logicng.datastructures.Tristate;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Variable;
+import org.logicng.solvers.MiniSat;
+import org.logicng.solvers.SATSolver;
+
+/**
+ * A combinational equivalence check of two netlists. Primary inputs and primary outputs are matched
+ * by name. Each node of both netlists is encoded as a variable constrained to the function of its
+ * inputs, and a miter asserting that some pair of outputs differs is handed to a SAT solver. The
+ * netlists are equivalent if the miter is unsatisfiable; otherwise the model is a counterexample.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class EquivalenceChecker {
+
+  /** Initialize class members. */
+  private void init() {
+    f = new FormulaFactory();
+    inputs = new TreeMap<>();
+    numVariables = 0;
+    counterexample = null;
+    output = null;
+  }
+
+  /**
+   * Initializes a newly created {@link EquivalenceChecker} and checks the netlists defined by
+   * parameters {@code first} and {@code second} for equivalence.
+   *
+   * @param first The first netlist.
+   * @param second The second netlist.
+   * @throws CelloException The netlists do not have the same primary inputs and outputs, or a node
+   *     type cannot be encoded.
+   */
+  public EquivalenceChecker(final Netlist first, final Netlist second) throws CelloException {
+    init();
+    final Map<String, NetlistNode> inputs1 = getByName(LSResultsUtils.getPrimaryInputNodes(first));
+    final Map<String, NetlistNode> inputs2 = getByName(LSResultsUtils.getPrimaryInputNodes(second));
+    final Map<String, NetlistNode> outputs1 =
+        getByName(LSResultsUtils.getPrimaryOutputNodes(first));
+    final Map<String, NetlistNode> outputs2 =
+        getByName(LSResultsUtils.getPrimaryOutputNodes(second));
+    if (!inputs1.keySet().equals(inputs2.keySet())) {
+      throw new CelloException("Netlists do not have the same primary inputs.");
+    }
+    if (!outputs1.keySet().equals(outputs2.keySet())) {
+      throw new CelloException("Netlists do not have the same primary outputs.");
+    }
+    for (final String name : inputs1.keySet()) {
+      inputs.put(name, f.variable("x" + inputs.size()));
+    }
+    final SATSolver solver = MiniSat.miniSat(f);
+    final Map<NetlistNode, Formula> encoded1 = new IdentityHashMap<>();
+    final Map<NetlistNode, Formula> encoded2 = new IdentityHashMap<>();
+    final List<Formula> miter = new ArrayList<>();
+    final Map<String, Variable> diffs = new TreeMap<>();
+    for (final String name : outputs1.keySet()) {
+      final Formula out1 = encode(outputs1.get(name), "a", encoded1, solver);
+      final Formula out2 = encode(outputs2.get(name), "b", encoded2, solver);
+      final Variable diff = f.variable("d" + diffs.size());
+      solver.add(f.equivalence(diff, f.not(f.equivalence(out1, out2))));
+      diffs.put(name, diff);
+      miter.add(diff);
+    }
+    solver.add(f.or(miter));
+    if (solver.sat() == Tristate.TRUE) {
+      final Assignment model = solver.model();
+      counterexample = new TreeMap<>();
+      for (final Map.Entry<String, Variable> e : inputs.entrySet()) {
+        counterexample.put(e.getKey(), model.evaluateLit(e.getValue()));
+      }
+      for (final Map.Entry<String, Variable> e : diffs.entrySet()) {
+        if (model.evaluateLit(e.getValue())) {
+          output = e.getKey();
+          break;
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns true if every node type of the netlist defined by parameter {@code netlist} can be
+   * encoded. Gates whose function depends on the order of their inputs, e.g. {@link
+   * LSNodeType#ANDNOT}, cannot.
+   *
+   * @param netlist The netlist.
+   * @return True if every node type of the netlist can be encoded, false otherwise.
+   */
+  public static boolean isSupported(final Netlist netlist) {
+    for (int i = 0; i < netlist.getNumVertex(); i++) {
+      final NetlistNode node = netlist.getVertexAtIdx(i);
+      if (!EquivalenceChecker.SUPPORTED.contains(node.getResultNetlistNodeData().getNodeKind())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks that the netlist defined by parameter {@code netlist} is equivalent to the netlist
+   * defined by parameter {@code reference}, e.g. a copy of the netlist taken before a
+   * transformation. The check is skipped if a node type of either netlist cannot be encoded.
+   *
+   * @param reference The reference netlist.
+   * @param netlist The netlist.
+   * @return True if the netlists were checked, false if the check was skipped.
+   * @throws CelloException The netlists are not equivalent, or cannot be compared.
+   */
+  public static boolean verify(final Netlist reference, final Netlist netlist)
+      throws CelloException {
+    if (!EquivalenceChecker.isSupported(reference) || !EquivalenceChecker.isSupported(netlist)) {
+      return false;
+    }
+    final EquivalenceChecker checker = new EquivalenceChecker(reference, netlist);
+    if (!checker.isEquivalent()) {
+      final String fmt = "Netlist %s differs from its reference at output %s for inputs %s.";
+      throw new CelloException(
+          String.format(fmt, netlist.getName(), checker.getOutput(), checker.getCounterexample()));
+    }
+    return true;
+  }
+
+  private static Map<String, NetlistNode> getByName(final List<NetlistNode> nodes) {
+    final Map<String, NetlistNode> rtn = new TreeMap<>();
+    for (final NetlistNode node : nodes) {
+      rtn.put(node.getName(), node);
+    }
+    return rtn;
+  }
+
+  /**
+   * Returns the formula of the node defined by parameter {@code node}. Each gate is encoded once as
+   * a fresh variable constrained on the solver to the function of its inputs, so shared logic is
+   * not duplicated.
+   *
+   * @param node The node.
+   * @param prefix The prefix of the variables of the netlist of the node.
+   * @param encoded The formulas of the nodes of the netlist encoded so far.
+   * @param solver The solver.
+   * @return The formula of the node.
+   * @throws CelloException The netlist has a cycle, or the node type cannot be encoded.
+   */
+  private Formula encode(
+      final NetlistNode node,
+      final String prefix,
+      final Map<NetlistNode, Formula> encoded,
+      final SATSolver solver)
+      throws CelloException {
+    Formula rtn = encoded.get(node);
+    if (rtn != null) {
+      if (rtn == EquivalenceChecker.VISITING) {
+        throw new CelloException("Netlist has a cycle at node " + node.getName() + ".");
+      }
+      return rtn;
+    }
+    if (node.getResultNetlistNodeData().getNodeKind() == LSNodeType.PRIMARY_INPUT) {
+      rtn = inputs.get(node.getName());
+      encoded.put(node, rtn);
+      return rtn;
+    }
+    encoded.put(node, EquivalenceChecker.VISITING);
+    final List<Formula> in = new ArrayList<>();
+    for (int i = 0; i < node.getNumInEdge(); i++) {
+      in.add(encode(node.getInEdgeAtIdx(i).getSrc(), prefix, encoded, solver));
+    }
+    final Formula function = getFunction(node, in);
+    rtn = f.variable(prefix + numVariables++);
+    solver.add(f.equivalence(rtn, function));
+    encoded.put(node, rtn);
+    return rtn;
+  }
+
+  private Formula getFunction(final NetlistNode node, final List<Formula> in)
+      throws CelloException {
+    final int num = in.size();
+    final String nodeType = node.getResultNetlistNodeData().getNodeType();
+    switch (node.getResultNetlistNodeData().getNodeKind()) {
+      case PRIMARY_OUTPUT:
+        if (num > 0) {
+          return f.or(in);
+        }
+        break;
+      case BUF:
+        if (num == 1) {
+          return in.get(0);
+        }
+        break;
+      case NOT:
+        if (num == 1) {
+          return f.not(in.get(0));
+        }
+        break;
+      case AND:
+        if (num > 1) {
+          return f.and(in);
+        }
+        break;
+      case NAND:
+        if (num > 1) {
+          return f.not(f.and(in));
+        }
+        break;
+      case OR:
+        if (num > 1) {
+          return f.or(in);
+        }
+        break;
+      case NOR:
+        if (num > 1) {
+          return f.not(f.or(in));
+        }
+        break;
+      case XOR:
+        if (num > 1) {
+          return xor(in);
+        }
+        break;
+      case XNOR:
+        if (num > 1) {
+          return f.not(xor(in));
+        }
+        break;
+      default:
+        final String fmt = "Node type %s of node %s cannot be checked for equivalence.";
+        throw new CelloException(String.format(fmt, nodeType, node.getName()));
+    }
+    final String fmt = "Node %s of type %s has %d input(s).";
+    throw new CelloException(String.format(fmt, node.getName(), nodeType, num));
+  }
+
+  private Formula xor(final List<Formula> in) {
+    Formula rtn = in.get(0);
+    for (int i = 1; i < in.size(); i++) {
+      rtn = f.not(f.equivalence(rtn, in.get(i)));
+    }
+    return rtn;
+  }
+
+  /**
+   * Returns true if the netlists are equivalent.
+   *
+   * @return True if the netlists are equivalent, false otherwise.
+   */
+  public boolean isEquivalent() {
+    return counterexample == null;
+  }
+
+  /**
+   * Returns a value of each primary input for which the netlists differ.
+   *
+   * @return The value of each primary input, by name, for which the netlists differ, or null if
+   *     the netlists are equivalent.
+   */
+  public Map<String, Boolean> getCounterexample() {
+    return counterexample;
+  }
+
+  /**
+   * Returns the name of a primary output that differs under the counterexample.
+   *
+   * @return The name of a primary output that differs under the counterexample, or null if the
+   *     netlists are equivalent.
+   */
+  public String getOutput() {
+    return output;
+  }
+
+  private FormulaFactory f;
+  private Map<String, Variable> inputs;
+  private int numVariables;
+  private Map<String, Boolean> counterexample;
+  private String output;
+
+  private static final Formula VISITING = new FormulaFactory().verum();
+  private static final Set<LSNodeType> SUPPORTED =
+      EnumSet.of(
+          LSNodeType.PRIMARY_INPUT,
+          LSNodeType.PRIMARY_OUTPUT,
+          LSNodeType.BUF,
+          LSNodeType.NOT,
+          LSNodeType.AND,
+          LSNodeType.NAND,
+          LSNodeType.OR,
+          LSNodeType.NOR,
+          LSNodeType.XOR,
+          LSNodeType.XNOR);
+}
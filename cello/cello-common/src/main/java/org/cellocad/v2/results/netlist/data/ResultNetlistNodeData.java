@@ -27,6 +27,7 @@ import org.cellocad.v2.common.json.JsonUtils;
 import org.cellocad.v2.common.profile.ProfileUtils;
 import org.cellocad.v2.common.target.data.data.AssignableDevice;
 import org.cellocad.v2.results.clustering.CLResults;
+import org.cellocad.v2.results.logicSynthesis.LSNodeType;
 import org.cellocad.v2.results.logicSynthesis.LSResults;
 import org.cellocad.v2.results.partitioning.PTResults;
 import org.cellocad.v2.results.technologyMapping.TMResults;
@@ -47,6 +48,7 @@ public class ResultNetlistNodeData extends ApplicationNetlistNodeData {
     setPartitionID(PTResults.S_DEFAULT);
     setClusterID(CLResults.S_DEFAULT);
     setDeviceName(TMResults.S_DEFAULT);
+    setDuplicateOf("");
   }
 
   /** Initializes a newly created {@link ResultNetlistNodeData}. */
@@ -67,6 +69,7 @@ public class ResultNetlistNodeData extends ApplicationNetlistNodeData {
     setNodeType(other.getNodeType());
     setPartitionID(other.getPartitionID());
     setDeviceName(other.getDeviceName());
+    setDuplicateOf(other.getDuplicateOf());
   }
 
   /**
@@ -97,6 +100,10 @@ public class ResultNetlistNodeData extends ApplicationNetlistNodeData {
     rtn += JsonUtils.getEntryToString("partitionID", getPartitionID());
     // deviceName
     rtn += JsonUtils.getEntryToString("deviceName", getDeviceName());
+    // duplicateOf
+    if (isDuplicate()) {
+      rtn += JsonUtils.getEntryToString("duplicateOf", getDuplicateOf());
+    }
     return rtn;
   }
 
@@ -139,6 +146,13 @@ public class ResultNetlistNodeData extends ApplicationNetlistNodeData {
     }
   }
 
+  private void parseDuplicateOf(final JSONObject jsonObj) {
+    final String value = ProfileUtils.getString(jsonObj, "duplicateOf");
+    if (value != null) {
+      setDuplicateOf(value);
+    }
+  }
+
   /**
    * Parses the data attached to this instance.
    *
@@ -150,6 +164,7 @@ public class ResultNetlistNodeData extends ApplicationNetlistNodeData {
     parseNodeType(jsonObj);
     parsePartitionID(jsonObj);
     parseDevice(jsonObj);
+    parseDuplicateOf(jsonObj);
   }
 
   /*
@@ -162,6 +177,7 @@ public class ResultNetlistNodeData extends ApplicationNetlistNodeData {
    */
   public void setNodeType(final String nodeType) {
     this.nodeType = nodeType;
+    nodeKind = LSNodeType.fromValue(nodeType);
   }
 
   /**
@@ -173,7 +189,18 @@ public class ResultNetlistNodeData extends ApplicationNetlistNodeData {
     return nodeType;
   }
 
+  /**
+   * Getter for {@code nodeKind}, the {@link LSNodeType} of {@code nodeType}. Prefer comparing node
+   * kinds over comparing node type strings.
+   *
+   * @return The nodeKind of this instance.
+   */
+  public LSNodeType getNodeKind() {
+    return nodeKind;
+  }
+
   private String nodeType;
+  private LSNodeType nodeKind;
 
   /*
    * PartitionID
@@ -244,6 +271,39 @@ public class ResultNetlistNodeData extends ApplicationNetlistNodeData {
 
   private String deviceName;
 
+  /*
+   * DuplicateOf
+   */
+  /**
+   * Setter for {@code duplicateOf}.
+   *
+   * @param duplicateOf The name of the node this node duplicates, or an empty string if it is not a
+   *     duplicate.
+   */
+  public void setDuplicateOf(final String duplicateOf) {
+    this.duplicateOf = duplicateOf;
+  }
+
+  /**
+   * Getter for {@code duplicateOf}.
+   *
+   * @return The name of the node this node duplicates, or an empty string if it is not a duplicate.
+   */
+  public String getDuplicateOf() {
+    return duplicateOf;
+  }
+
+  /**
+   * Returns true if this node was added as a duplicate of another node, e.g. to limit its fanout.
+   *
+   * @return True if this node is a duplicate, false otherwise.
+   */
+  public boolean isDuplicate() {
+    return !duplicateOf.isEmpty();
+  }
+
+  private String duplicateOf;
+
   /**
    * Getter for {@code device}.
    *
@@ -20,7 +20,7 @@
 package org.cellocad.v2.results.placing;
 
 import org.cellocad.v2.common.CObjectCollection;
-import org.cellocad.v2.results.logicSynthesis.LSResults;
+import org.cellocad.v2.results.logicSynthesis.LSNodeType;
 import org.cellocad.v2.results.netlist.Netlist;
 import org.cellocad.v2.results.netlist.NetlistNode;
 
@@ -45,11 +45,8 @@ public class PLResultsUtils {
     rtn = new CObjectCollection<>();
     for (int i = 0; i < netlist.getNumVertex(); i++) {
       final NetlistNode node = netlist.getVertexAtIdx(i);
-      final String nodeType = node.getResultNetlistNodeData().getNodeType();
-      if (!nodeType.equals(LSResults.S_PRIMARYINPUT)
-          && !nodeType.equals(LSResults.S_INPUT)
-          && !nodeType.equals(LSResults.S_PRIMARYOUTPUT)
-          && !nodeType.equals(LSResults.S_OUTPUT)) {
+      final LSNodeType nodeType = node.getResultNetlistNodeData().getNodeKind();
+      if (!nodeType.isAllInput() && !nodeType.isAllOutput()) {
         rtn.add(node);
       }
     }
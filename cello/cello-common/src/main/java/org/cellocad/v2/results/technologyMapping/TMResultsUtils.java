@@ -27,6 +27,7 @@ import java.io.OutputStreamWriter;
 import java.io.Writer;
 import org.cellocad.v2.common.Utils;
 import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
+import org.cellocad.v2.results.technologyMapping.activity.TMDoseResponseEvaluation;
 
 /**
  * Utility methods for handling results from the <i>technologyMapping</i> stage.
@@ -57,4 +58,26 @@ public class TMResultsUtils {
     outputStream.close();
     return file;
   }
+
+  /**
+   * Writes a dose response evaluation as a CSV file.
+   *
+   * @param tmdre The dose response evaluation.
+   * @param filename The file to write the dose response evaluation.
+   * @return The CSV file.
+   * @throws IOException Unable to write CSV file.
+   * @throws RuntimeException Any of the parameters are null.
+   */
+  public static File writeCsvForTMDoseResponseEvaluation(
+      final TMDoseResponseEvaluation tmdre, final String filename) throws IOException {
+    Utils.isNullRuntimeException(tmdre, "tmdre");
+    Utils.isNullRuntimeException(filename, "filename");
+    final File file = new File(filename);
+    final OutputStream outputStream = new FileOutputStream(file);
+    final Writer outputStreamWriter = new OutputStreamWriter(outputStream);
+    tmdre.writeCSV(",", outputStreamWriter);
+    outputStreamWriter.close();
+    outputStream.close();
+    return file;
+  }
 }
@@ -25,6 +25,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import org.cellocad.v2.common.Utils;
 import org.cellocad.v2.common.exception.CelloException;
 import org.cellocad.v2.common.graph.algorithm.MyBFS;
@@ -61,6 +63,23 @@ public class TMActivityEvaluation {
    */
   public TMActivityEvaluation(final Netlist netlist, final LSLogicEvaluation lsle)
       throws CelloException {
+    this(netlist, lsle, null);
+  }
+
+  /**
+   * Initializes a newly created {@link LSLogicEvaluation} using the {@link Netlist} defined by
+   * parameter {@code netlist}. If the pool defined by parameter {@code pool} is not null, the
+   * states are split into chunks that are evaluated in parallel on the pool, each with its own
+   * {@link EvaluationContext}.
+   *
+   * @param netlist A netlist.
+   * @param lsle The logic evaluation of the netlist.
+   * @param pool The pool on which to evaluate the states, or null to evaluate them serially.
+   * @throws CelloException Unable to initialize object.
+   */
+  public TMActivityEvaluation(
+      final Netlist netlist, final LSLogicEvaluation lsle, final ForkJoinPool pool)
+      throws CelloException {
     init();
     if (!netlist.isValid()) {
       throw new RuntimeException("netlist is not valid!");
@@ -75,7 +94,11 @@ public class TMActivityEvaluation {
           new ActivityTable<>(states, outputNodes);
       getActivityTables().put(node, activityTable);
     }
-    evaluate(netlist);
+    if (pool == null) {
+      evaluate(netlist);
+    } else {
+      evaluate(netlist, pool);
+    }
   }
 
   /**
@@ -107,22 +130,24 @@ public class TMActivityEvaluation {
       throws CelloException {
     ec.setNode(node);
     final ActivityTable<NetlistNode, NetlistNode> activityTable = getActivityTables().get(node);
-    for (int i = 0; i < activityTable.getNumStates(); i++) {
-      final State<NetlistNode> inputState = activityTable.getStateAtIdx(i);
-      final Activity<NetlistNode> outputActivity = activityTable.getActivityOutput(inputState);
-      ec.setState(inputState);
-      final Double result =
-          node.getResultNetlistNodeData()
-              .getDevice()
-              .getModel()
-              .getFunctionByName(FunctionType.S_RESPONSEFUNCTION)
-              .evaluate(ec)
-              .doubleValue();
+    final int num = activityTable.getNumStates();
+    final List<State<NetlistNode>> inputStates = new ArrayList<>(num);
+    for (int i = 0; i < num; i++) {
+      inputStates.add(activityTable.getStateAtIdx(i));
+    }
+    final double[] results = new double[num];
+    node.getResultNetlistNodeData()
+        .getDevice()
+        .getModel()
+        .getFunctionByName(FunctionType.S_RESPONSEFUNCTION)
+        .evaluate(ec, inputStates, results);
+    for (int i = 0; i < num; i++) {
+      final Activity<NetlistNode> outputActivity =
+          activityTable.getActivityOutput(inputStates.get(i));
       if (outputActivity.getNumActivityPosition() != 1) {
         throw new RuntimeException("Invalid number of output(s)!");
       }
-      Utils.isNullRuntimeException(result, "result");
-      if (!outputActivity.setActivity(node, result)) {
+      if (!outputActivity.setActivity(node, results[i])) {
         throw new RuntimeException("Node does not exist");
       }
     }
@@ -145,6 +170,115 @@ public class TMActivityEvaluation {
     }
   }
 
+  /**
+   * Evaluates the activity of a netlist in parallel on the pool defined by parameter {@code pool}.
+   * Each chunk of states evaluates every node, so the results of upstream nodes are reused within
+   * the chunk, and writes its activities into its own columns of a shared matrix.
+   *
+   * @param netlist A netlist.
+   * @param pool The pool on which to evaluate the states.
+   * @throws CelloException Unable to evaluate activity.
+   */
+  protected void evaluate(final Netlist netlist, final ForkJoinPool pool) throws CelloException {
+    final MyBFS<NetlistNode, NetlistEdge, Netlist> BFS = new MyBFS<>(netlist);
+    final List<NetlistNode> nodes = new ArrayList<>();
+    NetlistNode node = BFS.getNextVertex();
+    while (node != null) {
+      nodes.add(node);
+      node = BFS.getNextVertex();
+    }
+    final int num = getStates().getNumStates();
+    final List<State<NetlistNode>> inputStates = new ArrayList<>(num);
+    for (int i = 0; i < num; i++) {
+      inputStates.add(getStates().getStateAtIdx(i));
+    }
+    final double[][] activity = new double[nodes.size()][num];
+    try {
+      pool.invoke(new StateTask(nodes, inputStates, activity, 0, num));
+    } catch (final RuntimeException e) {
+      for (Throwable t = e; t != null; t = t.getCause()) {
+        if (t instanceof CelloException) {
+          throw new CelloException(t.getMessage(), t);
+        }
+      }
+      throw e;
+    }
+    for (int i = 0; i < nodes.size(); i++) {
+      final NetlistNode n = nodes.get(i);
+      final ActivityTable<NetlistNode, NetlistNode> activityTable = getActivityTables().get(n);
+      for (int j = 0; j < num; j++) {
+        if (!activityTable.getActivityOutput(inputStates.get(j)).setActivity(n, activity[i][j])) {
+          throw new RuntimeException("Node does not exist");
+        }
+      }
+    }
+  }
+
+  private void evaluateChunk(
+      final List<NetlistNode> nodes,
+      final List<State<NetlistNode>> inputStates,
+      final double[][] activity,
+      final int lo,
+      final int hi)
+      throws CelloException {
+    final EvaluationContext ec = new EvaluationContext();
+    final List<State<NetlistNode>> chunk = inputStates.subList(lo, hi);
+    final double[] results = new double[hi - lo];
+    for (int i = 0; i < nodes.size(); i++) {
+      final NetlistNode node = nodes.get(i);
+      ec.setNode(node);
+      node.getResultNetlistNodeData()
+          .getDevice()
+          .getModel()
+          .getFunctionByName(FunctionType.S_RESPONSEFUNCTION)
+          .evaluate(ec, chunk, results);
+      System.arraycopy(results, 0, activity[i], lo, hi - lo);
+    }
+  }
+
+  /** Evaluates a range of states, splitting it in half until it is small enough. */
+  private class StateTask extends RecursiveAction {
+
+    StateTask(
+        final List<NetlistNode> nodes,
+        final List<State<NetlistNode>> inputStates,
+        final double[][] activity,
+        final int lo,
+        final int hi) {
+      this.nodes = nodes;
+      this.inputStates = inputStates;
+      this.activity = activity;
+      this.lo = lo;
+      this.hi = hi;
+    }
+
+    @Override
+    protected void compute() {
+      if (hi - lo <= TMActivityEvaluation.I_GRAIN) {
+        if (lo < hi) {
+          try {
+            evaluateChunk(nodes, inputStates, activity, lo, hi);
+          } catch (final CelloException e) {
+            throw new RuntimeException(e);
+          }
+        }
+        return;
+      }
+      final int mid = (lo + hi) >>> 1;
+      invokeAll(
+          new StateTask(nodes, inputStates, activity, lo, mid),
+          new StateTask(nodes, inputStates, activity, mid, hi));
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<NetlistNode> nodes;
+    private final List<State<NetlistNode>> inputStates;
+    private final double[][] activity;
+    private final int lo;
+    private final int hi;
+  }
+
   protected Map<NetlistNode, ActivityTable<NetlistNode, NetlistNode>> getActivityTables() {
     return activitytables;
   }
@@ -225,6 +359,7 @@ public class TMActivityEvaluation {
   }
 
   private static final String S_HEADER = "--------------------------------------------";
+  private static final int I_GRAIN = 32;
 
   private Map<NetlistNode, ActivityTable<NetlistNode, NetlistNode>> activitytables;
   private States<NetlistNode> states;
@@ -0,0 +1,279 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.results.technologyMapping.activity;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.target.data.data.EvaluationContext;
+import org.cellocad.v2.common.target.data.data.Function;
+import org.cellocad.v2.common.target.data.data.FunctionType;
+import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+
+/**
+ * The activity of the primary outputs of an assigned netlist over a grid of input levels. Each
+ * primary input is swept through evenly spaced values of its state between zero (low) and one
+ * (high), rather than only the binary corners evaluated by {@link TMActivityEvaluation}. Grid
+ * points are evaluated serially, or in parallel on a given {@link ForkJoinPool}.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class TMDoseResponseEvaluation {
+
+  private void init() {
+    inputs = new ArrayList<>();
+    outputs = new ArrayList<>();
+  }
+
+  /**
+   * Initializes a newly created {@link TMDoseResponseEvaluation} and evaluates the given netlist
+   * serially.
+   *
+   * @param netlist An assigned netlist.
+   * @param numLevels The number of levels of each input, at least two.
+   * @throws CelloException Unable to evaluate the netlist.
+   */
+  public TMDoseResponseEvaluation(final Netlist netlist, final int numLevels)
+      throws CelloException {
+    this(netlist, numLevels, null);
+  }
+
+  /**
+   * Initializes a newly created {@link TMDoseResponseEvaluation} and evaluates the given netlist.
+   * If the pool defined by parameter {@code pool} is not null, the grid points are evaluated in
+   * parallel on the pool.
+   *
+   * @param netlist An assigned netlist.
+   * @param numLevels The number of levels of each input, at least two.
+   * @param pool The pool on which to evaluate the grid points, or null to evaluate them serially.
+   * @throws CelloException Unable to evaluate the netlist.
+   */
+  public TMDoseResponseEvaluation(
+      final Netlist netlist, final int numLevels, final ForkJoinPool pool) throws CelloException {
+    init();
+    if (!netlist.isValid()) {
+      throw new RuntimeException("netlist is not valid!");
+    }
+    if (numLevels < 2) {
+      throw new CelloException("Dose response requires at least two levels per input.");
+    }
+    for (int i = 0; i < netlist.getNumVertex(); i++) {
+      final NetlistNode node = netlist.getVertexAtIdx(i);
+      if (LSResultsUtils.isPrimaryInput(node)) {
+        inputs.add(node);
+      } else if (LSResultsUtils.isPrimaryOutput(node)) {
+        outputs.add(node);
+      }
+    }
+    levels = new double[numLevels];
+    for (int i = 0; i < numLevels; i++) {
+      levels[i] = (double) i / (numLevels - 1);
+    }
+    final double size = Math.pow(numLevels, inputs.size()) * Math.max(outputs.size(), 1);
+    if (size > TMDoseResponseEvaluation.I_MAXSIZE) {
+      final String fmt = "Dose response grid of %d levels over %d inputs is too large.";
+      throw new CelloException(String.format(fmt, numLevels, inputs.size()));
+    }
+    numPoints = (int) Math.pow(numLevels, inputs.size());
+    functions = new Function[outputs.size()];
+    for (int i = 0; i < outputs.size(); i++) {
+      functions[i] =
+          outputs
+              .get(i)
+              .getResultNetlistNodeData()
+              .getDevice()
+              .getModel()
+              .getFunctionByName(FunctionType.S_RESPONSEFUNCTION);
+    }
+    activity = new double[numPoints * outputs.size()];
+    if (pool == null) {
+      final EvaluationContext ec = new EvaluationContext();
+      for (int i = 0; i < numPoints; i++) {
+        evaluate(ec, i);
+      }
+    } else {
+      evaluate(pool);
+    }
+  }
+
+  private void evaluate(final ForkJoinPool pool) throws CelloException {
+    try {
+      pool.invoke(new PointTask(0, numPoints));
+    } catch (final RuntimeException e) {
+      for (Throwable t = e; t != null; t = t.getCause()) {
+        if (t instanceof CelloException) {
+          throw new CelloException(t.getMessage(), t);
+        }
+      }
+      throw e;
+    }
+  }
+
+  private void evaluate(final EvaluationContext ec, final int point) throws CelloException {
+    for (int i = 0; i < inputs.size(); i++) {
+      ec.setStateValue(inputs.get(i), getLevel(point, i));
+    }
+    final int offset = point * outputs.size();
+    for (int i = 0; i < outputs.size(); i++) {
+      ec.setNode(outputs.get(i));
+      activity[offset + i] = functions[i].evaluateDouble(ec);
+    }
+  }
+
+  /** Evaluates a range of grid points, splitting it in half until it is small enough. */
+  private class PointTask extends RecursiveAction {
+
+    PointTask(final int lo, final int hi) {
+      this.lo = lo;
+      this.hi = hi;
+    }
+
+    @Override
+    protected void compute() {
+      if (hi - lo <= TMDoseResponseEvaluation.I_GRAIN) {
+        final EvaluationContext ec = new EvaluationContext();
+        try {
+          for (int i = lo; i < hi; i++) {
+            evaluate(ec, i);
+          }
+        } catch (final CelloException e) {
+          throw new RuntimeException(e);
+        }
+        return;
+      }
+      final int mid = (lo + hi) >>> 1;
+      invokeAll(new PointTask(lo, mid), new PointTask(mid, hi));
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private final int lo;
+    private final int hi;
+  }
+
+  /**
+   * Returns the number of grid points. The level of the first input varies slowest.
+   *
+   * @return The number of grid points.
+   */
+  public int getNumPoints() {
+    return numPoints;
+  }
+
+  /**
+   * Returns the level, between zero and one, of the given input at the given grid point.
+   *
+   * @param point The index of the grid point.
+   * @param input The index of the input.
+   * @return The level of the given input at the given grid point.
+   */
+  public double getLevel(final int point, final int input) {
+    int rtn = point;
+    for (int i = inputs.size() - 1; i > input; i--) {
+      rtn /= levels.length;
+    }
+    return levels[rtn % levels.length];
+  }
+
+  /**
+   * Returns the activity of the given output at the given grid point.
+   *
+   * @param point The index of the grid point.
+   * @param output The index of the output.
+   * @return The activity of the given output at the given grid point.
+   */
+  public double getActivity(final int point, final int output) {
+    return activity[point * outputs.size() + output];
+  }
+
+  /**
+   * Getter for {@code inputs}.
+   *
+   * @return The primary inputs, in the order of the grid.
+   */
+  public List<NetlistNode> getInputs() {
+    return inputs;
+  }
+
+  /**
+   * Getter for {@code outputs}.
+   *
+   * @return The primary outputs.
+   */
+  public List<NetlistNode> getOutputs() {
+    return outputs;
+  }
+
+  /**
+   * Writes this instance in CSV format to the writer defined by parameter {@code os} with the
+   * delimiter equivalent to the parameter {@code delimiter}. Each row is a grid point: the levels
+   * of the inputs followed by the activities of the outputs.
+   *
+   * @param delimiter The delimiter.
+   * @param os The writer.
+   * @throws IOException If an I/O error occurs.
+   */
+  public void writeCSV(final String delimiter, final Writer os) throws IOException {
+    final StringBuilder str = new StringBuilder();
+    String sep = "";
+    for (final NetlistNode node : getInputs()) {
+      str.append(sep).append(node.getName());
+      sep = delimiter;
+    }
+    for (final NetlistNode node : getOutputs()) {
+      str.append(sep).append(node.getName());
+      sep = delimiter;
+    }
+    str.append(Utils.getNewLine());
+    os.write(str.toString());
+    for (int i = 0; i < getNumPoints(); i++) {
+      str.setLength(0);
+      sep = "";
+      for (int j = 0; j < getInputs().size(); j++) {
+        str.append(sep).append(String.format("%1.5e", getLevel(i, j)));
+        sep = delimiter;
+      }
+      for (int j = 0; j < getOutputs().size(); j++) {
+        str.append(sep).append(String.format("%1.5e", getActivity(i, j)));
+        sep = delimiter;
+      }
+      str.append(Utils.getNewLine());
+      os.write(str.toString());
+    }
+  }
+
+  private List<NetlistNode> inputs;
+  private List<NetlistNode> outputs;
+  private Function[] functions;
+  private double[] levels;
+  private int numPoints;
+  private double[] activity;
+
+  private static final int I_GRAIN = 64;
+  private static final int I_MAXSIZE = 1 << 26;
+}
@@ -19,12 +19,11 @@
 
 package org.cellocad.v2.results.technologyMapping.activity.activitytable;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.cellocad.v2.common.CObject;
-import org.cellocad.v2.common.Pair;
 
 /**
  * The activity of a netlist used within the <i>SimulatedAnnealing</i> algorithm of the
@@ -36,12 +35,6 @@ import org.cellocad.v2.common.Pair;
  */
 public class Activity<T> extends CObject {
 
-  /** Initialize class members. */
-  private void init() {
-    activityEntry = new ArrayList<>();
-    activityEntryMap = new HashMap<>();
-  }
-
   /**
    * Initializes a newly created {@link Activity} with the list of types defined by parameter {@code
    * nodes} and value defined by parameter {@code value}.
@@ -50,13 +43,7 @@ public class Activity<T> extends CObject {
    * @param value The value.
    */
   public Activity(final List<T> nodes, final double value) {
-    this.init();
-    for (int i = 0; i < nodes.size(); i++) {
-      final T node = nodes.get(i);
-      final Pair<T, Double> pair = new Pair<>(node, value);
-      this.getActivity().add(pair);
-      this.getActivityMap().put(node, value);
-    }
+    this(Activity.getIndex(nodes), value);
   }
 
   /**
@@ -69,64 +56,59 @@ public class Activity<T> extends CObject {
     this(nodes, 0.0);
   }
 
-  /*
-   * Activity
-   */
   /**
-   * Getter for {@code activityEntry}.
+   * Initializes a newly created {@link Activity} that shares the position of each type, defined by
+   * parameter {@code index}, with other activities.
    *
-   * @return The value of {@code activityEntry}.
+   * @param index The position of each type.
+   * @param value The value.
    */
-  protected List<Pair<T, Double>> getActivity() {
-    return activityEntry;
+  Activity(final Map<T, Integer> index, final double value) {
+    this.index = index;
+    activity = new double[index.size()];
+    Arrays.fill(activity, value);
   }
 
   /**
-   * Returns the activity of the given node.
+   * Returns the position of each type in the list of types defined by parameter {@code nodes}.
    *
-   * @return The activity of the given node if the node exists, null otherwise.
+   * @param nodes The List of types.
+   * @return The position of each type in {@code nodes}.
    */
-  public Double getActivity(final T node) {
-    Double rtn = null;
-    rtn = this.getActivityMap().get(node);
+  static <T> Map<T, Integer> getIndex(final List<T> nodes) {
+    final Map<T, Integer> rtn = new HashMap<>();
+    for (final T node : nodes) {
+      if (!rtn.containsKey(node)) {
+        rtn.put(node, rtn.size());
+      }
+    }
     return rtn;
   }
 
+  /*
+   * Activity
+   */
   /**
-   * Returns the {@link Pair} object at the specified position in this instance.
+   * Returns the activity of the given node.
    *
-   * @param index The index of the {@link Pair} object to return.
-   * @return If the index is within the bounds {@code (0 <= bounds <
-   *     this.getNumActivityPosition())}, returns the {@link Pair} object at the specified position
-   *     in this instance, otherwise null.
+   * @return The activity of the given node if the node exists, null otherwise.
    */
-  protected Pair<T, Double> getActivityPositionAtIdx(final int index) {
-    Pair<T, Double> rtn = null;
-    if (0 <= index && index < this.getNumActivityPosition()) {
-      rtn = this.getActivity().get(index);
+  public Double getActivity(final T node) {
+    Double rtn = null;
+    final Integer i = index.get(node);
+    if (i != null) {
+      rtn = activity[i];
     }
     return rtn;
   }
 
   /**
-   * Returns the number of {@link Pair} objects in this instance.
+   * Returns the number of nodes in this instance.
    *
-   * @return The number of {@link Pair} objects in this instance.
+   * @return The number of nodes in this instance.
    */
   public int getNumActivityPosition() {
-    return this.getActivity().size();
-  }
-
-  /*
-   * ActivityMap
-   */
-  /**
-   * Getter for {@code activityEntryMap}.
-   *
-   * @return The value of {@link activityEntryMap}.
-   */
-  protected Map<T, Double> getActivityMap() {
-    return activityEntryMap;
+    return activity.length;
   }
 
   /**
@@ -139,17 +121,14 @@ public class Activity<T> extends CObject {
    */
   public boolean setActivity(final T node, final Double value) {
     boolean rtn = false;
-    for (int i = 0; i < this.getNumActivityPosition(); i++) {
-      final Pair<T, Double> position = this.getActivityPositionAtIdx(i);
-      if (position.getFirst().equals(node)) {
-        position.setSecond(value);
-        this.getActivityMap().put(node, value);
-        rtn = true;
-      }
+    final Integer i = index.get(node);
+    if (i != null) {
+      activity[i] = value;
+      rtn = true;
     }
     return rtn;
   }
 
-  private List<Pair<T, Double>> activityEntry;
-  private Map<T, Double> activityEntryMap;
+  private final Map<T, Integer> index;
+  private final double[] activity;
 }
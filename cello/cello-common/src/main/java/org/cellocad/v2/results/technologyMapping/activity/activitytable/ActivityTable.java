@@ -20,7 +20,6 @@
 package org.cellocad.v2.results.technologyMapping.activity.activitytable;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
@@ -38,7 +37,7 @@ public class ActivityTable<InputT, OutputT> {
 
   /** Initialize class members. */
   private void init() {
-    activityTableMap = new HashMap<>();
+    activities = new ArrayList<>();
     states = new ArrayList<>();
   }
 
@@ -51,10 +50,11 @@ public class ActivityTable<InputT, OutputT> {
    */
   public ActivityTable(final List<State<InputT>> inputs, final List<OutputT> outputs) {
     init();
+    final Map<OutputT, Integer> index = Activity.getIndex(outputs);
     for (int i = 0; i < inputs.size(); i++) {
       final State<InputT> InputActivity = inputs.get(i);
-      final Activity<OutputT> OutputActivity = new Activity<>(outputs);
-      this.getActivityTableMap().put(InputActivity, OutputActivity);
+      final Activity<OutputT> OutputActivity = new Activity<>(index, 0.0);
+      this.getActivities().add(OutputActivity);
       this.getStates().add(InputActivity);
     }
   }
@@ -68,10 +68,11 @@ public class ActivityTable<InputT, OutputT> {
    */
   public ActivityTable(final States<InputT> states, final List<OutputT> outputs) {
     init();
+    final Map<OutputT, Integer> index = Activity.getIndex(outputs);
     for (int i = 0; i < states.getNumStates(); i++) {
       final State<InputT> InputState = states.getStateAtIdx(i);
-      final Activity<OutputT> OutputActivity = new Activity<>(outputs);
-      this.getActivityTableMap().put(InputState, OutputActivity);
+      final Activity<OutputT> OutputActivity = new Activity<>(index, 0.0);
+      this.getActivities().add(OutputActivity);
       this.getStates().add(InputState);
     }
   }
@@ -80,12 +81,12 @@ public class ActivityTable<InputT, OutputT> {
    * ActivityMap
    */
   /**
-   * Getter for {@code activityTableMap}.
+   * Getter for {@code activities}.
    *
-   * @return The activityTableMap of this instance.
+   * @return The output activities of this instance, in the order of {@code states}.
    */
-  protected Map<State<InputT>, Activity<OutputT>> getActivityTableMap() {
-    return activityTableMap;
+  protected List<Activity<OutputT>> getActivities() {
+    return activities;
   }
 
   /**
@@ -105,7 +106,10 @@ public class ActivityTable<InputT, OutputT> {
    */
   public Activity<OutputT> getActivityOutput(final State<InputT> state) {
     Activity<OutputT> rtn = null;
-    rtn = this.getActivityTableMap().get(state);
+    final int idx = States.indexOf(this.getStates(), state);
+    if (idx >= 0) {
+      rtn = this.getActivities().get(idx);
+    }
     return rtn;
   }
 
@@ -134,5 +138,5 @@ public class ActivityTable<InputT, OutputT> {
   }
 
   List<State<InputT>> states;
-  Map<State<InputT>, Activity<OutputT>> activityTableMap;
+  List<Activity<OutputT>> activities;
 }
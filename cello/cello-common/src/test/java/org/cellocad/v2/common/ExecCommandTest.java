@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ExecCommand}.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class ExecCommandTest {
+
+  /** Skips the tests on systems without a POSIX shell. */
+  @Before
+  public void init() {
+    assumeTrue(Utils.isUnix() || Utils.isMac());
+  }
+
+  @Test
+  public void getOutput_Echo_ShouldCaptureOutputAndExitValue() {
+    final ExecCommand proc = new ExecCommand("sh -c \"echo out; echo err >&2; exit 3\"");
+    assertEquals("out" + Utils.getNewLine(), proc.getOutput());
+    assertEquals("err" + Utils.getNewLine(), proc.getError());
+    assertEquals(3, proc.getExitValue());
+    assertFalse(proc.isTimedOut());
+  }
+
+  @Test
+  public void getOutput_Input_ShouldWriteStandardInput() {
+    final ExecCommand proc = new ExecCommand("cat", "in");
+    assertEquals("in" + Utils.getNewLine(), proc.getOutput());
+    assertEquals(0, proc.getExitValue());
+  }
+
+  @Test
+  public void isTimedOut_HungCommand_ShouldDestroyProcess() {
+    final ExecCommand proc = new ExecCommand("sleep 30", null, 200);
+    assertTrue(proc.isTimedOut());
+    assertTrue(proc.getElapsedTime() < 10000);
+  }
+
+  /* The shell sleeps before exiting so that the readers are blocked on the streams by then. */
+  @Test
+  public void getOutput_DescendantHoldsStream_ShouldMarkTruncated() {
+    final ExecCommand proc =
+        new ExecCommand("sh -c \"echo out; sleep 0.5; (sleep 5) &\"", null, 0);
+    assertEquals(0, proc.getExitValue());
+    assertEquals(
+        "out" + Utils.getNewLine() + "[output truncated]" + Utils.getNewLine(), proc.getOutput());
+    assertTrue(proc.getElapsedTime() < 5000);
+  }
+
+  @Test
+  public void getOutput_DescendantExitsBeforeTimeout_ShouldWaitForReaders() {
+    final ExecCommand proc =
+        new ExecCommand("sh -c \"echo out; sleep 0.5; (sleep 1; echo late) &\"", null, 10000);
+    assertEquals(0, proc.getExitValue());
+    assertEquals("out" + Utils.getNewLine() + "late" + Utils.getNewLine(), proc.getOutput());
+  }
+
+  @Test
+  public void getExitValue_MissingExecutable_ShouldReportError() {
+    final ExecCommand proc = new ExecCommand("cello-no-such-executable");
+    assertEquals(-1, proc.getExitValue());
+    assertEquals("", proc.getOutput());
+    assertFalse(proc.getError().isEmpty());
+  }
+}
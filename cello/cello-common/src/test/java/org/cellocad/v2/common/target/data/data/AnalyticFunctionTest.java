@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.common.target.data.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.cellocad.v2.common.exception.CelloException;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link AnalyticFunction}.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class AnalyticFunctionTest {
+
+  /**
+   * Parses the function out = a * x + y, with the parameter a = 2.
+   *
+   * @throws ParseException Unable to parse the function.
+   */
+  @Before
+  public void init() throws ParseException {
+    final String str =
+        "{\"name\": \"out\", \"equation\": \"a * x + y\","
+            + " \"parameters\": [{\"name\": \"a\", \"value\": 2.0}],"
+            + " \"variables\": [{\"name\": \"x\", \"map\": \"#//model/parameters/x\"},"
+            + " {\"name\": \"y\", \"map\": \"#//model/parameters/y\"}]}";
+    function = new AnalyticFunction((JSONObject) new JSONParser().parse(str));
+  }
+
+  @Test
+  public void evaluateDouble_VariableMap_ShouldUseMappedValues() throws CelloException {
+    final Map<Variable, Double> value = new HashMap<>();
+    value.put(function.getVariables().findCObjectByName("x"), 3.0);
+    value.put(function.getVariables().findCObjectByName("y"), 1.0);
+    final EvaluationContext ec = new EvaluationContext();
+    assertEquals(7.0, function.evaluateDouble(ec, value), D_TOLERANCE);
+    // the buffer of the context is reused by the next evaluation
+    value.put(function.getVariables().findCObjectByName("x"), 5.0);
+    assertEquals(11.0, function.evaluateDouble(ec, value), D_TOLERANCE);
+  }
+
+  @Test
+  public void evaluateDouble_MissingVariable_ShouldBeNaN() throws CelloException {
+    final Map<Variable, Double> value = new HashMap<>();
+    value.put(function.getVariables().findCObjectByName("x"), 3.0);
+    assertTrue(Double.isNaN(function.evaluateDouble(new EvaluationContext(), value)));
+  }
+
+  private AnalyticFunction function;
+
+  private static final double D_TOLERANCE = 1e-12;
+}
@@ -20,14 +20,22 @@
 package org.cellocad.v2.common.target.data.data;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.cellocad.v2.common.Pair;
 import org.cellocad.v2.common.Utils;
 import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
@@ -101,6 +109,88 @@ public class BivariateLookupTableFunctionTest {
     assertEquals(result.get(2), 6.25, TOLERANCE);
   }
 
+  @Test
+  public void evaluate_MockData_ShouldFillBuffer() throws CelloException {
+    Variable v = lut.getVariables().findCObjectByName("x");
+    double[] result = new double[lut.getNumColumns()];
+    lut.evaluate(v, 2.5, result);
+    assertEquals(result[0], 5.5, TOLERANCE);
+    assertEquals(result[1], 6.5, TOLERANCE);
+    assertEquals(result[2], 7.5, TOLERANCE);
+  }
+
+  @Test
+  public void evaluate_MockDataOutOfRange_ShouldBeEndRow() throws CelloException {
+    Variable v = lut.getVariables().findCObjectByName("x");
+    double[] result = new double[lut.getNumColumns()];
+    lut.evaluate(v, 10.0, result);
+    assertEquals(result[0], 6.0, TOLERANCE);
+    assertEquals(result[2], 8.0, TOLERANCE);
+  }
+
+  @Test
+  public void evaluate_States_ShouldMatchEachState()
+      throws IOException, ParseException, CelloException {
+    final JSONParser parser = new JSONParser();
+    // the variables of the table read two functions of the state of the node
+    final JSONObject lutObj = (JSONObject) parser.parse(Utils.getResourceAsString("2d.json"));
+    final JSONArray variables = (JSONArray) lutObj.get(Function.S_VARIABLES);
+    ((JSONObject) variables.get(0)).put("map", "#//model/functions/level");
+    ((JSONObject) variables.get(1)).put("map", "#//model/functions/bin");
+    final BivariateLookupTableFunction function = new BivariateLookupTableFunction(lutObj);
+    final String modelStr = "{\"name\": \"m\", \"parameters\": []}";
+    final Model model = new Model((JSONObject) parser.parse(modelStr));
+    final String fmt = "{\"name\": \"%s\", \"equation\": \"%s\"}";
+    model.addFunction(
+        "level",
+        new AnalyticFunction(
+            (JSONObject) parser.parse(String.format(fmt, "level", "1.2 + 1.5 * $STATE"))));
+    model.addFunction(
+        "bin",
+        new AnalyticFunction(
+            (JSONObject) parser.parse(String.format(fmt, "bin", "2.7 - 1.4 * $STATE"))));
+    final InputSensor sensor = new InputSensor((JSONObject) parser.parse("{\"name\": \"s\"}"));
+    sensor.setModel(model);
+    final NetlistNode a = new NetlistNode();
+    a.getResultNetlistNodeData().setDevice(sensor);
+    final NetlistNode b = new NetlistNode();
+    final States<NetlistNode> states = new States<>(Arrays.asList(a, b), true, false);
+    final List<State<NetlistNode>> list = new ArrayList<>();
+    for (int i = 0; i < states.getNumStates(); i++) {
+      list.add(states.getStateAtIdx(i));
+    }
+    final double[] expected = new double[list.size()];
+    final EvaluationContext ec = new EvaluationContext();
+    ec.setNode(a);
+    for (int i = 0; i < list.size(); i++) {
+      ec.setState(list.get(i));
+      expected[i] = function.evaluateDouble(ec);
+    }
+    assertTrue(Math.abs(expected[0] - expected[1]) > TOLERANCE);
+    final double[] result = new double[list.size()];
+    final EvaluationContext batch = new EvaluationContext();
+    batch.setNode(a);
+    function.evaluate(batch, list, result);
+    for (int i = 0; i < list.size(); i++) {
+      assertEquals(expected[i], result[i], TOLERANCE);
+    }
+    assertNull(batch.getState());
+  }
+
+  @Test(expected = CelloException.class)
+  public void evaluateDouble_EmptyTable_ShouldThrow() throws CelloException, ParseException {
+    final JSONParser parser = new JSONParser();
+    final String str =
+        "{\"name\": \"f\", \"table\": [], \"variables\": [{\"name\": \"x\", \"map\":"
+            + " \"#//model/parameters/x\"}, {\"name\": \"bin\", \"map\":"
+            + " \"#//model/parameters/bin\"}]}";
+    final BivariateLookupTableFunction empty =
+        new BivariateLookupTableFunction((JSONObject) parser.parse(str));
+    final EvaluationContext ec = new EvaluationContext();
+    ec.setNode(new NetlistNode());
+    empty.evaluateDouble(ec);
+  }
+
   private static BivariateLookupTableFunction lut;
 
   private static Double TOLERANCE = 1e-8;
@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.common.target.data.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import org.cellocad.v2.common.exception.CelloException;
+import org.junit.Test;
+import org.mariuszgromada.math.mxparser.Expression;
+
+/**
+ * Tests for {@link CompiledExpression}.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class CompiledExpressionTest {
+
+  private static void assertSameAsMxparser(final String str) throws CelloException {
+    final CompiledExpression compiled = CompiledExpression.compile(str, NAMES);
+    final Expression expr = new Expression(str);
+    for (int i = 0; i < NAMES.size(); i++) {
+      expr.defineArgument(NAMES.get(i), ARGS[i]);
+    }
+    assertEquals(str, expr.calculate(), compiled.evaluate(ARGS), TOLERANCE);
+  }
+
+  @Test
+  public void evaluate_ResponseFunctions_ShouldMatchMxparser() throws CelloException {
+    assertSameAsMxparser("ymin + (ymax - ymin) / (1.0 + (x / K)^n)");
+    assertSameAsMxparser("ymin+(ymax-ymin)/(1.0+(x/K)^n)");
+    assertSameAsMxparser("_STATE * (ymax - ymin) + ymin");
+    assertSameAsMxparser("x + y");
+    assertSameAsMxparser("x");
+  }
+
+  @Test
+  public void evaluate_Precedence_ShouldMatchMxparser() throws CelloException {
+    assertSameAsMxparser("-2^2");
+    assertSameAsMxparser("-x^2");
+    assertSameAsMxparser("2^3^2");
+    assertSameAsMxparser("2^-2");
+    assertSameAsMxparser("x^-x");
+    assertSameAsMxparser("2*-3");
+    assertSameAsMxparser("5-(-2)");
+    assertSameAsMxparser("3-2^2");
+    assertSameAsMxparser("1 - x * 2 / K + n");
+  }
+
+  @Test
+  public void evaluate_LiteralsAndFunctions_ShouldMatchMxparser() throws CelloException {
+    assertSameAsMxparser(".5");
+    assertSameAsMxparser("1e-3 + 1E3 + 1e+2");
+    assertSameAsMxparser("e * pi");
+    assertSameAsMxparser("log(2, 8) + log2(x) + log10(K) + ln(ymax)");
+    assertSameAsMxparser("exp(-x) + sqrt(K) + abs(-n)");
+    assertSameAsMxparser("min(x, K) + max(ymin, ymax)");
+    assertSameAsMxparser("x / 0.0");
+  }
+
+  @Test(expected = CelloException.class)
+  public void compile_UnknownArgument_ShouldThrow() throws CelloException {
+    CompiledExpression.compile("x + z", NAMES);
+  }
+
+  @Test(expected = CelloException.class)
+  public void compile_UnsupportedFunction_ShouldThrow() throws CelloException {
+    CompiledExpression.compile("sinh(x)", NAMES);
+  }
+
+  @Test(expected = CelloException.class)
+  public void compile_RepeatedSign_ShouldThrow() throws CelloException {
+    CompiledExpression.compile("- -x", NAMES);
+  }
+
+  @Test
+  public void references_StateArgument_ShouldBeDetected() throws CelloException {
+    final int state = NAMES.indexOf("_STATE");
+    assertTrue(CompiledExpression.compile("_STATE * ymax", NAMES).references(state));
+    assertFalse(CompiledExpression.compile("x * ymax", NAMES).references(state));
+  }
+
+  private static final List<String> NAMES =
+      Arrays.asList("ymax", "ymin", "K", "n", "x", "y", "_STATE");
+  private static final double[] ARGS = new double[] {3.5, 0.01, 0.2, 2.5, 0.7, 1.3, 1.0};
+
+  private static final Double TOLERANCE = 1e-12;
+}
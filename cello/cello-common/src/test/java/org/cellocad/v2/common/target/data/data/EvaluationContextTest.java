@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.common.target.data.data;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Collections;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
+import org.cellocad.v2.results.netlist.NetlistEdge;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link EvaluationContext}.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class EvaluationContextTest {
+
+  /* Returns a model with the parameter ymax and, if map is not null, the function out = 2 * x. */
+  private static Model getModel(final double ymax, final String map) throws ParseException {
+    final JSONParser parser = new JSONParser();
+    final String fmt = "{\"name\": \"m\", \"parameters\": [{\"name\": \"ymax\", \"value\": %s}]}";
+    final Model rtn = new Model((JSONObject) parser.parse(String.format(fmt, ymax)));
+    if (map != null) {
+      final String variable = "{\"name\": \"x\", \"map\": \"" + map + "\"}";
+      final String function =
+          "{\"name\": \"out\", \"equation\": \"2 * x\", \"variables\": [" + variable + "]}";
+      rtn.addFunction("out", new AnalyticFunction((JSONObject) parser.parse(function)));
+    }
+    return rtn;
+  }
+
+  private static NetlistNode getNode(final Model model) throws ParseException {
+    final NetlistNode rtn = new NetlistNode();
+    final JSONObject jsonObj = (JSONObject) new JSONParser().parse("{\"name\": \"d\"}");
+    final InputSensor device = new InputSensor(jsonObj);
+    device.setModel(model);
+    rtn.getResultNetlistNodeData().setDevice(device);
+    return rtn;
+  }
+
+  private static void addEdge(final NetlistNode src, final NetlistNode dst) throws ParseException {
+    final NetlistEdge edge = new NetlistEdge(src, dst);
+    edge.getResultNetlistEdgeData()
+        .setInput(new Input((JSONObject) new JSONParser().parse("{\"name\": \"in\"}")));
+    src.addOutEdge(edge);
+    dst.addInEdge(edge);
+  }
+
+  /**
+   * Builds two chains, u -> d -> w and its sibling v -> s -> t, where the middle node reads the
+   * ymax of the first and the last node reads the output of the middle one. Only the output of the
+   * middle node is cached, so replacing the model of the first node is seen at once by the middle
+   * node, but only through the cache by the last.
+   *
+   * @throws ParseException Unable to parse the models.
+   */
+  @Before
+  public void init() throws ParseException {
+    u = EvaluationContextTest.getNode(EvaluationContextTest.getModel(1.0, null));
+    d = EvaluationContextTest.getNode(EvaluationContextTest.getModel(0.0, S_YMAX));
+    w = EvaluationContextTest.getNode(EvaluationContextTest.getModel(0.0, S_OUT));
+    v = EvaluationContextTest.getNode(EvaluationContextTest.getModel(5.0, null));
+    s = EvaluationContextTest.getNode(EvaluationContextTest.getModel(0.0, S_YMAX));
+    t = EvaluationContextTest.getNode(EvaluationContextTest.getModel(0.0, S_OUT));
+    EvaluationContextTest.addEdge(u, d);
+    EvaluationContextTest.addEdge(d, w);
+    EvaluationContextTest.addEdge(v, s);
+    EvaluationContextTest.addEdge(s, t);
+  }
+
+  private static double evaluate(final EvaluationContext ec, final NetlistNode node)
+      throws CelloException {
+    ec.setNode(node);
+    return node.getResultNetlistNodeData()
+        .getDevice()
+        .getModel()
+        .getFunctionByName("out")
+        .evaluateDouble(ec);
+  }
+
+  @Test
+  public void clearCache_UpstreamModelChanged_ShouldReevaluate()
+      throws CelloException, ParseException {
+    final EvaluationContext ec = new EvaluationContext();
+    assertEquals(4.0, EvaluationContextTest.evaluate(ec, w), D_TOLERANCE);
+    assertEquals(20.0, EvaluationContextTest.evaluate(ec, t), D_TOLERANCE);
+    // change the parameters of u and v without telling the context
+    u.getResultNetlistNodeData().getDevice().setModel(EvaluationContextTest.getModel(3.0, null));
+    v.getResultNetlistNodeData().getDevice().setModel(EvaluationContextTest.getModel(7.0, null));
+    assertEquals(4.0, EvaluationContextTest.evaluate(ec, w), D_TOLERANCE);
+    assertEquals(20.0, EvaluationContextTest.evaluate(ec, t), D_TOLERANCE);
+    ec.clearCache();
+    assertEquals(12.0, EvaluationContextTest.evaluate(ec, w), D_TOLERANCE);
+    assertEquals(28.0, EvaluationContextTest.evaluate(ec, t), D_TOLERANCE);
+  }
+
+  @Test
+  public void evaluateDouble_TwoStates_ShouldCacheEachRow() throws CelloException, ParseException {
+    final EvaluationContext ec = new EvaluationContext();
+    final States<NetlistNode> states = new States<>(Collections.singletonList(u), true, false);
+    ec.setState(states.getStateAtIdx(0));
+    assertEquals(4.0, EvaluationContextTest.evaluate(ec, w), D_TOLERANCE);
+    u.getResultNetlistNodeData().getDevice().setModel(EvaluationContextTest.getModel(3.0, null));
+    // the first row is cached, the second is not
+    assertEquals(4.0, EvaluationContextTest.evaluate(ec, w), D_TOLERANCE);
+    ec.setState(states.getStateAtIdx(1));
+    assertEquals(12.0, EvaluationContextTest.evaluate(ec, w), D_TOLERANCE);
+  }
+
+  private NetlistNode u;
+  private NetlistNode d;
+  private NetlistNode w;
+  private NetlistNode v;
+  private NetlistNode s;
+  private NetlistNode t;
+
+  private static final String S_YMAX = "#//structure/inputs/in/model/parameters/ymax";
+  private static final String S_OUT = "#//structure/inputs/in/model/functions/out";
+  private static final double D_TOLERANCE = 1e-12;
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.common.target.data.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.cellocad.v2.common.exception.CelloException;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ReferencePath}.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class ReferencePathTest {
+
+  @Test
+  public void parse_ModelReference_ShouldSucceed() throws CelloException {
+    final String map = "#//model/parameters/ymax";
+    assertEquals(ReferencePath.parse(map).getMap(), map);
+  }
+
+  @Test
+  public void parse_InputChain_ShouldSucceed() throws CelloException {
+    final String map = "#//structure/inputs/x/structure/inputs/y/model/functions/response_function";
+    assertEquals(ReferencePath.parse(map).getMap(), map);
+  }
+
+  @Test
+  public void isLocal_InputChain_ShouldBeFalse() throws CelloException {
+    assertTrue(ReferencePath.parse("#//model/parameters/ymax").isLocal());
+    assertFalse(ReferencePath.parse("#//structure/inputs/x/model/parameters/ymax").isLocal());
+  }
+
+  @Test(expected = CelloException.class)
+  public void parse_MissingRefChar_ShouldThrow() throws CelloException {
+    ReferencePath.parse("//model/parameters/ymax");
+  }
+
+  @Test(expected = CelloException.class)
+  public void parse_Relative_ShouldThrow() throws CelloException {
+    ReferencePath.parse("#/model/parameters/ymax");
+  }
+
+  @Test(expected = CelloException.class)
+  public void parse_MissingName_ShouldThrow() throws CelloException {
+    ReferencePath.parse("#//model/functions");
+  }
+
+  @Test(expected = CelloException.class)
+  public void parse_StructureOutputs_ShouldThrow() throws CelloException {
+    ReferencePath.parse("#//structure/outputs/y");
+  }
+
+  @Test(expected = CelloException.class)
+  public void parse_InvalidToken_ShouldThrow() throws CelloException {
+    ReferencePath.parse("#//model/foo/bar");
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.common.target.data.data;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.exception.CelloException;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests for {@link UnivariateLookupTableFunction} on a small mock table.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class SimpleUnivariateLookupTableFunctionTest {
+
+  /**
+   * Environment setup for tests.
+   *
+   * @throws IOException Unable to read resources.
+   * @throws ParseException Unable to parse JSON in resources.
+   * @throws CelloException Unable to instantiate supporting classes.
+   */
+  @BeforeClass
+  public static void init() throws IOException, ParseException, CelloException {
+    JSONParser parser = new JSONParser();
+    String str = Utils.getResourceAsString("1d.json");
+    JSONObject jsonTop = (JSONObject) parser.parse(str);
+    lut = new UnivariateLookupTableFunction(jsonTop);
+  }
+
+  @Test
+  public void evaluate_MockData_ShouldMatchRows() {
+    assertEquals(lut.evaluate(1.0), 1.0, TOLERANCE);
+    assertEquals(lut.evaluate(3.0), 0.5, TOLERANCE);
+    assertEquals(lut.evaluate(4.0), 0.25, TOLERANCE);
+  }
+
+  @Test
+  public void evaluate_MockData_ShouldInterpolate() {
+    assertEquals(lut.evaluate(1.5), 0.875, TOLERANCE);
+    assertEquals(lut.evaluate(2.2), 0.7, TOLERANCE);
+  }
+
+  @Test
+  public void evaluate_MockData_ShouldClampOutOfRange() {
+    assertEquals(lut.evaluate(0.0), 1.0, TOLERANCE);
+    assertEquals(lut.evaluate(10.0), 0.25, TOLERANCE);
+  }
+
+  private static UnivariateLookupTableFunction lut;
+
+  private static Double TOLERANCE = 1e-8;
+}
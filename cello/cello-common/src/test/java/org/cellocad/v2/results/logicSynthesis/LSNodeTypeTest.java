@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.results.logicSynthesis;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.netlist.data.ResultNetlistNodeData;
+import org.junit.Test;
+
+/**
+ * Tests for {@link LSNodeType}.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class LSNodeTypeTest {
+
+  @Test
+  public void fromValue_EveryKnownType_ShouldRoundTrip() {
+    for (final LSNodeType type : LSNodeType.values()) {
+      if (type != LSNodeType.UNKNOWN) {
+        assertSame(type, LSNodeType.fromValue(type.getValue()));
+      }
+    }
+    assertSame(LSNodeType.UNKNOWN, LSNodeType.fromValue("MAJ"));
+    assertSame(LSNodeType.UNKNOWN, LSNodeType.fromValue(null));
+  }
+
+  @Test
+  public void setNodeType_String_ShouldUpdateNodeKind() {
+    final ResultNetlistNodeData data = new ResultNetlistNodeData();
+    assertSame(LSNodeType.DEFAULT, data.getNodeKind());
+    data.setNodeType(LSResults.S_NOR);
+    assertSame(LSNodeType.NOR, data.getNodeKind());
+    assertSame(LSNodeType.NOR, new ResultNetlistNodeData(data).getNodeKind());
+  }
+
+  @Test
+  public void getNodeType_UnknownType_ShouldCompareStrings() {
+    final Netlist netlist = new Netlist();
+    final String[] types = {LSResults.S_PRIMARYINPUT, LSResults.S_NOR, "MAJ", "MAJ"};
+    for (int i = 0; i < types.length; i++) {
+      final NetlistNode node = new NetlistNode();
+      node.setName("n" + i);
+      node.getResultNetlistNodeData().setNodeType(types[i]);
+      netlist.addVertex(node);
+    }
+    assertEquals(1, LSResultsUtils.getNodeType(netlist, LSResults.S_NOR).size());
+    assertEquals(2, LSResultsUtils.getNodeType(netlist, "MAJ").size());
+    assertEquals(0, LSResultsUtils.getNodeType(netlist, "MUX2").size());
+    assertTrue(LSResultsUtils.isPrimaryInput(netlist.getVertexAtIdx(0)));
+  }
+}
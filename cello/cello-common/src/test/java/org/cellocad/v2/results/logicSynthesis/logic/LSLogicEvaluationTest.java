@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.results.logicSynthesis.logic;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.TruthTable;
+import org.cellocad.v2.results.logicSynthesis.netlist.LSResultNetlistUtils;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.Test;
+
+/**
+ * Tests for {@link LSLogicEvaluation} with more states than fit in one word.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class LSLogicEvaluationTest {
+
+  @Test
+  public void LSLogicEvaluation_EightInputParityAndNand_ShouldMatchInputStates()
+      throws IOException, ParseException {
+    final JSONObject jsonObj =
+        (JSONObject) new JSONParser().parse(Utils.getResourceAsString("xor8_LogicOnly.json"));
+    final Netlist netlist = new Netlist(jsonObj);
+    LSResultNetlistUtils.setVertexTypeUsingLSResult(netlist);
+    final LSLogicEvaluation lsle = new LSLogicEvaluation(netlist);
+    final States<NetlistNode> states = lsle.getStates();
+    final NetlistNode par = netlist.getVertexByName("par");
+    final NetlistNode all = netlist.getVertexByName("all");
+    final TruthTable<NetlistNode, NetlistNode> tt = lsle.getTruthTable(par);
+    assertEquals(256, states.getNumStates());
+    for (int i = 0; i < states.getNumStates(); i++) {
+      final State<NetlistNode> state = states.getStateAtIdx(i);
+      boolean parity = false;
+      boolean and = true;
+      for (int j = 0; j < 8; j++) {
+        final boolean b = state.getState(netlist.getVertexByName("i" + j)).equals(states.getOne());
+        parity ^= b;
+        and &= b;
+      }
+      assertEquals(parity, lsle.getLogic(par, i));
+      assertEquals(!and, lsle.getLogic(all, i));
+      assertEquals(parity, tt.getStateOutput(state).getState(par));
+    }
+  }
+
+  @Test
+  public void LSLogicEvaluation_SampledStates_ShouldMatchInputStates()
+      throws IOException, ParseException {
+    final JSONObject jsonObj =
+        (JSONObject) new JSONParser().parse(Utils.getResourceAsString("xor8_LogicOnly.json"));
+    final Netlist netlist = new Netlist(jsonObj);
+    LSResultNetlistUtils.setVertexTypeUsingLSResult(netlist);
+    final long[] ordinals = States.getRandomOrdinals(8, 70, 1);
+    final LSLogicEvaluation lsle = new LSLogicEvaluation(netlist, ordinals);
+    final States<NetlistNode> states = lsle.getStates();
+    final NetlistNode par = netlist.getVertexByName("par");
+    assertEquals(70, states.getNumStates());
+    for (int i = 0; i < states.getNumStates(); i++) {
+      final State<NetlistNode> state = states.getStateAtIdx(i);
+      assertEquals(ordinals[i], state.getOrdinal());
+      assertEquals(Long.bitCount(ordinals[i]) % 2 == 1, lsle.getLogic(par, i));
+    }
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.results.logicSynthesis.logic.truthtable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Tests for {@link State}, {@link States}, and {@link TruthTable}.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class StatesTest {
+
+  @Test
+  public void getState_ThreeInputs_ShouldTakeBitOfOrdinal() {
+    final List<String> inputs = Arrays.asList("a", "b", "c");
+    final States<String> states = new States<>(inputs, true, false);
+    assertEquals(8, states.getNumStates());
+    for (int i = 0; i < states.getNumStates(); i++) {
+      final State<String> state = states.getStateAtIdx(i);
+      assertEquals(i, state.getOrdinal());
+      for (int j = 0; j < inputs.size(); j++) {
+        assertEquals((i >> j & 1) == 1, state.getState(inputs.get(j)));
+      }
+      assertNull(state.getState("d"));
+    }
+  }
+
+  @Test
+  public void setState_ExistingNode_ShouldUpdateOrdinal() {
+    final List<String> nodes = new ArrayList<>(Arrays.asList("a", "b"));
+    final State<String> state = new State<>(nodes, true, false);
+    nodes.clear();
+    assertEquals(2, state.getNumStatePosition());
+    assertTrue(state.setState("b", true));
+    assertEquals(2, state.getOrdinal());
+    assertTrue(state.getState("b"));
+    assertFalse(state.getState("a"));
+    assertFalse(state.setState("c", true));
+  }
+
+  @Test
+  public void getStateOutput_StatesOfTable_ShouldReturnRow() {
+    final States<String> states = new States<>(Arrays.asList("a", "b"), true, false);
+    final TruthTable<String, String> tt = new TruthTable<>(states, Arrays.asList("y"));
+    for (int i = 0; i < tt.getNumStates(); i++) {
+      tt.getStateOutput(tt.getStateAtIdx(i)).setState("y", i == 3);
+    }
+    final State<String> state = states.getStateAtIdx(3);
+    assertSame(state, tt.getStateAtIdx(3));
+    assertTrue(tt.getStateOutput(state).getState("y"));
+    assertFalse(tt.getStateOutput(states.getStateAtIdx(2)).getState("y"));
+    assertNull(tt.getStateOutput(new State<>(Arrays.asList("a", "b"), true, false, 3)));
+  }
+
+  @Test
+  public void getRandomOrdinals_FewerSamplesThanStates_ShouldBeDistinctAndSorted() {
+    final long[] ordinals = States.getRandomOrdinals(40, 100, 7);
+    assertEquals(100, ordinals.length);
+    for (int i = 1; i < ordinals.length; i++) {
+      assertTrue(ordinals[i - 1] < ordinals[i]);
+    }
+    assertTrue(ordinals[ordinals.length - 1] < 1L << 40);
+    final States<String> states = new States<>(Arrays.asList("a"), true, false, new long[] {1});
+    assertFalse(states.isExhaustive());
+    assertTrue(states.getStateAtIdx(0).getState("a"));
+  }
+
+  @Test
+  public void indexOf_SampledStates_ShouldReturnRow() {
+    final long[] ordinals = {5, 9, 200};
+    final States<String> states =
+        new States<>(Arrays.asList("a", "b", "c", "d", "e", "f", "g", "h"), true, false, ordinals);
+    final TruthTable<String, String> tt = new TruthTable<>(states, Arrays.asList("y"));
+    for (int i = 0; i < states.getNumStates(); i++) {
+      final State<String> state = states.getStateAtIdx(i);
+      assertEquals(i, state.getRow());
+      assertEquals(i, States.indexOf(tt.getStates(), state));
+      assertSame(tt.getStateOutput(state), tt.getStateOutput(tt.getStateAtIdx(i)));
+    }
+  }
+
+  @Test
+  public void getRandomOrdinals_MoreSamplesThanStates_ShouldReturnAllStates() {
+    final long[] ordinals = States.getRandomOrdinals(3, 100, 7);
+    assertEquals(8, ordinals.length);
+    for (int i = 0; i < ordinals.length; i++) {
+      assertEquals(i, ordinals[i]);
+    }
+  }
+}
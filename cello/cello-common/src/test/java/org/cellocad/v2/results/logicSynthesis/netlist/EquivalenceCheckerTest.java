@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.results.logicSynthesis.netlist;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Map;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.results.logicSynthesis.LSResults;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.netlist.NetlistTestUtils;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.Test;
+
+/**
+ * Tests for {@link EquivalenceChecker}.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class EquivalenceCheckerTest {
+
+  private static Netlist getXorNetlist() throws IOException, ParseException {
+    final String str = Utils.getResourceAsString("xor_netlist.json");
+    return new Netlist((JSONObject) new JSONParser().parse(str));
+  }
+
+  /* A single gate of the given type driving output "out" from inputs "a" and "b". */
+  private static Netlist getGateNetlist(final String type) {
+    final Netlist rtn = new Netlist();
+    final NetlistNode a = NetlistTestUtils.addNode(rtn, "a", LSResults.S_PRIMARYINPUT);
+    final NetlistNode b = NetlistTestUtils.addNode(rtn, "b", LSResults.S_PRIMARYINPUT);
+    final NetlistNode g = NetlistTestUtils.addNode(rtn, "g", type);
+    final NetlistNode out = NetlistTestUtils.addNode(rtn, "out", LSResults.S_PRIMARYOUTPUT);
+    NetlistTestUtils.addEdge(rtn, a, g);
+    NetlistTestUtils.addEdge(rtn, b, g);
+    NetlistTestUtils.addEdge(rtn, g, out);
+    return rtn;
+  }
+
+  @Test
+  public void isEquivalent_NorImplementationOfXor_ShouldBeTrue()
+      throws IOException, ParseException, CelloException {
+    final EquivalenceChecker checker =
+        new EquivalenceChecker(getXorNetlist(), getGateNetlist(LSResults.S_XOR));
+    assertTrue(checker.isEquivalent());
+    assertNull(checker.getCounterexample());
+  }
+
+  @Test
+  public void isEquivalent_XorAndXnor_ShouldGiveCounterexample()
+      throws IOException, ParseException, CelloException {
+    final EquivalenceChecker checker =
+        new EquivalenceChecker(getXorNetlist(), getGateNetlist(LSResults.S_XNOR));
+    assertFalse(checker.isEquivalent());
+    assertEquals("out", checker.getOutput());
+    assertEquals(2, checker.getCounterexample().size());
+  }
+
+  @Test
+  public void isEquivalent_NandAndNor_ShouldGiveCounterexample() throws CelloException {
+    final EquivalenceChecker checker =
+        new EquivalenceChecker(
+            getGateNetlist(LSResults.S_NAND), getGateNetlist(LSResults.S_NOR));
+    assertFalse(checker.isEquivalent());
+    final Map<String, Boolean> cex = checker.getCounterexample();
+    assertTrue(cex.get("a") ^ cex.get("b"));
+  }
+
+  @Test(expected = CelloException.class)
+  public void equivalenceChecker_DifferentOutputs_ShouldThrow()
+      throws IOException, ParseException, CelloException {
+    final Netlist netlist = getGateNetlist(LSResults.S_XOR);
+    netlist.getVertexByName("out").setName("y");
+    new EquivalenceChecker(getXorNetlist(), netlist);
+  }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.logicOptimization.algorithm.AigRewrite;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An and-inverter graph with structural hashing. Each node is referred to by a literal, twice its
+ * index plus one if the node is complemented. The node at index zero is the constant zero, so the
+ * literals {@code 0} and {@code 1} are the constants false and true. The fanins of an AND node
+ * always have a lower index than the node.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class Aig {
+
+  /** Initializes a newly created {@link Aig} holding only the constant node. */
+  public Aig() {
+    fanin0 = new ArrayList<>();
+    fanin1 = new ArrayList<>();
+    inputs = new ArrayList<>();
+    outputs = new ArrayList<>();
+    strash = new HashMap<>();
+    fanin0.add(-1);
+    fanin1.add(-1);
+  }
+
+  /**
+   * Returns the index of the node of the literal defined by parameter {@code lit}.
+   *
+   * @param lit A literal.
+   * @return The index of the node of the literal.
+   */
+  public static int getVar(final int lit) {
+    return lit >> 1;
+  }
+
+  /**
+   * Returns true if the literal defined by parameter {@code lit} is complemented.
+   *
+   * @param lit A literal.
+   * @return True if the literal is complemented, false otherwise.
+   */
+  public static boolean isComplement(final int lit) {
+    return (lit & 1) != 0;
+  }
+
+  /**
+   * Adds an input and returns its literal.
+   *
+   * @return The literal of the input.
+   */
+  public int addInput() {
+    final int rtn = 2 * fanin0.size();
+    inputs.add(fanin0.size());
+    fanin0.add(-1);
+    fanin1.add(-1);
+    return rtn;
+  }
+
+  /**
+   * Adds an output driven by the literal defined by parameter {@code lit}.
+   *
+   * @param lit The literal.
+   */
+  public void addOutput(final int lit) {
+    outputs.add(lit);
+  }
+
+  /*
+   * Returns the literal of the conjunction of two literals, ordered with a <= b, if it does not need
+   * a new node, -1 otherwise.
+   */
+  private int simplify(final int a, final int b) {
+    int rtn = -1;
+    if (a == 0 || a == (b ^ 1)) {
+      rtn = 0;
+    } else if (a == 1 || a == b) {
+      rtn = b;
+    } else {
+      final Integer node = strash.get(Aig.getKey(a, b));
+      if (node != null) {
+        rtn = 2 * node;
+      }
+    }
+    return rtn;
+  }
+
+  private static long getKey(final int a, final int b) {
+    return ((long) a << 32) | b;
+  }
+
+  /**
+   * Returns the literal of the conjunction of the literals defined by parameters {@code a} and
+   * {@code b}, adding a node only if no structurally equal node exists.
+   *
+   * @param a A literal.
+   * @param b A literal.
+   * @return The literal of the conjunction.
+   */
+  public int and(final int a, final int b) {
+    final int lo = Math.min(a, b);
+    final int hi = Math.max(a, b);
+    int rtn = simplify(lo, hi);
+    if (rtn < 0) {
+      strash.put(Aig.getKey(lo, hi), fanin0.size());
+      rtn = 2 * fanin0.size();
+      fanin0.add(lo);
+      fanin1.add(hi);
+    }
+    return rtn;
+  }
+
+  /**
+   * Returns the literal of the conjunction of the literals defined by parameters {@code a} and
+   * {@code b} if it exists without adding a node, -1 otherwise.
+   *
+   * @param a A literal.
+   * @param b A literal.
+   * @return The literal of the conjunction if it exists, -1 otherwise.
+   */
+  public int lookup(final int a, final int b) {
+    return simplify(Math.min(a, b), Math.max(a, b));
+  }
+
+  /**
+   * Returns the number of nodes, including the constant node and the inputs.
+   *
+   * @return The number of nodes.
+   */
+  public int getNumNodes() {
+    return fanin0.size();
+  }
+
+  /**
+   * Returns the number of AND nodes.
+   *
+   * @return The number of AND nodes.
+   */
+  public int getNumAnds() {
+    return fanin0.size() - inputs.size() - 1;
+  }
+
+  /**
+   * Returns true if the node at index {@code var} is an AND node.
+   *
+   * @param var The index of the node.
+   * @return True if the node is an AND node, false otherwise.
+   */
+  public boolean isAnd(final int var) {
+    return fanin0.get(var) >= 0;
+  }
+
+  /**
+   * Returns the literal of the first fanin of the node at index {@code var}.
+   *
+   * @param var The index of an AND node.
+   * @return The literal of the first fanin.
+   */
+  public int getFanin0(final int var) {
+    return fanin0.get(var);
+  }
+
+  /**
+   * Returns the literal of the second fanin of the node at index {@code var}.
+   *
+   * @param var The index of an AND node.
+   * @return The literal of the second fanin.
+   */
+  public int getFanin1(final int var) {
+    return fanin1.get(var);
+  }
+
+  /**
+   * Getter for {@code inputs}.
+   *
+   * @return The indices of the inputs, in the order they were added.
+   */
+  public List<Integer> getInputs() {
+    return inputs;
+  }
+
+  /**
+   * Getter for {@code outputs}.
+   *
+   * @return The literals of the outputs, in the order they were added.
+   */
+  public List<Integer> getOutputs() {
+    return outputs;
+  }
+
+  /**
+   * Returns a copy of this instance in which the node at each index {@code i} with a nonnegative
+   * {@code replacement[i]} is replaced by that literal. Only the nodes reachable from the outputs
+   * are copied, and the inputs keep their order.
+   *
+   * @param replacement The literal replacing each node, or -1 to keep the node.
+   * @return The copy.
+   */
+  public Aig rebuild(final int[] replacement) {
+    final Aig rtn = new Aig();
+    final int[] map = new int[getNumNodes()];
+    for (int i = 1; i < map.length; i++) {
+      map[i] = -1;
+    }
+    for (final int input : inputs) {
+      map[input] = rtn.addInput();
+    }
+    for (final int output : outputs) {
+      rtn.addOutput(copy(rtn, output, map, replacement));
+    }
+    return rtn;
+  }
+
+  /*
+   * Copies the node of the literal to the graph and returns the literal of the copy. The fanins are
+   * copied before the node with an explicit stack, so the depth of the graph is not bounded by the
+   * depth of the call stack.
+   */
+  private int copy(final Aig aig, final int lit, final int[] map, final int[] replacement) {
+    final List<Integer> stack = new ArrayList<>();
+    stack.add(Aig.getVar(lit));
+    while (!stack.isEmpty()) {
+      final int var = stack.get(stack.size() - 1);
+      if (map[var] >= 0) {
+        stack.remove(stack.size() - 1);
+      } else if (var < replacement.length && replacement[var] >= 0) {
+        final int r = Aig.getVar(replacement[var]);
+        if (map[r] < 0) {
+          stack.add(r);
+        } else {
+          map[var] = map[r] ^ (replacement[var] & 1);
+        }
+      } else {
+        final int v0 = Aig.getVar(getFanin0(var));
+        final int v1 = Aig.getVar(getFanin1(var));
+        if (map[v0] < 0) {
+          stack.add(v0);
+        } else if (map[v1] < 0) {
+          stack.add(v1);
+        } else {
+          final int a = map[v0] ^ (getFanin0(var) & 1);
+          map[var] = aig.and(a, map[v1] ^ (getFanin1(var) & 1));
+        }
+      }
+    }
+    return map[Aig.getVar(lit)] ^ (lit & 1);
+  }
+
+  private final List<Integer> fanin0;
+  private final List<Integer> fanin1;
+  private final List<Integer> inputs;
+  private final List<Integer> outputs;
+  private final Map<Long, Integer> strash;
+}
@@ -0,0 +1,374 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.logicOptimization.algorithm.AigRewrite;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A library of small and-inverter structures for the functions of at most four inputs, indexed by
+ * the 16-bit truth table of the function. The input {@code i} has the truth table
+ * {@code L_VARS[i]}.
+ *
+ * <p>The structure of a function is computed the first time it is requested and kept for the
+ * lifetime of the process. It is the smallest of the factored irredundant sum of products of the
+ * function, the complement of that of its complement, and the Shannon expansion about each input
+ * with cofactors that are themselves taken from the library.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class AigLibrary {
+
+  /**
+   * An and-inverter structure over at most four leaves. The literal of each fanin is twice its
+   * index plus one if complemented, where the index zero is the constant zero, the indices one to
+   * four are the leaves, and the index {@code 5 + i} is the AND node at step {@code i}.
+   */
+  public static class Structure {
+
+    private Structure(final List<Integer> fanin0, final List<Integer> fanin1, final int output) {
+      this.fanin0 = new int[fanin0.size()];
+      this.fanin1 = new int[fanin1.size()];
+      for (int i = 0; i < fanin0.size(); i++) {
+        this.fanin0[i] = fanin0.get(i);
+        this.fanin1[i] = fanin1.get(i);
+      }
+      this.output = output;
+    }
+
+    /**
+     * Returns the number of AND nodes of this instance.
+     *
+     * @return The number of AND nodes of this instance.
+     */
+    public int getNumAnds() {
+      return fanin0.length;
+    }
+
+    /**
+     * Returns the literal of the first fanin of the AND node at the step defined by parameter
+     * {@code i}.
+     *
+     * @param i The step.
+     * @return The literal of the first fanin.
+     */
+    public int getFanin0(final int i) {
+      return fanin0[i];
+    }
+
+    /**
+     * Returns the literal of the second fanin of the AND node at the step defined by parameter
+     * {@code i}.
+     *
+     * @param i The step.
+     * @return The literal of the second fanin.
+     */
+    public int getFanin1(final int i) {
+      return fanin1[i];
+    }
+
+    /**
+     * Getter for {@code output}.
+     *
+     * @return The literal of the output.
+     */
+    public int getOutput() {
+      return output;
+    }
+
+    private final int[] fanin0;
+    private final int[] fanin1;
+    private final int output;
+  }
+
+  /* Collects the AND nodes of a structure, merging structurally equal nodes. */
+  private static class Builder {
+
+    private int and(final int a, final int b) {
+      final int lo = Math.min(a, b);
+      final int hi = Math.max(a, b);
+      if (lo == 0 || lo == (hi ^ 1)) {
+        return 0;
+      }
+      if (lo == 1 || lo == hi) {
+        return hi;
+      }
+      final Long key = ((long) lo << 32) | hi;
+      Integer rtn = strash.get(key);
+      if (rtn == null) {
+        rtn = 2 * (AigLibrary.I_NUM_LEAVES + 1 + fanin0.size());
+        fanin0.add(lo);
+        fanin1.add(hi);
+        strash.put(key, rtn);
+      }
+      return rtn;
+    }
+
+    private int or(final int a, final int b) {
+      return and(a ^ 1, b ^ 1) ^ 1;
+    }
+
+    private int add(final Structure structure) {
+      final int[] map = new int[structure.getNumAnds()];
+      for (int i = 0; i < map.length; i++) {
+        map[i] = and(map(structure.getFanin0(i), map), map(structure.getFanin1(i), map));
+      }
+      return map(structure.getOutput(), map);
+    }
+
+    private static int map(final int lit, final int[] map) {
+      final int var = lit >> 1;
+      int rtn = lit;
+      if (var > AigLibrary.I_NUM_LEAVES) {
+        rtn = map[var - AigLibrary.I_NUM_LEAVES - 1] ^ (lit & 1);
+      }
+      return rtn;
+    }
+
+    private Structure build(final int output) {
+      return new Structure(fanin0, fanin1, output);
+    }
+
+    private final List<Integer> fanin0 = new ArrayList<>();
+    private final List<Integer> fanin1 = new ArrayList<>();
+    private final Map<Long, Integer> strash = new HashMap<>();
+  }
+
+  /**
+   * Returns the structure of the function defined by parameter {@code tt}.
+   *
+   * @param tt The truth table of the function.
+   * @return The structure of the function.
+   */
+  public static Structure getStructure(final int tt) {
+    final int key = tt & AigLibrary.I_MASK;
+    Structure rtn = AigLibrary.library.get(key);
+    if (rtn == null) {
+      rtn = AigLibrary.compute(key);
+      AigLibrary.library.putIfAbsent(key, rtn);
+    }
+    return rtn;
+  }
+
+  /**
+   * Returns the literal of the leaf defined by parameter {@code i} in a {@link Structure}.
+   *
+   * @param i The index of the leaf.
+   * @return The literal of the leaf.
+   */
+  public static int getLeaf(final int i) {
+    return 2 * (i + 1);
+  }
+
+  /**
+   * Returns the truth table of the positive cofactor of the function defined by parameter {@code
+   * tt} with respect to the input defined by parameter {@code i}.
+   *
+   * @param tt The truth table of the function.
+   * @param i The index of the input.
+   * @return The truth table of the cofactor.
+   */
+  public static int getCofactor1(final int tt, final int i) {
+    final int rtn = tt & AigLibrary.L_VARS[i];
+    return rtn | (rtn >>> (1 << i));
+  }
+
+  /**
+   * Returns the truth table of the negative cofactor of the function defined by parameter {@code
+   * tt} with respect to the input defined by parameter {@code i}.
+   *
+   * @param tt The truth table of the function.
+   * @param i The index of the input.
+   * @return The truth table of the cofactor.
+   */
+  public static int getCofactor0(final int tt, final int i) {
+    final int rtn = tt & ~AigLibrary.L_VARS[i] & AigLibrary.I_MASK;
+    return rtn | ((rtn << (1 << i)) & AigLibrary.I_MASK);
+  }
+
+  private static Structure compute(final int tt) {
+    Structure rtn = null;
+    // constants and literals
+    if (tt == 0 || tt == AigLibrary.I_MASK) {
+      return new Builder().build(tt == 0 ? 0 : 1);
+    }
+    for (int i = 0; i < AigLibrary.I_NUM_LEAVES; i++) {
+      if (tt == AigLibrary.L_VARS[i] || tt == (~AigLibrary.L_VARS[i] & AigLibrary.I_MASK)) {
+        return new Builder().build(AigLibrary.getLeaf(i) ^ (tt == AigLibrary.L_VARS[i] ? 0 : 1));
+      }
+    }
+    // sum of products of the function and of its complement
+    for (int c = 0; c < 2; c++) {
+      final int f = c == 0 ? tt : ~tt & AigLibrary.I_MASK;
+      final List<Integer> cubes = new ArrayList<>();
+      AigLibrary.isop(f, f, AigLibrary.I_NUM_LEAVES, cubes);
+      final Builder builder = new Builder();
+      final Structure s = builder.build(AigLibrary.factor(builder, cubes) ^ c);
+      if (rtn == null || s.getNumAnds() < rtn.getNumAnds()) {
+        rtn = s;
+      }
+    }
+    // Shannon expansion
+    for (int i = 0; i < AigLibrary.I_NUM_LEAVES; i++) {
+      final int f1 = AigLibrary.getCofactor1(tt, i);
+      final int f0 = AigLibrary.getCofactor0(tt, i);
+      if (f1 == f0) {
+        continue;
+      }
+      final Builder builder = new Builder();
+      final int t = builder.add(AigLibrary.getStructure(f1));
+      int e = t ^ 1;
+      if (f0 != (~f1 & AigLibrary.I_MASK)) {
+        e = builder.add(AigLibrary.getStructure(f0));
+      }
+      final int x = AigLibrary.getLeaf(i);
+      final Structure s = builder.build(builder.or(builder.and(x, t), builder.and(x ^ 1, e)));
+      if (s.getNumAnds() < rtn.getNumAnds()) {
+        rtn = s;
+      }
+    }
+    return rtn;
+  }
+
+  /*
+   * Appends to cubes an irredundant sum of products of a function between lower and upper, over the
+   * inputs below n (Minato-Morreale). Each cube holds bit 2i for the input i and bit 2i+1 for its
+   * complement. Returns the truth table of the cover.
+   */
+  private static int isop(final int lower, final int upper, final int n, final List<Integer> cubes) {
+    if (lower == 0) {
+      return 0;
+    }
+    if (upper == AigLibrary.I_MASK) {
+      cubes.add(0);
+      return AigLibrary.I_MASK;
+    }
+    int i = n - 1;
+    while (i >= 0
+        && AigLibrary.getCofactor0(lower, i) == AigLibrary.getCofactor1(lower, i)
+        && AigLibrary.getCofactor0(upper, i) == AigLibrary.getCofactor1(upper, i)) {
+      i--;
+    }
+    final int l0 = AigLibrary.getCofactor0(lower, i);
+    final int l1 = AigLibrary.getCofactor1(lower, i);
+    final int u0 = AigLibrary.getCofactor0(upper, i);
+    final int u1 = AigLibrary.getCofactor1(upper, i);
+    final int begin = cubes.size();
+    final int f0 = AigLibrary.isop(l0 & ~u1, u0, i, cubes);
+    for (int j = begin; j < cubes.size(); j++) {
+      cubes.set(j, cubes.get(j) | (2 << (2 * i)));
+    }
+    final int middle = cubes.size();
+    final int f1 = AigLibrary.isop(l1 & ~u0, u1, i, cubes);
+    for (int j = middle; j < cubes.size(); j++) {
+      cubes.set(j, cubes.get(j) | (1 << (2 * i)));
+    }
+    final int fs = AigLibrary.isop((l0 & ~f0) | (l1 & ~f1), u0 & u1, i, cubes);
+    final int mask = AigLibrary.L_VARS[i];
+    return (f0 & ~mask & AigLibrary.I_MASK) | (f1 & mask) | fs;
+  }
+
+  private static int getLiteral(final int bit) {
+    return AigLibrary.getLeaf(bit / 2) ^ (bit % 2);
+  }
+
+  /* Factors a sum of products by repeatedly dividing by its most frequent literal. */
+  private static int factor(final Builder builder, final List<Integer> cubes) {
+    int rtn = 0;
+    if (cubes.contains(0)) {
+      rtn = 1;
+    } else if (cubes.size() == 1) {
+      final List<Integer> lits = new ArrayList<>();
+      for (int bit = 0; bit < 2 * AigLibrary.I_NUM_LEAVES; bit++) {
+        if ((cubes.get(0) & (1 << bit)) != 0) {
+          lits.add(AigLibrary.getLiteral(bit));
+        }
+      }
+      rtn = AigLibrary.balance(builder, lits, false);
+    } else if (cubes.size() > 1) {
+      int best = -1;
+      int bestCount = 1;
+      for (int bit = 0; bit < 2 * AigLibrary.I_NUM_LEAVES; bit++) {
+        int count = 0;
+        for (final int cube : cubes) {
+          count += (cube >> bit) & 1;
+        }
+        if (count > bestCount) {
+          best = bit;
+          bestCount = count;
+        }
+      }
+      if (best < 0) {
+        final List<Integer> terms = new ArrayList<>();
+        for (final int cube : cubes) {
+          final List<Integer> single = new ArrayList<>();
+          single.add(cube);
+          terms.add(AigLibrary.factor(builder, single));
+        }
+        rtn = AigLibrary.balance(builder, terms, true);
+      } else {
+        final List<Integer> quotient = new ArrayList<>();
+        final List<Integer> remainder = new ArrayList<>();
+        for (final int cube : cubes) {
+          if ((cube & (1 << best)) != 0) {
+            quotient.add(cube & ~(1 << best));
+          } else {
+            remainder.add(cube);
+          }
+        }
+        final int q = AigLibrary.factor(builder, quotient);
+        final int product = builder.and(AigLibrary.getLiteral(best), q);
+        rtn = builder.or(product, AigLibrary.factor(builder, remainder));
+      }
+    }
+    return rtn;
+  }
+
+  /* Combines literals in a balanced tree of AND, or of OR, nodes. */
+  private static int balance(final Builder builder, final List<Integer> lits, final boolean or) {
+    List<Integer> level = lits;
+    while (level.size() > 1) {
+      final List<Integer> next = new ArrayList<>();
+      for (int i = 0; i + 1 < level.size(); i += 2) {
+        final int a = level.get(i);
+        final int b = level.get(i + 1);
+        next.add(or ? builder.or(a, b) : builder.and(a, b));
+      }
+      if (level.size() % 2 != 0) {
+        next.add(level.get(level.size() - 1));
+      }
+      level = next;
+    }
+    return level.isEmpty() ? (or ? 0 : 1) : level.get(0);
+  }
+
+  /** The number of leaves of a structure. */
+  public static final int I_NUM_LEAVES = 4;
+
+  /** The truth tables of the inputs. */
+  public static final int[] L_VARS = {0xAAAA, 0xCCCC, 0xF0F0, 0xFF00};
+
+  private static final int I_MASK = 0xFFFF;
+  private static final Map<Integer, Structure> library = new ConcurrentHashMap<>();
+}
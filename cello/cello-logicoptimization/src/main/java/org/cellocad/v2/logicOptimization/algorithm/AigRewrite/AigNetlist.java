@@ -0,0 +1,286 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.logicOptimization.algorithm.AigRewrite;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import org.cellocad.v2.logicOptimization.common.LOUtils;
+import org.cellocad.v2.results.logicSynthesis.LSResults;
+import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistEdge;
+import org.cellocad.v2.results.netlist.NetlistNode;
+
+/**
+ * The {@link Aig} of the NOR, NOT, and BUF gates of a {@link Netlist}. Every other node is a
+ * boundary: its output is an input of the graph, and each of its in edges is an output of the
+ * graph, so that the gates between the boundaries can be replaced by the NOR and NOT gates of a
+ * rewritten graph.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class AigNetlist {
+
+  /**
+   * Initializes a newly created {@link AigNetlist} with the graph of the netlist defined by
+   * parameter {@code netlist}.
+   *
+   * @param netlist The netlist.
+   */
+  public AigNetlist(final Netlist netlist) {
+    this.netlist = netlist;
+    aig = new Aig();
+    inputs = new ArrayList<>();
+    sinks = new ArrayList<>();
+    gates = new ArrayList<>();
+    final Map<NetlistNode, Integer> lits = new HashMap<>();
+    for (final NetlistNode node : LOUtils.getTopologicalOrder(netlist)) {
+      if (AigNetlist.isGate(node)) {
+        lits.put(node, AigNetlist.getLiteral(aig, node, lits));
+        gates.add(node);
+        continue;
+      }
+      lits.put(node, aig.addInput());
+      inputs.add(node);
+      for (int i = 0; i < node.getNumInEdge(); i++) {
+        final NetlistEdge edge = node.getInEdgeAtIdx(i);
+        sinks.add(edge);
+        aig.addOutput(lits.get(edge.getSrc()));
+      }
+    }
+  }
+
+  private static boolean isGate(final NetlistNode node) {
+    boolean rtn = false;
+    if (LSResultsUtils.isAllInput(node) || LSResultsUtils.isAllOutput(node)) {
+      return rtn;
+    }
+    switch (node.getResultNetlistNodeData().getNodeKind()) {
+      case NOR:
+        rtn = node.getNumInEdge() > 0;
+        break;
+      case NOT:
+      case BUF:
+        rtn = node.getNumInEdge() == 1;
+        break;
+      default:
+        break;
+    }
+    return rtn;
+  }
+
+  private static int getLiteral(
+      final Aig aig, final NetlistNode node, final Map<NetlistNode, Integer> lits) {
+    int rtn = lits.get(node.getInEdgeAtIdx(0).getSrc());
+    switch (node.getResultNetlistNodeData().getNodeKind()) {
+      case NOT:
+        rtn ^= 1;
+        break;
+      case NOR:
+        // NOR(a, b, ...) = AND(!a, !b, ...)
+        List<Integer> level = new ArrayList<>();
+        for (int i = 0; i < node.getNumInEdge(); i++) {
+          level.add(lits.get(node.getInEdgeAtIdx(i).getSrc()) ^ 1);
+        }
+        while (level.size() > 1) {
+          final List<Integer> next = new ArrayList<>();
+          for (int i = 0; i + 1 < level.size(); i += 2) {
+            next.add(aig.and(level.get(i), level.get(i + 1)));
+          }
+          if (level.size() % 2 != 0) {
+            next.add(level.get(level.size() - 1));
+          }
+          level = next;
+        }
+        rtn = level.get(0);
+        break;
+      default:
+        break;
+    }
+    return rtn;
+  }
+
+  /*
+   * Collects the AND nodes mapped to NOR gates and the nodes whose complement needs a NOT gate to
+   * map the graph. Returns false if the graph cannot be mapped, i.e. if an output is constant, or
+   * if a primary output would be driven directly by a primary input.
+   */
+  private boolean collect(final Aig aig, final Set<Integer> ands, final Set<Integer> nots) {
+    final Map<Integer, NetlistNode> nodes = new HashMap<>();
+    for (int i = 0; i < inputs.size(); i++) {
+      nodes.put(aig.getInputs().get(i), inputs.get(i));
+    }
+    final List<Integer> stack = new ArrayList<>();
+    for (int i = 0; i < sinks.size(); i++) {
+      final int lit = aig.getOutputs().get(i);
+      final int var = Aig.getVar(lit);
+      if (var == 0) {
+        return false;
+      }
+      if (Aig.isComplement(lit)) {
+        nots.add(var);
+      } else if (!aig.isAnd(var)
+          && LSResultsUtils.isAllInput(nodes.get(var))
+          && LSResultsUtils.isAllOutput(sinks.get(i).getDst())) {
+        return false;
+      }
+      stack.add(var);
+    }
+    while (!stack.isEmpty()) {
+      final int var = stack.remove(stack.size() - 1);
+      if (!aig.isAnd(var) || !ands.add(var)) {
+        continue;
+      }
+      // AND(a, b) = NOR(!a, !b)
+      for (final int lit : new int[] {aig.getFanin0(var), aig.getFanin1(var)}) {
+        if (!Aig.isComplement(lit)) {
+          nots.add(Aig.getVar(lit));
+        }
+        stack.add(Aig.getVar(lit));
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Getter for {@code aig}.
+   *
+   * @return The graph of the netlist of this instance.
+   */
+  public Aig getAig() {
+    return aig;
+  }
+
+  /**
+   * Returns the number of gates of the netlist of this instance that are part of the graph.
+   *
+   * @return The number of gates of the netlist that are part of the graph.
+   */
+  public int getNumGates() {
+    return gates.size();
+  }
+
+  /**
+   * Returns the number of NOR and NOT gates that map the graph defined by parameter {@code aig}.
+   *
+   * @param aig A graph with the inputs and outputs of the graph of this instance.
+   * @return The number of NOR and NOT gates, or -1 if the graph cannot be mapped.
+   */
+  public int getNumGates(final Aig aig) {
+    final Set<Integer> ands = new HashSet<>();
+    final Set<Integer> nots = new HashSet<>();
+    int rtn = -1;
+    if (collect(aig, ands, nots)) {
+      rtn = ands.size() + nots.size();
+    }
+    return rtn;
+  }
+
+  private NetlistNode addNode(final String type) {
+    String name = null;
+    do {
+      name = AigNetlist.S_PREFIX + numNodes++;
+    } while (netlist.getVertexByName(name) != null);
+    final NetlistNode rtn = new NetlistNode();
+    rtn.setName(name);
+    rtn.getResultNetlistNodeData().setNodeType(type);
+    netlist.addVertex(rtn);
+    return rtn;
+  }
+
+  private void addEdge(final NetlistNode src, final NetlistNode dst) {
+    final NetlistEdge edge = new NetlistEdge();
+    edge.setName(src.getName() + AigNetlist.S_SEPARATOR + dst.getName());
+    edge.setSrc(src);
+    edge.setDst(dst);
+    src.addOutEdge(edge);
+    dst.addInEdge(edge);
+    netlist.addEdge(edge);
+  }
+
+  /**
+   * Replaces the gates of the netlist of this instance with the NOR and NOT gates that map the
+   * graph defined by parameter {@code aig}. The in edges of each boundary keep their name and
+   * order.
+   *
+   * @param aig A graph with the inputs and outputs of the graph of this instance.
+   */
+  public void apply(final Aig aig) {
+    final Set<Integer> ands = new TreeSet<>();
+    final Set<Integer> nots = new TreeSet<>();
+    if (!collect(aig, ands, nots)) {
+      throw new RuntimeException("Unable to map the and-inverter graph!");
+    }
+    // remove the gates
+    for (final NetlistNode gate : gates) {
+      for (int i = 0; i < gate.getNumInEdge(); i++) {
+        final NetlistEdge edge = gate.getInEdgeAtIdx(i);
+        edge.getSrc().removeOutEdge(edge);
+        netlist.removeEdge(edge);
+      }
+      netlist.removeVertex(gate);
+    }
+    // add the gates of the graph
+    final Map<Integer, NetlistNode> nodes = new HashMap<>();
+    final Map<Integer, NetlistNode> complements = new HashMap<>();
+    for (int i = 0; i < inputs.size(); i++) {
+      nodes.put(aig.getInputs().get(i), inputs.get(i));
+    }
+    for (final int var : ands) {
+      nodes.put(var, addNode(LSResults.S_NOR));
+    }
+    for (final int var : nots) {
+      final NetlistNode node = addNode(LSResults.S_NOT);
+      addEdge(nodes.get(var), node);
+      complements.put(var, node);
+    }
+    for (final int var : ands) {
+      for (final int lit : new int[] {aig.getFanin0(var), aig.getFanin1(var)}) {
+        final Map<Integer, NetlistNode> src = Aig.isComplement(lit) ? nodes : complements;
+        addEdge(src.get(Aig.getVar(lit)), nodes.get(var));
+      }
+    }
+    // drive the boundaries
+    for (int i = 0; i < sinks.size(); i++) {
+      final NetlistEdge edge = sinks.get(i);
+      final int lit = aig.getOutputs().get(i);
+      final Map<Integer, NetlistNode> src = Aig.isComplement(lit) ? complements : nodes;
+      edge.getSrc().removeOutEdge(edge);
+      edge.setSrc(src.get(Aig.getVar(lit)));
+      edge.getSrc().addOutEdge(edge);
+    }
+  }
+
+  private final Netlist netlist;
+  private final Aig aig;
+  private final List<NetlistNode> inputs;
+  private final List<NetlistEdge> sinks;
+  private final List<NetlistNode> gates;
+  private int numNodes;
+
+  private static final String S_PREFIX = "$aig";
+  private static final String S_SEPARATOR = "_";
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.logicOptimization.algorithm.AigRewrite;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.logicOptimization.algorithm.AigRewrite.data.AigRewriteNetlistData;
+import org.cellocad.v2.logicOptimization.algorithm.AigRewrite.data.AigRewriteNetlistEdgeData;
+import org.cellocad.v2.logicOptimization.algorithm.AigRewrite.data.AigRewriteNetlistNodeData;
+import org.cellocad.v2.logicOptimization.algorithm.LOAlgorithm;
+import org.cellocad.v2.results.logicSynthesis.netlist.LSResultNetlistUtils;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistEdge;
+import org.cellocad.v2.results.netlist.NetlistNode;
+
+/**
+ * The implementation of the <i>AigRewrite</i> algorithm in the <i>logicOptimization</i> stage. The
+ * NOR, NOT, and BUF gates of the netlist are converted to an and-inverter graph, rewritten with
+ * small structures over the cuts of at most <i>CutSize</i> leaves, and mapped back to NOR and NOT
+ * gates if that removes gates. The other nodes of the netlist are left unchanged.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class AigRewrite extends LOAlgorithm {
+
+  /**
+   * Returns the {@link AigRewriteNetlistNodeData} of the given node.
+   *
+   * @param node A node within the netlist of this instance.
+   * @return The {@link AigRewriteNetlistNodeData} instance if it exists, null otherwise.
+   */
+  protected AigRewriteNetlistNodeData getAigRewriteNetlistNodeData(final NetlistNode node) {
+    AigRewriteNetlistNodeData rtn = null;
+    rtn = (AigRewriteNetlistNodeData) node.getNetlistNodeData();
+    return rtn;
+  }
+
+  /**
+   * Returns the {@link AigRewriteNetlistEdgeData} of the given edge.
+   *
+   * @param edge An edge within the netlist of this instance.
+   * @return The {@link AigRewriteNetlistEdgeData} instance if it exists, null otherwise.
+   */
+  protected AigRewriteNetlistEdgeData getAigRewriteNetlistEdgeData(final NetlistEdge edge) {
+    AigRewriteNetlistEdgeData rtn = null;
+    rtn = (AigRewriteNetlistEdgeData) edge.getNetlistEdgeData();
+    return rtn;
+  }
+
+  /**
+   * Returns the {@link AigRewriteNetlistData} of the given netlist.
+   *
+   * @param netlist The netlist of this instance.
+   * @return The {@link AigRewriteNetlistData} instance if it exists, null otherwise.
+   */
+  protected AigRewriteNetlistData getAigRewriteNetlistData(final Netlist netlist) {
+    AigRewriteNetlistData rtn = null;
+    rtn = (AigRewriteNetlistData) netlist.getNetlistData();
+    return rtn;
+  }
+
+  /** Gets the constraint data from the netlist constraint file. */
+  @Override
+  protected void getConstraintFromNetlistConstraintFile() {}
+
+  /** Gets the data from the UCF. */
+  @Override
+  protected void getDataFromUcf() {}
+
+  /** Set parameter values of the algorithm. */
+  @Override
+  protected void setParameterValues() {
+    Boolean present = true;
+    present = getAlgorithmProfile().getIntParameter("CutSize").getFirst();
+    if (present) {
+      setCutSize(getAlgorithmProfile().getIntParameter("CutSize").getSecond());
+    }
+    present = getAlgorithmProfile().getIntParameter("CutLimit").getFirst();
+    if (present) {
+      setCutLimit(getAlgorithmProfile().getIntParameter("CutLimit").getSecond());
+    }
+  }
+
+  /** Validate parameter values of the algorithm. */
+  @Override
+  protected void validateParameterValues() {
+    if (getCutSize() < 2 || getCutSize() > AigLibrary.I_NUM_LEAVES) {
+      logError(
+          "CutSize must be between 2 and " + AigLibrary.I_NUM_LEAVES + ", got " + getCutSize() + "!");
+      Utils.exit(-1);
+    }
+    if (getCutLimit() < 1) {
+      logError("CutLimit must be positive, got " + getCutLimit() + "!");
+      Utils.exit(-1);
+    }
+  }
+
+  /** Perform preprocessing. */
+  @Override
+  protected void preprocessing() {}
+
+  /**
+   * Rewrites the NOR, NOT, and BUF gates of the netlist defined by parameter {@code netlist}. The
+   * netlist is changed only if the rewritten gates are fewer.
+   *
+   * @param netlist The netlist.
+   * @param cutSize The maximum number of leaves of a cut.
+   * @param cutLimit The maximum number of cuts per node.
+   * @return The number of gates removed.
+   */
+  protected static int rewrite(final Netlist netlist, final int cutSize, final int cutLimit) {
+    int rtn = 0;
+    final AigNetlist aigNetlist = new AigNetlist(netlist);
+    final Aig aig = new AigRewriter(cutSize, cutLimit).rewrite(aigNetlist.getAig());
+    final int numGates = aigNetlist.getNumGates(aig);
+    if (numGates >= 0 && numGates < aigNetlist.getNumGates()) {
+      aigNetlist.apply(aig);
+      rtn = aigNetlist.getNumGates() - numGates;
+    }
+    return rtn;
+  }
+
+  /** Run the (core) algorithm. */
+  @Override
+  protected void run() {
+    final Netlist netlist = getNetlist();
+    LSResultNetlistUtils.setVertexTypeUsingLSResult(netlist);
+    final int numVertex = netlist.getNumVertex();
+    final int numRemoved = AigRewrite.rewrite(netlist, getCutSize(), getCutLimit());
+    logInfo("Gates removed: " + numRemoved + " of " + numVertex + " nodes");
+    LSResultNetlistUtils.setVertexTypeUsingLSResult(netlist);
+    if (!netlist.isValid()) {
+      throw new RuntimeException("Netlist not valid!");
+    }
+  }
+
+  /** Perform postprocessing. */
+  @Override
+  protected void postprocessing() {}
+
+  /**
+   * Setter for {@code cutSize}.
+   *
+   * @param value The value to set {@code cutSize}.
+   */
+  protected void setCutSize(final int value) {
+    cutSize = value;
+  }
+
+  /**
+   * Getter for {@code cutSize}.
+   *
+   * @return The value of {@code cutSize}.
+   */
+  protected int getCutSize() {
+    return cutSize;
+  }
+
+  private int cutSize;
+
+  /**
+   * Setter for {@code cutLimit}.
+   *
+   * @param value The value to set {@code cutLimit}.
+   */
+  protected void setCutLimit(final int value) {
+    cutLimit = value;
+  }
+
+  /**
+   * Getter for {@code cutLimit}.
+   *
+   * @return The value of {@code cutLimit}.
+   */
+  protected int getCutLimit() {
+    return cutLimit;
+  }
+
+  private int cutLimit;
+
+  /**
+   * Returns the {@link Logger} for the <i>AigRewrite</i> algorithm.
+   *
+   * @return The {@link Logger} for the <i>AigRewrite</i> algorithm.
+   */
+  @Override
+  protected Logger getLogger() {
+    return AigRewrite.logger;
+  }
+
+  private static final Logger logger = LogManager.getLogger(AigRewrite.class);
+}
@@ -0,0 +1,375 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.logicOptimization.algorithm.AigRewrite;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.cellocad.v2.logicOptimization.algorithm.AigRewrite.AigLibrary.Structure;
+
+/**
+ * Rewrites an {@link Aig} with the structures of the {@link AigLibrary}. The cuts of at most
+ * {@code cutSize} leaves are enumerated for every AND node, keeping at most {@code cutLimit} per
+ * node. For each cut, the gain of replacing the maximum fanout-free cone of the node, bounded by
+ * the leaves, with the structure of its function is the size of the cone less the number of nodes
+ * the structure adds. Each pass applies, best first, every replacement with a positive gain that
+ * neither removes a node another replacement keeps nor keeps a node another replacement removes,
+ * and the graph is rewritten again while it shrinks. A pass whose replacements together do not
+ * shrink the graph falls back to its best replacement alone.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class AigRewriter {
+
+  /**
+   * Initializes a newly created {@link AigRewriter}.
+   *
+   * @param cutSize The maximum number of leaves of a cut, at most {@link AigLibrary#I_NUM_LEAVES}.
+   * @param cutLimit The maximum number of cuts kept per node.
+   */
+  public AigRewriter(final int cutSize, final int cutLimit) {
+    this.cutSize = Math.min(cutSize, AigLibrary.I_NUM_LEAVES);
+    this.cutLimit = cutLimit;
+  }
+
+  /**
+   * Returns the rewritten copy of the graph defined by parameter {@code aig}.
+   *
+   * @param aig The graph.
+   * @return The rewritten graph.
+   */
+  public Aig rewrite(final Aig aig) {
+    Aig rtn = aig.rebuild(new int[0]);
+    Aig next = null;
+    while ((next = rewriteOnce(rtn, false)) != null) {
+      if (next.getNumAnds() >= rtn.getNumAnds()) {
+        next = rewriteOnce(rtn, true);
+      }
+      if (next == null || next.getNumAnds() >= rtn.getNumAnds()) {
+        break;
+      }
+      rtn = next;
+    }
+    return rtn;
+  }
+
+  /**
+   * Returns the graph defined by parameter {@code aig} with one pass of replacements applied, or
+   * null if no replacement has a gain.
+   *
+   * @param aig The graph.
+   * @param single True to apply only the best replacement, false to apply every compatible one.
+   * @return The rewritten graph, or null if no replacement has a gain.
+   */
+  Aig rewriteOnce(final Aig aig, final boolean single) {
+    final int numNodes = aig.getNumNodes();
+    final int[] refs = AigRewriter.getRefs(aig);
+    final List<List<int[]>> cuts = getCuts(aig);
+    final List<Candidate> candidates = new ArrayList<>();
+    for (int var = 1; var < numNodes; var++) {
+      if (!aig.isAnd(var) || refs[var] == 0) {
+        continue;
+      }
+      Candidate best = null;
+      for (final int[] cut : cuts.get(var)) {
+        if (cut.length == 1 && cut[0] == var) {
+          continue;
+        }
+        final int tt = AigRewriter.getTruthTable(aig, var, cut);
+        final Structure structure = AigLibrary.getStructure(tt);
+        final Set<Integer> cone = AigRewriter.getCone(aig, var, cut, refs);
+        final int cost = AigRewriter.getCost(aig, var, cut, structure, cone);
+        if (cost >= 0 && cone.size() - cost > (best == null ? 0 : best.gain)) {
+          best = new Candidate(var, cut, structure, cone, cone.size() - cost);
+        }
+      }
+      if (best != null) {
+        candidates.add(best);
+      }
+    }
+    if (candidates.isEmpty()) {
+      return null;
+    }
+    candidates.sort(Comparator.comparingInt((Candidate c) -> -c.gain));
+    final int[] replacement = new int[numNodes];
+    Arrays.fill(replacement, -1);
+    final Set<Integer> removed = new HashSet<>();
+    final Set<Integer> kept = new HashSet<>();
+    for (final Candidate candidate : candidates) {
+      if (!Collections.disjoint(candidate.cone, removed)
+          || !Collections.disjoint(candidate.cone, kept)) {
+        continue;
+      }
+      final Set<Integer> used = new HashSet<>();
+      for (final int leaf : candidate.cut) {
+        used.add(leaf);
+      }
+      final int[] map = new int[candidate.structure.getNumAnds()];
+      for (int i = 0; i < map.length; i++) {
+        final int a = AigRewriter.map(candidate.structure.getFanin0(i), candidate.cut, map);
+        map[i] = aig.and(a, AigRewriter.map(candidate.structure.getFanin1(i), candidate.cut, map));
+        if (Aig.getVar(map[i]) < numNodes) {
+          used.add(Aig.getVar(map[i]));
+        }
+      }
+      if (!Collections.disjoint(used, removed)) {
+        continue;
+      }
+      final int output = candidate.structure.getOutput();
+      replacement[candidate.var] = AigRewriter.map(output, candidate.cut, map);
+      removed.addAll(candidate.cone);
+      kept.addAll(used);
+      if (single) {
+        break;
+      }
+    }
+    return aig.rebuild(replacement);
+  }
+
+  /* Returns the number of fanouts of each node, counting the outputs. */
+  private static int[] getRefs(final Aig aig) {
+    final int[] rtn = new int[aig.getNumNodes()];
+    for (int var = 1; var < aig.getNumNodes(); var++) {
+      if (aig.isAnd(var)) {
+        rtn[Aig.getVar(aig.getFanin0(var))]++;
+        rtn[Aig.getVar(aig.getFanin1(var))]++;
+      }
+    }
+    for (final int output : aig.getOutputs()) {
+      rtn[Aig.getVar(output)]++;
+    }
+    return rtn;
+  }
+
+  /* Returns the sorted union of two sorted cuts, or null if it has too many leaves. */
+  private int[] merge(final int[] a, final int[] b) {
+    final int[] rtn = new int[a.length + b.length];
+    int i = 0;
+    int j = 0;
+    int k = 0;
+    while (i < a.length || j < b.length) {
+      if (k == cutSize) {
+        return null;
+      }
+      if (j == b.length || (i < a.length && a[i] < b[j])) {
+        rtn[k++] = a[i++];
+      } else if (i == a.length || b[j] < a[i]) {
+        rtn[k++] = b[j++];
+      } else {
+        rtn[k++] = a[i++];
+        j++;
+      }
+    }
+    return Arrays.copyOf(rtn, k);
+  }
+
+  private static boolean contains(final int[] a, final int[] b) {
+    int i = 0;
+    for (final int leaf : b) {
+      while (i < a.length && a[i] < leaf) {
+        i++;
+      }
+      if (i == a.length || a[i] != leaf) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /* Enumerates the cuts of every node, the trivial cut first. */
+  private List<List<int[]>> getCuts(final Aig aig) {
+    final List<List<int[]>> rtn = new ArrayList<>();
+    for (int var = 0; var < aig.getNumNodes(); var++) {
+      final List<int[]> cuts = new ArrayList<>();
+      if (aig.isAnd(var)) {
+        final List<int[]> cuts0 = rtn.get(Aig.getVar(aig.getFanin0(var)));
+        final List<int[]> cuts1 = rtn.get(Aig.getVar(aig.getFanin1(var)));
+        for (final int[] a : cuts0) {
+          for (final int[] b : cuts1) {
+            final int[] cut = merge(a, b);
+            if (cut != null && !AigRewriter.isDominated(cuts, cut)) {
+              cuts.add(cut);
+            }
+          }
+        }
+        cuts.sort(Comparator.comparingInt(c -> c.length));
+        while (cuts.size() > cutLimit) {
+          cuts.remove(cuts.size() - 1);
+        }
+      }
+      cuts.add(0, new int[] {var});
+      rtn.add(cuts);
+    }
+    return rtn;
+  }
+
+  /* Returns true if a cut of cuts is a subset of cut, and removes the supersets of cut otherwise. */
+  private static boolean isDominated(final List<int[]> cuts, final int[] cut) {
+    for (final int[] other : cuts) {
+      if (AigRewriter.contains(cut, other)) {
+        return true;
+      }
+    }
+    cuts.removeIf(other -> AigRewriter.contains(other, cut));
+    return false;
+  }
+
+  /*
+   * Returns the truth table of the node over the leaves of the cut. The nodes between the leaves and
+   * the node are visited in index order, which is topological, so no recursion is needed.
+   */
+  private static int getTruthTable(final Aig aig, final int var, final int[] cut) {
+    final Map<Integer, Integer> tts = new HashMap<>();
+    for (int i = 0; i < cut.length; i++) {
+      tts.put(cut[i], AigLibrary.L_VARS[i]);
+    }
+    final List<Integer> nodes = new ArrayList<>();
+    final List<Integer> stack = new ArrayList<>();
+    final Set<Integer> visited = new HashSet<>(tts.keySet());
+    if (visited.add(var)) {
+      stack.add(var);
+    }
+    while (!stack.isEmpty()) {
+      final int node = stack.remove(stack.size() - 1);
+      nodes.add(node);
+      for (final int lit : new int[] {aig.getFanin0(node), aig.getFanin1(node)}) {
+        if (visited.add(Aig.getVar(lit))) {
+          stack.add(Aig.getVar(lit));
+        }
+      }
+    }
+    Collections.sort(nodes);
+    for (final int node : nodes) {
+      final int a = AigRewriter.getLiteralTruthTable(aig.getFanin0(node), tts);
+      tts.put(node, a & AigRewriter.getLiteralTruthTable(aig.getFanin1(node), tts));
+    }
+    return tts.get(var);
+  }
+
+  private static int getLiteralTruthTable(final int lit, final Map<Integer, Integer> tts) {
+    final int rtn = tts.get(Aig.getVar(lit));
+    return Aig.isComplement(lit) ? ~rtn & 0xFFFF : rtn;
+  }
+
+  /*
+   * Returns the maximum fanout-free cone of the node bounded by the leaves of the cut, i.e. the
+   * nodes removed from the graph with the node.
+   */
+  private static Set<Integer> getCone(
+      final Aig aig, final int var, final int[] cut, final int[] refs) {
+    final Set<Integer> rtn = new HashSet<>();
+    final List<Integer> stack = new ArrayList<>();
+    final List<Integer> derefs = new ArrayList<>();
+    stack.add(var);
+    while (!stack.isEmpty()) {
+      final int node = stack.remove(stack.size() - 1);
+      rtn.add(node);
+      for (final int lit : new int[] {aig.getFanin0(node), aig.getFanin1(node)}) {
+        final int fanin = Aig.getVar(lit);
+        if (Arrays.binarySearch(cut, fanin) >= 0 || !aig.isAnd(fanin)) {
+          continue;
+        }
+        derefs.add(fanin);
+        if (--refs[fanin] == 0) {
+          stack.add(fanin);
+        }
+      }
+    }
+    for (final int fanin : derefs) {
+      refs[fanin]++;
+    }
+    return rtn;
+  }
+
+  /*
+   * Returns the number of nodes added by the structure over the leaves of the cut, where a node of
+   * the cone reused by the structure is counted as added, or -1 if the structure is the node.
+   */
+  private static int getCost(
+      final Aig aig,
+      final int var,
+      final int[] cut,
+      final Structure structure,
+      final Set<Integer> cone) {
+    int rtn = 0;
+    final int[] map = new int[structure.getNumAnds()];
+    for (int i = 0; i < map.length; i++) {
+      final int a = AigRewriter.map(structure.getFanin0(i), cut, map);
+      final int b = AigRewriter.map(structure.getFanin1(i), cut, map);
+      map[i] = aig.lookup(a, b);
+      if (map[i] < 0) {
+        // a node not in the graph yet
+        map[i] = 2 * (aig.getNumNodes() + i);
+        rtn++;
+      } else if (a != map[i] && b != map[i] && cone.contains(Aig.getVar(map[i]))) {
+        rtn++;
+      }
+    }
+    if (Aig.getVar(AigRewriter.map(structure.getOutput(), cut, map)) == var) {
+      rtn = -1;
+    }
+    return rtn;
+  }
+
+  /* Maps a literal of a structure to the graph. */
+  private static int map(final int lit, final int[] cut, final int[] map) {
+    final int var = Aig.getVar(lit);
+    int rtn = lit;
+    if (var > AigLibrary.I_NUM_LEAVES) {
+      rtn = map[var - AigLibrary.I_NUM_LEAVES - 1] ^ (lit & 1);
+    } else if (var > 0) {
+      rtn = 2 * cut[var - 1] ^ (lit & 1);
+    }
+    return rtn;
+  }
+
+  /* The best replacement of a node. */
+  private static class Candidate {
+
+    Candidate(
+        final int var,
+        final int[] cut,
+        final Structure structure,
+        final Set<Integer> cone,
+        final int gain) {
+      this.var = var;
+      this.cut = cut;
+      this.structure = structure;
+      this.cone = cone;
+      this.gain = gain;
+    }
+
+    private final int var;
+    private final int[] cut;
+    private final Structure structure;
+    private final Set<Integer> cone;
+    private final int gain;
+  }
+
+  private final int cutSize;
+  private final int cutLimit;
+}
@@ -20,6 +20,8 @@
 package org.cellocad.v2.logicOptimization.algorithm;
 
 import org.cellocad.v2.common.algorithm.AlgorithmFactory;
+import org.cellocad.v2.logicOptimization.algorithm.AigRewrite.AigRewrite;
+import org.cellocad.v2.logicOptimization.algorithm.Strash.Strash;
 import org.cellocad.v2.logicOptimization.algorithm.maxFanout.maxFanout;
 
 /**
@@ -44,6 +46,12 @@ public class LOAlgorithmFactory extends AlgorithmFactory<LOAlgorithm> {
     if (name.equals("maxFanout")) {
       rtn = new maxFanout();
     }
+    if (name.equals("AigRewrite")) {
+      rtn = new AigRewrite();
+    }
+    if (name.equals("Strash")) {
+      rtn = new Strash();
+    }
     return rtn;
   }
 }
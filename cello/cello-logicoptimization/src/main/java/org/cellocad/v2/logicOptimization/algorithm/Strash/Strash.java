@@ -0,0 +1,288 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.logicOptimization.algorithm.Strash;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.cellocad.v2.logicOptimization.algorithm.LOAlgorithm;
+import org.cellocad.v2.logicOptimization.algorithm.Strash.data.StrashNetlistData;
+import org.cellocad.v2.logicOptimization.algorithm.Strash.data.StrashNetlistEdgeData;
+import org.cellocad.v2.logicOptimization.algorithm.Strash.data.StrashNetlistNodeData;
+import org.cellocad.v2.logicOptimization.common.LOUtils;
+import org.cellocad.v2.results.logicSynthesis.LSNodeType;
+import org.cellocad.v2.results.logicSynthesis.LSResults;
+import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+import org.cellocad.v2.results.logicSynthesis.netlist.LSResultNetlistUtils;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistEdge;
+import org.cellocad.v2.results.netlist.NetlistNode;
+
+/**
+ * The implementation of the <i>Strash</i> algorithm in the <i>logicOptimization</i> stage. Gates
+ * of the same type driven by the same nodes are structurally equal, and are merged into one gate
+ * in a single sweep of the netlist in topological order. A gate whose in edges all come from one
+ * node after merging is simplified: a NOR or NAND gate becomes a NOT gate, and an OR or AND gate
+ * is merged into the node. The nodes marked as duplicates by the <i>maxFanout</i> algorithm are
+ * kept if <i>KeepDuplicates</i> is true.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class Strash extends LOAlgorithm {
+
+  /**
+   * Returns the {@link StrashNetlistNodeData} of the given node.
+   *
+   * @param node A node within the netlist of this instance.
+   * @return The {@link StrashNetlistNodeData} instance if it exists, null otherwise.
+   */
+  protected StrashNetlistNodeData getStrashNetlistNodeData(final NetlistNode node) {
+    StrashNetlistNodeData rtn = null;
+    rtn = (StrashNetlistNodeData) node.getNetlistNodeData();
+    return rtn;
+  }
+
+  /**
+   * Returns the {@link StrashNetlistEdgeData} of the given edge.
+   *
+   * @param edge An edge within the netlist of this instance.
+   * @return The {@link StrashNetlistEdgeData} instance if it exists, null otherwise.
+   */
+  protected StrashNetlistEdgeData getStrashNetlistEdgeData(final NetlistEdge edge) {
+    StrashNetlistEdgeData rtn = null;
+    rtn = (StrashNetlistEdgeData) edge.getNetlistEdgeData();
+    return rtn;
+  }
+
+  /**
+   * Returns the {@link StrashNetlistData} of the given netlist.
+   *
+   * @param netlist The netlist of this instance.
+   * @return The {@link StrashNetlistData} instance if it exists, null otherwise.
+   */
+  protected StrashNetlistData getStrashNetlistData(final Netlist netlist) {
+    StrashNetlistData rtn = null;
+    rtn = (StrashNetlistData) netlist.getNetlistData();
+    return rtn;
+  }
+
+  /** Gets the constraint data from the netlist constraint file. */
+  @Override
+  protected void getConstraintFromNetlistConstraintFile() {}
+
+  /** Gets the data from the UCF. */
+  @Override
+  protected void getDataFromUcf() {}
+
+  /** Set parameter values of the algorithm. */
+  @Override
+  protected void setParameterValues() {
+    Boolean present = true;
+    present = getAlgorithmProfile().getBooleanParameter("KeepDuplicates").getFirst();
+    if (present) {
+      setKeepDuplicates(getAlgorithmProfile().getBooleanParameter("KeepDuplicates").getSecond());
+    }
+  }
+
+  /** Validate parameter values of the algorithm. */
+  @Override
+  protected void validateParameterValues() {}
+
+  /** Perform preprocessing. */
+  @Override
+  protected void preprocessing() {}
+
+  /*
+   * Returns the key of the node: its type and the indices of the sources of its in edges, sorted
+   * if the inputs of the type commute.
+   */
+  private static String getKey(final NetlistNode node, final Map<NetlistNode, Integer> ids) {
+    final String type = node.getResultNetlistNodeData().getNodeType();
+    final List<Integer> inputs = new ArrayList<>();
+    for (int i = 0; i < node.getNumInEdge(); i++) {
+      inputs.add(ids.get(node.getInEdgeAtIdx(i).getSrc()));
+    }
+    if (!Strash.S_ORDERED.contains(node.getResultNetlistNodeData().getNodeKind())) {
+      Collections.sort(inputs);
+    }
+    return type + inputs;
+  }
+
+  /*
+   * Moves the out edges of the node to the node defined by parameter target, and removes the node
+   * and its in edges from the netlist.
+   */
+  private static void merge(
+      final Netlist netlist, final NetlistNode node, final NetlistNode target) {
+    for (int i = 0; i < node.getNumInEdge(); i++) {
+      final NetlistEdge edge = node.getInEdgeAtIdx(i);
+      edge.getSrc().removeOutEdge(edge);
+      netlist.removeEdge(edge);
+    }
+    for (int i = 0; i < node.getNumOutEdge(); i++) {
+      final NetlistEdge edge = node.getOutEdgeAtIdx(i);
+      edge.setSrc(target);
+      target.addOutEdge(edge);
+    }
+    netlist.removeVertex(node);
+  }
+
+  /*
+   * Simplifies the gate if all of its in edges come from one node, and returns true if the gate was
+   * merged into that node. A NOR or NAND gate keeps one in edge and becomes a NOT gate, and an OR or
+   * AND gate is merged into the node unless it is kept.
+   */
+  private static boolean collapse(
+      final Netlist netlist, final NetlistNode node, final boolean keep) {
+    final NetlistNode src = node.getInEdgeAtIdx(0).getSrc();
+    if (node.getNumInEdge() < 2) {
+      return false;
+    }
+    for (int i = 1; i < node.getNumInEdge(); i++) {
+      if (node.getInEdgeAtIdx(i).getSrc() != src) {
+        return false;
+      }
+    }
+    boolean rtn = false;
+    switch (node.getResultNetlistNodeData().getNodeKind()) {
+      case NOR:
+      case NAND:
+        while (node.getNumInEdge() > 1) {
+          final NetlistEdge edge = node.getInEdgeAtIdx(node.getNumInEdge() - 1);
+          node.removeInEdge(edge);
+          src.removeOutEdge(edge);
+          netlist.removeEdge(edge);
+        }
+        node.getResultNetlistNodeData().setNodeType(LSResults.S_NOT);
+        break;
+      case OR:
+      case AND:
+        if (!keep) {
+          Strash.merge(netlist, node, src);
+          rtn = true;
+        }
+        break;
+      default:
+        break;
+    }
+    return rtn;
+  }
+
+  /**
+   * Merges the structurally equal gates of the netlist defined by parameter {@code netlist}. The
+   * nodes are visited once, in topological order: the sources of the in edges of a node have been
+   * merged when it is visited, so two gates are equal if they have the same type and the same
+   * sources. Parallel in edges left by a merge are collapsed first. Inputs and outputs are never
+   * merged.
+   *
+   * @param netlist The netlist.
+   * @param keepDuplicates Whether to keep the nodes marked as duplicates by the <i>maxFanout</i>
+   *     algorithm.
+   * @return The number of gates removed.
+   */
+  protected static int strash(final Netlist netlist, final boolean keepDuplicates) {
+    int rtn = 0;
+    final Map<NetlistNode, Integer> ids = new HashMap<>();
+    final Map<String, NetlistNode> gates = new HashMap<>();
+    for (final NetlistNode node : LOUtils.getTopologicalOrder(netlist)) {
+      ids.put(node, ids.size());
+      if (LSResultsUtils.isAllInput(node)
+          || LSResultsUtils.isAllOutput(node)
+          || node.getNumInEdge() == 0) {
+        continue;
+      }
+      final boolean keep = keepDuplicates && node.getResultNetlistNodeData().isDuplicate();
+      if (Strash.collapse(netlist, node, keep)) {
+        rtn++;
+        continue;
+      }
+      if (keep) {
+        continue;
+      }
+      final String key = Strash.getKey(node, ids);
+      final NetlistNode gate = gates.putIfAbsent(key, node);
+      if (gate != null) {
+        Strash.merge(netlist, node, gate);
+        rtn++;
+      }
+    }
+    return rtn;
+  }
+
+  /** Run the (core) algorithm. */
+  @Override
+  protected void run() {
+    final Netlist netlist = getNetlist();
+    LSResultNetlistUtils.setVertexTypeUsingLSResult(netlist);
+    final int numMerged = Strash.strash(netlist, getKeepDuplicates());
+    logInfo("Gates merged: " + numMerged);
+    LSResultNetlistUtils.setVertexTypeUsingLSResult(netlist);
+    if (!netlist.isValid()) {
+      throw new RuntimeException("Netlist not valid!");
+    }
+  }
+
+  /** Perform postprocessing. */
+  @Override
+  protected void postprocessing() {}
+
+  /**
+   * Setter for {@code keepDuplicates}.
+   *
+   * @param keepDuplicates The value to set {@code keepDuplicates}.
+   */
+  protected void setKeepDuplicates(final Boolean keepDuplicates) {
+    this.keepDuplicates = keepDuplicates;
+  }
+
+  /**
+   * Getter for {@code keepDuplicates}.
+   *
+   * @return The value of {@code keepDuplicates}.
+   */
+  protected Boolean getKeepDuplicates() {
+    return keepDuplicates;
+  }
+
+  private Boolean keepDuplicates;
+
+  /**
+   * Returns the {@link Logger} for the <i>Strash</i> algorithm.
+   *
+   * @return The {@link Logger} for the <i>Strash</i> algorithm.
+   */
+  @Override
+  protected Logger getLogger() {
+    return Strash.logger;
+  }
+
+  private static final Logger logger = LogManager.getLogger(Strash.class);
+
+  /* The types whose inputs do not commute. */
+  private static final Set<LSNodeType> S_ORDERED =
+      EnumSet.of(LSNodeType.ANDNOT, LSNodeType.ORNOT, LSNodeType.MUX);
+}
@@ -20,6 +20,8 @@
 package org.cellocad.v2.logicOptimization.algorithm.data;
 
 import org.cellocad.v2.common.algorithm.data.NetlistDataFactory;
+import org.cellocad.v2.logicOptimization.algorithm.AigRewrite.data.AigRewriteNetlistData;
+import org.cellocad.v2.logicOptimization.algorithm.Strash.data.StrashNetlistData;
 import org.cellocad.v2.logicOptimization.algorithm.maxFanout.data.maxFanoutNetlistData;
 
 /**
@@ -44,6 +46,12 @@ public class LONetlistDataFactory extends NetlistDataFactory<LONetlistData> {
     if (name.equals("maxFanout")) {
       rtn = new maxFanoutNetlistData();
     }
+    if (name.equals("AigRewrite")) {
+      rtn = new AigRewriteNetlistData();
+    }
+    if (name.equals("Strash")) {
+      rtn = new StrashNetlistData();
+    }
     return rtn;
   }
 }
@@ -20,6 +20,8 @@
 package org.cellocad.v2.logicOptimization.algorithm.data;
 
 import org.cellocad.v2.common.algorithm.data.NetlistEdgeDataFactory;
+import org.cellocad.v2.logicOptimization.algorithm.AigRewrite.data.AigRewriteNetlistEdgeData;
+import org.cellocad.v2.logicOptimization.algorithm.Strash.data.StrashNetlistEdgeData;
 import org.cellocad.v2.logicOptimization.algorithm.maxFanout.data.maxFanoutNetlistEdgeData;
 
 /**
@@ -44,6 +46,12 @@ public class LONetlistEdgeDataFactory extends NetlistEdgeDataFactory<LONetlistEd
     if (name.equals("maxFanout")) {
       rtn = new maxFanoutNetlistEdgeData();
     }
+    if (name.equals("AigRewrite")) {
+      rtn = new AigRewriteNetlistEdgeData();
+    }
+    if (name.equals("Strash")) {
+      rtn = new StrashNetlistEdgeData();
+    }
     return rtn;
   }
 }
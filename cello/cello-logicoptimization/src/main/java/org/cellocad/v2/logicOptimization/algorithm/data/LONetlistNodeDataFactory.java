@@ -20,6 +20,8 @@
 package org.cellocad.v2.logicOptimization.algorithm.data;
 
 import org.cellocad.v2.common.algorithm.data.NetlistNodeDataFactory;
+import org.cellocad.v2.logicOptimization.algorithm.AigRewrite.data.AigRewriteNetlistNodeData;
+import org.cellocad.v2.logicOptimization.algorithm.Strash.data.StrashNetlistNodeData;
 import org.cellocad.v2.logicOptimization.algorithm.maxFanout.data.maxFanoutNetlistNodeData;
 
 /**
@@ -44,6 +46,12 @@ public class LONetlistNodeDataFactory extends NetlistNodeDataFactory<LONetlistNo
     if (name.equals("maxFanout")) {
       rtn = new maxFanoutNetlistNodeData();
     }
+    if (name.equals("AigRewrite")) {
+      rtn = new AigRewriteNetlistNodeData();
+    }
+    if (name.equals("Strash")) {
+      rtn = new StrashNetlistNodeData();
+    }
     return rtn;
   }
 }
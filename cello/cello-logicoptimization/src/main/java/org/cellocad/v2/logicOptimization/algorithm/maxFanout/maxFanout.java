@@ -23,11 +23,11 @@ import java.util.ArrayList;
 import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.cellocad.v2.common.graph.algorithm.BFS;
 import org.cellocad.v2.logicOptimization.algorithm.LOAlgorithm;
 import org.cellocad.v2.logicOptimization.algorithm.maxFanout.data.maxFanoutNetlistData;
 import org.cellocad.v2.logicOptimization.algorithm.maxFanout.data.maxFanoutNetlistEdgeData;
 import org.cellocad.v2.logicOptimization.algorithm.maxFanout.data.maxFanoutNetlistNodeData;
+import org.cellocad.v2.logicOptimization.common.LOUtils;
 import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
 import org.cellocad.v2.results.logicSynthesis.netlist.LSResultNetlistUtils;
 import org.cellocad.v2.results.netlist.Netlist;
@@ -104,78 +104,93 @@ public class maxFanout extends LOAlgorithm {
   @Override
   protected void preprocessing() {}
 
+  /**
+   * Splits the out edges of the node defined by parameter {@code node} between the node and the
+   * fewest duplicates that keep the fanout of each at most parameter {@code max}. The out edges are
+   * dealt in contiguous, balanced groups whose sizes differ by at most one, so that no copy is left
+   * over {@code max}. Each duplicate receives a copy of every in edge of the node.
+   *
+   * @param netlist The netlist of the node.
+   * @param node The node.
+   * @param max The maximum fanout.
+   * @return The number of duplicates added.
+   */
+  protected static int duplicate(final Netlist netlist, final NetlistNode node, final int max) {
+    final int fanout = node.getNumOutEdge();
+    final int numCopies = (fanout + max - 1) / max;
+    final List<NetlistEdge> outEdges = new ArrayList<>();
+    for (int i = 0; i < fanout; i++) {
+      outEdges.add(node.getOutEdgeAtIdx(i));
+    }
+    // the original keeps the first group
+    int idx = fanout / numCopies + (fanout % numCopies > 0 ? 1 : 0);
+    for (int i = 0; i < numCopies - 1; i++) {
+      final NetlistNode duplicate = new NetlistNode(node);
+      duplicate.setName(duplicate.getName() + maxFanout.S_DUPLICATE + i);
+      duplicate.getResultNetlistNodeData().setDuplicateOf(node.getName());
+      // add in edges
+      for (int j = 0; j < node.getNumInEdge(); j++) {
+        final NetlistEdge edge = node.getInEdgeAtIdx(j);
+        final NetlistNode src = edge.getSrc();
+        final NetlistEdge duplicateEdge = new NetlistEdge(edge);
+        duplicateEdge.setName(duplicateEdge.getName() + maxFanout.S_DUPLICATE + i);
+        duplicateEdge.setSrc(src);
+        src.addOutEdge(duplicateEdge);
+        duplicateEdge.setDst(duplicate);
+        duplicate.addInEdge(duplicateEdge);
+        netlist.addEdge(duplicateEdge);
+      }
+      // move out edges
+      final int size = fanout / numCopies + (i + 1 < fanout % numCopies ? 1 : 0);
+      for (int j = 0; j < size; j++) {
+        final NetlistEdge edge = outEdges.get(idx++);
+        node.removeOutEdge(edge);
+        edge.setSrc(duplicate);
+        duplicate.addOutEdge(edge);
+      }
+      netlist.addVertex(duplicate);
+    }
+    return numCopies - 1;
+  }
+
+  /**
+   * Duplicates the gates of the netlist defined by parameter {@code netlist} whose fanout exceeds
+   * parameter {@code max}. The nodes are visited once, in reverse topological order: duplicating a
+   * node adds out edges to the sources of its in edges only, so the fanout of every node is final
+   * when it is visited, and no node needs to be visited again.
+   *
+   * @param netlist The netlist.
+   * @param max The maximum fanout.
+   * @return The number of duplicates added.
+   */
+  protected static int limitFanout(final Netlist netlist, final int max) {
+    if (max < 1) {
+      throw new RuntimeException("Max fanout must be positive!");
+    }
+    int rtn = 0;
+    final List<NetlistNode> order = LOUtils.getTopologicalOrder(netlist);
+    for (int i = order.size() - 1; i >= 0; i--) {
+      final NetlistNode node = order.get(i);
+      if (LSResultsUtils.isAllInput(node) || LSResultsUtils.isAllOutput(node)) {
+        continue;
+      }
+      if (node.getNumOutEdge() > max) {
+        rtn += maxFanout.duplicate(netlist, node, max);
+      }
+    }
+    return rtn;
+  }
+
   /** Run the (core) algorithm. */
   @Override
   protected void run() {
     final Netlist netlist = getNetlist();
-    boolean inserted = false;
     final int max = getmax();
     logInfo("Max fanout for node: " + max);
-    do {
-      final BFS<NetlistNode, NetlistEdge, Netlist> bfs = new BFS<>(netlist);
-      NetlistNode node = null;
-      inserted = false;
-      LSResultNetlistUtils.setVertexTypeUsingLSResult(netlist);
-      while ((node = bfs.getNextVertex()) != null) {
-        if (LSResultsUtils.isAllInput(node) || LSResultsUtils.isAllOutput(node)) {
-          continue;
-        }
-        int fanout = node.getNumOutEdge();
-        if (fanout > max) {
-          logInfo("---------------------------------");
-          logInfo("Duplicating node " + node.getName());
-          inserted = true;
-          // minus one to keep original
-          final int numToAdd = (int) Math.ceil((double) fanout / max) - 1;
-          final int numEdgePerNode = fanout / (numToAdd + 1);
-          for (int i = 0; i < numToAdd; i++) {
-            final NetlistNode duplicate = new NetlistNode(node);
-            duplicate.setName(duplicate.getName() + maxFanout.S_DUPLICATE + i);
-            logInfo("Duplicating node name " + duplicate.getName());
-            // add in edges
-            for (int j = 0; j < node.getNumInEdge(); j++) {
-              final NetlistEdge edge = node.getInEdgeAtIdx(j);
-              final NetlistNode src = edge.getSrc();
-              // make new edge
-              final NetlistEdge duplicateEdge = new NetlistEdge(edge);
-              duplicateEdge.setName(duplicateEdge.getName() + maxFanout.S_DUPLICATE);
-              logInfo("Creating edge name " + duplicateEdge.getName());
-              logInfo("Connecting to source node " + src.getName());
-              logInfo("Connecting to destination node " + duplicate.getName());
-              // set edge source
-              duplicateEdge.setSrc(src);
-              src.addOutEdge(duplicateEdge);
-              // set edge destination
-              duplicateEdge.setDst(duplicate);
-              duplicate.addInEdge(duplicateEdge);
-              // add edge to netlist
-              netlist.addEdge(duplicateEdge);
-            }
-            final List<NetlistEdge> edgesToRemove = new ArrayList<>();
-            edgesToRemove.clear();
-            // add out edges
-            for (int j = 0; j < fanout && j < numEdgePerNode; j++) {
-              final NetlistEdge edge = node.getOutEdgeAtIdx(j);
-              edgesToRemove.add(edge);
-              // set edge source to duplicate node
-              edge.setSrc(duplicate);
-              duplicate.addOutEdge(edge);
-              logInfo(
-                  "Seeting source of edge name " + edge.getName() + " to " + duplicate.getName());
-            }
-            fanout -= numEdgePerNode;
-            // remove out edges
-            for (int j = 0; j < edgesToRemove.size(); j++) {
-              final NetlistEdge edge = edgesToRemove.get(j);
-              node.removeOutEdge(edge);
-              logInfo("Removing edge " + edge.getName() + " from node " + node.getName());
-            }
-            // add node
-            netlist.addVertex(duplicate);
-          }
-        }
-      }
-    } while (inserted);
+    LSResultNetlistUtils.setVertexTypeUsingLSResult(netlist);
+    final int numDuplicates = maxFanout.limitFanout(netlist, max);
+    logInfo("Duplicates added: " + numDuplicates);
+    LSResultNetlistUtils.setVertexTypeUsingLSResult(netlist);
     assert netlist.isValid();
     if (!netlist.isValid()) {
       throw new RuntimeException("Netlist not valid!");
@@ -218,5 +233,6 @@ public class maxFanout extends LOAlgorithm {
 
   private static final Logger logger = LogManager.getLogger(maxFanout.class);
 
-  private static final String S_DUPLICATE = "_Duplicate";
+  /** The infix of the name of a duplicate, followed by the index of the duplicate. */
+  public static final String S_DUPLICATE = "_Duplicate";
 }
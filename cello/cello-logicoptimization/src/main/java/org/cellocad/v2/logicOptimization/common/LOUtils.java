@@ -24,8 +24,14 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
 
 /**
  * Utility methods for the <i>logicOptimization</i> stage.
@@ -89,4 +95,38 @@ public class LOUtils {
     rtn = sb.toString();
     return rtn;
   }
+
+  /**
+   * Returns the nodes of the netlist defined by parameter {@code netlist} in topological order,
+   * i.e. every node after the sources of its in edges.
+   *
+   * @param netlist The netlist.
+   * @return The nodes in topological order.
+   */
+  public static List<NetlistNode> getTopologicalOrder(final Netlist netlist) {
+    final List<NetlistNode> rtn = new ArrayList<>();
+    final Map<NetlistNode, Integer> numInEdge = new HashMap<>();
+    for (int i = 0; i < netlist.getNumVertex(); i++) {
+      final NetlistNode node = netlist.getVertexAtIdx(i);
+      numInEdge.put(node, node.getNumInEdge());
+      if (node.getNumInEdge() == 0) {
+        rtn.add(node);
+      }
+    }
+    for (int i = 0; i < rtn.size(); i++) {
+      final NetlistNode node = rtn.get(i);
+      for (int j = 0; j < node.getNumOutEdge(); j++) {
+        final NetlistNode dst = node.getOutEdgeAtIdx(j).getDst();
+        final int num = numInEdge.get(dst) - 1;
+        numInEdge.put(dst, num);
+        if (num == 0) {
+          rtn.add(dst);
+        }
+      }
+    }
+    if (rtn.size() != netlist.getNumVertex()) {
+      throw new RuntimeException("Netlist has a cycle!");
+    }
+    return rtn;
+  }
 }
@@ -21,6 +21,7 @@ package org.cellocad.v2.logicOptimization.runtime;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.cellocad.v2.common.Pair;
 import org.cellocad.v2.common.exception.CelloException;
 import org.cellocad.v2.common.netlistConstraint.data.NetlistConstraint;
 import org.cellocad.v2.common.runtime.RuntimeObject;
@@ -40,6 +41,7 @@ import org.cellocad.v2.logicOptimization.netlist.data.LOStageNetlistData;
 import org.cellocad.v2.logicOptimization.netlist.data.LOStageNetlistEdgeData;
 import org.cellocad.v2.logicOptimization.netlist.data.LOStageNetlistNodeData;
 import org.cellocad.v2.results.common.Results;
+import org.cellocad.v2.results.logicSynthesis.netlist.EquivalenceChecker;
 import org.cellocad.v2.results.netlist.Netlist;
 import org.cellocad.v2.results.netlist.NetlistEdge;
 import org.cellocad.v2.results.netlist.NetlistNode;
@@ -169,17 +171,48 @@ public class LORuntimeObject extends RuntimeObject {
   }
 
   /**
-   * Executes the algorithm of the <i>logicOptimization</i> stage.
+   * Executes the algorithm of the <i>logicOptimization</i> stage. Unless the <i>EquivalenceCheck</i>
+   * parameter of the algorithm is false, the optimized netlist is then checked for equivalence with
+   * a copy of the netlist taken before the algorithm ran.
    *
-   * @throws CelloException Unable to execute the algorithm.
+   * @throws CelloException Unable to execute the algorithm, or the optimized netlist is not
+   *     equivalent to the netlist before optimization.
    */
   @Override
   protected void runAlgo() throws CelloException {
     // get Algorithm from Factory
     final LOAlgorithmFactory AF = new LOAlgorithmFactory();
     final LOAlgorithm algo = AF.getAlgorithm(getAlgorithmProfile());
+    // reference
+    Netlist reference = null;
+    if (algo != null && isEquivalenceCheck()) {
+      reference = new Netlist(getNetlist());
+    }
     // executeAlgo
     executeAlgo(algo);
+    // check
+    if (reference != null) {
+      if (EquivalenceChecker.verify(reference, getNetlist())) {
+        logInfo("Equivalence check passed.");
+      } else {
+        logInfo("Equivalence check skipped: unsupported node type.");
+      }
+    }
+  }
+
+  /**
+   * Returns the <i>EquivalenceCheck</i> parameter of the algorithm.
+   *
+   * @return The value of the <i>EquivalenceCheck</i> parameter, true if it is not present.
+   */
+  private boolean isEquivalenceCheck() {
+    boolean rtn = true;
+    final Pair<Boolean, Boolean> param =
+        getAlgorithmProfile().getBooleanParameter(LORuntimeObject.S_EQUIVALENCECHECK);
+    if (param.getFirst()) {
+      rtn = param.getSecond();
+    }
+    return rtn;
   }
 
   /**
@@ -251,4 +284,6 @@ public class LORuntimeObject extends RuntimeObject {
   }
 
   private static final Logger logger = LogManager.getLogger(LORuntimeObject.class);
+
+  private static final String S_EQUIVALENCECHECK = "EquivalenceCheck";
 }
@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.logicOptimization.algorithm.AigRewrite;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.cellocad.v2.logicOptimization.algorithm.AigRewrite.AigLibrary.Structure;
+import org.cellocad.v2.logicOptimization.common.LOUtils;
+import org.cellocad.v2.results.logicSynthesis.LSResults;
+import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.netlist.NetlistTestUtils;
+import org.junit.Test;
+
+/**
+ * Tests for {@link AigRewrite}.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class AigRewriteTest {
+
+  /* The A1 sample design, mapped to NOR and NOT gates and one OR gate. */
+  private static Netlist getA1() {
+    final Netlist rtn = new Netlist();
+    final Map<String, NetlistNode> nodes = new HashMap<>();
+    final String[][] gates = {
+      {"in1", LSResults.S_PRIMARYINPUT},
+      {"in2", LSResults.S_PRIMARYINPUT},
+      {"in3", LSResults.S_PRIMARYINPUT},
+      {"v", LSResults.S_NOR, "w", "u"},
+      {"y", LSResults.S_NOT, "in2"},
+      {"s", LSResults.S_NOT, "z"},
+      {"t", LSResults.S_NOR, "y", "x"},
+      {"w", LSResults.S_NOT, "in3"},
+      {"z", LSResults.S_NOR, "in1", "in3"},
+      {"u", LSResults.S_NOT, "t"},
+      {"r", LSResults.S_NOT, "s"},
+      {"x", LSResults.S_NOT, "in1"},
+      {"o", LSResults.S_OR, "r", "v"},
+      {"out", LSResults.S_PRIMARYOUTPUT, "o"},
+    };
+    for (final String[] gate : gates) {
+      nodes.put(gate[0], NetlistTestUtils.addNode(rtn, gate[0], gate[1]));
+    }
+    for (final String[] gate : gates) {
+      for (int i = 2; i < gate.length; i++) {
+        NetlistTestUtils.addEdge(rtn, nodes.get(gate[i]), nodes.get(gate[0]));
+      }
+    }
+    return rtn;
+  }
+
+  /* Returns the values of the primary outputs for each assignment of the primary inputs. */
+  private static Map<String, Integer> simulate(final Netlist netlist) {
+    final Map<String, Integer> rtn = new HashMap<>();
+    final List<NetlistNode> order = LOUtils.getTopologicalOrder(netlist);
+    final List<NetlistNode> inputs = LSResultsUtils.getPrimaryInputNodes(netlist);
+    for (int i = 0; i < inputs.size(); i++) {
+      // the truth table of input i over all inputs
+      int tt = 0;
+      for (int m = 0; m < 1 << inputs.size(); m++) {
+        tt |= ((m >> i) & 1) << m;
+      }
+      rtn.put(inputs.get(i).getName(), tt);
+    }
+    final int mask = (1 << (1 << inputs.size())) - 1;
+    for (final NetlistNode node : order) {
+      final String type = node.getResultNetlistNodeData().getNodeType();
+      if (LSResultsUtils.isAllInput(node)) {
+        continue;
+      }
+      int or = 0;
+      for (int i = 0; i < node.getNumInEdge(); i++) {
+        or |= rtn.get(node.getInEdgeAtIdx(i).getSrc().getName());
+      }
+      final boolean invert = type.equals(LSResults.S_NOR) || type.equals(LSResults.S_NOT);
+      rtn.put(node.getName(), invert ? ~or & mask : or);
+    }
+    final Map<String, Integer> outputs = new HashMap<>();
+    for (final NetlistNode node : LSResultsUtils.getPrimaryOutputNodes(netlist)) {
+      outputs.put(node.getName(), rtn.get(node.getName()));
+    }
+    return outputs;
+  }
+
+  @Test
+  public void getStructure_AllFunctions_ShouldMatchTruthTable() {
+    for (int tt = 0; tt < 1 << 16; tt++) {
+      final Structure structure = AigLibrary.getStructure(tt);
+      final int[] values = new int[structure.getNumAnds()];
+      for (int i = 0; i < values.length; i++) {
+        final int a = AigRewriteTest.getTruthTable(structure.getFanin0(i), values);
+        values[i] = a & AigRewriteTest.getTruthTable(structure.getFanin1(i), values);
+      }
+      assertEquals(tt, AigRewriteTest.getTruthTable(structure.getOutput(), values));
+    }
+  }
+
+  private static int getTruthTable(final int lit, final int[] values) {
+    final int var = Aig.getVar(lit);
+    int rtn = 0;
+    if (var > AigLibrary.I_NUM_LEAVES) {
+      rtn = values[var - AigLibrary.I_NUM_LEAVES - 1];
+    } else if (var > 0) {
+      rtn = AigLibrary.L_VARS[var - 1];
+    }
+    return Aig.isComplement(lit) ? ~rtn & 0xFFFF : rtn;
+  }
+
+  @Test
+  public void rewrite_A1_ShouldRemoveGatesAndKeepFunction() {
+    final Netlist netlist = AigRewriteTest.getA1();
+    final Map<String, Integer> expected = AigRewriteTest.simulate(netlist);
+    // r = NOT(NOT(z)) is z
+    assertEquals(2, AigRewrite.rewrite(netlist, 4, 8));
+    assertTrue(netlist.isValid());
+    assertEquals(12, netlist.getNumVertex());
+    assertEquals(1, netlist.getVertexByName("o").getNumOutEdge());
+    assertEquals(expected, AigRewriteTest.simulate(netlist));
+  }
+
+  @Test
+  public void rewrite_DuplicateGates_ShouldMergeGates() {
+    final Netlist netlist = new Netlist();
+    final NetlistNode a = NetlistTestUtils.addNode(netlist, "a", LSResults.S_PRIMARYINPUT);
+    final NetlistNode b = NetlistTestUtils.addNode(netlist, "b", LSResults.S_PRIMARYINPUT);
+    final NetlistNode g0 = NetlistTestUtils.addNode(netlist, "g0", LSResults.S_NOR);
+    final NetlistNode g1 = NetlistTestUtils.addNode(netlist, "g1", LSResults.S_NOR);
+    final NetlistNode n0 = NetlistTestUtils.addNode(netlist, "n0", LSResults.S_NOT);
+    final NetlistNode n1 = NetlistTestUtils.addNode(netlist, "n1", LSResults.S_NOT);
+    final NetlistNode y = NetlistTestUtils.addNode(netlist, "y", LSResults.S_NOR);
+    final NetlistNode out = NetlistTestUtils.addNode(netlist, "out", LSResults.S_PRIMARYOUTPUT);
+    NetlistTestUtils.addEdge(netlist, a, g0);
+    NetlistTestUtils.addEdge(netlist, b, g0);
+    NetlistTestUtils.addEdge(netlist, b, g1);
+    NetlistTestUtils.addEdge(netlist, a, g1);
+    NetlistTestUtils.addEdge(netlist, g0, n0);
+    NetlistTestUtils.addEdge(netlist, g1, n1);
+    NetlistTestUtils.addEdge(netlist, n0, y);
+    NetlistTestUtils.addEdge(netlist, n1, y);
+    NetlistTestUtils.addEdge(netlist, y, out);
+    final Map<String, Integer> expected = AigRewriteTest.simulate(netlist);
+    // y = NOR(a, b)
+    assertEquals(4, AigRewrite.rewrite(netlist, 4, 8));
+    assertTrue(netlist.isValid());
+    assertEquals(4, netlist.getNumVertex());
+    assertEquals(expected, AigRewriteTest.simulate(netlist));
+  }
+
+  @Test
+  public void rewrite_MinimalNetlist_ShouldNotChangeNetlist() {
+    final Netlist netlist = new Netlist();
+    final NetlistNode a = NetlistTestUtils.addNode(netlist, "a", LSResults.S_PRIMARYINPUT);
+    final NetlistNode b = NetlistTestUtils.addNode(netlist, "b", LSResults.S_PRIMARYINPUT);
+    final NetlistNode y = NetlistTestUtils.addNode(netlist, "y", LSResults.S_NOR);
+    final NetlistNode out = NetlistTestUtils.addNode(netlist, "out", LSResults.S_PRIMARYOUTPUT);
+    NetlistTestUtils.addEdge(netlist, a, y);
+    NetlistTestUtils.addEdge(netlist, b, y);
+    NetlistTestUtils.addEdge(netlist, y, out);
+    assertEquals(0, AigRewrite.rewrite(netlist, 4, 8));
+    assertEquals(y, netlist.getVertexByName("y"));
+    assertEquals(y, out.getInEdgeAtIdx(0).getSrc());
+  }
+
+  @Test
+  public void rewriteOnce_IndependentCones_ShouldApplyAllInOnePass() {
+    final Aig aig = new Aig();
+    final int a = aig.addInput();
+    final int b = aig.addInput();
+    final int c = aig.addInput();
+    final int d = aig.addInput();
+    // x = AND(AND(a, b), a) and y = AND(AND(c, d), c)
+    aig.addOutput(aig.and(aig.and(a, b), a));
+    aig.addOutput(aig.and(aig.and(c, d), c));
+    assertEquals(4, aig.getNumAnds());
+    final Aig rewritten = new AigRewriter(4, 8).rewriteOnce(aig, false);
+    assertEquals(2, rewritten.getNumAnds());
+    assertEquals(3, new AigRewriter(4, 8).rewriteOnce(aig, true).getNumAnds());
+    assertEquals(2, new AigRewriter(4, 8).rewrite(aig).getNumAnds());
+  }
+
+  @Test
+  public void rebuild_DeepChain_ShouldNotOverflowStack() {
+    final Aig aig = new Aig();
+    final int a = aig.addInput();
+    final int b = aig.addInput();
+    final int c = aig.addInput();
+    int lit = a;
+    for (int i = 0; i < 200000; i++) {
+      lit = aig.and(lit, i % 2 == 0 ? b : c);
+    }
+    aig.addOutput(lit);
+    final Aig rtn = aig.rebuild(new int[0]);
+    assertEquals(200000, rtn.getNumAnds());
+    assertEquals(2 * rtn.getNumNodes() - 2, (int) rtn.getOutputs().get(0));
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.logicOptimization.algorithm.Strash;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.cellocad.v2.results.logicSynthesis.LSResults;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.netlist.NetlistTestUtils;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Strash}.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class StrashTest {
+
+  /*
+   * Two NOR gates of the same inputs in a different order, each driving a NOT gate that drives an
+   * output. The second NOR gate is named as a duplicate of the first, and marked as one if
+   * parameter duplicate is true.
+   */
+  private static Netlist getNetlist(final boolean duplicate) {
+    final Netlist rtn = new Netlist();
+    final NetlistNode a = NetlistTestUtils.addNode(rtn, "a", LSResults.S_PRIMARYINPUT);
+    final NetlistNode b = NetlistTestUtils.addNode(rtn, "b", LSResults.S_PRIMARYINPUT);
+    final NetlistNode g0 = NetlistTestUtils.addNode(rtn, "g0", LSResults.S_NOR);
+    final NetlistNode g1 = NetlistTestUtils.addNode(rtn, "g0_Duplicate0", LSResults.S_NOR);
+    if (duplicate) {
+      g1.getResultNetlistNodeData().setDuplicateOf(g0.getName());
+    }
+    final NetlistNode n0 = NetlistTestUtils.addNode(rtn, "n0", LSResults.S_NOT);
+    final NetlistNode n1 = NetlistTestUtils.addNode(rtn, "n1", LSResults.S_NOT);
+    final NetlistNode o0 = NetlistTestUtils.addNode(rtn, "o0", LSResults.S_PRIMARYOUTPUT);
+    final NetlistNode o1 = NetlistTestUtils.addNode(rtn, "o1", LSResults.S_PRIMARYOUTPUT);
+    NetlistTestUtils.addEdge(rtn, a, g0);
+    NetlistTestUtils.addEdge(rtn, b, g0);
+    NetlistTestUtils.addEdge(rtn, b, g1);
+    NetlistTestUtils.addEdge(rtn, a, g1);
+    NetlistTestUtils.addEdge(rtn, g0, n0);
+    NetlistTestUtils.addEdge(rtn, g1, n1);
+    NetlistTestUtils.addEdge(rtn, n0, o0);
+    NetlistTestUtils.addEdge(rtn, n1, o1);
+    return rtn;
+  }
+
+  @Test
+  public void strash_EqualGates_ShouldMergeInOnePass() {
+    final Netlist netlist = StrashTest.getNetlist(false);
+    // g0_Duplicate0 is not marked as a duplicate, so it is merged into g0, after which n1 is
+    // merged into n0
+    assertEquals(2, Strash.strash(netlist, true));
+    assertTrue(netlist.isValid());
+    assertEquals(6, netlist.getNumVertex());
+    assertEquals(5, netlist.getNumEdge());
+    assertNull(netlist.getVertexByName("g0_Duplicate0"));
+    final NetlistNode n0 = netlist.getVertexByName("n0");
+    assertEquals(n0, netlist.getVertexByName("o1").getInEdgeAtIdx(0).getSrc());
+    assertEquals(2, n0.getNumOutEdge());
+  }
+
+  @Test
+  public void strash_FanoutDuplicate_ShouldKeepDuplicateIfRequested() {
+    final Netlist netlist = StrashTest.getNetlist(true);
+    assertEquals(0, Strash.strash(netlist, true));
+    assertEquals(8, netlist.getNumVertex());
+    assertEquals(2, Strash.strash(netlist, false));
+    assertEquals(6, netlist.getNumVertex());
+  }
+
+  /*
+   * Two equal NOR gates of the same inputs driving a gate of the type defined by parameter type
+   * that drives an output.
+   */
+  private static Netlist getParallelNetlist(final String type) {
+    final Netlist rtn = new Netlist();
+    final NetlistNode a = NetlistTestUtils.addNode(rtn, "a", LSResults.S_PRIMARYINPUT);
+    final NetlistNode b = NetlistTestUtils.addNode(rtn, "b", LSResults.S_PRIMARYINPUT);
+    final NetlistNode g0 = NetlistTestUtils.addNode(rtn, "g0", LSResults.S_NOR);
+    final NetlistNode g1 = NetlistTestUtils.addNode(rtn, "g1", LSResults.S_NOR);
+    final NetlistNode y = NetlistTestUtils.addNode(rtn, "y", type);
+    final NetlistNode out = NetlistTestUtils.addNode(rtn, "out", LSResults.S_PRIMARYOUTPUT);
+    NetlistTestUtils.addEdge(rtn, a, g0);
+    NetlistTestUtils.addEdge(rtn, b, g0);
+    NetlistTestUtils.addEdge(rtn, a, g1);
+    NetlistTestUtils.addEdge(rtn, b, g1);
+    NetlistTestUtils.addEdge(rtn, g0, y);
+    NetlistTestUtils.addEdge(rtn, g1, y);
+    NetlistTestUtils.addEdge(rtn, y, out);
+    return rtn;
+  }
+
+  @Test
+  public void strash_ParallelNor_ShouldBecomeNot() {
+    final Netlist netlist = StrashTest.getParallelNetlist(LSResults.S_NOR);
+    // g1 is merged into g0, after which y = NOR(g0, g0) is NOT(g0)
+    assertEquals(1, Strash.strash(netlist, true));
+    assertTrue(netlist.isValid());
+    assertEquals(5, netlist.getNumVertex());
+    assertEquals(4, netlist.getNumEdge());
+    final NetlistNode y = netlist.getVertexByName("y");
+    assertEquals(LSResults.S_NOT, y.getResultNetlistNodeData().getNodeType());
+    assertEquals(1, y.getNumInEdge());
+    assertEquals(netlist.getVertexByName("g0"), y.getInEdgeAtIdx(0).getSrc());
+    assertEquals(1, netlist.getVertexByName("g0").getNumOutEdge());
+  }
+
+  @Test
+  public void strash_ParallelOr_ShouldMergeIntoSource() {
+    final Netlist netlist = StrashTest.getParallelNetlist(LSResults.S_OR);
+    // g1 is merged into g0, after which y = OR(g0, g0) is g0
+    assertEquals(2, Strash.strash(netlist, true));
+    assertTrue(netlist.isValid());
+    assertEquals(4, netlist.getNumVertex());
+    assertNull(netlist.getVertexByName("y"));
+    final NetlistNode g0 = netlist.getVertexByName("g0");
+    assertEquals(g0, netlist.getVertexByName("out").getInEdgeAtIdx(0).getSrc());
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.logicOptimization.algorithm.maxFanout;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.results.logicSynthesis.LSResults;
+import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+import org.cellocad.v2.results.logicSynthesis.netlist.EquivalenceChecker;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.netlist.NetlistTestUtils;
+import org.junit.Test;
+
+/**
+ * Tests for {@link maxFanout}.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class maxFanoutTest {
+
+  /* A primary input driving a chain of two NOT gates, the last of which drives 10 outputs. */
+  private static Netlist getChain() {
+    final Netlist rtn = new Netlist();
+    final NetlistNode a = NetlistTestUtils.addNode(rtn, "a", LSResults.S_PRIMARYINPUT);
+    final NetlistNode m = NetlistTestUtils.addNode(rtn, "m", LSResults.S_NOT);
+    final NetlistNode n = NetlistTestUtils.addNode(rtn, "n", LSResults.S_NOT);
+    NetlistTestUtils.addEdge(rtn, a, m);
+    NetlistTestUtils.addEdge(rtn, m, n);
+    for (int i = 0; i < 10; i++) {
+      final NetlistNode o = NetlistTestUtils.addNode(rtn, "o" + i, LSResults.S_PRIMARYOUTPUT);
+      NetlistTestUtils.addEdge(rtn, n, o);
+    }
+    return rtn;
+  }
+
+  @Test
+  public void limitFanout_Chain_ShouldAddFewestDuplicatesInOnePass() throws CelloException {
+    final Netlist netlist = maxFanoutTest.getChain();
+    final Netlist reference = new Netlist(netlist);
+    // n needs ceil(10 / 3) = 4 copies, after which m drives 4 and needs 2 copies
+    assertEquals(4, maxFanout.limitFanout(netlist, 3));
+    assertEquals(17, netlist.getNumVertex());
+    assertTrue(netlist.isValid());
+    int numDuplicates = 0;
+    for (int i = 0; i < netlist.getNumVertex(); i++) {
+      final NetlistNode node = netlist.getVertexAtIdx(i);
+      if (node.getResultNetlistNodeData().isDuplicate()) {
+        numDuplicates++;
+        assertTrue(node.getName().startsWith(node.getResultNetlistNodeData().getDuplicateOf()));
+      }
+      if (!LSResultsUtils.isAllInput(node)) {
+        assertTrue(node.getNumOutEdge() <= 3);
+        assertTrue(node.getNumOutEdge() >= 2 || LSResultsUtils.isAllOutput(node));
+      }
+      if (LSResultsUtils.isAllOutput(node)) {
+        assertEquals(1, node.getNumInEdge());
+      }
+    }
+    assertEquals(4, numDuplicates);
+    assertTrue(EquivalenceChecker.verify(reference, netlist));
+  }
+
+  @Test
+  public void limitFanout_WithinMax_ShouldNotChangeNetlist() {
+    final Netlist netlist = maxFanoutTest.getChain();
+    assertEquals(0, maxFanout.limitFanout(netlist, 10));
+    assertEquals(13, netlist.getNumVertex());
+    assertEquals(12, netlist.getNumEdge());
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.results.netlist;
+
+/**
+ * Utility methods for building {@link Netlist} instances in tests. Test classes are not shared
+ * between modules, so each module whose tests need these methods has its own copy.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class NetlistTestUtils {
+
+  /**
+   * Adds a node with the name defined by parameter {@code name} and the node type defined by
+   * parameter {@code type} to the netlist defined by parameter {@code netlist}.
+   *
+   * @param netlist The {@link Netlist}.
+   * @param name The name of the node.
+   * @param type The node type, e.g. {@code NOR} or {@code PRIMARY_INPUT}.
+   * @return The node.
+   */
+  public static NetlistNode addNode(final Netlist netlist, final String name, final String type) {
+    final NetlistNode rtn = new NetlistNode();
+    rtn.setName(name);
+    rtn.getResultNetlistNodeData().setNodeType(type);
+    netlist.addVertex(rtn);
+    return rtn;
+  }
+
+  /**
+   * Adds an edge named after its endpoints from the node defined by parameter {@code src} to the
+   * node defined by parameter {@code dst} to the netlist defined by parameter {@code netlist}.
+   *
+   * @param netlist The {@link Netlist}.
+   * @param src The source of the edge.
+   * @param dst The destination of the edge.
+   * @return The edge.
+   */
+  public static NetlistEdge addEdge(
+      final Netlist netlist, final NetlistNode src, final NetlistNode dst) {
+    final NetlistEdge rtn = new NetlistEdge(src, dst);
+    rtn.setName(src.getName() + "_" + dst.getName());
+    src.addOutEdge(rtn);
+    dst.addInEdge(rtn);
+    netlist.addEdge(rtn);
+    return rtn;
+  }
+}
@@ -22,9 +22,13 @@ package org.cellocad.v2.logicSynthesis.algorithm.Yosys;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -185,46 +189,111 @@ public class NetSynthUtils {
     return rtn;
   }
 
-  private static Path initResources() throws IOException, CelloException {
-    Path rtn = null;
-    rtn = Files.createTempDirectory("cello_");
-    final String sourceBase = "netsynthResources";
-    final String targetBase = "resources" + Utils.getFileSeparator() + "netsynthResources";
-    final Path targetPath = Files.createDirectories(Paths.get(rtn.toString(), targetBase));
-    Path p = null;
-    List<String> files = null;
+  private static List<String> getExecutableResources() {
+    List<String> rtn = null;
     if (Utils.isMac()) {
-      files = Arrays.asList(new String[] {"espresso.mac", "abc.mac", "script"});
+      rtn = Arrays.asList(new String[] {"espresso.mac", "abc.mac", "script"});
     }
     if (Utils.isUnix()) {
-      files = Arrays.asList(new String[] {"espresso.linux", "abc", "script"});
+      rtn = Arrays.asList(new String[] {"espresso.linux", "abc", "script"});
     }
     if (Utils.isWin()) {
-      files = Arrays.asList(new String[] {"espresso.exe", "abc.exe", "script.cmd"});
+      rtn = Arrays.asList(new String[] {"espresso.exe", "abc.exe", "script.cmd"});
     }
+    return rtn;
+  }
+
+  private static List<String> getDataResources() {
+    return Arrays.asList(
+        new String[] {"abc.rc", "netlist_in3out1.json", "netlist_in3out1_OR.json", "tempVerilog.v"});
+  }
+
+  /**
+   * Returns the key of the extracted resources. The key is derived from the location, size, and
+   * modification time of every resource, so a rebuilt jar is extracted into a new directory while
+   * the resources themselves are not read.
+   *
+   * @return The key of the extracted resources.
+   * @throws IOException Unable to find a resource.
+   */
+  private static String getResourcesKey() throws IOException {
+    final List<String> parts = new ArrayList<>();
+    final List<String> files = new ArrayList<>(NetSynthUtils.getExecutableResources());
+    files.addAll(NetSynthUtils.getDataResources());
     for (final String file : files) {
-      p = Paths.get(sourceBase, file);
+      final String resource = NetSynthUtils.S_SOURCE_BASE + "/" + file;
+      final URL url = Utils.class.getClassLoader().getResource(resource);
+      if (url == null) {
+        throw new IOException("Missing resource " + resource + ".");
+      }
+      final URLConnection connection = url.openConnection();
+      connection.setUseCaches(false);
+      parts.add(url.toString());
+      parts.add(String.valueOf(connection.getContentLengthLong()));
+      parts.add(String.valueOf(connection.getLastModified()));
+      connection.getInputStream().close();
+    }
+    return YosysCache.getKey(parts.toArray(new String[0]));
+  }
+
+  private static void extractResources(final Path directory) throws IOException, CelloException {
+    final String targetBase = "resources" + Utils.getFileSeparator() + NetSynthUtils.S_SOURCE_BASE;
+    final Path targetPath = Files.createDirectories(Paths.get(directory.toString(), targetBase));
+    Path p = null;
+    for (final String file : NetSynthUtils.getExecutableResources()) {
+      p = Paths.get(NetSynthUtils.S_SOURCE_BASE, file);
       File f = null;
       Boolean a = false;
       f = NetSynthUtils.copyResource(p, targetPath);
       a = f.setExecutable(true);
       Boolean b = false;
-      f = NetSynthUtils.copyResource(p, rtn);
+      f = NetSynthUtils.copyResource(p, directory);
       b = f.setExecutable(true);
       if (!(a && b)) {
         throw new CelloException("Unable to set executable permissions on file " + f.toString());
       }
     }
-    files =
-        Arrays.asList(
-            new String[] {
-              "abc.rc", "netlist_in3out1.json", "netlist_in3out1_OR.json", "tempVerilog.v"
-            });
-    for (final String file : files) {
-      p = Paths.get(sourceBase, file);
+    for (final String file : NetSynthUtils.getDataResources()) {
+      p = Paths.get(NetSynthUtils.S_SOURCE_BASE, file);
       NetSynthUtils.copyResource(p, targetPath);
-      NetSynthUtils.copyResource(p, rtn);
+      NetSynthUtils.copyResource(p, directory);
+    }
+  }
+
+  /**
+   * Returns the directory of the NetSynth resources, extracting them on first use. The resources
+   * are extracted once per user into a directory named by {@link #getResourcesKey()} under {@code
+   * ~/.cello/netsynth}, and are shared by later runs and concurrent jobs: NetSynth only reads this
+   * directory, and writes its intermediate files under the output directory of each job. A new
+   * directory is populated under a temporary name and renamed into place, so a job never sees a
+   * partially extracted directory, and a job that loses the race uses the directory of the winner.
+   *
+   * @return The directory of the NetSynth resources.
+   * @throws IOException Unable to extract the resources.
+   * @throws CelloException Unable to extract the resources.
+   */
+  private static synchronized Path initResources() throws IOException, CelloException {
+    if (NetSynthUtils.resources != null && Files.isDirectory(NetSynthUtils.resources)) {
+      return NetSynthUtils.resources;
+    }
+    final String base =
+        Utils.getPathFile(new String[] {System.getProperty("user.home"), ".cello", "netsynth"});
+    final Path parent = Files.createDirectories(Paths.get(base));
+    final Path rtn = parent.resolve(NetSynthUtils.getResourcesKey());
+    if (!Files.isDirectory(rtn)) {
+      final Path temp = Files.createTempDirectory(parent, rtn.getFileName() + ".");
+      try {
+        NetSynthUtils.extractResources(temp);
+        Files.move(temp, rtn, StandardCopyOption.ATOMIC_MOVE);
+      } catch (final FileSystemException e) {
+        if (!Files.isDirectory(rtn)) {
+          throw e;
+        }
+      } finally {
+        FileUtils.deleteQuietly(temp.toFile());
+      }
     }
+    NetSynthUtils.resources = rtn;
     return rtn;
   }
 
@@ -295,7 +364,6 @@ public class NetSynthUtils {
     final DAGW dagw = n.runNetSynth(verilogFilePath, args, m);
     // clean
     n.cleanDirectory();
-    FileUtils.deleteDirectory(path.toFile());
     // netlist
     rtn = new Netlist();
     rtn.setName(netlist.getName());
@@ -342,4 +410,7 @@ public class NetSynthUtils {
     }
     return rtn;
   }
+
+  private static final String S_SOURCE_BASE = "netsynthResources";
+  private static Path resources;
 }
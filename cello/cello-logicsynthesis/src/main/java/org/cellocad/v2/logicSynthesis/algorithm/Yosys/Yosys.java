@@ -19,16 +19,24 @@
 
 package org.cellocad.v2.logicSynthesis.algorithm.Yosys;
 
+import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.StringTokenizer;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.cellocad.v2.common.ExecCommand;
@@ -41,8 +49,10 @@ import org.cellocad.v2.logicSynthesis.algorithm.Yosys.data.YosysNetlistData;
 import org.cellocad.v2.logicSynthesis.algorithm.Yosys.data.YosysNetlistEdgeData;
 import org.cellocad.v2.logicSynthesis.algorithm.Yosys.data.YosysNetlistNodeData;
 import org.cellocad.v2.logicSynthesis.netlist.OutputOrTransform;
+import org.cellocad.v2.logicSynthesis.netlist.StructuralVerilogReader;
 import org.cellocad.v2.logicSynthesis.target.data.LSTargetDataInstance;
 import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+import org.cellocad.v2.results.logicSynthesis.netlist.EquivalenceChecker;
 import org.cellocad.v2.results.netlist.Netlist;
 import org.cellocad.v2.results.netlist.NetlistEdge;
 import org.cellocad.v2.results.netlist.NetlistNode;
@@ -72,6 +82,11 @@ public class Yosys extends LSAlgorithm {
   private static String S_ABC_RESULT = "ABC RESULTS";
   private static String S_GATES_DELIM = ",";
   private static boolean B_CLEANUP = false;
+  private static final int I_CACHE_SIZE = 256;
+  private static final long L_TIMEOUT = 600000;
+  private static final String S_CACHE_DIRECTORY = "yosys_cache";
+  private static final String S_OBJECTIVE_GATES = "gates";
+  private static final String S_OBJECTIVE_DEPTH = "depth";
 
   /**
    * Returns the {@link YosysNetlistNodeData} of the given node.
@@ -132,6 +147,44 @@ public class Yosys extends LSAlgorithm {
     if (present) {
       setNetSynth(getAlgorithmProfile().getBooleanParameter("NetSynth").getSecond());
     }
+    present = getAlgorithmProfile().getBooleanParameter("EquivalenceCheck").getFirst();
+    if (present) {
+      setEquivalenceCheck(
+          getAlgorithmProfile().getBooleanParameter("EquivalenceCheck").getSecond());
+    }
+    present = getAlgorithmProfile().getBooleanParameter("StructuralReader").getFirst();
+    if (present) {
+      setStructuralReader(
+          getAlgorithmProfile().getBooleanParameter("StructuralReader").getSecond());
+    }
+    present = getAlgorithmProfile().getBooleanParameter("Worker").getFirst();
+    if (present) {
+      setWorker(getAlgorithmProfile().getBooleanParameter("Worker").getSecond());
+    }
+    present = getAlgorithmProfile().getIntParameter("Timeout").getFirst();
+    if (present) {
+      setTimeout(getAlgorithmProfile().getIntParameter("Timeout").getSecond());
+    }
+    present = getAlgorithmProfile().getBooleanParameter("Cache").getFirst();
+    if (present) {
+      setCache(getAlgorithmProfile().getBooleanParameter("Cache").getSecond());
+    }
+    present = getAlgorithmProfile().getStringParameter("CacheDirectory").getFirst();
+    if (present) {
+      setCacheDirectory(getAlgorithmProfile().getStringParameter("CacheDirectory").getSecond());
+    }
+    present = getAlgorithmProfile().getIntParameter("CacheSize").getFirst();
+    if (present) {
+      setCacheSize(getAlgorithmProfile().getIntParameter("CacheSize").getSecond());
+    }
+    present = getAlgorithmProfile().getStringParameter("Recipes").getFirst();
+    if (present) {
+      setRecipes(getAlgorithmProfile().getStringParameter("Recipes").getSecond());
+    }
+    present = getAlgorithmProfile().getStringParameter("RecipeObjective").getFirst();
+    if (present) {
+      setRecipeObjective(getAlgorithmProfile().getStringParameter("RecipeObjective").getSecond());
+    }
   }
 
   /** Validate parameter value for <i>Gates</i>. */
@@ -147,10 +200,46 @@ public class Yosys extends LSAlgorithm {
     }
   }
 
+  /** Validate parameter values for <i>Recipes</i> and <i>RecipeObjective</i>. */
+  protected void validateRecipesParameterValues() {
+    List<YosysRecipe> recipes = null;
+    try {
+      recipes = YosysRecipe.getRecipes(getRecipes());
+    } catch (final CelloException e) {
+      logError(e.getMessage());
+      Utils.exit(-1);
+    }
+    final List<String> gates = Arrays.asList(getGates().split(Yosys.S_GATES_DELIM));
+    for (final YosysRecipe recipe : recipes) {
+      final List<String> recipeGates = new ArrayList<>(recipe.getPassGates());
+      recipeGates.add(recipe.getGates());
+      for (final String list : recipeGates) {
+        for (final String token : list.split(Yosys.S_GATES_DELIM)) {
+          if (!gates.contains(token)) {
+            logError(token + " of recipe " + recipe + " is not an available gate!");
+            Utils.exit(-1);
+          }
+        }
+      }
+    }
+    final String objective = getRecipeObjective();
+    if (objective != null
+        && !objective.equals(Yosys.S_OBJECTIVE_GATES)
+        && !objective.equals(Yosys.S_OBJECTIVE_DEPTH)) {
+      logError(objective + " is not a valid value for parameter RecipeObjective!");
+      Utils.exit(-1);
+    }
+  }
+
   /** Validate parameter values of the algorithm. */
   @Override
   protected void validateParameterValues() {
     validateGatesParameterValues();
+    validateRecipesParameterValues();
+    if (getTimeout() != null && getTimeout() < 0) {
+      logError(getTimeout() + " is not a valid value for parameter Timeout!");
+      Utils.exit(-1);
+    }
   }
 
   private String getGates() {
@@ -165,9 +254,113 @@ public class Yosys extends LSAlgorithm {
     return rtn;
   }
 
-  /** Perform preprocessing. */
+  /**
+   * Returns the <i>Yosys</i> script that synthesizes the Verilog file defined by parameter {@code
+   * inputFilename}.
+   *
+   * @param inputFilename The Verilog file.
+   * @param showPrefix The prefix of the drawing of the synthesized netlist.
+   * @param edifFilename The EDIF file of the synthesized netlist.
+   * @param jsonFilename The JSON file of the synthesized netlist.
+   * @return The <i>Yosys</i> script.
+   */
+  protected String getScript(
+      final String inputFilename,
+      final String showPrefix,
+      final String edifFilename,
+      final String jsonFilename) {
+    return getScript(
+        inputFilename,
+        showPrefix,
+        edifFilename,
+        jsonFilename,
+        getGates(),
+        new ArrayList<String>());
+  }
+
+  /**
+   * Returns the <i>Yosys</i> script that synthesizes the Verilog file defined by parameter {@code
+   * inputFilename} with the gates defined by parameter {@code gates}, followed by the commands
+   * defined by parameter {@code passes}.
+   *
+   * @param inputFilename The Verilog file.
+   * @param showPrefix The prefix of the drawing of the synthesized netlist.
+   * @param edifFilename The EDIF file of the synthesized netlist.
+   * @param jsonFilename The JSON file of the synthesized netlist.
+   * @param gates The gates given to <i>ABC</i>, separated by commas.
+   * @param passes The commands run after <i>ABC</i>.
+   * @return The <i>Yosys</i> script.
+   */
+  protected String getScript(
+      final String inputFilename,
+      final String showPrefix,
+      final String edifFilename,
+      final String jsonFilename,
+      final String gates,
+      final List<String> passes) {
+    String rtn = "";
+    // read_verilog
+    rtn += "read_verilog ";
+    rtn += inputFilename;
+    rtn += Utils.getNewLine();
+    // flatten
+    rtn += "flatten";
+    rtn += Utils.getNewLine();
+    // splitnets
+    rtn += "splitnets -ports";
+    rtn += Utils.getNewLine();
+    // hierarchy
+    rtn += "hierarchy -auto-top";
+    rtn += Utils.getNewLine();
+    // proc
+    rtn += "proc";
+    rtn += Utils.getNewLine();
+    // techmap
+    rtn += "techmap";
+    rtn += Utils.getNewLine();
+    // opt
+    rtn += "opt";
+    rtn += Utils.getNewLine();
+    // abc
+    rtn += "abc -g ";
+    rtn += gates;
+    rtn += Utils.getNewLine();
+    // opt
+    rtn += "opt";
+    rtn += Utils.getNewLine();
+    // passes
+    for (final String pass : passes) {
+      rtn += pass;
+      rtn += Utils.getNewLine();
+    }
+    // hierarchy
+    rtn += "hierarchy -auto-top";
+    rtn += Utils.getNewLine();
+    // opt_clean
+    rtn += "opt_clean -purge";
+    rtn += Utils.getNewLine();
+    // show
+    rtn += "show -format pdf -prefix ";
+    rtn += showPrefix;
+    rtn += Utils.getNewLine();
+    // write
+    rtn += "write_edif ";
+    rtn += edifFilename;
+    rtn += Utils.getNewLine();
+    // write
+    rtn += "write_json ";
+    rtn += jsonFilename;
+    rtn += Utils.getNewLine();
+    return rtn;
+  }
+
+  /**
+   * Perform preprocessing.
+   *
+   * @throws CelloException Unable to perform preprocessing.
+   */
   @Override
-  protected void preprocessing() {
+  protected void preprocessing() throws CelloException {
     final String outputDir = getRuntimeEnv().getOptionValue(ArgString.OUTPUTDIR);
     final String inputFilename = getNetlist().getInputFilename();
     final String filename = Utils.getFilename(inputFilename);
@@ -184,60 +377,68 @@ public class Yosys extends LSAlgorithm {
     exec += " -s ";
     setYosysExec(exec);
     // create Yosys script
-    String script = "";
-    // read_verilog
-    script += "read_verilog ";
-    script += inputFilename;
-    script += Utils.getNewLine();
-    // flatten
-    script += "flatten";
-    script += Utils.getNewLine();
-    // splitnets
-    script += "splitnets -ports";
-    script += Utils.getNewLine();
-    // hierarchy
-    script += "hierarchy -auto-top";
-    script += Utils.getNewLine();
-    // proc
-    script += "proc";
-    script += Utils.getNewLine();
-    // techmap
-    script += "techmap";
-    script += Utils.getNewLine();
-    // opt
-    script += "opt";
-    script += Utils.getNewLine();
-    // abc
-    script += "abc -g ";
-    script += getGates();
-    script += Utils.getNewLine();
-    // opt
-    script += "opt";
-    script += Utils.getNewLine();
-    // hierarchy
-    script += "hierarchy -auto-top";
-    script += Utils.getNewLine();
-    // opt_clean
-    script += "opt_clean -purge";
-    script += Utils.getNewLine();
-    // show
-    script += "show -format pdf -prefix ";
-    script += outputDir;
-    script += Utils.getFileSeparator();
-    script += filename;
-    script += "_yosys";
-    script += Utils.getNewLine();
-    // write
-    script += "write_edif ";
-    script += getYosysEdifFilename();
-    script += Utils.getNewLine();
-    // write
-    script += "write_json ";
-    script += getYosysJsonFilename();
-    script += Utils.getNewLine();
+    final String script =
+        getScript(
+            inputFilename,
+            outputDir + Utils.getFileSeparator() + filename + "_yosys",
+            getYosysEdifFilename(),
+            getYosysJsonFilename());
+    // structural Verilog
+    if (getStructuralReader() != null && getStructuralReader()) {
+      readStructuralVerilog(inputFilename);
+    }
+    // cache
+    if (getCache() != null && getCache()) {
+      lookupCache(inputFilename);
+    }
+    if (getCachedNetlist() != null || getStructuralNetlist() != null) {
+      return;
+    }
+    // recipes
+    final List<YosysRecipe> recipes = YosysRecipe.getRecipes(getRecipes());
+    for (int i = 0; i < recipes.size(); i++) {
+      final YosysRecipe recipe = recipes.get(i);
+      final String prefix = outputDir + Utils.getFileSeparator() + filename + "_recipe" + i;
+      Yosys.deleteOutputs(prefix);
+      Yosys.writeScript(
+          prefix + ".ys",
+          getScript(
+              inputFilename,
+              prefix + "_yosys",
+              prefix + ".edif",
+              prefix + ".json",
+              recipe.getGates(),
+              recipe.getPasses()));
+    }
+    if (!recipes.isEmpty()) {
+      return;
+    }
     // write Yosys script
+    Yosys.deleteOutputs(outputDir + Utils.getFileSeparator() + filename);
+    Yosys.writeScript(getYosysScriptFilename(), script);
+  }
+
+  /*
+   * Deletes the files a script with the prefix defined by parameter prefix writes, so that the
+   * files of an earlier run are not read if the script fails.
+   */
+  private static void deleteOutputs(final String prefix) {
+    Utils.deleteFilename(prefix + ".edif");
+    Utils.deleteFilename(prefix + ".json");
+    Utils.deleteFilename(prefix + "_yosys.dot");
+    Utils.deleteFilename(prefix + "_yosys.pdf");
+  }
+
+  /**
+   * Writes the <i>Yosys</i> script defined by parameter {@code script} to the file defined by
+   * parameter {@code filename}.
+   *
+   * @param filename The file.
+   * @param script The script.
+   */
+  private static void writeScript(final String filename, final String script) {
     try {
-      final OutputStream outputStream = new FileOutputStream(getYosysScriptFilename());
+      final OutputStream outputStream = new FileOutputStream(filename);
       final Writer outputStreamWriter = new OutputStreamWriter(outputStream);
       outputStreamWriter.write(script);
       outputStreamWriter.close();
@@ -247,16 +448,147 @@ public class Yosys extends LSAlgorithm {
     }
   }
 
-  /** Run the (core) algorithm. */
+  /**
+   * Run the (core) algorithm.
+   *
+   * @throws CelloException Unable to run the (core) algorithm.
+   */
   @Override
-  protected void run() {
-    final ExecCommand proc =
-        Utils.executeAndWaitForCommand(getYosysExec() + getYosysScriptFilename());
+  protected void run() throws CelloException {
+    if (getCachedNetlist() != null || getStructuralNetlist() != null) {
+      return;
+    }
+    final List<YosysRecipe> recipes = YosysRecipe.getRecipes(getRecipes());
+    if (!recipes.isEmpty()) {
+      runRecipes(recipes);
+      return;
+    }
+    if (getWorker() != null && getWorker()) {
+      final String output = execute(getYosysScriptFilename());
+      this.getResults(output);
+      logInfo(output);
+      return;
+    }
+    final ExecCommand proc = executeCommand(getYosysExec() + getYosysScriptFilename());
     this.getResults(proc);
     logInfo(proc.getOutput());
     logInfo(proc.getError());
   }
 
+  /**
+   * Runs the <i>Yosys</i> script defined by parameter {@code scriptFilename}, on a worker if
+   * enabled and as a separate process otherwise, and returns its output.
+   *
+   * @param scriptFilename The script.
+   * @return The output of the script.
+   * @throws CelloException Unable to run the script.
+   */
+  protected String execute(final String scriptFilename) throws CelloException {
+    String rtn = null;
+    if (getWorker() != null && getWorker()) {
+      final YosysWorker worker = YosysWorker.acquire(Yosys.getYosysCommand(getYosysExec()));
+      try {
+        rtn = worker.execute(scriptFilename, getCommandTimeout());
+      } finally {
+        YosysWorker.release(worker);
+      }
+    } else {
+      final ExecCommand proc = executeCommand(getYosysExec() + scriptFilename);
+      rtn = proc.getOutput() + proc.getError();
+    }
+    return rtn;
+  }
+
+  /**
+   * Runs the command defined by parameter {@code cmd} with the <i>Timeout</i> of this instance.
+   *
+   * @param cmd The command.
+   * @return The {@link ExecCommand} that ran the command.
+   * @throws CelloException The command timed out.
+   */
+  private ExecCommand executeCommand(final String cmd) throws CelloException {
+    final ExecCommand rtn = Utils.executeAndWaitForCommand(cmd, getCommandTimeout());
+    if (rtn.isTimedOut()) {
+      throw new CelloException(cmd + " timed out after " + getCommandTimeout() + " ms.");
+    }
+    return rtn;
+  }
+
+  private long getCommandTimeout() {
+    return getTimeout() != null ? getTimeout() : Yosys.L_TIMEOUT;
+  }
+
+  /**
+   * Runs the scripts of the recipes defined by parameter {@code recipes} concurrently, logs the
+   * number of gates and depth of every candidate netlist, and keeps the candidate that is best
+   * for the <i>RecipeObjective</i>, i.e. the fewest gates or the smallest depth, with the other
+   * measure breaking ties. The files of the kept candidate become the files of this instance.
+   *
+   * @param recipes The recipes, whose scripts were written by preprocessing.
+   * @throws CelloException Unable to run a recipe, or no recipe produced a netlist.
+   */
+  protected void runRecipes(final List<YosysRecipe> recipes) throws CelloException {
+    final String script = getYosysScriptFilename();
+    final String prefix = script.substring(0, script.length() - ".ys".length()) + "_recipe";
+    final int threads = Math.min(recipes.size(), Runtime.getRuntime().availableProcessors());
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    final List<Future<String>> outputs = new ArrayList<>();
+    try {
+      for (int i = 0; i < recipes.size(); i++) {
+        final String filename = prefix + i + ".ys";
+        outputs.add(executor.submit(() -> execute(filename)));
+      }
+      final boolean depth = Yosys.S_OBJECTIVE_DEPTH.equals(getRecipeObjective());
+      int best = -1;
+      int[] bestScore = null;
+      String bestOutput = null;
+      for (int i = 0; i < recipes.size(); i++) {
+        String output = null;
+        try {
+          output = outputs.get(i).get();
+        } catch (final ExecutionException e) {
+          logInfo("Recipe " + i + " (" + recipes.get(i) + ") failed: " + e.getCause());
+          continue;
+        }
+        final Netlist netlist = new Netlist();
+        try {
+          YosysJsonUtils.getNetlistFromYosysJsonFile(this, prefix + i + ".json", netlist);
+        } catch (final RuntimeException e) {
+          logInfo("Recipe " + i + " (" + recipes.get(i) + ") failed: " + e.getMessage());
+          continue;
+        }
+        final int numGates = YosysRecipe.getNumGates(netlist);
+        final int numLevels = YosysRecipe.getDepth(netlist);
+        final String fmt = "Recipe %d (%s): %d gates, depth %d.";
+        logInfo(String.format(fmt, i, recipes.get(i), numGates, numLevels));
+        final int[] score =
+            depth ? new int[] {numLevels, numGates} : new int[] {numGates, numLevels};
+        if (bestScore == null
+            || score[0] < bestScore[0]
+            || score[0] == bestScore[0] && score[1] < bestScore[1]) {
+          best = i;
+          bestScore = score;
+          bestOutput = output;
+        }
+      }
+      if (best < 0) {
+        throw new CelloException("No recipe produced a netlist.");
+      }
+      logInfo("Kept recipe " + best + " (" + recipes.get(best) + ").");
+      setYosysScriptFilename(prefix + best + ".ys");
+      setYosysEdifFilename(prefix + best + ".edif");
+      setYosysJsonFilename(prefix + best + ".json");
+      setYosysDotFilename(prefix + best + "_yosys.dot");
+      this.getResults(bestOutput);
+      logInfo(bestOutput);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CelloException(e);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   /**
    * Perform postprocessing.
    *
@@ -264,9 +596,23 @@ public class Yosys extends LSAlgorithm {
    */
   @Override
   protected void postprocessing() throws CelloException {
+    if (getCachedNetlist() != null) {
+      getNetlist().setName(getCachedNetlist().getName());
+      setNetlist(getCachedNetlist());
+      return;
+    }
     // YosysEdifUtils.convertEdifToNetlist(this, this.getYosysEdifFilename(),
     // this.getNetlist());
-    YosysJsonUtils.getNetlistFromYosysJsonFile(this, getYosysJsonFilename(), getNetlist());
+    if (getStructuralNetlist() != null) {
+      getNetlist().setName(getStructuralNetlist().getName());
+      setNetlist(getStructuralNetlist());
+    } else {
+      YosysJsonUtils.getNetlistFromYosysJsonFile(this, getYosysJsonFilename(), getNetlist());
+    }
+    Netlist reference = null;
+    if (getEquivalenceCheck() != null && getEquivalenceCheck()) {
+      reference = new Netlist(getNetlist());
+    }
     // delete
     if (Yosys.B_CLEANUP) {
       Utils.deleteFilename(getYosysDotFilename());
@@ -283,20 +629,169 @@ public class Yosys extends LSAlgorithm {
       } catch (JSONException | IOException e) {
         throw new CelloException(e);
       }
-      getNetlist().clear();
-      for (int i = 0; i < n.getNumVertex(); i++) {
-        final NetlistNode node = n.getVertexAtIdx(i);
-        getNetlist().addVertex(node);
-      }
-      for (int i = 0; i < n.getNumEdge(); i++) {
-        final NetlistEdge node = n.getEdgeAtIdx(i);
-        getNetlist().addEdge(node);
-      }
+      setNetlist(n);
     } else {
       new OutputOrTransform(getNetlist());
     }
+    if (reference != null) {
+      checkEquivalence(reference);
+    }
+    if (getCacheKey() != null) {
+      getYosysCache().put(getCacheKey(), getNetlist());
+    }
+  }
+
+  /**
+   * Replaces the nodes and edges of the netlist of this instance with those of the netlist defined
+   * by parameter {@code netlist}.
+   *
+   * @param netlist The netlist.
+   */
+  private void setNetlist(final Netlist netlist) {
+    getNetlist().clear();
+    for (int i = 0; i < netlist.getNumVertex(); i++) {
+      final NetlistNode node = netlist.getVertexAtIdx(i);
+      getNetlist().addVertex(node);
+    }
+    for (int i = 0; i < netlist.getNumEdge(); i++) {
+      final NetlistEdge node = netlist.getEdgeAtIdx(i);
+      getNetlist().addEdge(node);
+    }
+  }
+
+  /**
+   * Reads the Verilog file defined by parameter {@code inputFilename} with a {@link
+   * StructuralVerilogReader}. If the file is flat, gate-level Verilog over the available gates, the
+   * netlist read is kept for postprocessing and <i>Yosys</i> is not run; otherwise <i>Yosys</i> is
+   * run as usual. The netlist read is not optimized by <i>Yosys</i>, so the reader is only used when
+   * the <i>StructuralReader</i> parameter is set, which it is not by default.
+   *
+   * @param inputFilename The Verilog file.
+   */
+  protected void readStructuralVerilog(final String inputFilename) {
+    String verilog = null;
+    try {
+      verilog = new String(Files.readAllBytes(Paths.get(inputFilename)), StandardCharsets.UTF_8);
+    } catch (final IOException e) {
+      return;
+    }
+    try {
+      final List<String> gates = Arrays.asList(getGates().split(Yosys.S_GATES_DELIM));
+      final StructuralVerilogReader reader = new StructuralVerilogReader(verilog, gates);
+      setStructuralNetlist(reader.getNetlist());
+      logInfo("Read structural Verilog without Yosys.");
+    } catch (final CelloException e) {
+      logInfo("Not structural Verilog, running Yosys: " + e.getMessage());
+    }
   }
 
+  /**
+   * Looks up the synthesized netlist of the Verilog file defined by parameter {@code
+   * inputFilename} in the cache. The key of the netlist is a hash of the Verilog, the script
+   * template, the gates, every setting that selects a code path, the motif library, the recipes,
+   * and, unless the Verilog was read without <i>Yosys</i>, the <i>Yosys</i> version. On a hit, the
+   * netlist is kept for postprocessing and <i>Yosys</i> is not run, so the drawing, EDIF, and JSON
+   * files of <i>Yosys</i> are not written; on a miss, the key is kept so that postprocessing stores
+   * the netlist it produces. Without a <i>CacheDirectory</i>, the cache is kept in the output
+   * directory.
+   *
+   * @param inputFilename The Verilog file.
+   * @throws CelloException Unable to create the cache.
+   */
+  protected void lookupCache(final String inputFilename) throws CelloException {
+    String verilog = null;
+    try {
+      verilog = new String(Files.readAllBytes(Paths.get(inputFilename)), StandardCharsets.UTF_8);
+    } catch (final IOException e) {
+      logInfo("Cache skipped: unable to read " + inputFilename + ".");
+      return;
+    }
+    String dir = getCacheDirectory();
+    if (dir == null || dir.isEmpty()) {
+      final String outputDir = getRuntimeEnv().getOptionValue(ArgString.OUTPUTDIR);
+      dir = outputDir + Utils.getFileSeparator() + Yosys.S_CACHE_DIRECTORY;
+    }
+    final int size = getCacheSize() != null ? getCacheSize() : Yosys.I_CACHE_SIZE;
+    setYosysCache(new YosysCache(new File(dir), size));
+    String motifs = "";
+    if (getNetSynth()) {
+      motifs = YosysDataUtils.getMotifLibrary(getTargetData()).toJSONString();
+    }
+    String version = "";
+    if (getStructuralNetlist() == null) {
+      version = Yosys.getYosysVersion(getYosysExec(), getCommandTimeout());
+    }
+    final String key =
+        YosysCache.getKey(
+            verilog,
+            getScript("", "", "", ""),
+            getGates(),
+            String.valueOf(getNetSynth()),
+            String.valueOf(getStructuralReader()),
+            String.valueOf(getEquivalenceCheck()),
+            String.valueOf(getWorker()),
+            motifs,
+            getRecipes(),
+            getRecipeObjective(),
+            version);
+    final Netlist netlist = getYosysCache().get(key);
+    if (netlist != null) {
+      logInfo("Cache hit: " + key + ".");
+      final String fmt = "Not written on a cache hit: %s, %s, %s.";
+      logInfo(
+          String.format(
+              fmt, getYosysDotFilename(), getYosysEdifFilename(), getYosysJsonFilename()));
+      setCachedNetlist(netlist);
+    } else {
+      logInfo("Cache miss: " + key + ".");
+      setCacheKey(key);
+    }
+  }
+
+  /**
+   * Returns the version of <i>Yosys</i>, as reported by the executable defined by parameter {@code
+   * exec}. The version is queried once.
+   *
+   * @param exec The <i>Yosys</i> executable, followed by the script flag.
+   * @param timeout The timeout in milliseconds, zero for none.
+   * @return The version of <i>Yosys</i>.
+   */
+  private static synchronized String getYosysVersion(final String exec, final long timeout) {
+    if (Yosys.yosysVersion == null) {
+      final String cmd = Yosys.getYosysCommand(exec) + " -V";
+      Yosys.yosysVersion = Utils.executeAndWaitForCommand(cmd, timeout).getOutput().trim();
+    }
+    return Yosys.yosysVersion;
+  }
+
+  private static String yosysVersion;
+
+  /**
+   * Returns the <i>Yosys</i> executable of the command defined by parameter {@code exec}.
+   *
+   * @param exec The <i>Yosys</i> executable, followed by the script flag.
+   * @return The <i>Yosys</i> executable.
+   */
+  private static String getYosysCommand(final String exec) {
+    return exec.replaceFirst(" -s $", "");
+  }
+
+  /**
+   * Checks that the netlist of this instance is equivalent to the netlist defined by parameter
+   * {@code reference}, the netlist produced by <i>Yosys</i> before any transformation.
+   *
+   * @param reference The netlist produced by <i>Yosys</i>.
+   * @throws CelloException The netlists are not equivalent.
+   */
+  protected void checkEquivalence(final Netlist reference) throws CelloException {
+    if (EquivalenceChecker.verify(reference, getNetlist())) {
+      logInfo("Equivalence check passed.");
+    } else {
+      logInfo("Equivalence check skipped: unsupported node type.");
+    }
+  }
+
+
   /**
    * Setter for {@code netSynth}.
    *
@@ -317,6 +812,271 @@ public class Yosys extends LSAlgorithm {
 
   private Boolean netSynth;
 
+  /**
+   * Setter for {@code equivalenceCheck}.
+   *
+   * @param value The value to set {@code equivalenceCheck}.
+   */
+  protected void setEquivalenceCheck(final Boolean value) {
+    equivalenceCheck = value;
+  }
+
+  /**
+   * Getter for {@code equivalenceCheck}.
+   *
+   * @return The value of {@code equivalenceCheck}.
+   */
+  protected Boolean getEquivalenceCheck() {
+    return equivalenceCheck;
+  }
+
+  private Boolean equivalenceCheck;
+
+  /**
+   * Setter for {@code structuralReader}.
+   *
+   * @param value The value to set {@code structuralReader}.
+   */
+  protected void setStructuralReader(final Boolean value) {
+    structuralReader = value;
+  }
+
+  /**
+   * Getter for {@code structuralReader}.
+   *
+   * @return The value of {@code structuralReader}.
+   */
+  protected Boolean getStructuralReader() {
+    return structuralReader;
+  }
+
+  private Boolean structuralReader;
+
+  /**
+   * Setter for {@code structuralNetlist}.
+   *
+   * @param value The value to set {@code structuralNetlist}.
+   */
+  protected void setStructuralNetlist(final Netlist value) {
+    structuralNetlist = value;
+  }
+
+  /**
+   * Getter for {@code structuralNetlist}, the netlist read from structural Verilog.
+   *
+   * @return The value of {@code structuralNetlist}, or null if the input is not structural Verilog.
+   */
+  protected Netlist getStructuralNetlist() {
+    return structuralNetlist;
+  }
+
+  private Netlist structuralNetlist;
+
+  /**
+   * Setter for {@code worker}.
+   *
+   * @param value The value to set {@code worker}.
+   */
+  protected void setWorker(final Boolean value) {
+    worker = value;
+  }
+
+  /**
+   * Getter for {@code worker}, whether scripts run on a persistent {@link YosysWorker} rather than
+   * a new <i>Yosys</i> process each. Workers are pooled apart from the process limit of {@link
+   * ExecCommand}, and each script is bounded by the <i>Timeout</i>. The worker protocol is unit
+   * tested against a stub shell, and against <i>Yosys</i> itself by {@code YosysWorkerIT} when it
+   * is on the path.
+   *
+   * @return The value of {@code worker}.
+   */
+  protected Boolean getWorker() {
+    return worker;
+  }
+
+  private Boolean worker;
+
+  /**
+   * Setter for {@code timeout}.
+   *
+   * @param value The value to set {@code timeout}.
+   */
+  protected void setTimeout(final Integer value) {
+    timeout = value;
+  }
+
+  /**
+   * Getter for {@code timeout}, the time in milliseconds after which a <i>Yosys</i> process is
+   * destroyed.
+   *
+   * @return The value of {@code timeout}, zero for none.
+   */
+  protected Integer getTimeout() {
+    return timeout;
+  }
+
+  private Integer timeout;
+
+  /**
+   * Setter for {@code cache}.
+   *
+   * @param value The value to set {@code cache}.
+   */
+  protected void setCache(final Boolean value) {
+    cache = value;
+  }
+
+  /**
+   * Getter for {@code cache}.
+   *
+   * @return The value of {@code cache}.
+   */
+  protected Boolean getCache() {
+    return cache;
+  }
+
+  private Boolean cache;
+
+  /**
+   * Setter for {@code cacheDirectory}.
+   *
+   * @param value The value to set {@code cacheDirectory}.
+   */
+  protected void setCacheDirectory(final String value) {
+    cacheDirectory = value;
+  }
+
+  /**
+   * Getter for {@code cacheDirectory}.
+   *
+   * @return The value of {@code cacheDirectory}.
+   */
+  protected String getCacheDirectory() {
+    return cacheDirectory;
+  }
+
+  private String cacheDirectory;
+
+  /**
+   * Setter for {@code cacheSize}.
+   *
+   * @param value The value to set {@code cacheSize}.
+   */
+  protected void setCacheSize(final Integer value) {
+    cacheSize = value;
+  }
+
+  /**
+   * Getter for {@code cacheSize}.
+   *
+   * @return The value of {@code cacheSize}.
+   */
+  protected Integer getCacheSize() {
+    return cacheSize;
+  }
+
+  private Integer cacheSize;
+
+  /**
+   * Setter for {@code recipes}.
+   *
+   * @param value The value to set {@code recipes}.
+   */
+  protected void setRecipes(final String value) {
+    recipes = value;
+  }
+
+  /**
+   * Getter for {@code recipes}, the synthesis recipes run concurrently (see {@link YosysRecipe}).
+   *
+   * @return The value of {@code recipes}, blank to run the single default script.
+   */
+  protected String getRecipes() {
+    return recipes;
+  }
+
+  private String recipes;
+
+  /**
+   * Setter for {@code recipeObjective}.
+   *
+   * @param value The value to set {@code recipeObjective}.
+   */
+  protected void setRecipeObjective(final String value) {
+    recipeObjective = value;
+  }
+
+  /**
+   * Getter for {@code recipeObjective}, either {@code gates} or {@code depth}.
+   *
+   * @return The value of {@code recipeObjective}.
+   */
+  protected String getRecipeObjective() {
+    return recipeObjective;
+  }
+
+  private String recipeObjective;
+
+  /**
+   * Setter for {@code yosysCache}.
+   *
+   * @param value The value to set {@code yosysCache}.
+   */
+  protected void setYosysCache(final YosysCache value) {
+    yosysCache = value;
+  }
+
+  /**
+   * Getter for {@code yosysCache}.
+   *
+   * @return The value of {@code yosysCache}.
+   */
+  protected YosysCache getYosysCache() {
+    return yosysCache;
+  }
+
+  private YosysCache yosysCache;
+
+  /**
+   * Setter for {@code cacheKey}.
+   *
+   * @param value The value to set {@code cacheKey}.
+   */
+  protected void setCacheKey(final String value) {
+    cacheKey = value;
+  }
+
+  /**
+   * Getter for {@code cacheKey}, the key under which to store the synthesized netlist.
+   *
+   * @return The value of {@code cacheKey}, or null if the netlist is not to be stored.
+   */
+  protected String getCacheKey() {
+    return cacheKey;
+  }
+
+  private String cacheKey;
+
+  /**
+   * Setter for {@code cachedNetlist}.
+   *
+   * @param value The value to set {@code cachedNetlist}.
+   */
+  protected void setCachedNetlist(final Netlist value) {
+    cachedNetlist = value;
+  }
+
+  /**
+   * Getter for {@code cachedNetlist}, the synthesized netlist found in the cache.
+   *
+   * @return The value of {@code cachedNetlist}, or null if there was no hit.
+   */
+  protected Netlist getCachedNetlist() {
+    return cachedNetlist;
+  }
+
+  private Netlist cachedNetlist;
+
   /**
    * Returns the {@link Logger} for the <i>Yosys</i> algorithm.
    *
@@ -347,8 +1107,17 @@ public class Yosys extends LSAlgorithm {
    * @param proc The process.
    */
   protected void getResults(final ExecCommand proc) {
+    this.getResults(proc.getOutput());
+  }
+
+  /**
+   * Logs the Results from the output defined by parameter {@code output} of the Yosys tool.
+   *
+   * @param output The output.
+   */
+  protected void getResults(final String output) {
     logResultHeader();
-    final StringTokenizer strtok = new StringTokenizer(proc.getOutput(), Utils.getNewLine());
+    final StringTokenizer strtok = new StringTokenizer(output, Utils.getNewLine());
     while (strtok.hasMoreTokens()) {
       final String token = strtok.nextToken();
       if (token.contains(Yosys.S_ABC_RESULT)) {
@@ -0,0 +1,198 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.logicSynthesis.algorithm.Yosys;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.json.JsonUtils;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+/**
+ * An on-disk cache of synthesized netlists, addressed by a hash of everything that determines the
+ * result of synthesis. Each entry is the JSON representation of a netlist in its own file. The
+ * cache holds at most a fixed number of entries and evicts the least recently used entry first,
+ * where the use of an entry is recorded as the last modified time of its file.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class YosysCache {
+
+  /**
+   * Initializes a newly created {@link YosysCache}.
+   *
+   * @param directory The directory of the cache. It is created if it does not exist.
+   * @param maxEntries The maximum number of entries of the cache.
+   * @throws CelloException Unable to create the directory, or {@code maxEntries} is less than one.
+   */
+  public YosysCache(final File directory, final int maxEntries) throws CelloException {
+    if (maxEntries < 1) {
+      throw new CelloException("Cache size must be positive.");
+    }
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new CelloException("Unable to create cache directory " + directory + ".");
+    }
+    this.directory = directory;
+    this.maxEntries = maxEntries;
+  }
+
+  /**
+   * Returns the key of the parts defined by parameter {@code parts}, the hexadecimal SHA-256 digest
+   * of the parts. Each part is prefixed with its length so that no two distinct lists of parts
+   * share a key.
+   *
+   * @param parts The parts of the key.
+   * @return The key of the parts.
+   */
+  public static String getKey(final String... parts) {
+    MessageDigest md = null;
+    try {
+      md = MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      throw new RuntimeException(e);
+    }
+    for (final String part : parts) {
+      final byte[] bytes = String.valueOf(part).getBytes(StandardCharsets.UTF_8);
+      md.update((bytes.length + ":").getBytes(StandardCharsets.UTF_8));
+      md.update(bytes);
+    }
+    final StringBuilder rtn = new StringBuilder();
+    for (final byte b : md.digest()) {
+      rtn.append(String.format("%02x", b));
+    }
+    return rtn.toString();
+  }
+
+  private File getFile(final String key) {
+    return new File(directory, key + YosysCache.S_EXTENSION);
+  }
+
+  /**
+   * Returns the netlist of the entry with the key defined by parameter {@code key}, and marks the
+   * entry as most recently used. An entry that cannot be read is removed.
+   *
+   * @param key The key.
+   * @return The netlist of the entry, or null if the cache has no such entry.
+   */
+  public Netlist get(final String key) {
+    Netlist rtn = null;
+    final File file = getFile(key);
+    if (!file.isFile()) {
+      return rtn;
+    }
+    try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+      rtn = new Netlist((JSONObject) new JSONParser().parse(reader));
+    } catch (IOException | ParseException | ClassCastException e) {
+      file.delete();
+      return null;
+    }
+    file.setLastModified(System.currentTimeMillis());
+    return rtn;
+  }
+
+  /**
+   * Stores the netlist defined by parameter {@code netlist} as the entry with the key defined by
+   * parameter {@code key}, then evicts the least recently used entries beyond the maximum number
+   * of entries. The entry is written to a temporary file and moved into place, so a concurrent
+   * reader never sees a partial entry.
+   *
+   * @param key The key.
+   * @param netlist The netlist.
+   * @throws CelloException Unable to write the entry.
+   */
+  public void put(final String key, final Netlist netlist) throws CelloException {
+    try {
+      final Path tmp = Files.createTempFile(directory.toPath(), key, ".tmp");
+      try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+        writer.write(JsonUtils.getStartEntryString());
+        netlist.writeJson(1, writer);
+        writer.write("}" + Utils.getNewLine());
+      }
+      Files.move(
+          tmp,
+          getFile(key).toPath(),
+          StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException e) {
+      throw new CelloException(e);
+    }
+    evict();
+  }
+
+  /**
+   * Deletes the least recently used entries beyond the maximum number of entries. The last
+   * modified times are read once before sorting, since a concurrent {@link #get(String)} may touch
+   * an entry during the sort and a comparator must be consistent.
+   */
+  private void evict() {
+    final File[] files = directory.listFiles((dir, name) -> name.endsWith(YosysCache.S_EXTENSION));
+    if (files == null || files.length <= maxEntries) {
+      return;
+    }
+    final long[] lastModified = new long[files.length];
+    final Integer[] order = new Integer[files.length];
+    for (int i = 0; i < files.length; i++) {
+      lastModified[i] = files[i].lastModified();
+      order[i] = i;
+    }
+    Arrays.sort(order, Comparator.comparingLong(i -> lastModified[i]));
+    for (int i = 0; i < files.length - maxEntries; i++) {
+      files[order[i]].delete();
+    }
+  }
+
+  /**
+   * Getter for {@code directory}.
+   *
+   * @return The value of {@code directory}.
+   */
+  public File getDirectory() {
+    return directory;
+  }
+
+  /**
+   * Getter for {@code maxEntries}.
+   *
+   * @return The value of {@code maxEntries}.
+   */
+  public int getMaxEntries() {
+    return maxEntries;
+  }
+
+  private final File directory;
+  private final int maxEntries;
+
+  private static final String S_EXTENSION = ".json";
+}
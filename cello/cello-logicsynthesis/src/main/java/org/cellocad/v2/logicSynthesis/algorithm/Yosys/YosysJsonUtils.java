@@ -19,32 +19,34 @@
 
 package org.cellocad.v2.logicSynthesis.algorithm.Yosys;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Multimap;
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
 import java.io.IOException;
-import java.io.Reader;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.cellocad.v2.common.Utils;
 import org.cellocad.v2.common.graph.AbstractVertex.VertexType;
-import org.cellocad.v2.common.profile.ProfileUtils;
 import org.cellocad.v2.results.logicSynthesis.LSResults;
 import org.cellocad.v2.results.netlist.Netlist;
 import org.cellocad.v2.results.netlist.NetlistEdge;
 import org.cellocad.v2.results.netlist.NetlistNode;
-import org.json.simple.JSONArray;
-import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
-import org.json.simple.parser.ParseException;
 
 /**
- * Utility methods for the <i>Yosys</i> instances.
+ * Utility methods for the <i>Yosys</i> instances. The JSON written by <i>Yosys</i> is read with a
+ * streaming parser in one pass: only the ports, cells and net names of the top module are read,
+ * and every other section, e.g. attributes and parameters, is skipped without being built.
  *
  * @author Vincent Mirian
  * @date 2018-05-21
@@ -69,59 +71,112 @@ public class YosysJsonUtils {
     Utils.isNullRuntimeException(yosys, "yosys");
     Utils.isNullRuntimeException(filename, "filename");
     Utils.isNullRuntimeException(netlist, "netlist");
-    // get JSON File
     final File jsonFile = new File(filename);
-    Reader jsonReader = null;
-    JSONObject jsonTop = null;
-    // Create File Reader
-    try {
-      jsonReader = new FileReader(jsonFile);
+    try (JsonParser parser = YosysJsonUtils.FACTORY.createParser(jsonFile)) {
+      YosysJsonUtils.parseJson(parser, netlist);
     } catch (final FileNotFoundException e) {
       throw new RuntimeException("Error with file: " + jsonFile);
-    }
-    // Create JSON object from File Reader
-    final JSONParser parser = new JSONParser();
-    try {
-      jsonTop = (JSONObject) parser.parse(jsonReader);
-    } catch (final IOException e) {
-      throw new RuntimeException("File IO Exception for: " + jsonFile + ".");
-    } catch (final ParseException e) {
+    } catch (final JsonProcessingException e) {
       throw new RuntimeException("Parser Exception for: " + jsonFile + ".");
-    }
-    // Create netlist
-    YosysJsonUtils.parseJson(jsonTop, netlist, yosys);
-    try {
-      jsonReader.close();
     } catch (final IOException e) {
-      throw new RuntimeException("Error with file: " + jsonFile);
+      throw new RuntimeException("File IO Exception for: " + jsonFile + ".");
     }
   }
 
   /**
-   * Copies the name of the top module defined in parameter {@code jsonTop} into the Netlist in
-   * parameter {@code netlist}. Returns the JSONObject representing value of the the top module.
+   * Translates the JSON read by parameter {@code parser} into the Netlist in parameter {@code
+   * netlist}.
    *
-   * @param jsonTop The JSONObject.
+   * @param parser The parser, positioned before the top-level object.
    * @param netlist The netlist.
-   * @return The JSONObject representing value of the the top module.
+   * @throws IOException Unable to read or parse the JSON.
+   */
+  public static void parseJson(final JsonParser parser, final Netlist netlist)
+      throws IOException {
+    final Multimap<Integer, NetlistNode> inputNetlistNode = ArrayListMultimap.create();
+    final Multimap<Integer, NetlistNode> outputNetlistNode = ArrayListMultimap.create();
+    final List<Net> nets = new ArrayList<>();
+    YosysJsonUtils.expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String field = parser.getCurrentName();
+      parser.nextToken();
+      if (field.equals(YosysJsonUtils.S_MODULES)) {
+        YosysJsonUtils.parseModules(parser, inputNetlistNode, outputNetlistNode, nets, netlist);
+      } else {
+        parser.skipChildren();
+      }
+    }
+    YosysJsonUtils.parseNets(nets, inputNetlistNode, outputNetlistNode, netlist);
+  }
+
+  private static void expect(final JsonParser parser, final JsonToken token, final JsonToken type)
+      throws IOException {
+    if (token != type) {
+      throw new JsonProcessingException("Expected " + type + ".", parser.getCurrentLocation()) {
+        private static final long serialVersionUID = 1L;
+      };
+    }
+  }
+
+  /**
+   * Reads the single module of the {@code modules} object, copying its name into the Netlist in
+   * parameter {@code netlist}.
    */
-  protected static JSONObject parseModuleName(final JSONObject jsonTop, final Netlist netlist) {
-    JSONObject rtn = null;
-    final JSONObject jModules = (JSONObject) jsonTop.get(YosysJsonUtils.S_MODULES);
-    if (jModules.keySet().size() != 1) {
+  private static void parseModules(
+      final JsonParser parser,
+      final Multimap<Integer, NetlistNode> inputNetlistNode,
+      final Multimap<Integer, NetlistNode> outputNetlistNode,
+      final List<Net> nets,
+      final Netlist netlist)
+      throws IOException {
+    YosysJsonUtils.expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+    int numModules = 0;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      if (++numModules > 1) {
+        throw new RuntimeException("More than one module!");
+      }
+      netlist.setName(parser.getCurrentName());
+      YosysJsonUtils.expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String field = parser.getCurrentName();
+        parser.nextToken();
+        if (field.equals(YosysJsonUtils.S_PORTS)) {
+          YosysJsonUtils.parsePorts(parser, inputNetlistNode, outputNetlistNode, netlist);
+        } else if (field.equals(YosysJsonUtils.S_CELLS)) {
+          YosysJsonUtils.parseCells(parser, inputNetlistNode, outputNetlistNode, netlist);
+        } else if (field.equals(YosysJsonUtils.S_NETS)) {
+          YosysJsonUtils.parseNetnames(parser, nets);
+        } else {
+          parser.skipChildren();
+        }
+      }
+    }
+    if (numModules != 1) {
       throw new RuntimeException("More than one module!");
     }
-    @SuppressWarnings("unchecked")
-    final Set<Map.Entry<?, ?>> entrySet = jModules.entrySet();
-    final String name = (String) entrySet.iterator().next().getKey();
-    netlist.setName(name);
-    rtn = (JSONObject) entrySet.iterator().next().getValue();
+  }
+
+  /**
+   * Reads the array of bits at the current token of parameter {@code parser}. A constant bit,
+   * e.g. {@code "0"}, is read as null.
+   */
+  private static List<Integer> parseBits(final JsonParser parser) throws IOException {
+    final List<Integer> rtn = new ArrayList<>();
+    YosysJsonUtils.expect(parser, parser.currentToken(), JsonToken.START_ARRAY);
+    JsonToken token = null;
+    while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+      if (token == JsonToken.VALUE_NUMBER_INT) {
+        rtn.add(parser.getIntValue());
+      } else {
+        rtn.add(null);
+        parser.skipChildren();
+      }
+    }
     return rtn;
   }
 
   /**
-   * Creates NetlistNode instances for the port(s) from the top module defined in parameter {@code
-   * jsonValue}.<br>
+   * Creates NetlistNode instances for the port(s) of the top module.<br>
    * Updates the S_MAP of integer to input netlistNode defined by parameter {@code
    * inputNetlistNode}.<br>
    * Updates the S_MAP of integer to output netlistNode defined by parameter {@code
@@ -129,48 +184,54 @@ public class YosysJsonUtils {
    * Updates the Netlist defined by parameter {@code netlist}.<br>
    * .
    *
-   * @param jsonValue The JSONObject.
+   * @param parser The parser, positioned at the {@code ports} object.
    * @param inputNetlistNode The S_MAP of integer to input netlistNode.
    * @param outputNetlistNode The S_MAP of integer to output netlistNode.
    * @param netlist The netlist.
+   * @throws IOException Unable to read or parse the JSON.
    */
-  protected static void parseModule(
-      final JSONObject jsonValue,
+  protected static void parsePorts(
+      final JsonParser parser,
       final Multimap<Integer, NetlistNode> inputNetlistNode,
       final Multimap<Integer, NetlistNode> outputNetlistNode,
-      final Netlist netlist) {
-    final JSONObject jPorts = (JSONObject) jsonValue.get(YosysJsonUtils.S_PORTS);
-    @SuppressWarnings("unchecked")
-    final Set<Map.Entry<?, ?>> entrySet = jPorts.entrySet();
-    final Iterator<?> iter = entrySet.iterator();
-    while (iter.hasNext()) {
-      final Map.Entry<?, ?> item = (Map.Entry<?, ?>) iter.next();
-      final String name = (String) item.getKey();
+      final Netlist netlist)
+      throws IOException {
+    YosysJsonUtils.expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String name = parser.getCurrentName();
+      String direction = null;
+      List<Integer> bits = new ArrayList<>();
+      YosysJsonUtils.expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String field = parser.getCurrentName();
+        parser.nextToken();
+        if (field.equals(YosysJsonUtils.S_DIRECTION)) {
+          direction = parser.getValueAsString();
+        } else if (field.equals(YosysJsonUtils.S_BITS)) {
+          bits = YosysJsonUtils.parseBits(parser);
+        } else {
+          parser.skipChildren();
+        }
+      }
       final NetlistNode node = new NetlistNode();
       netlist.addVertex(node);
       node.setName(name);
-      final JSONObject value = (JSONObject) item.getValue();
       // direction
-      final String direction = ProfileUtils.getString(value, YosysJsonUtils.S_DIRECTION);
-      if (direction.equals(YosysJsonUtils.S_INPUT)) {
+      Multimap<Integer, NetlistNode> map = null;
+      if (YosysJsonUtils.S_INPUT.equals(direction)) {
         node.getResultNetlistNodeData().setNodeType(LSResults.S_PRIMARYINPUT);
         node.setVertexType(VertexType.SOURCE);
-      } else if (direction.equals(YosysJsonUtils.S_OUTPUT)) {
+        map = outputNetlistNode;
+      } else if (YosysJsonUtils.S_OUTPUT.equals(direction)) {
         node.getResultNetlistNodeData().setNodeType(LSResults.S_PRIMARYOUTPUT);
         node.setVertexType(VertexType.SINK);
+        map = inputNetlistNode;
       } else {
         throw new RuntimeException("Unknown direction!");
       }
       // bits
-      final JSONArray JArray = (JSONArray) value.get(YosysJsonUtils.S_BITS);
-      for (int i = 0; i < JArray.size(); i++) {
-        final Object element = JArray.get(i);
-        final Integer intObj = ProfileUtils.getInteger(element);
-        if (direction.equals(YosysJsonUtils.S_INPUT)) {
-          outputNetlistNode.put(intObj, node);
-        } else if (direction.equals(YosysJsonUtils.S_OUTPUT)) {
-          inputNetlistNode.put(intObj, node);
-        }
+      for (final Integer bit : bits) {
+        map.put(bit, node);
       }
     }
   }
@@ -195,8 +256,7 @@ public class YosysJsonUtils {
   }
 
   /**
-   * Creates NetlistNode instances for the cell(s) from the top module defined in parameter {@code
-   * jsonValue}.<br>
+   * Creates NetlistNode instances for the cell(s) of the top module.<br>
    * Updates the S_MAP of integer to input netlistNode defined by parameter {@code
    * inputNetlistNode}.<br>
    * Updates the S_MAP of integer to output netlistNode defined by parameter {@code
@@ -204,102 +264,130 @@ public class YosysJsonUtils {
    * Updates the Netlist defined by parameter {@code netlist}.<br>
    * .
    *
-   * @param jsonValue The JSONObject.
+   * @param parser The parser, positioned at the {@code cells} object.
    * @param inputNetlistNode The S_MAP of integer to input netlistNode.
    * @param outputNetlistNode The S_MAP of integer to output netlistNode.
    * @param netlist The netlist.
+   * @throws IOException Unable to read or parse the JSON.
    */
   protected static void parseCells(
-      final JSONObject jsonValue,
+      final JsonParser parser,
       final Multimap<Integer, NetlistNode> inputNetlistNode,
       final Multimap<Integer, NetlistNode> outputNetlistNode,
-      final Netlist netlist) {
-    final JSONObject jCells = (JSONObject) jsonValue.get(YosysJsonUtils.S_CELLS);
-    @SuppressWarnings("unchecked")
-    final Set<Map.Entry<?, ?>> entrySet = jCells.entrySet();
-    final Iterator<?> iter = entrySet.iterator();
-    while (iter.hasNext()) {
-      final Map.Entry<?, ?> item = (Map.Entry<?, ?>) iter.next();
-      String name = (String) item.getKey();
+      final Netlist netlist)
+      throws IOException {
+    YosysJsonUtils.expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String cell = parser.getCurrentName();
+      int hidename = 0;
+      String type = null;
+      final Map<String, String> portDirections = new HashMap<>();
+      final Map<String, List<Integer>> connections = new HashMap<>();
+      YosysJsonUtils.expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String field = parser.getCurrentName();
+        parser.nextToken();
+        if (field.equals(YosysJsonUtils.S_HIDENAME)) {
+          hidename = parser.getIntValue();
+        } else if (field.equals(YosysJsonUtils.S_TYPE)) {
+          type = parser.getValueAsString();
+        } else if (field.equals(YosysJsonUtils.S_PORT_DIRECTIONS)) {
+          YosysJsonUtils.expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+          while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String port = parser.getCurrentName();
+            parser.nextToken();
+            portDirections.put(port, parser.getValueAsString());
+          }
+        } else if (field.equals(YosysJsonUtils.S_CONNECTIONS)) {
+          YosysJsonUtils.expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+          while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String port = parser.getCurrentName();
+            parser.nextToken();
+            connections.put(port, YosysJsonUtils.parseBits(parser));
+          }
+        } else {
+          parser.skipChildren();
+        }
+      }
       final NetlistNode node = new NetlistNode();
       netlist.addVertex(node);
-      final JSONObject value = (JSONObject) item.getValue();
       // name
-      final int hidename = ProfileUtils.getInteger(value, YosysJsonUtils.S_HIDENAME);
-      name = YosysJsonUtils.getName(name, hidename);
-      node.setName(name);
+      node.setName(YosysJsonUtils.getName(cell, hidename));
       // type
-      String type = ProfileUtils.getString(value, YosysJsonUtils.S_TYPE);
       type = YosysUtils.getNodeType(type);
       node.getResultNetlistNodeData().setNodeType(type);
       // port_directions
-      final JSONObject port_directions = (JSONObject) value.get(YosysJsonUtils.S_PORT_DIRECTIONS);
-      // connections
-      final JSONObject connections = (JSONObject) value.get(YosysJsonUtils.S_CONNECTIONS);
-      @SuppressWarnings("unchecked")
-      final Set<Map.Entry<?, ?>> portDirectionSet = port_directions.entrySet();
-      final Iterator<?> pditer = portDirectionSet.iterator();
-      while (pditer.hasNext()) {
-        final Map.Entry<?, ?> pditem = (Map.Entry<?, ?>) pditer.next();
-        final String pdname = (String) pditem.getKey();
-        final JSONArray JArray = (JSONArray) connections.get(pdname);
-        final String pdvalue = (String) pditem.getValue();
-        if (pdvalue.equals(YosysJsonUtils.S_INPUT)) {
-          // connections
-          for (int i = 0; i < JArray.size(); i++) {
-            final Object element = JArray.get(i);
-            final Integer intObj = ProfileUtils.getInteger(element);
-            inputNetlistNode.put(intObj, node);
-          }
-        } else if (pdvalue.equals(YosysJsonUtils.S_OUTPUT)) {
-          // connections
-          for (int i = 0; i < JArray.size(); i++) {
-            final Object element = JArray.get(i);
-            final Integer intObj = ProfileUtils.getInteger(element);
-            outputNetlistNode.put(intObj, node);
-          }
+      for (final Map.Entry<String, String> e : portDirections.entrySet()) {
+        Multimap<Integer, NetlistNode> map = null;
+        if (e.getValue().equals(YosysJsonUtils.S_INPUT)) {
+          map = inputNetlistNode;
+        } else if (e.getValue().equals(YosysJsonUtils.S_OUTPUT)) {
+          map = outputNetlistNode;
+        } else {
+          continue;
+        }
+        // connections
+        for (final Integer bit : connections.get(e.getKey())) {
+          map.put(bit, node);
         }
       }
     }
   }
 
   /**
-   * Creates NetlistEdge instances for the net(s) from the top module defined in parameter {@code
-   * jsonValue}.<br>
-   * Updates the S_MAP of integer to input netlistNode defined by parameter {@code
+   * Reads the net name(s) of the top module. The edges of the nets are created by {@link
+   * #parseNets(List, Multimap, Multimap, Netlist)} once every port and cell is known.
+   *
+   * @param parser The parser, positioned at the {@code netnames} object.
+   * @param nets The net names read.
+   * @throws IOException Unable to read or parse the JSON.
+   */
+  protected static void parseNetnames(final JsonParser parser, final List<Net> nets)
+      throws IOException {
+    YosysJsonUtils.expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String name = parser.getCurrentName();
+      int hidename = 0;
+      List<Integer> bits = new ArrayList<>();
+      YosysJsonUtils.expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String field = parser.getCurrentName();
+        parser.nextToken();
+        if (field.equals(YosysJsonUtils.S_HIDENAME)) {
+          hidename = parser.getIntValue();
+        } else if (field.equals(YosysJsonUtils.S_BITS)) {
+          bits = YosysJsonUtils.parseBits(parser);
+        } else {
+          parser.skipChildren();
+        }
+      }
+      nets.add(new Net(YosysJsonUtils.getName(name, hidename), bits));
+    }
+  }
+
+  /**
+   * Creates NetlistEdge instances for the net(s) defined by parameter {@code nets}.<br>
+   * Uses the S_MAP of integer to input netlistNode defined by parameter {@code
    * inputNetlistNode}.<br>
-   * Updates the S_MAP of integer to output netlistNode defined by parameter {@code
+   * Uses the S_MAP of integer to output netlistNode defined by parameter {@code
    * outputNetlistNode}.<br>
    * Updates the Netlist defined by parameter {@code netlist}.<br>
    * .
    *
-   * @param jsonValue The JSONObject.
+   * @param nets The net names.
    * @param inputNetlistNode The S_MAP of integer to input netlistNode.
    * @param outputNetlistNode The S_MAP of integer to output netlistNode.
    * @param netlist The netlist.
    */
   protected static void parseNets(
-      final JSONObject jsonValue,
+      final List<Net> nets,
       final Multimap<Integer, NetlistNode> inputNetlistNode,
       final Multimap<Integer, NetlistNode> outputNetlistNode,
       final Netlist netlist) {
-    final JSONObject jNets = (JSONObject) jsonValue.get(YosysJsonUtils.S_NETS);
     final Set<Integer> netSet = new HashSet<>();
-    @SuppressWarnings("unchecked")
-    final Set<Map.Entry<?, ?>> entrySet = jNets.entrySet();
-    final Iterator<?> iter = entrySet.iterator();
-    while (iter.hasNext()) {
-      final Map.Entry<?, ?> item = (Map.Entry<?, ?>) iter.next();
-      String name = (String) item.getKey();
-      final JSONObject value = (JSONObject) item.getValue();
-      // name
-      final int hidename = ProfileUtils.getInteger(value, YosysJsonUtils.S_HIDENAME);
-      name = YosysJsonUtils.getName(name, hidename);
-      // bits
-      final JSONArray JArray = (JSONArray) value.get(YosysJsonUtils.S_BITS);
-      for (int i = 0; i < JArray.size(); i++) {
-        final Object element = JArray.get(i);
-        final Integer intObj = ProfileUtils.getInteger(element);
+    for (final Net net : nets) {
+      final String name = net.name;
+      for (final Integer intObj : net.bits) {
         // skip net if already assigned
         if (netSet.contains(intObj)) {
           continue;
@@ -332,23 +420,19 @@ public class YosysJsonUtils {
     }
   }
 
-  /**
-   * Translates the JSONObject referenced by parameter {@code jsonTop} into the Netlist in parameter
-   * {@code netlist} using the <i>Yosys</i> algorithm instance.
-   *
-   * @param jsonTop The JSONObject.
-   * @param netlist The netlist.
-   * @param yosys The <i>Yosys</i> algorithm instance.
-   */
-  public static void parseJson(final JSONObject jsonTop, final Netlist netlist, final Yosys yosys) {
-    final Multimap<Integer, NetlistNode> inputNetlistNode = ArrayListMultimap.create();
-    final Multimap<Integer, NetlistNode> outputNetlistNode = ArrayListMultimap.create();
-    final JSONObject jsonValue = YosysJsonUtils.parseModuleName(jsonTop, netlist);
-    YosysJsonUtils.parseModule(jsonValue, inputNetlistNode, outputNetlistNode, netlist);
-    YosysJsonUtils.parseCells(jsonValue, inputNetlistNode, outputNetlistNode, netlist);
-    YosysJsonUtils.parseNets(jsonValue, inputNetlistNode, outputNetlistNode, netlist);
+  /** A net name of the top module and its bits. */
+  protected static class Net {
+    Net(final String name, final List<Integer> bits) {
+      this.name = name;
+      this.bits = bits;
+    }
+
+    private final String name;
+    private final List<Integer> bits;
   }
 
+  private static final JsonFactory FACTORY = new JsonFactory();
+
   private static String S_MODULES = "modules";
   private static String S_CELLS = "cells";
   private static String S_NETS = "netnames";
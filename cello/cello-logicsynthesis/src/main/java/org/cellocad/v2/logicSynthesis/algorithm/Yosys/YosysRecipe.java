@@ -0,0 +1,213 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.logicSynthesis.algorithm.Yosys;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+
+/**
+ * A synthesis recipe of the <i>Yosys</i> algorithm: the gates given to {@code abc -g}, followed by
+ * optional <i>Yosys</i> commands run after it. A recipe is written as the gates, separated by
+ * commas, then each command preceded by {@code |}, e.g. {@code NOR,NOT|opt -full|abc -g NOR,NOT}.
+ * Recipes are separated by {@code ;}. A command that runs <i>ABC</i> must give its gates with
+ * {@code -g}, so that they can be validated like the leading gates.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class YosysRecipe {
+
+  /**
+   * Initializes a newly created {@link YosysRecipe} from the recipe defined by parameter {@code
+   * recipe}.
+   *
+   * @param recipe The recipe.
+   * @throws CelloException The recipe has no gates, or runs <i>ABC</i> without {@code -g}.
+   */
+  public YosysRecipe(final String recipe) throws CelloException {
+    final String[] parts = recipe.split(YosysRecipe.S_PASS_DELIM);
+    gates = parts[0].replaceAll("\\s", "");
+    if (gates.isEmpty()) {
+      throw new CelloException("Recipe without gates: " + recipe + ".");
+    }
+    final List<String> passes = new ArrayList<>();
+    final List<String> passGates = new ArrayList<>();
+    for (int i = 1; i < parts.length; i++) {
+      final String pass = parts[i].trim();
+      if (!pass.isEmpty()) {
+        passes.add(pass);
+      }
+      final List<String> tokens = Arrays.asList(pass.split("\\s+"));
+      if (tokens.get(0).equals(YosysRecipe.S_ABC)) {
+        final int idx = tokens.indexOf(YosysRecipe.S_ABC_GATES);
+        if (idx < 0 || idx + 1 == tokens.size()) {
+          final String fmt = "Recipe pass without %s: %s.";
+          throw new CelloException(String.format(fmt, YosysRecipe.S_ABC_GATES, pass));
+        }
+        passGates.add(tokens.get(idx + 1));
+      }
+    }
+    this.passes = Collections.unmodifiableList(passes);
+    this.passGates = Collections.unmodifiableList(passGates);
+    this.recipe = recipe.trim();
+  }
+
+  /**
+   * Returns the recipes defined by parameter {@code recipes}, separated by {@code ;}.
+   *
+   * @param recipes The recipes.
+   * @return The recipes, empty if parameter {@code recipes} is null or blank.
+   * @throws CelloException A recipe has no gates, or runs <i>ABC</i> without {@code -g}.
+   */
+  public static List<YosysRecipe> getRecipes(final String recipes) throws CelloException {
+    final List<YosysRecipe> rtn = new ArrayList<>();
+    if (recipes == null) {
+      return rtn;
+    }
+    for (final String recipe : recipes.split(YosysRecipe.S_RECIPE_DELIM)) {
+      if (!recipe.trim().isEmpty()) {
+        rtn.add(new YosysRecipe(recipe));
+      }
+    }
+    return rtn;
+  }
+
+  /**
+   * Returns the number of gates of the netlist defined by parameter {@code netlist}, i.e. the
+   * number of nodes that are neither primary inputs nor primary outputs.
+   *
+   * @param netlist The netlist.
+   * @return The number of gates.
+   */
+  public static int getNumGates(final Netlist netlist) {
+    int rtn = 0;
+    for (int i = 0; i < netlist.getNumVertex(); i++) {
+      final NetlistNode node = netlist.getVertexAtIdx(i);
+      if (!LSResultsUtils.isAllInput(node) && !LSResultsUtils.isAllOutput(node)) {
+        rtn++;
+      }
+    }
+    return rtn;
+  }
+
+  /**
+   * Returns the depth of the netlist defined by parameter {@code netlist}, i.e. the largest number
+   * of gates on a path from a primary input to a primary output.
+   *
+   * @param netlist The netlist.
+   * @return The depth.
+   * @throws CelloException The netlist has a cycle.
+   */
+  public static int getDepth(final Netlist netlist) throws CelloException {
+    int rtn = 0;
+    final Map<NetlistNode, Integer> depth = new HashMap<>();
+    for (int i = 0; i < netlist.getNumVertex(); i++) {
+      rtn = Math.max(rtn, YosysRecipe.getDepth(netlist.getVertexAtIdx(i), depth));
+    }
+    return rtn;
+  }
+
+  /**
+   * Returns the number of gates on the longest path from a primary input to the node defined by
+   * parameter {@code node}, computed without recursion so that deep netlists do not overflow the
+   * stack. The depth of each node visited is stored in parameter {@code depth}.
+   */
+  private static int getDepth(final NetlistNode node, final Map<NetlistNode, Integer> depth)
+      throws CelloException {
+    final List<NetlistNode> stack = new ArrayList<>(Arrays.asList(node));
+    final Map<NetlistNode, Boolean> open = new HashMap<>();
+    while (!stack.isEmpty()) {
+      final NetlistNode n = stack.get(stack.size() - 1);
+      if (depth.containsKey(n)) {
+        stack.remove(stack.size() - 1);
+        continue;
+      }
+      if (open.put(n, true) == null) {
+        for (int i = 0; i < n.getNumInEdge(); i++) {
+          final NetlistNode src = n.getInEdgeAtIdx(i).getSrc();
+          if (open.containsKey(src) && !depth.containsKey(src)) {
+            throw new CelloException("Cycle at node " + src.getName() + ".");
+          }
+          stack.add(src);
+        }
+        continue;
+      }
+      int max = 0;
+      for (int i = 0; i < n.getNumInEdge(); i++) {
+        max = Math.max(max, depth.get(n.getInEdgeAtIdx(i).getSrc()));
+      }
+      final boolean gate = !LSResultsUtils.isAllInput(n) && !LSResultsUtils.isAllOutput(n);
+      depth.put(n, gate ? max + 1 : max);
+      stack.remove(stack.size() - 1);
+    }
+    return depth.get(node);
+  }
+
+  /**
+   * Getter for {@code gates}.
+   *
+   * @return The value of {@code gates}, separated by commas.
+   */
+  public String getGates() {
+    return gates;
+  }
+
+  /**
+   * Getter for {@code passes}.
+   *
+   * @return The value of {@code passes}.
+   */
+  public List<String> getPasses() {
+    return passes;
+  }
+
+  /**
+   * Getter for {@code passGates}.
+   *
+   * @return The gates given to {@code abc -g} by each command of {@code passes} that runs
+   *     <i>ABC</i>, separated by commas.
+   */
+  public List<String> getPassGates() {
+    return passGates;
+  }
+
+  @Override
+  public String toString() {
+    return recipe;
+  }
+
+  private final String gates;
+  private final List<String> passes;
+  private final List<String> passGates;
+  private final String recipe;
+
+  private static final String S_RECIPE_DELIM = ";";
+  private static final String S_PASS_DELIM = "\\|";
+  private static final String S_ABC = "abc";
+  private static final String S_ABC_GATES = "-g";
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.logicSynthesis.algorithm.Yosys;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Deque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.exception.CelloException;
+
+/**
+ * A <i>Yosys</i> process kept alive in shell mode to synthesize successive designs. Each design is
+ * run as a script after a {@code design -reset}, and the end of its output is marked by a sentinel
+ * written with the {@code log} command, so the start-up of <i>Yosys</i> and <i>ABC</i> is paid
+ * once per worker rather than once per design.
+ *
+ * <p>Workers are shared through a small pool: {@link #acquire(String)} blocks while every worker
+ * is busy, and {@link #release(YosysWorker)} returns a worker to the pool. The pool bounds the
+ * number of workers on its own, apart from the limit on processes run by {@link
+ * org.cellocad.v2.common.ExecCommand}, and each script is bounded by the timeout given to {@link
+ * #execute(String, long)}.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class YosysWorker {
+
+  /**
+   * Initializes a newly created {@link YosysWorker}, starting the <i>Yosys</i> executable defined
+   * by parameter {@code exec} in shell mode.
+   *
+   * @param exec The <i>Yosys</i> executable.
+   * @throws IOException Unable to start the executable.
+   */
+  public YosysWorker(final String exec) throws IOException {
+    final ProcessBuilder pb = new ProcessBuilder(exec, "-Q");
+    pb.redirectErrorStream(true);
+    process = pb.start();
+    reader =
+        new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+    writer = new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8);
+    this.exec = exec;
+    numDesigns = 0;
+  }
+
+  /**
+   * Runs the <i>Yosys</i> script defined by parameter {@code scriptFilename} on a reset design and
+   * returns its output. If the output of the script is not complete within the timeout defined by
+   * parameter {@code timeout}, the process of this instance is stopped.
+   *
+   * @param scriptFilename The script.
+   * @param timeout The timeout in milliseconds, zero for none.
+   * @return The output of the script.
+   * @throws CelloException The script failed or timed out, or the process exited.
+   */
+  public String execute(final String scriptFilename, final long timeout) throws CelloException {
+    final String sentinel = YosysWorker.S_SENTINEL + numDesigns++;
+    final String command = "log " + sentinel;
+    final StringBuilder rtn = new StringBuilder();
+    boolean error = false;
+    boolean exited = false;
+    final AtomicBoolean timedOut = new AtomicBoolean(false);
+    ScheduledFuture<?> deadline = null;
+    if (timeout > 0) {
+      deadline =
+          YosysWorker.deadlines.schedule(
+              () -> {
+                timedOut.set(true);
+                close();
+              },
+              timeout,
+              TimeUnit.MILLISECONDS);
+    }
+    try {
+      writer.write("design -reset" + Utils.getNewLine());
+      writer.write("script " + scriptFilename + Utils.getNewLine());
+      writer.write(command + Utils.getNewLine());
+      writer.flush();
+      String line = null;
+      while ((line = reader.readLine()) != null) {
+        if (line.contains(command)) {
+          continue;
+        }
+        if (line.trim().endsWith(sentinel)) {
+          break;
+        }
+        error = error || line.startsWith(YosysWorker.S_ERROR);
+        rtn.append(line);
+        rtn.append(Utils.getNewLine());
+      }
+      if (line == null) {
+        close();
+        exited = true;
+      }
+    } catch (final IOException e) {
+      close();
+      if (!timedOut.get()) {
+        throw new CelloException(e);
+      }
+    } finally {
+      if (deadline != null) {
+        deadline.cancel(false);
+      }
+    }
+    if (timedOut.get()) {
+      final String fmt = "Yosys timed out after %d ms on %s.";
+      throw new CelloException(
+          String.format(fmt, timeout, scriptFilename) + Utils.getNewLine() + rtn);
+    }
+    if (exited) {
+      throw new CelloException("Yosys worker exited." + Utils.getNewLine() + rtn);
+    }
+    if (error) {
+      throw new CelloException("Yosys failed on " + scriptFilename + Utils.getNewLine() + rtn);
+    }
+    return rtn.toString();
+  }
+
+  /**
+   * Returns true if the process of this instance is alive.
+   *
+   * @return True if the process of this instance is alive, false otherwise.
+   */
+  public boolean isAlive() {
+    return process.isAlive();
+  }
+
+  /** Stops the process of this instance. */
+  public void close() {
+    try {
+      writer.close();
+    } catch (final IOException e) {
+      // the process has already exited
+    }
+    process.destroy();
+  }
+
+  /**
+   * Getter for {@code exec}.
+   *
+   * @return The value of {@code exec}.
+   */
+  public String getExec() {
+    return exec;
+  }
+
+  /**
+   * Returns an idle worker running the executable defined by parameter {@code exec}, starting one
+   * if the pool has none. Blocks while every worker of the pool is busy.
+   *
+   * @param exec The <i>Yosys</i> executable.
+   * @return A worker.
+   * @throws CelloException Interrupted while waiting, or unable to start a worker.
+   */
+  public static YosysWorker acquire(final String exec) throws CelloException {
+    try {
+      YosysWorker.permits.acquire();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CelloException(e);
+    }
+    YosysWorker rtn = null;
+    while ((rtn = YosysWorker.idle.pollFirst()) != null) {
+      if (rtn.isAlive() && rtn.getExec().equals(exec)) {
+        return rtn;
+      }
+      rtn.close();
+    }
+    try {
+      rtn = new YosysWorker(exec);
+    } catch (final IOException e) {
+      YosysWorker.permits.release();
+      throw new CelloException(e);
+    }
+    return rtn;
+  }
+
+  /**
+   * Returns the worker defined by parameter {@code worker} to the pool.
+   *
+   * @param worker The worker, as returned by {@link #acquire(String)}.
+   */
+  public static void release(final YosysWorker worker) {
+    if (worker.isAlive()) {
+      YosysWorker.idle.offerFirst(worker);
+    }
+    YosysWorker.permits.release();
+  }
+
+  private final Process process;
+  private final BufferedReader reader;
+  private final Writer writer;
+  private final String exec;
+  private int numDesigns;
+
+  private static final String S_SENTINEL = "CELLO_YOSYS_WORKER_DONE_";
+  private static final String S_ERROR = "ERROR:";
+  private static final int I_POOL_SIZE =
+      Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+  private static final Semaphore permits = new Semaphore(YosysWorker.I_POOL_SIZE);
+  private static final Deque<YosysWorker> idle = new LinkedBlockingDeque<>();
+  private static final ScheduledExecutorService deadlines =
+      Executors.newSingleThreadScheduledExecutor(
+          r -> {
+            final Thread rtn = new Thread(r, "YosysWorker");
+            rtn.setDaemon(true);
+            return rtn;
+          });
+
+  static {
+    Runtime.getRuntime()
+        .addShutdownHook(
+            new Thread(
+                () -> {
+                  YosysWorker worker = null;
+                  while ((worker = YosysWorker.idle.pollFirst()) != null) {
+                    worker.close();
+                  }
+                }));
+  }
+}
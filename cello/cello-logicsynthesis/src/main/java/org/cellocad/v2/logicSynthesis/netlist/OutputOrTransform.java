@@ -21,7 +21,7 @@ package org.cellocad.v2.logicSynthesis.netlist;
 
 import java.util.Collection;
 import org.cellocad.v2.common.CObject;
-import org.cellocad.v2.results.logicSynthesis.LSResults;
+import org.cellocad.v2.results.logicSynthesis.LSNodeType;
 import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
 import org.cellocad.v2.results.netlist.Netlist;
 import org.cellocad.v2.results.netlist.NetlistEdge;
@@ -45,11 +45,11 @@ public class OutputOrTransform extends CObject {
     for (final NetlistNode out : outputNodes) {
       final NetlistEdge e1 = out.getInEdgeAtIdx(0);
       final NetlistNode src1 = e1.getSrc();
-      if (src1.getResultNetlistNodeData().getNodeType().equals(LSResults.S_NOT)) {
+      if (src1.getResultNetlistNodeData().getNodeKind() == LSNodeType.NOT) {
         for (int j = 0; j < src1.getNumInEdge(); j++) {
           final NetlistEdge e2 = src1.getInEdgeAtIdx(j);
           final NetlistNode src2 = e2.getSrc();
-          if (src2.getResultNetlistNodeData().getNodeType().equals(LSResults.S_NOR)) {
+          if (src2.getResultNetlistNodeData().getNodeKind() == LSNodeType.NOR) {
             NetlistEdge e3 = src2.getInEdgeAtIdx(0);
             NetlistEdge e4 = src2.getInEdgeAtIdx(1);
             final NetlistNode src3 = e3.getSrc();
@@ -0,0 +1,359 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.logicSynthesis.netlist;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.graph.AbstractVertex.VertexType;
+import org.cellocad.v2.results.logicSynthesis.LSResults;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistEdge;
+import org.cellocad.v2.results.netlist.NetlistNode;
+
+/**
+ * A reader of flat, gate-level structural Verilog. The supported subset is a single module with
+ * scalar {@code input}, {@code output} and {@code wire} declarations and instances of the gate
+ * primitives, e.g. {@code nor (y, a, b);}, of at most two inputs, that form no combinational
+ * loop. Each primitive must be one of the
+ * gates available to the <i>logicSynthesis</i> stage, except that a {@code not} is always allowed
+ * and an {@code or} is written as a {@code nor} followed by a {@code not} when only {@code nor} is
+ * available, as <i>Yosys</i> would map it.
+ *
+ * <p>The netlist built follows the conventions of {@link
+ * org.cellocad.v2.logicSynthesis.algorithm.Yosys.YosysJsonUtils}: ports become primary input and
+ * primary output nodes, and each edge is named after its net.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class StructuralVerilogReader {
+
+  /**
+   * Initializes a newly created {@link StructuralVerilogReader} and reads the Verilog defined by
+   * parameter {@code verilog}.
+   *
+   * @param verilog The Verilog.
+   * @param gates The node types of the gates available, e.g. {@link LSResults#S_NOR}.
+   * @throws CelloException The Verilog is not in the supported subset.
+   */
+  public StructuralVerilogReader(final String verilog, final Collection<String> gates)
+      throws CelloException {
+    inputs = new LinkedHashSet<>();
+    outputs = new LinkedHashSet<>();
+    instances = new ArrayList<>();
+    parse(StructuralVerilogReader.stripComments(verilog), gates);
+    netlist = build();
+  }
+
+  private static String stripComments(final String verilog) {
+    return verilog.replaceAll("(?s)/\\*.*?\\*/", " ").replaceAll("//[^\\n]*", " ");
+  }
+
+  private static List<String> getIdentifiers(final String list) throws CelloException {
+    final List<String> rtn = new ArrayList<>();
+    for (final String str : list.split(",")) {
+      final String id = str.trim();
+      if (!StructuralVerilogReader.P_IDENTIFIER.matcher(id).matches()) {
+        throw new CelloException("Unsupported identifier: " + id);
+      }
+      rtn.add(id);
+    }
+    return rtn;
+  }
+
+  private void parse(final String verilog, final Collection<String> gates) throws CelloException {
+    final String text = verilog.trim();
+    if (!text.endsWith(StructuralVerilogReader.S_ENDMODULE)) {
+      throw new CelloException("Expected a single module.");
+    }
+    final String body =
+        text.substring(0, text.length() - StructuralVerilogReader.S_ENDMODULE.length());
+    final String[] statements = body.split(";", -1);
+    if (!statements[statements.length - 1].trim().isEmpty()) {
+      throw new CelloException("Expected ';' before endmodule.");
+    }
+    parseHeader(statements[0].trim());
+    for (int i = 1; i < statements.length - 1; i++) {
+      final String statement = statements[i].trim().replaceAll("\\s+", " ");
+      final Matcher decl = StructuralVerilogReader.P_DECLARATION.matcher(statement);
+      final Matcher gate = StructuralVerilogReader.P_GATE.matcher(statement);
+      if (decl.matches()) {
+        addDeclaration(decl.group(1), StructuralVerilogReader.getIdentifiers(decl.group(2)));
+      } else if (gate.matches()) {
+        addGate(gate.group(1), gate.group(2), gate.group(3), gates);
+      } else {
+        throw new CelloException("Unsupported statement: " + statement);
+      }
+    }
+  }
+
+  private void parseHeader(final String header) throws CelloException {
+    final Matcher m = StructuralVerilogReader.P_MODULE.matcher(header);
+    if (!m.matches()) {
+      throw new CelloException("Unsupported module header: " + header);
+    }
+    name = m.group(1);
+    // ANSI style ports carry their direction; the direction applies until the next one
+    String direction = null;
+    for (final String str : m.group(2).split(",")) {
+      final String[] tokens = str.trim().split("\\s+");
+      int idx = 0;
+      if (tokens[idx].equals("input") || tokens[idx].equals("output")) {
+        direction = tokens[idx++];
+        if (idx < tokens.length && tokens[idx].equals("wire")) {
+          idx++;
+        }
+      }
+      if (idx != tokens.length - 1) {
+        throw new CelloException("Unsupported port: " + str.trim());
+      }
+      final List<String> port = StructuralVerilogReader.getIdentifiers(tokens[idx]);
+      if (direction != null) {
+        addDeclaration(direction, port);
+      }
+    }
+  }
+
+  private void addDeclaration(final String kind, final List<String> ids) {
+    if (kind.startsWith("input")) {
+      inputs.addAll(ids);
+    } else if (kind.startsWith("output")) {
+      outputs.addAll(ids);
+    }
+  }
+
+  private void addGate(
+      final String primitive,
+      final String instance,
+      final String terminals,
+      final Collection<String> gates)
+      throws CelloException {
+    final List<String> nets = StructuralVerilogReader.getIdentifiers(terminals);
+    final String out = nets.get(0);
+    final List<String> in = nets.subList(1, nets.size());
+    final String type = StructuralVerilogReader.PRIMITIVES.get(primitive);
+    final int arity = type.equals(LSResults.S_NOT) || type.equals(LSResults.S_BUF) ? 1 : 2;
+    if (in.size() != arity) {
+      throw new CelloException("Unsupported number of inputs: " + primitive + " " + terminals);
+    }
+    final String gateName = instance != null ? instance : "$" + (instances.size() + 1);
+    if (type.equals(LSResults.S_NOT) || gates.contains(type)) {
+      instances.add(new Instance(gateName, type, out, in));
+    } else if (type.equals(LSResults.S_OR) && gates.contains(LSResults.S_NOR)) {
+      final String net = out + "$nor";
+      instances.add(new Instance(gateName, LSResults.S_NOR, net, in));
+      instances.add(new Instance(gateName + "$not", LSResults.S_NOT, out, Arrays.asList(net)));
+    } else {
+      throw new CelloException("Gate type " + type + " is not available.");
+    }
+  }
+
+  private Netlist build() throws CelloException {
+    final Netlist rtn = new Netlist();
+    rtn.setName(name);
+    // nodes, and the driver of each net
+    final Map<String, NetlistNode> drivers = new HashMap<>();
+    final Map<String, NetlistNode> outputNodes = new LinkedHashMap<>();
+    for (final String input : inputs) {
+      if (outputs.contains(input)) {
+        throw new CelloException("Port " + input + " is both an input and an output.");
+      }
+      final NetlistNode node = addNode(rtn, input, LSResults.S_PRIMARYINPUT);
+      node.setVertexType(VertexType.SOURCE);
+      drivers.put(input, node);
+    }
+    for (final String output : outputs) {
+      final NetlistNode node = addNode(rtn, output, LSResults.S_PRIMARYOUTPUT);
+      node.setVertexType(VertexType.SINK);
+      outputNodes.put(output, node);
+    }
+    final List<NetlistNode> gateNodes = new ArrayList<>();
+    final Set<String> names = new LinkedHashSet<>(inputs);
+    names.addAll(outputs);
+    for (final Instance instance : instances) {
+      if (!names.add(instance.name)) {
+        throw new CelloException("Duplicate name " + instance.name + ".");
+      }
+      final NetlistNode node = addNode(rtn, instance.name, instance.type);
+      if (drivers.put(instance.out, node) != null) {
+        throw new CelloException("Net " + instance.out + " has more than one driver.");
+      }
+      gateNodes.add(node);
+    }
+    // edges, numbered per net
+    final Map<String, Integer> fanout = new HashMap<>();
+    for (int i = 0; i < instances.size(); i++) {
+      for (final String net : instances.get(i).in) {
+        addEdge(rtn, net, drivers, fanout, gateNodes.get(i));
+      }
+    }
+    for (final Map.Entry<String, NetlistNode> e : outputNodes.entrySet()) {
+      addEdge(rtn, e.getKey(), drivers, fanout, e.getValue());
+    }
+    StructuralVerilogReader.checkLoops(rtn);
+    return rtn;
+  }
+
+  /*
+   * Removes the nodes of the netlist in topological order. A node that is never removed waits on a
+   * driver that is never removed either, so following such drivers upstream reaches a loop.
+   */
+  private static void checkLoops(final Netlist netlist) throws CelloException {
+    final Map<NetlistNode, Integer> pending = new IdentityHashMap<>();
+    final Deque<NetlistNode> ready = new ArrayDeque<>();
+    for (int i = 0; i < netlist.getNumVertex(); i++) {
+      final NetlistNode node = netlist.getVertexAtIdx(i);
+      pending.put(node, node.getNumInEdge());
+      if (node.getNumInEdge() == 0) {
+        ready.add(node);
+      }
+    }
+    int removed = 0;
+    while (!ready.isEmpty()) {
+      final NetlistNode node = ready.poll();
+      removed++;
+      for (int i = 0; i < node.getNumOutEdge(); i++) {
+        final NetlistNode dst = node.getOutEdgeAtIdx(i).getDst();
+        final int num = pending.get(dst) - 1;
+        pending.put(dst, num);
+        if (num == 0) {
+          ready.add(dst);
+        }
+      }
+    }
+    if (removed == netlist.getNumVertex()) {
+      return;
+    }
+    NetlistNode node = null;
+    for (int i = 0; node == null; i++) {
+      if (pending.get(netlist.getVertexAtIdx(i)) > 0) {
+        node = netlist.getVertexAtIdx(i);
+      }
+    }
+    final Set<NetlistNode> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    while (visited.add(node)) {
+      int i = 0;
+      while (pending.get(node.getInEdgeAtIdx(i).getSrc()) == 0) {
+        i++;
+      }
+      node = node.getInEdgeAtIdx(i).getSrc();
+    }
+    throw new CelloException("Combinational loop through " + node.getName() + ".");
+  }
+
+  private static NetlistNode addNode(final Netlist netlist, final String name, final String type) {
+    final NetlistNode rtn = new NetlistNode();
+    rtn.setName(name);
+    rtn.getResultNetlistNodeData().setNodeType(type);
+    netlist.addVertex(rtn);
+    return rtn;
+  }
+
+  private static void addEdge(
+      final Netlist netlist,
+      final String net,
+      final Map<String, NetlistNode> drivers,
+      final Map<String, Integer> fanout,
+      final NetlistNode dst)
+      throws CelloException {
+    final NetlistNode src = drivers.get(net);
+    if (src == null) {
+      throw new CelloException("Net " + net + " has no driver.");
+    }
+    final int idx = fanout.getOrDefault(net, 0);
+    fanout.put(net, idx + 1);
+    final NetlistEdge edge = new NetlistEdge(src, dst);
+    edge.setName(net + StructuralVerilogReader.S_NET_SEPARATOR + idx);
+    netlist.addEdge(edge);
+    src.addOutEdge(edge);
+    dst.addInEdge(edge);
+  }
+
+  /**
+   * Getter for {@code netlist}.
+   *
+   * @return The netlist read.
+   */
+  public Netlist getNetlist() {
+    return netlist;
+  }
+
+  /** An instance of a gate primitive. */
+  private static class Instance {
+    Instance(final String name, final String type, final String out, final List<String> in) {
+      this.name = name;
+      this.type = type;
+      this.out = out;
+      this.in = in;
+    }
+
+    private final String name;
+    private final String type;
+    private final String out;
+    private final List<String> in;
+  }
+
+  private String name;
+  private final Set<String> inputs;
+  private final Set<String> outputs;
+  private final List<Instance> instances;
+  private final Netlist netlist;
+
+  private static final String S_ENDMODULE = "endmodule";
+  private static final String S_NET_SEPARATOR = "_";
+  private static final Map<String, String> PRIMITIVES = new HashMap<>();
+
+  static {
+    StructuralVerilogReader.PRIMITIVES.put("not", LSResults.S_NOT);
+    StructuralVerilogReader.PRIMITIVES.put("buf", LSResults.S_BUF);
+    StructuralVerilogReader.PRIMITIVES.put("and", LSResults.S_AND);
+    StructuralVerilogReader.PRIMITIVES.put("nand", LSResults.S_NAND);
+    StructuralVerilogReader.PRIMITIVES.put("or", LSResults.S_OR);
+    StructuralVerilogReader.PRIMITIVES.put("nor", LSResults.S_NOR);
+    StructuralVerilogReader.PRIMITIVES.put("xor", LSResults.S_XOR);
+    StructuralVerilogReader.PRIMITIVES.put("xnor", LSResults.S_XNOR);
+  }
+
+  private static final String S_ID = "[A-Za-z_][A-Za-z0-9_$]*";
+  private static final Pattern P_IDENTIFIER = Pattern.compile(StructuralVerilogReader.S_ID);
+  private static final Pattern P_MODULE =
+      Pattern.compile("(?s)module\\s+(" + StructuralVerilogReader.S_ID + ")\\s*\\((.*)\\)");
+  private static final Pattern P_DECLARATION =
+      Pattern.compile("(input wire|output wire|input|output|wire) ([^\\[\\]=]+)");
+  private static final Pattern P_GATE =
+      Pattern.compile(
+          "(not|buf|and|nand|or|nor|xor|xnor)(?: ("
+              + StructuralVerilogReader.S_ID
+              + "))? ?\\(([^()]*)\\)");
+}
@@ -19,8 +19,16 @@
 
 package org.cellocad.v2.logicSynthesis.algorithm.Yosys;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.cellocad.v2.common.exception.CelloException;
 import org.cellocad.v2.logicSynthesis.netlist.OutputOrTransform;
+import org.cellocad.v2.results.logicSynthesis.LSResults;
+import org.cellocad.v2.results.logicSynthesis.netlist.EquivalenceChecker;
 import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.netlist.NetlistTestUtils;
 import org.junit.Test;
 
 /**
@@ -41,4 +49,22 @@ public class OutputOrTransformTest {
     final Netlist netlist = netlist();
     new OutputOrTransform(netlist);
   }
+
+  @Test
+  public void outputOrTransform_NorNot_ShouldBeEquivalent() throws CelloException {
+    final Netlist netlist = new Netlist();
+    final NetlistNode a = NetlistTestUtils.addNode(netlist, "a", LSResults.S_PRIMARYINPUT);
+    final NetlistNode b = NetlistTestUtils.addNode(netlist, "b", LSResults.S_PRIMARYINPUT);
+    final NetlistNode nor = NetlistTestUtils.addNode(netlist, "nor", LSResults.S_NOR);
+    final NetlistNode not = NetlistTestUtils.addNode(netlist, "not", LSResults.S_NOT);
+    final NetlistNode out = NetlistTestUtils.addNode(netlist, "out", LSResults.S_PRIMARYOUTPUT);
+    NetlistTestUtils.addEdge(netlist, a, nor);
+    NetlistTestUtils.addEdge(netlist, b, nor);
+    NetlistTestUtils.addEdge(netlist, nor, not);
+    NetlistTestUtils.addEdge(netlist, not, out);
+    final Netlist reference = new Netlist(netlist);
+    new OutputOrTransform(netlist);
+    assertEquals(2, out.getNumInEdge());
+    assertTrue(new EquivalenceChecker(reference, netlist).isEquivalent());
+  }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.logicSynthesis.algorithm.Yosys;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link YosysCache}.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class YosysCacheTest {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  private static Netlist getXorNetlist() throws IOException, ParseException {
+    final String str = Utils.getResourceAsString("xor_netlist.json");
+    return new Netlist((JSONObject) new JSONParser().parse(str));
+  }
+
+  @Test
+  public void getKey_SplitParts_ShouldDiffer() {
+    assertEquals(YosysCache.getKey("ab", "c"), YosysCache.getKey("ab", "c"));
+    assertNotEquals(YosysCache.getKey("ab", "c"), YosysCache.getKey("a", "bc"));
+    assertEquals(64, YosysCache.getKey().length());
+  }
+
+  @Test
+  public void get_AfterPut_ShouldReturnNetlist()
+      throws IOException, ParseException, CelloException {
+    final YosysCache cache = new YosysCache(new File(folder.getRoot(), "yosys"), 4);
+    final Netlist netlist = getXorNetlist();
+    final String key = YosysCache.getKey("xor");
+    assertNull(cache.get(key));
+    cache.put(key, netlist);
+    final Netlist cached = cache.get(key);
+    assertNotNull(cached);
+    assertEquals(netlist.getNumVertex(), cached.getNumVertex());
+    assertEquals(netlist.getNumEdge(), cached.getNumEdge());
+    assertEquals(
+        netlist.getVertexByName("out").getResultNetlistNodeData().getNodeType(),
+        cached.getVertexByName("out").getResultNetlistNodeData().getNodeType());
+  }
+
+  @Test
+  public void put_MoreThanMaxEntries_ShouldEvictLeastRecentlyUsed()
+      throws IOException, ParseException, CelloException {
+    final YosysCache cache = new YosysCache(folder.getRoot(), 2);
+    final Netlist netlist = getXorNetlist();
+    cache.put("a", netlist);
+    cache.put("b", netlist);
+    new File(folder.getRoot(), "a.json").setLastModified(1000);
+    new File(folder.getRoot(), "b.json").setLastModified(2000);
+    assertNotNull(cache.get("a"));
+    cache.put("c", netlist);
+    assertNull(cache.get("b"));
+    assertNotNull(cache.get("a"));
+    assertNotNull(cache.get("c"));
+  }
+}
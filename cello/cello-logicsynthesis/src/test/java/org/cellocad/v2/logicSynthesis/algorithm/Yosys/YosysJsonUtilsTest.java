@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.logicSynthesis.algorithm.Yosys;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.cellocad.v2.results.logicSynthesis.LSResults;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link YosysJsonUtils}.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class YosysJsonUtilsTest {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  /* A NOR of two inputs, with attributes and connections before port directions. */
+  private static final String NOR =
+      "{\"creator\": \"Yosys\", \"modules\": {\"m\": {"
+          + "\"attributes\": {\"top\": \"1\", \"src\": \"m.v:1\"},"
+          + "\"ports\": {"
+          + "\"a\": {\"direction\": \"input\", \"bits\": [2]},"
+          + "\"b\": {\"direction\": \"input\", \"bits\": [3]},"
+          + "\"y\": {\"direction\": \"output\", \"bits\": [4]}},"
+          + "\"cells\": {\"$abc$7$auto$blifparse.cc:1$8\": {"
+          + "\"hide_name\": 1, \"type\": \"$_NOR_\", \"parameters\": {},"
+          + "\"attributes\": {\"src\": [1, 2]},"
+          + "\"connections\": {\"A\": [2], \"B\": [3], \"Y\": [4]},"
+          + "\"port_directions\": {\"A\": \"input\", \"B\": \"input\", \"Y\": \"output\"}}},"
+          + "\"netnames\": {"
+          + "\"a\": {\"hide_name\": 0, \"bits\": [2], \"attributes\": {}},"
+          + "\"b\": {\"hide_name\": 0, \"bits\": [3], \"attributes\": {}},"
+          + "\"y\": {\"hide_name\": 0, \"bits\": [4], \"attributes\": {}}}}}}";
+
+  private String getFile(final String content) throws IOException {
+    final File rtn = folder.newFile();
+    Files.write(rtn.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    return rtn.getAbsolutePath();
+  }
+
+  @Test
+  public void getNetlistFromYosysJsonFile_Nor_ShouldConnectPortsAndCell() throws IOException {
+    final Netlist netlist = new Netlist();
+    YosysJsonUtils.getNetlistFromYosysJsonFile(new Yosys(), getFile(NOR), netlist);
+    assertEquals("m", netlist.getName());
+    assertEquals(4, netlist.getNumVertex());
+    assertEquals(3, netlist.getNumEdge());
+    final NetlistNode nor = netlist.getVertexByName("$8");
+    assertEquals(LSResults.S_NOR, nor.getResultNetlistNodeData().getNodeType());
+    assertEquals(2, nor.getNumInEdge());
+    assertEquals(1, nor.getNumOutEdge());
+    final NetlistNode y = netlist.getVertexByName("y");
+    assertEquals(LSResults.S_PRIMARYOUTPUT, y.getResultNetlistNodeData().getNodeType());
+    assertEquals("y_0", y.getInEdgeAtIdx(0).getName());
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void getNetlistFromYosysJsonFile_Truncated_ShouldThrow() throws IOException {
+    final String json = NOR.substring(0, NOR.length() / 2);
+    YosysJsonUtils.getNetlistFromYosysJsonFile(new Yosys(), getFile(json), new Netlist());
+  }
+}
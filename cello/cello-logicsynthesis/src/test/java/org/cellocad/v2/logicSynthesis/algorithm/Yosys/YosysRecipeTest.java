@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.logicSynthesis.algorithm.Yosys;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.logicSynthesis.netlist.StructuralVerilogReader;
+import org.cellocad.v2.results.logicSynthesis.LSResults;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.junit.Test;
+
+/**
+ * Tests for {@link YosysRecipe}.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class YosysRecipeTest {
+
+  @Test
+  public void getRecipes_GatesAndPasses_ShouldSplit() throws CelloException {
+    final List<YosysRecipe> recipes =
+        YosysRecipe.getRecipes(" NOR, NOT ; NOR,OR,NOT | opt -full | abc -g NOR,OR,NOT ;");
+    assertEquals(2, recipes.size());
+    assertEquals("NOR,NOT", recipes.get(0).getGates());
+    assertEquals(0, recipes.get(0).getPasses().size());
+    assertEquals("NOR,OR,NOT", recipes.get(1).getGates());
+    assertEquals(Arrays.asList("opt -full", "abc -g NOR,OR,NOT"), recipes.get(1).getPasses());
+    assertEquals(Arrays.asList("NOR,OR,NOT"), recipes.get(1).getPassGates());
+    assertEquals(0, YosysRecipe.getRecipes("").size());
+  }
+
+  @Test(expected = CelloException.class)
+  public void getRecipes_NoGates_ShouldThrow() throws CelloException {
+    YosysRecipe.getRecipes("NOR,NOT;|opt");
+  }
+
+  @Test(expected = CelloException.class)
+  public void getRecipes_AbcWithoutGates_ShouldThrow() throws CelloException {
+    YosysRecipe.getRecipes("NOR,NOT|abc -fast");
+  }
+
+  @Test
+  public void getDepth_Chain_ShouldCountGatesOnLongestPath() throws CelloException {
+    final String verilog =
+        "module m(input a, b, c, output y, z);\n"
+            + "  wire w, x;\n"
+            + "  nor (w, a, b);\n"
+            + "  not (x, w);\n"
+            + "  nor (y, x, c);\n"
+            + "  not (z, c);\n"
+            + "endmodule\n";
+    final Netlist netlist =
+        new StructuralVerilogReader(verilog, Arrays.asList(LSResults.S_NOR)).getNetlist();
+    assertEquals(4, YosysRecipe.getNumGates(netlist));
+    assertEquals(3, YosysRecipe.getDepth(netlist));
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.logicSynthesis.algorithm.Yosys;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.netlistConstraint.data.NetlistConstraint;
+import org.cellocad.v2.common.runtime.environment.ArgString;
+import org.cellocad.v2.common.stage.Stage;
+import org.cellocad.v2.common.stage.StageUtils;
+import org.cellocad.v2.common.stage.runtime.environment.StageArgString;
+import org.cellocad.v2.common.target.data.TargetData;
+import org.cellocad.v2.common.target.data.TargetDataUtils;
+import org.cellocad.v2.logicSynthesis.runtime.LSRuntimeObject;
+import org.cellocad.v2.logicSynthesis.runtime.environment.LSRuntimeEnv;
+import org.cellocad.v2.results.common.Results;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for the {@link Yosys} algorithm, run end to end on structural Verilog so that the
+ * <i>Yosys</i> executable is not needed.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class YosysTest {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  /* A NOR of two inputs, followed by an inverter. */
+  private static final String VERILOG =
+      "module or_gate(input a, b, output out);\n"
+          + "   wire w;\n"
+          + "   nor (w, a, b);\n"
+          + "   not (out, w);\n"
+          + "endmodule\n";
+
+  private static String[] getArguments(
+      final File verilog, final File outputDir, final String options) throws IOException {
+    final File optionsFile = new File(outputDir, "options.csv");
+    Utils.writeToFile(options, optionsFile.getPath());
+    return new String[] {
+      "-" + StageArgString.INPUTNETLIST,
+      verilog.getPath(),
+      "-" + StageArgString.USERCONSTRAINTSFILE,
+      Utils.getResource("Test.UCF.json").getFile(),
+      "-" + StageArgString.INPUTSENSORFILE,
+      Utils.getResource("Test.input.json").getFile(),
+      "-" + StageArgString.OUTPUTDEVICEFILE,
+      Utils.getResource("Test.output.json").getFile(),
+      "-" + StageArgString.ALGORITHMNAME,
+      "Yosys",
+      "-" + StageArgString.OUTPUTDIR,
+      outputDir.getPath(),
+      "-" + StageArgString.OPTIONS,
+      optionsFile.getPath()
+    };
+  }
+
+  /*
+   * Runs the logicSynthesis stage as its Main does, without drawing the results, and returns the
+   * JSON of the netlist.
+   */
+  private static String compile(final File verilog, final File outputDir, final String options)
+      throws CelloException, IOException {
+    final LSRuntimeEnv runEnv =
+        new LSRuntimeEnv(YosysTest.getArguments(verilog, outputDir, options));
+    runEnv.setName("logicSynthesis");
+    final Netlist netlist = new Netlist();
+    netlist.setInputFilename(verilog.getPath());
+    final Stage stage = StageUtils.getStage(runEnv, StageArgString.ALGORITHMNAME);
+    stage.setName("logicSynthesis");
+    final TargetData td =
+        TargetDataUtils.getTargetTargetData(
+            runEnv,
+            ArgString.USERCONSTRAINTSFILE,
+            ArgString.INPUTSENSORFILE,
+            ArgString.OUTPUTDEVICEFILE);
+    final LSRuntimeObject ls =
+        new LSRuntimeObject(
+            stage, td, new NetlistConstraint(), netlist, new Results(outputDir), runEnv);
+    ls.setName("logicSynthesis");
+    ls.execute();
+    final File file = new File(outputDir, "netlist.json");
+    NetlistUtils.writeJsonForNetlist(netlist, file.getPath());
+    return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void execute_SameVerilogTwiceWithCache_ShouldProduceSameNetlist()
+      throws CelloException, IOException {
+    final File verilog = folder.newFile("or.v");
+    Utils.writeToFile(YosysTest.VERILOG, verilog.getPath());
+    final File cacheDir = folder.newFolder("cache");
+    final String options =
+        "logicSynthesis.NetSynth,false"
+            + Utils.getNewLine()
+            + "logicSynthesis.StructuralReader,true"
+            + Utils.getNewLine()
+            + "logicSynthesis.Cache,true"
+            + Utils.getNewLine()
+            + "logicSynthesis.CacheDirectory,"
+            + cacheDir.getPath()
+            + Utils.getNewLine();
+    final String miss = YosysTest.compile(verilog, folder.newFolder("miss"), options);
+    final File[] entries = cacheDir.listFiles();
+    assertEquals(1, entries.length);
+    // a hit marks the entry as used
+    assertTrue(entries[0].setLastModified(0));
+    final String hit = YosysTest.compile(verilog, folder.newFolder("hit"), options);
+    assertTrue(entries[0].lastModified() > 0);
+    assertTrue(miss.contains("\"or_gate\""));
+    assertEquals(miss, hit);
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.logicSynthesis.algorithm.Yosys;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.exception.CelloException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Integration test for {@link YosysWorker}, against <i>Yosys</i> itself. Skipped unless {@code
+ * yosys} is on the path.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class YosysWorkerIT {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  /** Skips the tests unless <i>Yosys</i> is on the path. */
+  @Before
+  public void init() {
+    final String cmd = YosysWorkerIT.S_EXEC + " -V";
+    assumeTrue(Utils.executeAndWaitForCommand(cmd, TIMEOUT).getExitValue() == 0);
+  }
+
+  private String getScript(final String module) throws IOException {
+    final File verilog = new File(Utils.getResource("and.v").getFile());
+    final File json = folder.newFile();
+    final String content =
+        "read_verilog "
+            + verilog.getAbsolutePath()
+            + Utils.getNewLine()
+            + "rename and_gate "
+            + module
+            + Utils.getNewLine()
+            + "synth -top "
+            + module
+            + Utils.getNewLine()
+            + "write_json "
+            + json.getAbsolutePath()
+            + Utils.getNewLine();
+    final File rtn = folder.newFile();
+    Files.write(rtn.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    return rtn.getAbsolutePath();
+  }
+
+  @Test
+  public void execute_SuccessiveScripts_ShouldSynthesizeEachDesign()
+      throws IOException, CelloException {
+    final YosysWorker worker = YosysWorker.acquire(YosysWorkerIT.S_EXEC);
+    try {
+      final String first = worker.execute(getScript("first"), TIMEOUT);
+      assertTrue(first.contains("first"));
+      final String second = worker.execute(getScript("second"), TIMEOUT);
+      assertTrue(second.contains("second"));
+      assertFalse(second.contains("first"));
+      assertTrue(worker.isAlive());
+    } finally {
+      YosysWorker.release(worker);
+    }
+    final YosysWorker other = YosysWorker.acquire(YosysWorkerIT.S_EXEC);
+    YosysWorker.release(other);
+    assertSame(worker, other);
+  }
+
+  private static final String S_EXEC = "yosys";
+  private static final long TIMEOUT = 60000;
+}
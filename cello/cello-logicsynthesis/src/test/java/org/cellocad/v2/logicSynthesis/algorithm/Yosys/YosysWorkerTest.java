@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.logicSynthesis.algorithm.Yosys;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.exception.CelloException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link YosysWorker}, against a stub of the <i>Yosys</i> shell that prints the contents
+ * of each script, spins on scripts named {@code *.hang}, and echoes each {@code log} command. See
+ * {@link YosysWorkerIT} for the tests against <i>Yosys</i> itself.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class YosysWorkerTest {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  private String exec;
+
+  private String getScript(final String content) throws IOException {
+    final File rtn = folder.newFile();
+    Files.write(rtn.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    return rtn.getAbsolutePath();
+  }
+
+  /**
+   * Writes the stub of the <i>Yosys</i> shell.
+   *
+   * @throws IOException Unable to write the stub.
+   */
+  @Before
+  public void init() throws IOException {
+    assumeTrue(Utils.isUnix() || Utils.isMac());
+    final String stub =
+        "#!/bin/sh\n"
+            + "while read cmd arg; do\n"
+            + "  case \"$cmd\" in\n"
+            + "    script) case \"$arg\" in\n"
+            + "      *.hang) while :; do :; done ;;\n"
+            + "      *) cat \"$arg\" ;;\n"
+            + "    esac ;;\n"
+            + "    log) printf 'yosys> log %s\\n%s\\n' \"$arg\" \"$arg\" ;;\n"
+            + "  esac\n"
+            + "done\n";
+    final File file = new File(getScript(stub));
+    assumeTrue(file.setExecutable(true));
+    exec = file.getAbsolutePath();
+  }
+
+  @Test
+  public void execute_SuccessiveScripts_ShouldReturnEachOutput()
+      throws IOException, CelloException {
+    final YosysWorker worker = YosysWorker.acquire(exec);
+    try {
+      assertEquals(
+          "first" + Utils.getNewLine(), worker.execute(getScript("first\n"), TIMEOUT));
+      assertEquals(
+          "second" + Utils.getNewLine(), worker.execute(getScript("second\n"), TIMEOUT));
+      assertTrue(worker.isAlive());
+    } finally {
+      YosysWorker.release(worker);
+    }
+    final YosysWorker other = YosysWorker.acquire(exec);
+    YosysWorker.release(other);
+    assertSame(worker, other);
+  }
+
+  @Test(expected = CelloException.class)
+  public void execute_ErrorInScript_ShouldThrow() throws IOException, CelloException {
+    final YosysWorker worker = YosysWorker.acquire(exec);
+    try {
+      worker.execute(getScript("ERROR: syntax error\n"), TIMEOUT);
+    } finally {
+      YosysWorker.release(worker);
+    }
+  }
+
+  @Test
+  public void execute_HungScript_ShouldStopWorkerAndThrow() throws IOException, CelloException {
+    final File script = folder.newFile("design.hang");
+    final long start = System.currentTimeMillis();
+    final YosysWorker worker = YosysWorker.acquire(exec);
+    try {
+      worker.execute(script.getAbsolutePath(), 200);
+      fail("Expected a timeout.");
+    } catch (final CelloException e) {
+      assertTrue(e.getMessage().contains("timed out"));
+    } finally {
+      YosysWorker.release(worker);
+    }
+    assertTrue(System.currentTimeMillis() - start < 10000);
+  }
+
+  private static final long TIMEOUT = 10000;
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.logicSynthesis.netlist;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.results.logicSynthesis.LSResults;
+import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+import org.cellocad.v2.results.logicSynthesis.netlist.EquivalenceChecker;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.junit.Test;
+
+/**
+ * Tests for {@link StructuralVerilogReader}.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class StructuralVerilogReaderTest {
+
+  private static final List<String> NOR = Arrays.asList(LSResults.S_NOR);
+
+  /* The A1 sample design. */
+  private static final String A1 =
+      "module xA1(input in1, in2, in3, output out);\n"
+          + "   wire r, s, t, u, v, w, x, y, z;\n"
+          + "   nor (v, w, u);\n"
+          + "   not (y, in2);\n"
+          + "   not (s, z);\n"
+          + "   nor (t, y, x);\n"
+          + "   not (w, in3);\n"
+          + "   nor (z, in1, in3);\n"
+          + "   not (u, t);\n"
+          + "   not (r, s);\n"
+          + "   not (x, in1);\n"
+          + "   or (out, r, v);\n"
+          + "endmodule\n";
+
+  @Test
+  public void getNetlist_A1WithNorOnly_ShouldMapOrToNorAndNot() throws CelloException {
+    final String verilog = A1;
+    final Netlist netlist = new StructuralVerilogReader(verilog, NOR).getNetlist();
+    assertEquals("xA1", netlist.getName());
+    assertEquals(3, LSResultsUtils.getPrimaryInputNodes(netlist).size());
+    assertEquals(1, LSResultsUtils.getPrimaryOutputNodes(netlist).size());
+    assertEquals(4, LSResultsUtils.getNodeType(netlist, LSResults.S_NOR).size());
+    assertEquals(7, LSResultsUtils.getNodeType(netlist, LSResults.S_NOT).size());
+    assertEquals(0, LSResultsUtils.getNodeType(netlist, LSResults.S_OR).size());
+    final List<String> or = Arrays.asList(LSResults.S_NOR, LSResults.S_OR);
+    final Netlist reference = new StructuralVerilogReader(verilog, or).getNetlist();
+    assertEquals(1, LSResultsUtils.getNodeType(reference, LSResults.S_OR).size());
+    assertTrue(new EquivalenceChecker(reference, netlist).isEquivalent());
+  }
+
+  @Test
+  public void getNetlist_NonAnsiPorts_ShouldReadDeclarations() throws CelloException {
+    final String verilog =
+        "module m (a, b, y); // comment\n"
+            + "  input a, b;\n"
+            + "  output y;\n"
+            + "  /* wire w */ wire w;\n"
+            + "  nor g0 (w, a, b);\n"
+            + "  not (y, w);\n"
+            + "endmodule\n";
+    final Netlist netlist = new StructuralVerilogReader(verilog, NOR).getNetlist();
+    assertEquals(5, netlist.getNumVertex());
+    assertEquals(4, netlist.getNumEdge());
+    final String type = netlist.getVertexByName("g0").getResultNetlistNodeData().getNodeType();
+    assertEquals(LSResults.S_NOR, type);
+  }
+
+  @Test(expected = CelloException.class)
+  public void getNetlist_ContinuousAssignment_ShouldThrow() throws IOException, CelloException {
+    new StructuralVerilogReader(Utils.getResourceAsString("and.v"), NOR);
+  }
+
+  @Test(expected = CelloException.class)
+  public void getNetlist_UnavailableGate_ShouldThrow() throws CelloException {
+    new StructuralVerilogReader("module m(input a, b, output y); and (y, a, b); endmodule", NOR);
+  }
+
+  @Test(expected = CelloException.class)
+  public void getNetlist_TwoDrivers_ShouldThrow() throws CelloException {
+    new StructuralVerilogReader(
+        "module m(input a, b, output y); not (y, a); not (y, b); endmodule", NOR);
+  }
+
+  @Test(expected = CelloException.class)
+  public void getNetlist_CombinationalLoop_ShouldThrow() throws CelloException {
+    new StructuralVerilogReader(
+        "module m(input a, output y); wire w; nor (w, a, y); not (y, w); endmodule", NOR);
+  }
+}
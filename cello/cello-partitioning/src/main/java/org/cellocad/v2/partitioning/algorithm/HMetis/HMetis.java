@@ -35,6 +35,7 @@ import java.util.List;
 import java.util.Map;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.cellocad.v2.common.ExecCommand;
 import org.cellocad.v2.common.Utils;
 import org.cellocad.v2.common.exception.CelloException;
 import org.cellocad.v2.common.file.dot.utils.DotUtils;
@@ -244,11 +245,22 @@ public class HMetis extends PTAlgorithm {
 
   /** Set parameter values of the algorithm. */
   @Override
-  protected void setParameterValues() {}
+  protected void setParameterValues() {
+    Boolean present = true;
+    present = getAlgorithmProfile().getIntParameter("Timeout").getFirst();
+    if (present) {
+      setTimeout(getAlgorithmProfile().getIntParameter("Timeout").getSecond());
+    }
+  }
 
   /** Validate parameter values of the algorithm. */
   @Override
-  protected void validateParameterValues() {}
+  protected void validateParameterValues() {
+    if (getTimeout() != null && getTimeout() < 0) {
+      logError(getTimeout() + " is not a valid value for parameter Timeout!");
+      Utils.exit(-1);
+    }
+  }
 
   /** Perform preprocessing. */
   @Override
@@ -286,10 +298,18 @@ public class HMetis extends PTAlgorithm {
     createPartitionDotFilePath();
   }
 
-  /** Run the (core) algorithm. */
+  /**
+   * Run the (core) algorithm.
+   *
+   * @throws CelloException The <i>hMetis</i> process timed out.
+   */
   @Override
-  protected void run() {
-    Utils.executeAndWaitForCommand(getHMetisExec());
+  protected void run() throws CelloException {
+    final long timeout = getTimeout() != null ? getTimeout() : HMetis.L_TIMEOUT;
+    final ExecCommand proc = Utils.executeAndWaitForCommand(getHMetisExec(), timeout);
+    if (proc.isTimedOut()) {
+      throw new CelloException(getHMetisExec() + " timed out after " + timeout + " ms.");
+    }
   }
 
   /**
@@ -320,6 +340,7 @@ public class HMetis extends PTAlgorithm {
   }
 
   private static final Logger logger = LogManager.getLogger(HMetis.class);
+  private static final long L_TIMEOUT = 600000;
 
   /*
    * hMetisInFile
@@ -413,6 +434,30 @@ public class HMetis extends PTAlgorithm {
 
   private String hMetisExec;
 
+  /*
+   * Timeout
+   */
+  /**
+   * Setter for {@code timeout}.
+   *
+   * @param value The value to set {@code timeout}.
+   */
+  protected void setTimeout(final Integer value) {
+    timeout = value;
+  }
+
+  /**
+   * Getter for {@code timeout}, the time in milliseconds after which the <i>hMetis</i> process is
+   * destroyed.
+   *
+   * @return The value of {@code timeout}, zero for none.
+   */
+  protected Integer getTimeout() {
+    return timeout;
+  }
+
+  private Integer timeout;
+
   /*
    * Netlister
    */
@@ -98,13 +98,12 @@ public class CytometryPlotUtils {
     Variable x = c.getVariables().findCObjectByName("x");
     ec.setNode(node);
     ec.setState(state);
-    final Double result =
+    final double result =
         node.getResultNetlistNodeData()
             .getDevice()
             .getModel()
             .getFunctionByName(FunctionType.S_INPUTCOMPOSITION)
-            .evaluate(ec)
-            .doubleValue();
+            .evaluateDouble(ec);
     Pair<Variable, Double> map = new Pair<>(x, result);
     rtn = c.evaluate(map);
     return rtn;
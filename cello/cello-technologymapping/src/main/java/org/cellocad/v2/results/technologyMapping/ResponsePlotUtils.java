@@ -111,7 +111,7 @@ public class ResponsePlotUtils {
     for (int i = 0; i < x.size(); i++) {
       final Double xi = x.get(i);
       value.put(a.getVariables().get(0), xi);
-      rtn.add(a.evaluate(ec, value).doubleValue());
+      rtn.add(a.evaluateDouble(ec, value));
     }
     return rtn;
   }
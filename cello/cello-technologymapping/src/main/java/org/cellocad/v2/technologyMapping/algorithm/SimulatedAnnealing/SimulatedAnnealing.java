@@ -21,10 +21,13 @@ package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.cellocad.v2.common.CObjectCollection;
@@ -41,6 +44,7 @@ import org.cellocad.v2.common.target.data.data.OutputDevice;
 import org.cellocad.v2.results.common.Result;
 import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
 import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
 import org.cellocad.v2.results.logicSynthesis.netlist.LSResultNetlistUtils;
 import org.cellocad.v2.results.netlist.Netlist;
 import org.cellocad.v2.results.netlist.NetlistEdge;
@@ -50,10 +54,13 @@ import org.cellocad.v2.results.technologyMapping.CytometryPlotUtils;
 import org.cellocad.v2.results.technologyMapping.ResponsePlotUtils;
 import org.cellocad.v2.results.technologyMapping.TMResultsUtils;
 import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
+import org.cellocad.v2.results.technologyMapping.activity.TMDoseResponseEvaluation;
 import org.cellocad.v2.results.technologyMapping.cytometry.TMCytometryEvaluation;
 import org.cellocad.v2.technologyMapping.algorithm.TMAlgorithm;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.assignment.GateManager;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.roadblock.RoadBlockUtils;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.robustness.Perturbation;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.robustness.RobustnessAnalysis;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.score.ScoreUtils;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxicity.TMToxicityEvaluation;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.results.SimulatedAnnealingResultsUtils;
@@ -118,16 +125,94 @@ public class SimulatedAnnealing extends TMAlgorithm {
 
   /** Set parameter values of the algorithm. */
   @Override
-  protected void setParameterValues() {}
+  protected void setParameterValues() {
+    Boolean present = true;
+    present = getAlgorithmProfile().getIntParameter("DoseResponseLevels").getFirst();
+    if (present) {
+      setDoseResponseLevels(
+          getAlgorithmProfile().getIntParameter("DoseResponseLevels").getSecond());
+    }
+    present = getAlgorithmProfile().getIntParameter("StateSamples").getFirst();
+    if (present) {
+      setStateSamples(getAlgorithmProfile().getIntParameter("StateSamples").getSecond());
+    }
+    present = getAlgorithmProfile().getIntParameter("StateSampleSeed").getFirst();
+    if (present) {
+      setStateSampleSeed(getAlgorithmProfile().getIntParameter("StateSampleSeed").getSecond());
+    }
+    present = getAlgorithmProfile().getIntParameter("Parallelism").getFirst();
+    if (present) {
+      setParallelism(getAlgorithmProfile().getIntParameter("Parallelism").getSecond());
+    }
+    present = getAlgorithmProfile().getIntParameter("RobustnessSamples").getFirst();
+    if (present) {
+      setRobustnessSamples(getAlgorithmProfile().getIntParameter("RobustnessSamples").getSecond());
+    }
+    present = getAlgorithmProfile().getIntParameter("RobustnessSeed").getFirst();
+    if (present) {
+      setRobustnessSeed(getAlgorithmProfile().getIntParameter("RobustnessSeed").getSecond());
+    }
+    present = getAlgorithmProfile().getStringParameter("RobustnessParameters").getFirst();
+    if (present) {
+      setRobustnessParameters(
+          getAlgorithmProfile().getStringParameter("RobustnessParameters").getSecond());
+    }
+    present = getAlgorithmProfile().getStringParameter("RobustnessDistribution").getFirst();
+    if (present) {
+      setRobustnessDistribution(
+          getAlgorithmProfile().getStringParameter("RobustnessDistribution").getSecond());
+    }
+    present = getAlgorithmProfile().getDoubleParameter("RobustnessSpread").getFirst();
+    if (present) {
+      setRobustnessSpread(getAlgorithmProfile().getDoubleParameter("RobustnessSpread").getSecond());
+    }
+  }
 
   /** Validate parameter values of the algorithm. */
   @Override
-  protected void validateParameterValues() {}
+  protected void validateParameterValues() {
+    if (getDoseResponseLevels() != null
+        && (getDoseResponseLevels() < 0 || getDoseResponseLevels() == 1)) {
+      logError(getDoseResponseLevels() + " is not a valid value for parameter DoseResponseLevels!");
+      Utils.exit(-1);
+    }
+    if (getStateSamples() != null && getStateSamples() < 0) {
+      logError(getStateSamples() + " is not a valid value for parameter StateSamples!");
+      Utils.exit(-1);
+    }
+    if (getParallelism() != null && getParallelism() < 1) {
+      logError(getParallelism() + " is not a valid value for parameter Parallelism!");
+      Utils.exit(-1);
+    }
+    if (getRobustnessSamples() != null && getRobustnessSamples() < 0) {
+      logError(getRobustnessSamples() + " is not a valid value for parameter RobustnessSamples!");
+      Utils.exit(-1);
+    }
+    if (getRobustnessSamples() != null && getRobustnessSamples() > 0) {
+      final String distribution = getRobustnessDistribution();
+      if (!Perturbation.S_NORMAL.equals(distribution)
+          && !Perturbation.S_LOGNORMAL.equals(distribution)
+          && !Perturbation.S_UNIFORM.equals(distribution)) {
+        logError(distribution + " is not a valid value for parameter RobustnessDistribution!");
+        Utils.exit(-1);
+      }
+      if (getRobustnessSpread() == null || !(getRobustnessSpread() >= 0.0)) {
+        logError(getRobustnessSpread() + " is not a valid value for parameter RobustnessSpread!");
+        Utils.exit(-1);
+      }
+    }
+  }
 
   /** Perform preprocessing. */
   protected void setTruthTable() {
     LSResultNetlistUtils.setVertexTypeUsingLSResult(getNetlist());
-    setLSLogicEvaluation(new LSLogicEvaluation(getNetlist()));
+    long[] ordinals = null;
+    if (getStateSamples() != null && getStateSamples() > 0) {
+      final int numInputs = LSResultsUtils.getPrimaryInputNodes(getNetlist()).size();
+      final long seed = getStateSampleSeed() == null ? 0 : getStateSampleSeed();
+      ordinals = States.getRandomOrdinals(numInputs, getStateSamples(), seed);
+    }
+    setLSLogicEvaluation(new LSLogicEvaluation(getNetlist(), ordinals));
     logInfo(getLSLogicEvaluation().toString());
   }
 
@@ -508,6 +593,54 @@ public class SimulatedAnnealing extends TMAlgorithm {
     }
   }
 
+  /**
+   * Runs a {@link RobustnessAnalysis} of the assigned netlist, perturbing every parameter named in
+   * the {@code RobustnessParameters} parameter.
+   *
+   * @return The analysis, after it has been run.
+   * @throws CelloException Unable to run the analysis.
+   */
+  protected RobustnessAnalysis getRobustnessAnalysis() throws CelloException {
+    final List<Perturbation> perturbations = new ArrayList<>();
+    final String parameters = getRobustnessParameters() == null ? "" : getRobustnessParameters();
+    for (final String parameter : parameters.split(",")) {
+      if (!parameter.trim().isEmpty()) {
+        perturbations.add(
+            new Perturbation(
+                parameter.trim(), getRobustnessDistribution(), getRobustnessSpread()));
+      }
+    }
+    final RobustnessAnalysis rtn =
+        new RobustnessAnalysis(getNetlist(), getLSLogicEvaluation(), perturbations);
+    final long seed = getRobustnessSeed() == null ? 0 : getRobustnessSeed();
+    rtn.run(getRobustnessSamples(), seed, getPool());
+    return rtn;
+  }
+
+  protected void writeDoseResponseResult(final String outputFile) throws CelloException {
+    final TMDoseResponseEvaluation tmdre =
+        new TMDoseResponseEvaluation(getNetlist(), getDoseResponseLevels(), getPool());
+    final File doseResponseFile;
+    try {
+      doseResponseFile =
+          TMResultsUtils.writeCsvForTMDoseResponseEvaluation(
+              tmdre, outputFile + "_dose_response.csv");
+    } catch (final IOException e) {
+      throw new CelloException("Unable to write CSV file for dose response.", e);
+    }
+    final Result doseResponseResult =
+        new Result(
+            "dose_response",
+            "technologyMapping",
+            "The output activity of the circuit over a grid of input levels.",
+            doseResponseFile);
+    try {
+      this.getResults().addResult(doseResponseResult);
+    } catch (final IOException e) {
+      throw new CelloException("Unable to write metadata for dose response result.", e);
+    }
+  }
+
   /**
    * Perform postprocessing.
    *
@@ -515,60 +648,79 @@ public class SimulatedAnnealing extends TMAlgorithm {
    */
   @Override
   protected void postprocessing() throws CelloException {
-    Integer numBlocked =
-        RoadBlockUtils.getNumberOfRoadBlockedNodes(
-            this.getNetlist(), this.getDeviceRules(), this.getTargetDataInstance());
-    if (numBlocked > 0) {
-      throw new CelloException("Circuit has roadblocked nodes.");
+    // pool, for the evaluations of the final assignment only
+    if (getParallelism() != null && getParallelism() > 1) {
+      setPool(new ForkJoinPool(getParallelism()));
     }
-    setNodeDeviceNames();
-    final String inputFilename = getNetlist().getInputFilename();
-    final String filename = Utils.getFilename(inputFilename);
-    final String outputDir = getRuntimeEnv().getOptionValue(ArgString.OUTPUTDIR);
-    final String outputFile = outputDir + Utils.getFileSeparator() + filename;
-    // logic
-    writeLogicResult(outputFile);
-    // cytometry
-    setTMCytometryEvaluation(new TMCytometryEvaluation());
-    // toxicity
-    setTMToxicityEvaluation(new TMToxicityEvaluation(getNetlist(), getTMActivityEvaluation()));
-    writeToxicityResult(outputFile);
-    logInfo(getTMToxicityEvaluation().toString());
-    // activity
-    writeActivityResult(outputFile);
-    logInfo(getTMActivityEvaluation().toString());
-    for (int i = 0; i < getNetlist().getNumVertex(); i++) {
-      final NetlistNode node = getNetlist().getVertexAtIdx(i);
-      final AssignableDevice gate = node.getResultNetlistNodeData().getDevice();
-      if (gate != null) {
-        String str = "";
-        str += String.format("Node: %-5s", node.getName());
-        str += Utils.getTabCharacter();
-        str += String.format("Type: %-10s", node.getResultNetlistNodeData().getNodeType());
-        str += Utils.getTabCharacter();
-        str += String.format("Gate: %-10s", gate.getName());
-        str += Utils.getTabCharacter();
-        logInfo(str);
+    try {
+      Integer numBlocked =
+          RoadBlockUtils.getNumberOfRoadBlockedNodes(
+              this.getNetlist(), this.getDeviceRules(), this.getTargetDataInstance());
+      if (numBlocked > 0) {
+        throw new CelloException("Circuit has roadblocked nodes.");
+      }
+      setNodeDeviceNames();
+      final String inputFilename = getNetlist().getInputFilename();
+      final String filename = Utils.getFilename(inputFilename);
+      final String outputDir = getRuntimeEnv().getOptionValue(ArgString.OUTPUTDIR);
+      final String outputFile = outputDir + Utils.getFileSeparator() + filename;
+      // logic
+      writeLogicResult(outputFile);
+      // cytometry
+      setTMCytometryEvaluation(new TMCytometryEvaluation());
+      // toxicity
+      setTMToxicityEvaluation(new TMToxicityEvaluation(getNetlist(), getTMActivityEvaluation()));
+      writeToxicityResult(outputFile);
+      logInfo(getTMToxicityEvaluation().toString());
+      // activity
+      writeActivityResult(outputFile);
+      logInfo(getTMActivityEvaluation().toString());
+      // dose response
+      if (getDoseResponseLevels() != null && getDoseResponseLevels() > 0) {
+        writeDoseResponseResult(outputFile);
+      }
+      // robustness
+      if (getRobustnessSamples() != null && getRobustnessSamples() > 0) {
+        logInfo(getRobustnessAnalysis().toString());
+      }
+      for (int i = 0; i < getNetlist().getNumVertex(); i++) {
+        final NetlistNode node = getNetlist().getVertexAtIdx(i);
+        final AssignableDevice gate = node.getResultNetlistNodeData().getDevice();
+        if (gate != null) {
+          String str = "";
+          str += String.format("Node: %-5s", node.getName());
+          str += Utils.getTabCharacter();
+          str += String.format("Type: %-10s", node.getResultNetlistNodeData().getNodeType());
+          str += Utils.getTabCharacter();
+          str += String.format("Gate: %-10s", gate.getName());
+          str += Utils.getTabCharacter();
+          logInfo(str);
+        }
+      }
+      logInfo(
+          String.format(
+              "Score: %.2f",
+              ScoreUtils.score(getNetlist(), getLSLogicEvaluation(), getTMActivityEvaluation())));
+      // plots
+      logInfo("Generating plots");
+      ResponsePlotUtils.generatePlots(
+          getNetlist(),
+          getLSLogicEvaluation(),
+          getTMActivityEvaluation(),
+          getRuntimeEnv(),
+          this.getResults());
+      CytometryPlotUtils.generatePlots(
+          getNetlist(),
+          getLSLogicEvaluation(),
+          getTMActivityEvaluation(),
+          getRuntimeEnv(),
+          this.getResults());
+    } finally {
+      if (getPool() != null) {
+        getPool().shutdown();
+        setPool(null);
       }
     }
-    logInfo(
-        String.format(
-            "Score: %.2f",
-            ScoreUtils.score(getNetlist(), getLSLogicEvaluation(), getTMActivityEvaluation())));
-    // plots
-    logInfo("Generating plots");
-    ResponsePlotUtils.generatePlots(
-        getNetlist(),
-        getLSLogicEvaluation(),
-        getTMActivityEvaluation(),
-        getRuntimeEnv(),
-        this.getResults());
-    CytometryPlotUtils.generatePlots(
-        getNetlist(),
-        getLSLogicEvaluation(),
-        getTMActivityEvaluation(),
-        getRuntimeEnv(),
-        this.getResults());
   }
 
   /**
@@ -755,6 +907,210 @@ public class SimulatedAnnealing extends TMAlgorithm {
 
   private TMCytometryEvaluation tmce;
 
+  /**
+   * Getter for {@code doseResponseLevels}.
+   *
+   * @return The number of levels of each input in the dose response, or zero if the dose response
+   *     is not evaluated.
+   */
+  protected Integer getDoseResponseLevels() {
+    return doseResponseLevels;
+  }
+
+  /**
+   * Setter for {@code doseResponseLevels}.
+   *
+   * @param doseResponseLevels The value to set {@code doseResponseLevels}.
+   */
+  protected void setDoseResponseLevels(final Integer doseResponseLevels) {
+    this.doseResponseLevels = doseResponseLevels;
+  }
+
+  private Integer doseResponseLevels;
+
+  /**
+   * Getter for {@code stateSamples}.
+   *
+   * @return The number of randomly sampled input states to evaluate, or zero if every input state
+   *     is evaluated.
+   */
+  protected Integer getStateSamples() {
+    return stateSamples;
+  }
+
+  /**
+   * Setter for {@code stateSamples}.
+   *
+   * @param stateSamples The value to set {@code stateSamples}.
+   */
+  protected void setStateSamples(final Integer stateSamples) {
+    this.stateSamples = stateSamples;
+  }
+
+  private Integer stateSamples;
+
+  /**
+   * Getter for {@code stateSampleSeed}.
+   *
+   * @return The seed of the random sample of input states, or null for the default seed.
+   */
+  protected Integer getStateSampleSeed() {
+    return stateSampleSeed;
+  }
+
+  /**
+   * Setter for {@code stateSampleSeed}.
+   *
+   * @param stateSampleSeed The value to set {@code stateSampleSeed}.
+   */
+  protected void setStateSampleSeed(final Integer stateSampleSeed) {
+    this.stateSampleSeed = stateSampleSeed;
+  }
+
+  private Integer stateSampleSeed;
+
+  /**
+   * Getter for {@code parallelism}.
+   *
+   * @return The number of threads that evaluate the dose response and robustness of the final
+   *     assignment, or one if they are evaluated serially.
+   */
+  protected Integer getParallelism() {
+    return parallelism;
+  }
+
+  /**
+   * Setter for {@code parallelism}.
+   *
+   * @param parallelism The value to set {@code parallelism}.
+   */
+  protected void setParallelism(final Integer parallelism) {
+    this.parallelism = parallelism;
+  }
+
+  private Integer parallelism;
+
+  /**
+   * Getter for {@code pool}.
+   *
+   * @return The pool that evaluates the dose response and robustness during postprocessing, or
+   *     null outside of postprocessing or if they are evaluated serially.
+   */
+  protected ForkJoinPool getPool() {
+    return pool;
+  }
+
+  /**
+   * Setter for {@code pool}.
+   *
+   * @param pool The value to set {@code pool}.
+   */
+  protected void setPool(final ForkJoinPool pool) {
+    this.pool = pool;
+  }
+
+  private ForkJoinPool pool;
+
+  /**
+   * Getter for {@code robustnessSamples}.
+   *
+   * @return The number of samples of the robustness analysis, or zero if it is not run.
+   */
+  protected Integer getRobustnessSamples() {
+    return robustnessSamples;
+  }
+
+  /**
+   * Setter for {@code robustnessSamples}.
+   *
+   * @param robustnessSamples The value to set {@code robustnessSamples}.
+   */
+  protected void setRobustnessSamples(final Integer robustnessSamples) {
+    this.robustnessSamples = robustnessSamples;
+  }
+
+  private Integer robustnessSamples;
+
+  /**
+   * Getter for {@code robustnessSeed}.
+   *
+   * @return The seed of the robustness analysis, or null for the default seed.
+   */
+  protected Integer getRobustnessSeed() {
+    return robustnessSeed;
+  }
+
+  /**
+   * Setter for {@code robustnessSeed}.
+   *
+   * @param robustnessSeed The value to set {@code robustnessSeed}.
+   */
+  protected void setRobustnessSeed(final Integer robustnessSeed) {
+    this.robustnessSeed = robustnessSeed;
+  }
+
+  private Integer robustnessSeed;
+
+  /**
+   * Getter for {@code robustnessParameters}.
+   *
+   * @return The comma-separated names of the parameters perturbed by the robustness analysis.
+   */
+  protected String getRobustnessParameters() {
+    return robustnessParameters;
+  }
+
+  /**
+   * Setter for {@code robustnessParameters}.
+   *
+   * @param robustnessParameters The value to set {@code robustnessParameters}.
+   */
+  protected void setRobustnessParameters(final String robustnessParameters) {
+    this.robustnessParameters = robustnessParameters;
+  }
+
+  private String robustnessParameters;
+
+  /**
+   * Getter for {@code robustnessDistribution}.
+   *
+   * @return The distribution of the perturbations of the robustness analysis.
+   */
+  protected String getRobustnessDistribution() {
+    return robustnessDistribution;
+  }
+
+  /**
+   * Setter for {@code robustnessDistribution}.
+   *
+   * @param robustnessDistribution The value to set {@code robustnessDistribution}.
+   */
+  protected void setRobustnessDistribution(final String robustnessDistribution) {
+    this.robustnessDistribution = robustnessDistribution;
+  }
+
+  private String robustnessDistribution;
+
+  /**
+   * Getter for {@code robustnessSpread}.
+   *
+   * @return The relative spread of the perturbations of the robustness analysis.
+   */
+  protected Double getRobustnessSpread() {
+    return robustnessSpread;
+  }
+
+  /**
+   * Setter for {@code robustnessSpread}.
+   *
+   * @param robustnessSpread The value to set {@code robustnessSpread}.
+   */
+  protected void setRobustnessSpread(final Double robustnessSpread) {
+    this.robustnessSpread = robustnessSpread;
+  }
+
+  private Double robustnessSpread;
+
   /**
    * Getter for {@code deviceRules}.
    *
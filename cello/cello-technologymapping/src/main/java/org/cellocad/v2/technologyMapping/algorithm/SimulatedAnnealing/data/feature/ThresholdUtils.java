@@ -131,12 +131,12 @@ public class ThresholdUtils {
     FixedParameter onThresholdParameter = (FixedParameter) m.getParameterByName("on_threshold");
     Double onThreshold = null;
     if (onThresholdParameter != null) {
-      onThreshold = onThresholdParameter.evaluate(null).doubleValue();
+      onThreshold = onThresholdParameter.evaluateDouble(null);
     }
     FixedParameter offThresholdParameter = (FixedParameter) m.getParameterByName("off_threshold");
     Double offThreshold = null;
     if (offThresholdParameter != null) {
-      offThreshold = offThresholdParameter.evaluate(null).doubleValue();
+      offThreshold = offThresholdParameter.evaluateDouble(null);
     }
     for (int i = 0; i < activityTable.getNumStates(); i++) {
       State<NetlistNode> state = activityTable.getStateAtIdx(i);
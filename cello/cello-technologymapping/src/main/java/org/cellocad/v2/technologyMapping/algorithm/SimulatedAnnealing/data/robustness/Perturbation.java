@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.robustness;
+
+import java.util.Random;
+import org.cellocad.v2.common.exception.CelloException;
+
+/**
+ * A random perturbation of every fixed model parameter with a given name, relative to the
+ * nominal value of the parameter.
+ *
+ * <ul>
+ *   <li>{@code normal}: {@code value * (1 + spread * N(0, 1))}
+ *   <li>{@code lognormal}: {@code value * exp(spread * N(0, 1))}
+ *   <li>{@code uniform}: {@code value * (1 + spread * U(-1, 1))}
+ * </ul>
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class Perturbation {
+
+  private void init(final String parameter, final String distribution, final double spread)
+      throws CelloException {
+    if (parameter == null) {
+      throw new CelloException("Perturbation parameter undefined.");
+    }
+    if (!Perturbation.S_NORMAL.equals(distribution)
+        && !Perturbation.S_LOGNORMAL.equals(distribution)
+        && !Perturbation.S_UNIFORM.equals(distribution)) {
+      final String fmt = "Unknown perturbation distribution: '%s'.";
+      throw new CelloException(String.format(fmt, distribution));
+    }
+    if (!(spread >= 0.0)) {
+      final String fmt = "Invalid perturbation spread: %s.";
+      throw new CelloException(String.format(fmt, spread));
+    }
+    this.parameter = parameter;
+    this.distribution = distribution;
+    this.spread = spread;
+  }
+
+  /**
+   * Initializes a newly created {@link Perturbation}.
+   *
+   * @param parameter The name of the perturbed parameter, e.g. {@code ymax}.
+   * @param distribution One of {@code normal}, {@code lognormal}, or {@code uniform}.
+   * @param spread The relative spread of the distribution.
+   * @throws CelloException Invalid distribution or spread.
+   */
+  public Perturbation(final String parameter, final String distribution, final double spread)
+      throws CelloException {
+    init(parameter, distribution, spread);
+  }
+
+  /**
+   * Draws a perturbed value.
+   *
+   * @param value The nominal value.
+   * @param random The source of randomness.
+   * @return The perturbed value.
+   */
+  public double sample(final double value, final Random random) {
+    double rtn = value;
+    switch (getDistribution()) {
+      case Perturbation.S_NORMAL:
+        rtn = value * (1.0 + getSpread() * random.nextGaussian());
+        break;
+      case Perturbation.S_LOGNORMAL:
+        rtn = value * Math.exp(getSpread() * random.nextGaussian());
+        break;
+      case Perturbation.S_UNIFORM:
+        rtn = value * (1.0 + getSpread() * (2.0 * random.nextDouble() - 1.0));
+        break;
+      default:
+        break;
+    }
+    return rtn;
+  }
+
+  /**
+   * Getter for {@code parameter}.
+   *
+   * @return The value of {@code parameter}.
+   */
+  public String getParameter() {
+    return parameter;
+  }
+
+  /**
+   * Getter for {@code distribution}.
+   *
+   * @return The value of {@code distribution}.
+   */
+  public String getDistribution() {
+    return distribution;
+  }
+
+  /**
+   * Getter for {@code spread}.
+   *
+   * @return The value of {@code spread}.
+   */
+  public double getSpread() {
+    return spread;
+  }
+
+  private String parameter;
+  private String distribution;
+  private double spread;
+
+  public static final String S_NORMAL = "normal";
+  public static final String S_LOGNORMAL = "lognormal";
+  public static final String S_UNIFORM = "uniform";
+}
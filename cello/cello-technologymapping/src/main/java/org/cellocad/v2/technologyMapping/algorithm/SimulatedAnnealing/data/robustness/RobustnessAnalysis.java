@@ -0,0 +1,342 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.robustness;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.target.data.data.AssignableDevice;
+import org.cellocad.v2.common.target.data.data.EvaluationContext;
+import org.cellocad.v2.common.target.data.data.FixedParameter;
+import org.cellocad.v2.common.target.data.data.Function;
+import org.cellocad.v2.common.target.data.data.FunctionType;
+import org.cellocad.v2.common.target.data.data.Model;
+import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+
+/**
+ * A Monte-Carlo analysis of the robustness of an assigned netlist. In each sample, every fixed
+ * model parameter of every assigned device that matches a {@link Perturbation} is redrawn, and the
+ * on/off ratio of every primary output, and the score of the netlist, are re-evaluated. Samples
+ * are evaluated serially, or in parallel on a given {@link ForkJoinPool}, each worker with its own
+ * {@link EvaluationContext}. The assignment of the netlist must not change during {@link #run(int,
+ * long)}.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class RobustnessAnalysis {
+
+  private void init() {
+    parameters = new ArrayList<>();
+    perturbations = new ArrayList<>();
+    nominals = new ArrayList<>();
+    outputs = new ArrayList<>();
+    summaries = new HashMap<>();
+  }
+
+  /**
+   * Initializes a newly created {@link RobustnessAnalysis}.
+   *
+   * @param netlist An assigned netlist.
+   * @param lsle The logic evaluation of the netlist.
+   * @param perturbations The perturbations to apply, at most one per parameter name.
+   * @throws CelloException Unable to initialize the analysis.
+   */
+  public RobustnessAnalysis(
+      final Netlist netlist, final LSLogicEvaluation lsle, final List<Perturbation> perturbations)
+      throws CelloException {
+    init();
+    if (!netlist.isValid()) {
+      throw new RuntimeException("netlist is not valid!");
+    }
+    final Map<String, Perturbation> byName = new HashMap<>();
+    for (final Perturbation p : perturbations) {
+      if (byName.put(p.getParameter(), p) != null) {
+        final String fmt = "Duplicate perturbation of parameter '%s'.";
+        throw new CelloException(String.format(fmt, p.getParameter()));
+      }
+    }
+    final States<NetlistNode> s = lsle.getStates();
+    states = new ArrayList<>(s.getNumStates());
+    for (int i = 0; i < s.getNumStates(); i++) {
+      states.add(s.getStateAtIdx(i));
+    }
+    final List<boolean[]> logic = new ArrayList<>();
+    final List<Function> functions = new ArrayList<>();
+    for (int i = 0; i < netlist.getNumVertex(); i++) {
+      final NetlistNode node = netlist.getVertexAtIdx(i);
+      final AssignableDevice device = node.getResultNetlistNodeData().getDevice();
+      if (device == null) {
+        continue;
+      }
+      final Model m = device.getModel();
+      for (int j = 0; j < m.getNumParameter(); j++) {
+        final FixedParameter p = m.getParameterAtIdx(j);
+        final Perturbation q = byName.get(p.getName());
+        if (q != null) {
+          parameters.add(p);
+          this.perturbations.add(q);
+          nominals.add(p.evaluateDouble(null));
+        }
+      }
+      if (LSResultsUtils.isPrimaryOutput(node)) {
+        outputs.add(node);
+        functions.add(m.getFunctionByName(FunctionType.S_RESPONSEFUNCTION));
+        logic.add(RobustnessAnalysis.getLogic(lsle.getLogic(node), states.size()));
+      }
+    }
+    this.functions = functions.toArray(new Function[functions.size()]);
+    this.logic = logic.toArray(new boolean[logic.size()][]);
+  }
+
+  private static boolean[] getLogic(final long[] logic, final int numStates) {
+    final boolean[] rtn = new boolean[numStates];
+    for (int i = 0; i < numStates; i++) {
+      rtn[i] = LSLogicEvaluation.isSet(logic, i);
+    }
+    return rtn;
+  }
+
+  /**
+   * Runs the analysis serially.
+   *
+   * @param numSamples The number of samples.
+   * @param seed The seed of the random perturbations. A given seed gives the same result
+   *     regardless of the number of threads.
+   * @throws CelloException Unable to evaluate the netlist.
+   */
+  public void run(final int numSamples, final long seed) throws CelloException {
+    run(numSamples, seed, null);
+  }
+
+  /**
+   * Runs the analysis. If the pool defined by parameter {@code pool} is not null, the samples are
+   * evaluated in parallel on the pool.
+   *
+   * @param numSamples The number of samples.
+   * @param seed The seed of the random perturbations. A given seed gives the same result
+   *     regardless of the number of threads.
+   * @param pool The pool on which to evaluate the samples, or null to evaluate them serially.
+   * @throws CelloException Unable to evaluate the netlist.
+   */
+  public void run(final int numSamples, final long seed, final ForkJoinPool pool)
+      throws CelloException {
+    final int numOutputs = outputs.size();
+    final double[] nominal = new double[numOutputs + 1];
+    new Worker().evaluate(nominal);
+    final double[][] results = new double[numOutputs + 1][numSamples];
+    if (pool == null) {
+      final Worker worker = new Worker();
+      for (int i = 0; i < numSamples; i++) {
+        worker.sample(seed, i, results);
+      }
+    } else {
+      evaluate(numSamples, seed, results, pool);
+    }
+    summaries.clear();
+    for (int i = 0; i < numOutputs; i++) {
+      summaries.put(outputs.get(i), new RobustnessSummary(nominal[i], results[i]));
+    }
+    score = new RobustnessSummary(nominal[numOutputs], results[numOutputs]);
+  }
+
+  private void evaluate(
+      final int numSamples, final long seed, final double[][] results, final ForkJoinPool pool)
+      throws CelloException {
+    try {
+      pool.invoke(new SampleTask(0, numSamples, seed, results));
+    } catch (final RuntimeException e) {
+      for (Throwable t = e; t != null; t = t.getCause()) {
+        if (t instanceof CelloException) {
+          throw new CelloException(t.getMessage(), t);
+        }
+      }
+      throw e;
+    }
+  }
+
+  /** The evaluation buffers and context of a single thread. */
+  private class Worker {
+
+    Worker() {
+      ec = new EvaluationContext();
+      activity = new double[states.size()];
+    }
+
+    /**
+     * Evaluates the on/off ratio of every output, followed by the score, with the parameter values
+     * currently set in the context.
+     */
+    void evaluate(final double[] out) throws CelloException {
+      double score = Double.MAX_VALUE;
+      for (int i = 0; i < functions.length; i++) {
+        ec.setNode(outputs.get(i));
+        functions[i].evaluate(ec, states, activity);
+        double on = Double.MAX_VALUE;
+        double off = Double.MIN_VALUE;
+        for (int j = 0; j < activity.length; j++) {
+          if (logic[i][j] && on > activity[j]) {
+            on = activity[j];
+          } else if (!logic[i][j] && off < activity[j]) {
+            off = activity[j];
+          }
+        }
+        out[i] = on / off;
+        score = Math.min(score, out[i]);
+      }
+      out[functions.length] = score;
+    }
+
+    void sample(final long seed, final int idx, final double[][] results) throws CelloException {
+      final Random random =
+          new Random(RobustnessAnalysis.mix(seed + idx * RobustnessAnalysis.L_GOLDEN));
+      ec.clearParameterValues();
+      for (int i = 0; i < parameters.size(); i++) {
+        final double value = perturbations.get(i).sample(nominals.get(i), random);
+        ec.setParameterValue(parameters.get(i), value);
+      }
+      evaluate(buffer);
+      for (int i = 0; i < buffer.length; i++) {
+        results[i][idx] = buffer[i];
+      }
+    }
+
+    private final EvaluationContext ec;
+    private final double[] activity;
+    private final double[] buffer = new double[outputs.size() + 1];
+  }
+
+  /** Evaluates a range of samples, splitting it in half until it is small enough. */
+  private class SampleTask extends RecursiveAction {
+
+    SampleTask(final int lo, final int hi, final long seed, final double[][] results) {
+      this.lo = lo;
+      this.hi = hi;
+      this.seed = seed;
+      this.results = results;
+    }
+
+    @Override
+    protected void compute() {
+      if (hi - lo <= RobustnessAnalysis.I_GRAIN) {
+        final Worker worker = new Worker();
+        try {
+          for (int i = lo; i < hi; i++) {
+            worker.sample(seed, i, results);
+          }
+        } catch (final CelloException e) {
+          throw new RuntimeException(e);
+        }
+        return;
+      }
+      final int mid = (lo + hi) >>> 1;
+      invokeAll(
+          new SampleTask(lo, mid, seed, results), new SampleTask(mid, hi, seed, results));
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private final int lo;
+    private final int hi;
+    private final long seed;
+    private final double[][] results;
+  }
+
+  /* SplitMix64 finalizer, so that consecutive sample indices give unrelated seeds. */
+  private static long mix(final long z) {
+    long rtn = z;
+    rtn = (rtn ^ (rtn >>> 30)) * 0xbf58476d1ce4e5b9L;
+    rtn = (rtn ^ (rtn >>> 27)) * 0x94d049bb133111ebL;
+    return rtn ^ (rtn >>> 31);
+  }
+
+  /**
+   * Returns the summary of the on/off ratio of the given primary output.
+   *
+   * @param node A primary output node.
+   * @return The summary of the on/off ratio of the given node, or null if the analysis has not
+   *     been run.
+   */
+  public RobustnessSummary getSummary(final NetlistNode node) {
+    return summaries.get(node);
+  }
+
+  /**
+   * Returns the summary of the score of the netlist, the minimum on/off ratio of its outputs.
+   *
+   * @return The summary of the score of the netlist, or null if the analysis has not been run.
+   */
+  public RobustnessSummary getScoreSummary() {
+    return score;
+  }
+
+  /**
+   * Returns the number of perturbed parameters.
+   *
+   * @return The number of perturbed parameters.
+   */
+  public int getNumPerturbedParameter() {
+    return parameters.size();
+  }
+
+  @Override
+  public String toString() {
+    String rtn = "";
+    rtn += Utils.getNewLine();
+    rtn += RobustnessAnalysis.S_HEADER + Utils.getNewLine();
+    rtn += "RobustnessAnalysis" + Utils.getNewLine();
+    rtn += RobustnessAnalysis.S_HEADER + Utils.getNewLine();
+    for (final NetlistNode node : outputs) {
+      rtn += String.format("%-15s", node.getName()) + Utils.getTabCharacter();
+      rtn += getSummary(node) + Utils.getNewLine();
+    }
+    rtn += String.format("%-15s", "score") + Utils.getTabCharacter();
+    rtn += getScoreSummary() + Utils.getNewLine();
+    rtn += RobustnessAnalysis.S_HEADER + Utils.getNewLine();
+    return rtn;
+  }
+
+  private List<State<NetlistNode>> states;
+  private List<NetlistNode> outputs;
+  private Function[] functions;
+  private boolean[][] logic;
+
+  private List<FixedParameter> parameters;
+  private List<Perturbation> perturbations;
+  private List<Double> nominals;
+
+  private Map<NetlistNode, RobustnessSummary> summaries;
+  private RobustnessSummary score;
+
+  private static final String S_HEADER = "--------------------------------------------";
+  private static final int I_GRAIN = 16;
+  private static final long L_GOLDEN = 0x9e3779b97f4a7c15L;
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.robustness;
+
+import java.util.Arrays;
+
+/**
+ * Summary statistics of a sampled quantity, e.g. the on/off ratio of an output.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class RobustnessSummary {
+
+  /**
+   * Initializes a newly created {@link RobustnessSummary}.
+   *
+   * @param nominal The value of the quantity with unperturbed parameters.
+   * @param samples The sampled values. The array is not modified.
+   */
+  public RobustnessSummary(final double nominal, final double[] samples) {
+    this.nominal = nominal;
+    this.samples = samples.clone();
+    Arrays.sort(this.samples);
+    double sum = 0.0;
+    for (final double s : this.samples) {
+      sum += s;
+    }
+    this.mean = this.samples.length == 0 ? Double.NaN : sum / this.samples.length;
+  }
+
+  /**
+   * Returns the given percentile of the samples, interpolating linearly between the two nearest
+   * ranks.
+   *
+   * @param p The percentile, between 0 and 100.
+   * @return The given percentile of the samples, or NaN if there are none.
+   */
+  public double getPercentile(final double p) {
+    final int n = samples.length;
+    if (n == 0) {
+      return Double.NaN;
+    }
+    final double rank = Math.min(Math.max(p, 0.0), 100.0) / 100.0 * (n - 1);
+    final int lo = (int) Math.floor(rank);
+    final int hi = Math.min(lo + 1, n - 1);
+    return samples[lo] + (rank - lo) * (samples[hi] - samples[lo]);
+  }
+
+  /**
+   * Getter for {@code nominal}.
+   *
+   * @return The value of {@code nominal}.
+   */
+  public double getNominal() {
+    return nominal;
+  }
+
+  /**
+   * Getter for {@code mean}.
+   *
+   * @return The value of {@code mean}.
+   */
+  public double getMean() {
+    return mean;
+  }
+
+  /**
+   * Returns the number of samples.
+   *
+   * @return The number of samples.
+   */
+  public int getNumSamples() {
+    return samples.length;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "nominal %.2f, mean %.2f, p5 %.2f, p50 %.2f, p95 %.2f",
+        getNominal(), getMean(), getPercentile(5.0), getPercentile(50.0), getPercentile(95.0));
+  }
+
+  private final double nominal;
+  private final double mean;
+  private final double[] samples;
+}
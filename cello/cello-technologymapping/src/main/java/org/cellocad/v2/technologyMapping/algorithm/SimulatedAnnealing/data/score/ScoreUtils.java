@@ -22,7 +22,7 @@ package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.scor
 import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
 import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
-import org.cellocad.v2.results.logicSynthesis.logic.truthtable.TruthTable;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
 import org.cellocad.v2.results.netlist.Netlist;
 import org.cellocad.v2.results.netlist.NetlistNode;
 import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
@@ -70,18 +70,18 @@ public class ScoreUtils {
     Double on = Double.MAX_VALUE;
     Double off = Double.MIN_VALUE;
 
-    final TruthTable<NetlistNode, NetlistNode> truthTable = lsle.getTruthTable(node);
+    final States<NetlistNode> states = lsle.getStates();
+    final long[] logic = lsle.getLogic(node);
     final ActivityTable<NetlistNode, NetlistNode> activityTable = tmae.getActivityTable(node);
 
-    for (int i = 0; i < truthTable.getNumStates(); i++) {
-      final State<NetlistNode> inputState = truthTable.getStateAtIdx(i);
-      final State<NetlistNode> outputState = truthTable.getStateOutput(inputState);
+    for (int i = 0; i < states.getNumStates(); i++) {
+      final State<NetlistNode> inputState = states.getStateAtIdx(i);
       final Activity<NetlistNode> outputActivity = activityTable.getActivityOutput(inputState);
-      final Boolean l = outputState.getState(node);
+      final boolean l = LSLogicEvaluation.isSet(logic, i);
       final Double a = outputActivity.getActivity(node);
-      if (l == true && on > a) {
+      if (l && on > a) {
         on = a;
-      } else if (l == false && off < a) {
+      } else if (!l && off < a) {
         off = a;
       }
     }
@@ -94,17 +94,21 @@ public class TMToxicityEvaluation extends CObject {
       throws CelloException {
     ec.setNode(node);
     final ToxicityTable<NetlistNode, NetlistNode> toxicityTable = getToxicityTables().get(node);
-    for (int i = 0; i < toxicityTable.getNumStates(); i++) {
-      final State<NetlistNode> inputState = toxicityTable.getStateAtIdx(i);
-      final Toxicity<NetlistNode> outputToxicity = toxicityTable.getToxicityOutput(inputState);
-      ec.setState(inputState);
-      Double result =
-          node.getResultNetlistNodeData()
-              .getDevice()
-              .getModel()
-              .getFunctionByName("toxicity")
-              .evaluate(ec)
-              .doubleValue();
+    final int num = toxicityTable.getNumStates();
+    final List<State<NetlistNode>> inputStates = new ArrayList<>(num);
+    for (int i = 0; i < num; i++) {
+      inputStates.add(toxicityTable.getStateAtIdx(i));
+    }
+    final double[] results = new double[num];
+    node.getResultNetlistNodeData()
+        .getDevice()
+        .getModel()
+        .getFunctionByName("toxicity")
+        .evaluate(ec, inputStates, results);
+    for (int i = 0; i < num; i++) {
+      final Toxicity<NetlistNode> outputToxicity =
+          toxicityTable.getToxicityOutput(inputStates.get(i));
+      double result = results[i];
       if (result > TMToxicityEvaluation.D_MAXGROWTH) {
         result = TMToxicityEvaluation.D_MAXGROWTH;
       }
@@ -19,12 +19,11 @@
 
 package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxicity.toxicitytable;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.cellocad.v2.common.CObject;
-import org.cellocad.v2.common.Pair;
 import org.cellocad.v2.common.target.data.data.GateToxicity;
 
 /**
@@ -37,12 +36,6 @@ import org.cellocad.v2.common.target.data.data.GateToxicity;
  */
 public class Toxicity<T> extends CObject {
 
-  /** Initialize class members. */
-  private void init() {
-    toxicityEntry = new ArrayList<>();
-    toxicityEntryMap = new HashMap<>();
-  }
-
   /**
    * Initializes a newly created {@link GateToxicity} with the list of types defined by parameter
    * {@code nodes} and value defined by parameter {@code value}.
@@ -50,74 +43,61 @@ public class Toxicity<T> extends CObject {
    * @param nodes The List of types.
    */
   public Toxicity(final List<T> nodes) {
-    init();
-    for (int i = 0; i < nodes.size(); i++) {
-      final T node = nodes.get(i);
-      final Double toxicity = new Double(1.0);
-      final Pair<T, Double> pair = new Pair<>(node, toxicity);
-      this.getToxicity().add(pair);
-      this.getToxicityMap().put(node, toxicity);
-    }
+    this(Toxicity.getIndex(nodes));
   }
 
-  /*
-   * GateToxicity
-   */
   /**
-   * Getter for {@code toxicityEntry}.
+   * Initializes a newly created {@link Toxicity} that shares the position of each type, defined by
+   * parameter {@code index}, with other toxicities.
    *
-   * @return The toxicityEntry of this instance.
+   * @param index The position of each type.
    */
-  protected List<Pair<T, Double>> getToxicity() {
-    return toxicityEntry;
+  Toxicity(final Map<T, Integer> index) {
+    this.index = index;
+    toxicity = new double[index.size()];
+    Arrays.fill(toxicity, 1.0);
   }
 
   /**
-   * Gets the relative growth associated with a particular node.
+   * Returns the position of each type in the list of types defined by parameter {@code nodes}.
    *
-   * @return The relative growth associated with a particular node.
+   * @param nodes The List of types.
+   * @return The position of each type in {@code nodes}.
    */
-  public Double getToxicity(final T node) {
-    Double rtn = null;
-    rtn = this.getToxicityMap().get(node);
+  static <T> Map<T, Integer> getIndex(final List<T> nodes) {
+    final Map<T, Integer> rtn = new HashMap<>();
+    for (final T node : nodes) {
+      if (!rtn.containsKey(node)) {
+        rtn.put(node, rtn.size());
+      }
+    }
     return rtn;
   }
 
+  /*
+   * GateToxicity
+   */
   /**
-   * Returns the {@link Pair} at the specified position in this instance.
+   * Gets the relative growth associated with a particular node.
    *
-   * @param index The index of the {@link Pair} object to return.
-   * @return If the index is within the bounds {@code (0 <= bounds <
-   *     this.getNumToxicityPosition())}, returns the {@link Pair} at the specified position in this
-   *     instance, otherwise null.
+   * @return The relative growth associated with a particular node.
    */
-  protected Pair<T, Double> getToxicityPositionAtIdx(final int index) {
-    Pair<T, Double> rtn = null;
-    if (0 <= index && index < this.getNumToxicityPosition()) {
-      rtn = this.getToxicity().get(index);
+  public Double getToxicity(final T node) {
+    Double rtn = null;
+    final Integer i = index.get(node);
+    if (i != null) {
+      rtn = toxicity[i];
     }
     return rtn;
   }
 
   /**
-   * Returns the number of {@link Pair} objects in this instance.
+   * Returns the number of nodes in this instance.
    *
-   * @return The number of {@link Pair} objects in this instance.
+   * @return The number of nodes in this instance.
    */
   public int getNumToxicityPosition() {
-    return this.getToxicity().size();
-  }
-
-  /*
-   * ToxicityMap
-   */
-  /**
-   * Getter for {@code toxicityEntryMap}.
-   *
-   * @return The toxicityEntryMap of this instance.
-   */
-  protected Map<T, Double> getToxicityMap() {
-    return toxicityEntryMap;
+    return toxicity.length;
   }
 
   /**
@@ -130,17 +110,14 @@ public class Toxicity<T> extends CObject {
    */
   public boolean setToxicity(final T node, final Double value) {
     boolean rtn = false;
-    for (int i = 0; i < this.getNumToxicityPosition(); i++) {
-      final Pair<T, Double> position = this.getToxicityPositionAtIdx(i);
-      if (position.getFirst().equals(node)) {
-        position.setSecond(value);
-        this.getToxicityMap().put(node, value);
-        rtn = true;
-      }
+    final Integer i = index.get(node);
+    if (i != null) {
+      toxicity[i] = value;
+      rtn = true;
     }
     return rtn;
   }
 
-  private List<Pair<T, Double>> toxicityEntry;
-  private Map<T, Double> toxicityEntryMap;
+  private final Map<T, Integer> index;
+  private final double[] toxicity;
 }
@@ -17,7 +17,6 @@
 package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxicity.toxicitytable;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
@@ -37,7 +36,7 @@ public class ToxicityTable<InputT, OutputT> {
 
   /** Initialize class members. */
   private void init() {
-    toxicityTableMap = new HashMap<>();
+    toxicities = new ArrayList<>();
     states = new ArrayList<>();
   }
 
@@ -50,10 +49,11 @@ public class ToxicityTable<InputT, OutputT> {
    */
   public ToxicityTable(final List<State<InputT>> inputs, final List<OutputT> outputs) {
     this.init();
+    final Map<OutputT, Integer> index = Toxicity.getIndex(outputs);
     for (int i = 0; i < inputs.size(); i++) {
       final State<InputT> InputState = inputs.get(i);
-      final Toxicity<OutputT> OutputToxicity = new Toxicity<>(outputs);
-      this.getToxicityTableMap().put(InputState, OutputToxicity);
+      final Toxicity<OutputT> OutputToxicity = new Toxicity<>(index);
+      this.getToxicities().add(OutputToxicity);
       this.getStates().add(InputState);
     }
   }
@@ -67,10 +67,11 @@ public class ToxicityTable<InputT, OutputT> {
    */
   public ToxicityTable(final States<InputT> states, final List<OutputT> outputs) {
     init();
+    final Map<OutputT, Integer> index = Toxicity.getIndex(outputs);
     for (int i = 0; i < states.getNumStates(); i++) {
       final State<InputT> InputState = states.getStateAtIdx(i);
-      final Toxicity<OutputT> OutputToxicity = new Toxicity<>(outputs);
-      this.getToxicityTableMap().put(InputState, OutputToxicity);
+      final Toxicity<OutputT> OutputToxicity = new Toxicity<>(index);
+      this.getToxicities().add(OutputToxicity);
       this.getStates().add(InputState);
     }
   }
@@ -79,12 +80,12 @@ public class ToxicityTable<InputT, OutputT> {
    * ToxicityMap
    */
   /**
-   * Getter for {@code toxicityTableMap}.
+   * Getter for {@code toxicities}.
    *
-   * @return The toxicityTableMap of this instance.
+   * @return The output toxicities of this instance, in the order of {@code states}.
    */
-  protected Map<State<InputT>, Toxicity<OutputT>> getToxicityTableMap() {
-    return toxicityTableMap;
+  protected List<Toxicity<OutputT>> getToxicities() {
+    return toxicities;
   }
 
   /**
@@ -105,7 +106,10 @@ public class ToxicityTable<InputT, OutputT> {
    */
   public Toxicity<OutputT> getToxicityOutput(final State<InputT> state) {
     Toxicity<OutputT> rtn = null;
-    rtn = this.getToxicityTableMap().get(state);
+    final int idx = States.indexOf(this.getStates(), state);
+    if (idx >= 0) {
+      rtn = this.getToxicities().get(idx);
+    }
     return rtn;
   }
 
@@ -134,5 +138,5 @@ public class ToxicityTable<InputT, OutputT> {
   }
 
   List<State<InputT>> states;
-  Map<State<InputT>, Toxicity<OutputT>> toxicityTableMap;
+  List<Toxicity<OutputT>> toxicities;
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package org.cellocad.v2.results.technologyMapping;
+
+import java.io.IOException;
+import java.util.Collection;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.target.data.TargetData;
+import org.cellocad.v2.common.target.data.TargetDataInstance;
+import org.cellocad.v2.common.target.data.data.AssignableDevice;
+import org.cellocad.v2.common.target.data.data.Input;
+import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+import org.cellocad.v2.results.logicSynthesis.netlist.LSResultNetlistUtils;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistEdge;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+/**
+ * Fixtures for the tests of the evaluations of an assigned netlist, built from the minimal
+ * <i>Test</i> library in the test resources.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class TMTestUtils {
+
+  /**
+   * Returns the target data instance of the <i>Test</i> library.
+   *
+   * @return The target data instance of the <i>Test</i> library.
+   * @throws IOException Unable to read the library.
+   * @throws ParseException Unable to parse the library.
+   * @throws CelloException Unable to instantiate the target data instance.
+   */
+  @SuppressWarnings("unchecked")
+  public static TargetDataInstance getTargetDataInstance()
+      throws IOException, ParseException, CelloException {
+    final JSONParser parser = new JSONParser();
+    final JSONArray jsonTop = new JSONArray();
+    for (final String resource : TMTestUtils.S_LIBRARY) {
+      final String str = Utils.getResourceAsString(resource);
+      jsonTop.addAll((Collection<Object>) parser.parse(str));
+    }
+    return new TargetDataInstance(new TargetData(jsonTop));
+  }
+
+  /**
+   * Returns the netlist of the given resource, with the device named by each node assigned to it,
+   * and the inputs of each device assigned to the in edges of its node.
+   *
+   * @param resource The resource of the netlist.
+   * @param tdi The target data instance that holds the devices.
+   * @return The assigned netlist.
+   * @throws IOException Unable to read the netlist.
+   * @throws ParseException Unable to parse the netlist.
+   */
+  public static Netlist getAssignedNetlist(final String resource, final TargetDataInstance tdi)
+      throws IOException, ParseException {
+    final String str = Utils.getResourceAsString(resource);
+    final Netlist rtn = new Netlist((JSONObject) new JSONParser().parse(str));
+    LSResultNetlistUtils.setVertexTypeUsingLSResult(rtn);
+    for (int i = 0; i < rtn.getNumVertex(); i++) {
+      final NetlistNode node = rtn.getVertexAtIdx(i);
+      final String deviceName = node.getResultNetlistNodeData().getDeviceName();
+      AssignableDevice device = null;
+      if (LSResultsUtils.isAllInput(node)) {
+        device = tdi.getInputSensors().findCObjectByName(deviceName);
+      } else if (LSResultsUtils.isAllOutput(node)) {
+        device = tdi.getOutputDevices().findCObjectByName(deviceName);
+      } else {
+        device = tdi.getGates().findCObjectByName(deviceName);
+      }
+      node.getResultNetlistNodeData().setDevice(device);
+      for (int j = 0; j < node.getNumInEdge(); j++) {
+        final NetlistEdge e = node.getInEdgeAtIdx(j);
+        final Input input = device.getStructure().getInputs().get(j);
+        e.getResultNetlistEdgeData().setInput(input);
+      }
+    }
+    return rtn;
+  }
+
+  private static final String[] S_LIBRARY = {
+    "Test.UCF.json", "Test.input.json", "Test.output.json"
+  };
+}
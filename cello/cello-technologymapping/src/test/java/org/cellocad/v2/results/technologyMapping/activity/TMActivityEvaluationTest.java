@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.results.technologyMapping.activity;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.target.data.TargetDataInstance;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.technologyMapping.TMTestUtils;
+import org.json.simple.parser.ParseException;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests for {@link TMActivityEvaluation}.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class TMActivityEvaluationTest {
+
+  /**
+   * Load the assigned netlist and its library.
+   *
+   * @throws IOException Unable to read resources.
+   * @throws ParseException Unable to parse JSON in resources.
+   * @throws CelloException Unable to instantiate supporting classes.
+   */
+  @BeforeClass
+  public static void init() throws IOException, ParseException, CelloException {
+    final TargetDataInstance tdi = TMTestUtils.getTargetDataInstance();
+    netlist = TMTestUtils.getAssignedNetlist("nor6_GateAssignmentUsingTest.json", tdi);
+    lsle = new LSLogicEvaluation(netlist);
+    pool = new ForkJoinPool(4);
+  }
+
+  @AfterClass
+  public static void shutdown() {
+    pool.shutdown();
+  }
+
+  @Test
+  public void tmActivityEvaluation_Parallel_ShouldMatchSerial() throws CelloException {
+    final TMActivityEvaluation serial = new TMActivityEvaluation(netlist, lsle);
+    final TMActivityEvaluation parallel = new TMActivityEvaluation(netlist, lsle, pool);
+    final States<NetlistNode> states = serial.getStates();
+    assertEquals(64, states.getNumStates());
+    assertEquals(states.getNumStates(), parallel.getStates().getNumStates());
+    for (int i = 0; i < netlist.getNumVertex(); i++) {
+      final NetlistNode node = netlist.getVertexAtIdx(i);
+      for (int j = 0; j < states.getNumStates(); j++) {
+        final State<NetlistNode> state = states.getStateAtIdx(j);
+        final double expected =
+            serial.getActivityTable(node).getActivityOutput(state).getActivity(node);
+        final double actual =
+            parallel.getActivityTable(node).getActivityOutput(state).getActivity(node);
+        assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(actual));
+      }
+    }
+  }
+
+  @Test
+  public void tmDoseResponseEvaluation_Parallel_ShouldMatchSerial() throws CelloException {
+    final TMDoseResponseEvaluation serial = new TMDoseResponseEvaluation(netlist, 3);
+    final TMDoseResponseEvaluation parallel = new TMDoseResponseEvaluation(netlist, 3, pool);
+    assertEquals(729, serial.getNumPoints());
+    assertEquals(serial.getNumPoints(), parallel.getNumPoints());
+    for (int i = 0; i < serial.getNumPoints(); i++) {
+      for (int j = 0; j < serial.getOutputs().size(); j++) {
+        assertEquals(
+            Double.doubleToLongBits(serial.getActivity(i, j)),
+            Double.doubleToLongBits(parallel.getActivity(i, j)));
+      }
+    }
+  }
+
+  private static Netlist netlist;
+  private static LSLogicEvaluation lsle;
+  private static ForkJoinPool pool;
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package org.cellocad.v2.results.technologyMapping.activity;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.target.data.TargetDataInstance;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.technologyMapping.TMTestUtils;
+import org.json.simple.parser.ParseException;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests for {@link TMDoseResponseEvaluation}.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class TMDoseResponseEvaluationTest {
+
+  /**
+   * Load the assigned netlist and its library.
+   *
+   * @throws IOException Unable to read resources.
+   * @throws ParseException Unable to parse JSON in resources.
+   * @throws CelloException Unable to instantiate supporting classes.
+   */
+  @BeforeClass
+  public static void init() throws IOException, ParseException, CelloException {
+    final TargetDataInstance tdi = TMTestUtils.getTargetDataInstance();
+    netlist = TMTestUtils.getAssignedNetlist("and_GateAssignmentUsingTest.json", tdi);
+    lsle = new LSLogicEvaluation(netlist);
+  }
+
+  private static int getPoint(
+      final TMDoseResponseEvaluation tmdre, final State<NetlistNode> state) {
+    for (int i = 0; i < tmdre.getNumPoints(); i++) {
+      boolean match = true;
+      for (int j = 0; j < tmdre.getInputs().size(); j++) {
+        final NetlistNode input = tmdre.getInputs().get(j);
+        final double level = state.getState(input).equals(state.getOne()) ? 1.0 : 0.0;
+        match = match && tmdre.getLevel(i, j) == level;
+      }
+      if (match) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Test
+  public void getActivity_GridCorners_ShouldMatchActivityEvaluation() throws CelloException {
+    final TMActivityEvaluation tmae = new TMActivityEvaluation(netlist, lsle);
+    final TMDoseResponseEvaluation tmdre = new TMDoseResponseEvaluation(netlist, 3);
+    assertEquals(2, tmdre.getInputs().size());
+    assertEquals(1, tmdre.getOutputs().size());
+    assertEquals(9, tmdre.getNumPoints());
+    final NetlistNode output = tmdre.getOutputs().get(0);
+    final States<NetlistNode> states = tmae.getStates();
+    for (int i = 0; i < states.getNumStates(); i++) {
+      final State<NetlistNode> state = states.getStateAtIdx(i);
+      final double expected =
+          tmae.getActivityTable(output).getActivityOutput(state).getActivity(output);
+      assertEquals(expected, tmdre.getActivity(getPoint(tmdre, state), 0), TOLERANCE);
+    }
+  }
+
+  @Test
+  public void getLevel_ThreeLevels_ShouldBeEvenlySpaced() throws CelloException {
+    final TMDoseResponseEvaluation tmdre = new TMDoseResponseEvaluation(netlist, 3);
+    assertEquals(0.0, tmdre.getLevel(0, 0), TOLERANCE);
+    assertEquals(0.5, tmdre.getLevel(1, 1), TOLERANCE);
+    assertEquals(1.0, tmdre.getLevel(2, 1), TOLERANCE);
+    assertEquals(0.5, tmdre.getLevel(3, 0), TOLERANCE);
+    assertEquals(1.0, tmdre.getLevel(8, 0), TOLERANCE);
+  }
+
+  @Test(expected = CelloException.class)
+  public void tmDoseResponseEvaluation_OneLevel_ShouldThrow() throws CelloException {
+    new TMDoseResponseEvaluation(netlist, 1);
+  }
+
+  private static Netlist netlist;
+  private static LSLogicEvaluation lsle;
+  private static final double TOLERANCE = 1e-12;
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.stage.runtime.environment.StageArgString;
+import org.cellocad.v2.technologyMapping.runtime.Main;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link SimulatedAnnealing} algorithm, run end to end on a minimal library.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class SimulatedAnnealingTest {
+
+  private static String[] getArguments(final File outputDir, final String options)
+      throws IOException {
+    final File optionsFile = new File(outputDir, "options.csv");
+    Utils.writeToFile(options, optionsFile.getPath());
+    return new String[] {
+      "-" + StageArgString.INPUTNETLIST,
+      Utils.getResource("and_netlist.json").getFile(),
+      "-" + StageArgString.USERCONSTRAINTSFILE,
+      Utils.getResource("Test.UCF.json").getFile(),
+      "-" + StageArgString.INPUTSENSORFILE,
+      Utils.getResource("Test.input.json").getFile(),
+      "-" + StageArgString.OUTPUTDEVICEFILE,
+      Utils.getResource("Test.output.json").getFile(),
+      "-" + StageArgString.ALGORITHMNAME,
+      "SimulatedAnnealing",
+      "-" + StageArgString.OUTPUTDIR,
+      outputDir.getPath(),
+      "-" + StageArgString.OPTIONS,
+      optionsFile.getPath(),
+      "-" + StageArgString.PYTHONENV,
+      "true"
+    };
+  }
+
+  private static List<String> getActivity(final File outputDir) throws IOException {
+    return Files.readAllLines(new File(outputDir, "and_activity.csv").toPath());
+  }
+
+  @Test
+  public void main_AndNetlistWithDefaultOptions_ShouldEvaluateEveryState()
+      throws CelloException, IOException {
+    final File outputDir = Files.createTempDirectory("cello_").toFile();
+    Main.main(getArguments(outputDir, ""));
+    final List<String> activity = getActivity(outputDir);
+    assertEquals(6, activity.size());
+    for (final String line : activity) {
+      assertEquals(5, line.split(",").length);
+    }
+  }
+
+  @Test
+  public void main_AndNetlistWithStateSamples_ShouldEvaluateSampledStates()
+      throws CelloException, IOException {
+    final File outputDir = Files.createTempDirectory("cello_").toFile();
+    final String options =
+        "technologyMapping.StateSamples,3"
+            + Utils.getNewLine()
+            + "technologyMapping.StateSampleSeed,7"
+            + Utils.getNewLine();
+    Main.main(getArguments(outputDir, options));
+    final List<String> activity = getActivity(outputDir);
+    assertEquals(6, activity.size());
+    for (final String line : activity) {
+      assertEquals(4, line.split(",").length);
+    }
+  }
+
+  @Test
+  public void main_AndNetlistWithParallelism_ShouldEvaluateEveryState()
+      throws CelloException, IOException {
+    final File outputDir = Files.createTempDirectory("cello_").toFile();
+    final String options =
+        "technologyMapping.Parallelism,2"
+            + Utils.getNewLine()
+            + "technologyMapping.DoseResponseLevels,3"
+            + Utils.getNewLine();
+    Main.main(getArguments(outputDir, options));
+    final List<String> activity = getActivity(outputDir);
+    assertEquals(6, activity.size());
+    for (final String line : activity) {
+      assertEquals(5, line.split(",").length);
+    }
+    final List<String> grid =
+        Files.readAllLines(new File(outputDir, "and_dose_response.csv").toPath());
+    assertEquals(10, grid.size());
+  }
+
+  @Test
+  public void main_AndNetlistWithRobustnessSamples_ShouldEvaluateEveryState()
+      throws CelloException, IOException {
+    final File outputDir = Files.createTempDirectory("cello_").toFile();
+    final String options =
+        "technologyMapping.RobustnessSamples,16"
+            + Utils.getNewLine()
+            + "technologyMapping.RobustnessSeed,5"
+            + Utils.getNewLine()
+            + "technologyMapping.RobustnessParameters,ymax"
+            + Utils.getNewLine();
+    Main.main(getArguments(outputDir, options));
+    assertEquals(6, getActivity(outputDir).size());
+  }
+
+  @Test
+  public void main_AndNetlistWithDoseResponseLevels_ShouldWriteGrid()
+      throws CelloException, IOException {
+    final File outputDir = Files.createTempDirectory("cello_").toFile();
+    final String options = "technologyMapping.DoseResponseLevels,3" + Utils.getNewLine();
+    Main.main(getArguments(outputDir, options));
+    final List<String> grid =
+        Files.readAllLines(new File(outputDir, "and_dose_response.csv").toPath());
+    assertEquals(10, grid.size());
+    assertEquals("a,b,out", grid.get(0));
+  }
+}
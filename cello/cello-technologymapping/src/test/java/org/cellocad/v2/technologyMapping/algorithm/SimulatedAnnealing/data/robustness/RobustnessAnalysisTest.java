@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.robustness;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.target.data.TargetDataInstance;
+import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.technologyMapping.TMTestUtils;
+import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
+import org.json.simple.parser.ParseException;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests for {@link RobustnessAnalysis}.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class RobustnessAnalysisTest {
+
+  /**
+   * Load the assigned netlist and its library.
+   *
+   * @throws IOException Unable to read resources.
+   * @throws ParseException Unable to parse JSON in resources.
+   * @throws CelloException Unable to instantiate supporting classes.
+   */
+  @BeforeClass
+  public static void init() throws IOException, ParseException, CelloException {
+    final TargetDataInstance tdi = TMTestUtils.getTargetDataInstance();
+    netlist = TMTestUtils.getAssignedNetlist("and_GateAssignmentUsingTest.json", tdi);
+    lsle = new LSLogicEvaluation(netlist);
+    for (int i = 0; i < netlist.getNumVertex(); i++) {
+      if (LSResultsUtils.isPrimaryOutput(netlist.getVertexAtIdx(i))) {
+        output = netlist.getVertexAtIdx(i);
+      }
+    }
+  }
+
+  private static RobustnessAnalysis getAnalysis(final String parameter, final double spread)
+      throws CelloException {
+    final List<Perturbation> perturbations = new ArrayList<>();
+    perturbations.add(new Perturbation(parameter, Perturbation.S_LOGNORMAL, spread));
+    return new RobustnessAnalysis(netlist, lsle, perturbations);
+  }
+
+  private static void assertSummaryEquals(
+      final RobustnessSummary expected, final RobustnessSummary actual) {
+    assertEquals(expected.getNumSamples(), actual.getNumSamples());
+    assertEquals(expected.getNominal(), actual.getNominal(), 0.0);
+    assertEquals(expected.getMean(), actual.getMean(), 0.0);
+    for (int p = 0; p <= 100; p += 5) {
+      assertEquals(expected.getPercentile(p), actual.getPercentile(p), 0.0);
+    }
+  }
+
+  @Test
+  public void robustnessAnalysis_K_ShouldPerturbEveryGate() throws CelloException {
+    assertEquals(3, getAnalysis("K", 0.1).getNumPerturbedParameter());
+  }
+
+  @Test
+  public void run_Nominal_ShouldMatchActivityEvaluation() throws CelloException {
+    final RobustnessAnalysis analysis = getAnalysis("K", 0.1);
+    analysis.run(10, 1L);
+    final TMActivityEvaluation tmae = new TMActivityEvaluation(netlist, lsle);
+    final States<NetlistNode> states = lsle.getStates();
+    double on = Double.MAX_VALUE;
+    double off = Double.MIN_VALUE;
+    for (int i = 0; i < states.getNumStates(); i++) {
+      final State<NetlistNode> state = states.getStateAtIdx(i);
+      final double activity =
+          tmae.getActivityTable(output).getActivityOutput(state).getActivity(output);
+      if (lsle.getLogic(output, i)) {
+        on = Math.min(on, activity);
+      } else {
+        off = Math.max(off, activity);
+      }
+    }
+    assertEquals(on / off, analysis.getSummary(output).getNominal(), TOLERANCE);
+    assertEquals(on / off, analysis.getScoreSummary().getNominal(), TOLERANCE);
+  }
+
+  @Test
+  public void run_ZeroSpread_ShouldMatchNominal() throws CelloException {
+    final RobustnessAnalysis analysis = getAnalysis("ymax", 0.0);
+    analysis.run(20, 3L);
+    final RobustnessSummary summary = analysis.getSummary(output);
+    assertEquals(20, summary.getNumSamples());
+    assertEquals(summary.getNominal(), summary.getPercentile(5.0), TOLERANCE);
+    assertEquals(summary.getNominal(), summary.getPercentile(95.0), TOLERANCE);
+  }
+
+  @Test
+  public void run_FixedSeed_ShouldNotDependOnThreads() throws CelloException {
+    final RobustnessAnalysis serial = getAnalysis("ymax", 0.2);
+    serial.run(100, 42L);
+    final RobustnessAnalysis parallel = getAnalysis("ymax", 0.2);
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      parallel.run(100, 42L, pool);
+    } finally {
+      pool.shutdown();
+    }
+    assertSummaryEquals(serial.getSummary(output), parallel.getSummary(output));
+    assertSummaryEquals(serial.getScoreSummary(), parallel.getScoreSummary());
+  }
+
+  private static Netlist netlist;
+  private static LSLogicEvaluation lsle;
+  private static NetlistNode output;
+  private static final double TOLERANCE = 1e-9;
+}
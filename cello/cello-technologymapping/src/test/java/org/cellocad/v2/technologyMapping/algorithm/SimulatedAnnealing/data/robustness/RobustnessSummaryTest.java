@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.robustness;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import org.cellocad.v2.common.exception.CelloException;
+import org.junit.Test;
+
+/**
+ * Tests for {@link RobustnessSummary} and {@link Perturbation}.
+ *
+ * @author agent
+ * @date 2026-10-18
+ */
+public class RobustnessSummaryTest {
+
+  @Test
+  public void getPercentile_UnsortedSamples_ShouldInterpolate() {
+    final RobustnessSummary s = new RobustnessSummary(2.0, new double[] {4.0, 1.0, 3.0, 2.0, 5.0});
+    assertEquals(1.0, s.getPercentile(0.0), TOLERANCE);
+    assertEquals(3.0, s.getPercentile(50.0), TOLERANCE);
+    assertEquals(4.5, s.getPercentile(87.5), TOLERANCE);
+    assertEquals(5.0, s.getPercentile(100.0), TOLERANCE);
+    assertEquals(3.0, s.getMean(), TOLERANCE);
+    assertEquals(2.0, s.getNominal(), TOLERANCE);
+  }
+
+  @Test
+  public void getPercentile_NoSamples_ShouldBeNaN() {
+    final RobustnessSummary s = new RobustnessSummary(1.0, new double[0]);
+    assertTrue(Double.isNaN(s.getPercentile(50.0)));
+  }
+
+  @Test
+  public void sample_UniformPerturbation_ShouldBeWithinSpread() throws CelloException {
+    final Perturbation p = new Perturbation("ymax", Perturbation.S_UNIFORM, 0.1);
+    final Random random = new Random(0);
+    for (int i = 0; i < 1000; i++) {
+      final double v = p.sample(2.0, random);
+      assertTrue(v >= 1.8 && v <= 2.2);
+    }
+  }
+
+  @Test(expected = CelloException.class)
+  public void perturbation_UnknownDistribution_ShouldThrow() throws CelloException {
+    new Perturbation("ymax", "cauchy", 0.1);
+  }
+
+  private static final double TOLERANCE = 1e-12;
+}